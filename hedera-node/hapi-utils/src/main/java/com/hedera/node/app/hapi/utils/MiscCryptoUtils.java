@@ -17,9 +17,9 @@
 package com.hedera.node.app.hapi.utils;
 
 import com.sun.jna.ptr.LongByReference;
+import com.swirlds.common.crypto.ReusableDigests;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
-import org.bouncycastle.jcajce.provider.digest.Keccak;
 import org.hyperledger.besu.nativelib.secp256k1.LibSecp256k1;
 
 public class MiscCryptoUtils {
@@ -61,7 +61,7 @@ public class MiscCryptoUtils {
     }
 
     public static byte[] keccak256DigestOf(final byte[] msg) {
-        return new Keccak.Digest256().digest(msg);
+        return ReusableDigests.keccak256Of(msg);
     }
 
     /**
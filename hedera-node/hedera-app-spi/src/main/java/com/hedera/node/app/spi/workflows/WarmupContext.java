@@ -17,6 +17,7 @@
 package com.hedera.node.app.spi.workflows;
 
 import com.hedera.hapi.node.transaction.TransactionBody;
+import com.swirlds.config.api.Configuration;
 import edu.umd.cs.findbugs.annotations.NonNull;
 
 /**
@@ -32,6 +33,14 @@ public interface WarmupContext {
     @NonNull
     TransactionBody body();
 
+    /**
+     * Returns the current {@link Configuration} for the node.
+     *
+     * @return the {@link Configuration}
+     */
+    @NonNull
+    Configuration configuration();
+
     /**
      * Create a new store given the store's interface. This gives read-only access to the store.
      *
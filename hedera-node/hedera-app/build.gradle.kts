@@ -29,15 +29,13 @@ mainModuleInfo {
     // This is needed to pick up and include the native libraries for the netty epoll transport
     runtimeOnly("io.netty.transport.epoll.linux.x86_64")
     runtimeOnly("io.netty.transport.epoll.linux.aarch_64")
-    runtimeOnly("io.helidon.grpc.core")
-    runtimeOnly("io.helidon.webclient")
-    runtimeOnly("io.helidon.webclient.grpc")
     runtimeOnly("com.hedera.cryptography.altbn128")
 }
 
 testModuleInfo {
     requires("com.fasterxml.jackson.databind")
     requires("com.google.common.jimfs")
+    requires("com.google.protobuf")
     requires("com.hedera.node.app")
     requires("com.hedera.node.app.spi.test.fixtures")
     requires("com.hedera.node.config.test.fixtures")
@@ -48,6 +46,8 @@ testModuleInfo {
     requires("com.swirlds.state.impl.test.fixtures")
     requires("com.swirlds.base.test.fixtures")
     requires("com.esaulpaugh.headlong")
+    requires("io.grpc")
+    requires("io.grpc.netty")
     requires("org.assertj.core")
     requires("org.bouncycastle.provider")
     requires("org.junit.jupiter.api")
@@ -61,8 +61,10 @@ testModuleInfo {
 }
 
 jmhModuleInfo {
+    requires("com.google.protobuf")
     requires("com.hedera.node.app")
     requires("com.hedera.node.app.hapi.utils")
+    requires("com.hedera.node.app.service.file")
     requires("com.hedera.node.app.spi")
     requires("com.hedera.node.app.spi.test.fixtures")
     requires("com.hedera.node.app.test.fixtures")
@@ -74,6 +76,9 @@ jmhModuleInfo {
     requires("com.swirlds.metrics.api")
     requires("com.swirlds.platform.core")
     requires("com.swirlds.state.api")
+    requires("io.grpc")
+    requires("io.grpc.netty")
+    requires("jdk.management")
     requires("jmh.core")
 }
 
@@ -30,6 +30,7 @@ import com.hedera.hapi.block.stream.BlockItem;
 import com.hedera.hapi.block.stream.output.SingletonUpdateChange;
 import com.hedera.hapi.block.stream.output.StateChange;
 import com.hedera.hapi.block.stream.output.StateChanges;
+import com.hedera.hapi.node.base.AccountID;
 import com.hedera.hapi.node.base.Key;
 import com.hedera.hapi.node.base.SemanticVersion;
 import com.hedera.hapi.node.base.SignatureMap;
@@ -39,9 +40,12 @@ import com.hedera.hapi.node.state.roster.Roster;
 import com.hedera.hapi.platform.state.PlatformState;
 import com.hedera.node.app.blocks.impl.BlockStreamManagerImpl;
 import com.hedera.node.app.blocks.impl.BoundaryStateChangeListener;
+import com.hedera.node.app.blocks.impl.FileBlockItemWriter;
+import com.hedera.node.app.blocks.impl.KVStateChangeListener;
 import com.hedera.node.app.blocks.schemas.V0560BlockStreamSchema;
 import com.hedera.node.app.config.ConfigProviderImpl;
 import com.hedera.node.app.fixtures.state.FakeState;
+import com.hedera.node.app.info.NodeInfoImpl;
 import com.hedera.node.app.spi.signatures.SignatureVerifier;
 import com.hedera.node.config.ConfigProvider;
 import com.hedera.pbj.runtime.OneOf;
@@ -49,6 +53,7 @@ import com.hedera.pbj.runtime.ParseException;
 import com.hedera.pbj.runtime.io.buffer.BufferedData;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.metrics.noop.NoOpMetrics;
 import com.swirlds.platform.state.service.PlatformStateService;
 import com.swirlds.platform.state.service.schemas.V0540PlatformStateSchema;
 import com.swirlds.platform.system.Round;
@@ -58,17 +63,22 @@ import com.swirlds.state.lifecycle.Schema;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
@@ -85,6 +95,7 @@ import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.annotations.Warmup;
 
 @State(Scope.Benchmark)
@@ -119,8 +130,10 @@ public class BlockStreamManagerBenchmark {
             ForkJoinPool.commonPool(),
             configProvider,
             new FakeBoundaryStateChangeListener(),
+            new KVStateChangeListener(),
             new InitialStateHash(completedFuture(FAKE_START_OF_BLOCK_STATE_HASH), FIRST_ROUND_NO - 1),
-            VERSION);
+            VERSION,
+            new NoOpMetrics());
 
     @Param({"10"})
     private int numEvents;
@@ -153,6 +166,74 @@ public class BlockStreamManagerBenchmark {
         roundNum++;
     }
 
+    /**
+     * Measures the latency of writing the items of a block to a compressed block file and closing it, which is on
+     * the critical path to the block proof. Each block holds the items of {@code roundsPerBlock} rounds.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void writeAndCloseBlock(@NonNull final BlockFileState blockFile) {
+        for (int i = 0; i < blockFile.roundsPerBlock; i++) {
+            blockFile.writer.writeItems(BufferedData.wrap(blockFile.roundBytes));
+        }
+        blockFile.writer.closeBlock();
+    }
+
+    @State(Scope.Thread)
+    public static class BlockFileState {
+        @Param({"1", "4"})
+        private int compressionParallelism;
+
+        @Param({"10"})
+        private int roundsPerBlock;
+
+        private FileBlockItemWriter writer;
+        private ExecutorService compressionExecutor;
+        private Path blockDir;
+        private byte[] roundBytes;
+        private long blockNumber;
+        private ConfigProvider configProvider;
+
+        @Setup(Level.Trial)
+        public void setup(@NonNull final BlockStreamManagerBenchmark benchmark) throws IOException {
+            blockDir = Files.createTempDirectory("blocks");
+            configProvider = new ConfigProviderImpl(
+                    false,
+                    null,
+                    Map.of(
+                            "blockStream.blockFileDir", blockDir.toString(),
+                            "blockStream.compressFilesOnCreation", "true",
+                            "blockStream.compressionParallelism", Integer.toString(compressionParallelism)));
+            compressionExecutor = compressionParallelism > 1
+                    ? FileBlockItemWriter.newCompressionExecutor(compressionParallelism)
+                    : null;
+            roundBytes = Block.PROTOBUF
+                    .toBytes(Block.newBuilder().items(benchmark.roundItems).build())
+                    .toByteArray();
+        }
+
+        @Setup(Level.Invocation)
+        public void openBlock() {
+            writer = new FileBlockItemWriter(
+                    configProvider,
+                    new NodeInfoImpl(0, AccountID.newBuilder().accountNum(3).build(), 10, List.of(), Bytes.EMPTY),
+                    FileSystems.getDefault(),
+                    compressionExecutor);
+            writer.openBlock(blockNumber++);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            if (compressionExecutor != null) {
+                compressionExecutor.shutdownNow();
+            }
+            try (final var paths = Files.walk(blockDir)) {
+                paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+    }
+
     private <T> void addServiceSingleton(
             @NonNull final Schema schema, @NonNull final String serviceName, @NonNull final T singletonValue) {
         final Map<String, Object> stateDataSources = new HashMap<>();
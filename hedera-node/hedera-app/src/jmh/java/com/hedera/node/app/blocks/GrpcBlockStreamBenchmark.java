@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.blocks;
+
+import static com.hedera.pbj.runtime.ProtoConstants.WIRE_TYPE_DELIMITED;
+import static com.hedera.pbj.runtime.ProtoWriterTools.writeTag;
+
+import com.hedera.hapi.block.stream.BlockItem;
+import com.hedera.hapi.block.stream.BlockProof;
+import com.hedera.hapi.block.stream.input.EventTransaction;
+import com.hedera.hapi.block.stream.output.BlockHeader;
+import com.hedera.hapi.block.stream.schema.BlockSchema;
+import com.hedera.node.app.blocks.impl.GrpcBlockItemWriter;
+import com.hedera.node.app.blocks.impl.GrpcBlockStreamPublisher;
+import com.hedera.node.app.config.ConfigProviderImpl;
+import com.hedera.node.config.data.BlockStreamConfig;
+import com.hedera.pbj.runtime.io.buffer.BufferedData;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.common.metrics.noop.NoOpMetrics;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how many blocks per second the {@link GrpcBlockItemWriter} streams to a {@link StandInBlockNodeServer}
+ * on the loopback interface, for different request sizes and windows of unacknowledged blocks. Items are written
+ * in pre-serialized batches, as the block stream manager writes them.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class GrpcBlockStreamBenchmark {
+    private static final int ITEMS_PER_BATCH = 32;
+
+    public static void main(String... args) throws Exception {
+        org.openjdk.jmh.Main.main(new String[] {GrpcBlockStreamBenchmark.class.getName()});
+    }
+
+    @Param({"16384", "1048576"})
+    private int requestBatchBytes;
+
+    @Param({"1", "8"})
+    private int maxUnackedBlocks;
+
+    @Param({"256"})
+    private int itemBytes;
+
+    @Param({"4096"})
+    private int itemsPerBlock;
+
+    private StandInBlockNodeServer server;
+    private GrpcBlockStreamPublisher publisher;
+    private byte[] batch;
+    private long blockNumber;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        server = new StandInBlockNodeServer(0);
+        final var config = new ConfigProviderImpl(
+                        false,
+                        null,
+                        Map.of(
+                                "blockStream.grpcAddress", "localhost",
+                                "blockStream.grpcPort", Integer.toString(server.port()),
+                                "blockStream.grpcRequestBatchBytes", Integer.toString(requestBatchBytes),
+                                "blockStream.grpcMaxUnackedBlocks", Integer.toString(maxUnackedBlocks)))
+                .getConfiguration()
+                .getConfigData(BlockStreamConfig.class);
+        publisher = new GrpcBlockStreamPublisher(config, new NoOpMetrics());
+
+        final var payload = new byte[itemBytes];
+        new Random(42).nextBytes(payload);
+        final var item = BlockItem.PROTOBUF.toBytes(BlockItem.newBuilder()
+                .eventTransaction(EventTransaction.newBuilder()
+                        .applicationTransaction(Bytes.wrap(payload))
+                        .build())
+                .build());
+        final var out = BufferedData.allocate(ITEMS_PER_BATCH * (int) (item.length() + 8));
+        for (int i = 0; i < ITEMS_PER_BATCH; i++) {
+            writeTag(out, BlockSchema.ITEMS, WIRE_TYPE_DELIMITED);
+            out.writeVarInt((int) item.length(), false);
+            out.writeBytes(item);
+        }
+        out.flip();
+        batch = new byte[(int) out.remaining()];
+        out.readBytes(batch);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        publisher.close();
+        server.close();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void streamBlock() {
+        final long number = blockNumber++;
+        final var writer = new GrpcBlockItemWriter(publisher, requestBatchBytes);
+        writer.openBlock(number);
+        writer.writePbjItem(BlockItem.PROTOBUF.toBytes(BlockItem.newBuilder()
+                .blockHeader(BlockHeader.newBuilder().number(number).build())
+                .build()));
+        for (int i = 0; i < itemsPerBlock; i += ITEMS_PER_BATCH) {
+            writer.writeItems(BufferedData.wrap(batch));
+        }
+        writer.writePbjItem(BlockItem.PROTOBUF.toBytes(BlockItem.newBuilder()
+                .blockProof(BlockProof.newBuilder().block(number).build())
+                .build()));
+        writer.closeBlock();
+    }
+}
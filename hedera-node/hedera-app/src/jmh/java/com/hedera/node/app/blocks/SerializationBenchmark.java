@@ -18,13 +18,23 @@ package com.hedera.node.app.blocks;
 
 import com.hedera.hapi.block.stream.Block;
 import com.hedera.hapi.block.stream.BlockItem;
+import com.hedera.hapi.node.base.SemanticVersion;
+import com.hedera.hapi.node.base.Transaction;
+import com.hedera.hapi.node.transaction.TransactionReceipt;
+import com.hedera.hapi.node.transaction.TransactionRecord;
+import com.hedera.hapi.streams.RecordStreamItem;
+import com.hedera.node.app.records.impl.producers.formats.v6.BlockRecordFormatV6;
+import com.hedera.node.app.state.SingleTransactionRecord;
 import com.hedera.pbj.runtime.ParseException;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.hedera.pbj.runtime.io.stream.WritableStreamingData;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.zip.GZIPInputStream;
@@ -48,7 +58,7 @@ import org.openjdk.jmh.infra.Blackhole;
 @Measurement(iterations = 3)
 public class SerializationBenchmark {
     public static void main(String... args) throws Exception {
-        org.openjdk.jmh.Main.main(new String[] {"com.hedera.node.app.blocks.SerializationBenchmark.serializeItem"});
+        org.openjdk.jmh.Main.main(new String[] {"com.hedera.node.app.blocks.SerializationBenchmark"});
     }
 
     public enum BlockType {
@@ -72,6 +82,7 @@ public class SerializationBenchmark {
 
     private Bytes expectedAnswer;
     private ByteBuffer buffer;
+    private SingleTransactionRecord sampleRecord;
 
     @Setup(Level.Trial)
     public void setup() throws IOException, ParseException {
@@ -107,6 +118,23 @@ public class SerializationBenchmark {
         }
         expectedAnswer = Bytes.wrap(bytes);
         buffer = ByteBuffer.allocate(bytes.length);
+
+        // The record stream item of the sample transaction, with the same outputs as its transaction result
+        final var transaction = Transaction.PROTOBUF.parse(SAMPLE_ITEMS
+                .get(BlockType.TRANSACTION)
+                .eventTransactionOrThrow()
+                .applicationTransactionOrThrow());
+        final var result = SAMPLE_ITEMS.get(BlockType.TRANSACTION_RESULT).transactionResultOrThrow();
+        final var transactionRecord = TransactionRecord.newBuilder()
+                .receipt(TransactionReceipt.newBuilder().status(result.status()).build())
+                .consensusTimestamp(result.consensusTimestamp())
+                .transactionFee(result.transactionFeeCharged())
+                .transferList(result.transferList())
+                .tokenTransferLists(result.tokenTransferLists())
+                .paidStakingRewards(result.paidStakingRewards())
+                .build();
+        sampleRecord = new SingleTransactionRecord(
+                transaction, transactionRecord, List.of(), new SingleTransactionRecord.TransactionOutputs(null));
     }
 
     @Benchmark
@@ -132,4 +160,40 @@ public class SerializationBenchmark {
         //        buffer.rewind();
         //        blackhole.consume(bytes);
     }
+
+    /**
+     * Serializes record stream items in both V6 formats by encoding the transaction and record once for the
+     * hashing format, and again inside the {@link RecordStreamItem} for the protobuf format.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void serializeRecordTwice(@NonNull final Blackhole blackhole) {
+        for (int i = 0; i < numItems; i++) {
+            final var bout = new ByteArrayOutputStream();
+            final var out = new WritableStreamingData(bout);
+            final var recordBytes = TransactionRecord.PROTOBUF.toBytes(sampleRecord.transactionRecord());
+            out.writeInt((int) recordBytes.length());
+            recordBytes.writeTo(out);
+            final var transactionBytes = Transaction.PROTOBUF.toBytes(sampleRecord.transaction());
+            out.writeInt((int) transactionBytes.length());
+            transactionBytes.writeTo(out);
+            blackhole.consume(bout.toByteArray());
+            blackhole.consume(RecordStreamItem.PROTOBUF.toBytes(
+                    new RecordStreamItem(sampleRecord.transaction(), sampleRecord.transactionRecord())));
+        }
+    }
+
+    /**
+     * Serializes record stream items in both V6 formats by encoding the transaction and record once, and splicing
+     * the encoded bytes into both formats.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void serializeRecordOnce(@NonNull final Blackhole blackhole) {
+        for (int i = 0; i < numItems; i++) {
+            blackhole.consume(BlockRecordFormatV6.INSTANCE.serialize(sampleRecord, 0, SemanticVersion.DEFAULT));
+        }
+    }
 }
@@ -0,0 +1,152 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.blocks;
+
+import static com.hedera.node.app.blocks.impl.GrpcBlockStreamPublisher.PUBLISH_BLOCK_STREAM;
+
+import com.hedera.hapi.block.protoc.BlockStreamServiceGrpc;
+import com.hedera.hapi.block.protoc.PublishStreamResponse;
+import com.hedera.hapi.block.protoc.PublishStreamResponse.Acknowledgement;
+import com.hedera.hapi.block.protoc.PublishStreamResponse.BlockAcknowledgement;
+import com.hedera.hapi.block.stream.BlockItem;
+import com.hedera.hapi.block.stream.schema.BlockItemSchema;
+import com.hedera.pbj.runtime.ParseException;
+import com.hedera.pbj.runtime.io.buffer.BufferedData;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import io.grpc.Server;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.netty.NettyServerBuilder;
+import io.grpc.stub.ServerCalls;
+import io.grpc.stub.StreamObserver;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A stand-in for a block node, for throughput tests of the gRPC block stream writer. It accepts
+ * {@code publishBlockStream} calls on a local port and acknowledges each block as soon as its proof arrives. Only
+ * the outer fields of the requests are read, so the server costs as little as possible per item.
+ */
+public class StandInBlockNodeServer implements AutoCloseable {
+    private static final int TAG_TYPE_BITS = 3;
+    private static final int MAX_REQUEST_BYTES = 64 * 1024 * 1024;
+
+    private final Server server;
+    private final AtomicLong itemsReceived = new AtomicLong();
+    private final AtomicLong blocksAcknowledged = new AtomicLong();
+
+    /**
+     * Starts the server.
+     *
+     * @param port the port to listen on, or 0 for any free port
+     * @throws IOException if the server cannot be started
+     */
+    public StandInBlockNodeServer(final int port) throws IOException {
+        server = NettyServerBuilder.forPort(port)
+                .maxInboundMessageSize(MAX_REQUEST_BYTES)
+                .addService(ServerServiceDefinition.builder(BlockStreamServiceGrpc.SERVICE_NAME)
+                        .addMethod(PUBLISH_BLOCK_STREAM, ServerCalls.asyncBidiStreamingCall(this::publishBlockStream))
+                        .build())
+                .build()
+                .start();
+    }
+
+    /**
+     * @return the port the server listens on
+     */
+    public int port() {
+        return server.getPort();
+    }
+
+    /**
+     * @return the number of block items received
+     */
+    public long itemsReceived() {
+        return itemsReceived.get();
+    }
+
+    /**
+     * @return the number of blocks acknowledged
+     */
+    public long blocksAcknowledged() {
+        return blocksAcknowledged.get();
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private StreamObserver<byte[]> publishBlockStream(final StreamObserver<PublishStreamResponse> responses) {
+        return new StreamObserver<>() {
+            private long blockNumber = -1;
+
+            @Override
+            public void onNext(final byte[] request) {
+                final var in = BufferedData.wrap(request);
+                // PublishStreamRequest.block_items
+                in.readVarInt(false);
+                final long end = in.readVarInt(false) + in.position();
+                while (in.position() < end) {
+                    // BlockItemSet.block_items
+                    in.readVarInt(false);
+                    final int length = in.readVarInt(false);
+                    final long start = in.position();
+                    final int field = in.readVarInt(false) >>> TAG_TYPE_BITS;
+                    if (field == BlockItemSchema.BLOCK_HEADER.number()) {
+                        blockNumber = parse(request, start, length).blockHeaderOrThrow().number();
+                    } else if (field == BlockItemSchema.BLOCK_PROOF.number()) {
+                        responses.onNext(PublishStreamResponse.newBuilder()
+                                .setAcknowledgement(Acknowledgement.newBuilder()
+                                        .setBlockAck(BlockAcknowledgement.newBuilder()
+                                                .setBlockNumber(blockNumber)))
+                                .build());
+                        blocksAcknowledged.incrementAndGet();
+                    }
+                    itemsReceived.incrementAndGet();
+                    in.position(start + length);
+                }
+            }
+
+            @Override
+            public void onError(final Throwable t) {
+                // The publisher reconnects on its own
+            }
+
+            @Override
+            public void onCompleted() {
+                responses.onCompleted();
+            }
+        };
+    }
+
+    private static BlockItem parse(final byte[] request, final long start, final int length) {
+        try {
+            return BlockItem.PROTOBUF.parse(Bytes.wrap(request).slice(start, length));
+        } catch (ParseException e) {
+            throw new IllegalArgumentException("Invalid block item", e);
+        }
+    }
+
+    public static void main(final String... args) throws IOException, InterruptedException {
+        final var port = args.length > 0 ? Integer.parseInt(args[0]) : 8080;
+        try (final var server = new StandInBlockNodeServer(port)) {
+            System.out.println("Stand-in block node listening on port " + server.port());
+            Thread.currentThread().join();
+        }
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.fees;
+
+import static com.hedera.hapi.node.base.HederaFunctionality.CRYPTO_TRANSFER;
+import static com.hedera.node.app.hapi.utils.CommonPbjConverters.fromPbj;
+
+import com.hedera.hapi.node.base.AccountAmount;
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.CurrentAndNextFeeSchedule;
+import com.hedera.hapi.node.base.FeeComponents;
+import com.hedera.hapi.node.base.FeeData;
+import com.hedera.hapi.node.base.HederaFunctionality;
+import com.hedera.hapi.node.base.Key;
+import com.hedera.hapi.node.base.SubType;
+import com.hedera.hapi.node.base.TransferList;
+import com.hedera.hapi.node.token.CryptoTransferTransactionBody;
+import com.hedera.hapi.node.transaction.TransactionBody;
+import com.hedera.node.app.config.ConfigProviderImpl;
+import com.hedera.node.app.fees.congestion.CongestionMultipliers;
+import com.hedera.node.app.fees.congestion.ThrottleMultiplier;
+import com.hedera.node.app.fees.congestion.UtilizationScaledThrottleMultiplier;
+import com.hedera.node.app.fixtures.state.FakeState;
+import com.hedera.node.app.service.file.impl.schemas.V0490FileSchema;
+import com.hedera.node.app.spi.fees.FeeCalculator;
+import com.hedera.node.app.spi.fees.Fees;
+import com.hedera.node.app.store.ReadableStoreFactory;
+import com.hedera.node.config.data.FeesConfig;
+import com.hedera.pbj.runtime.ParseException;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the cost of creating a {@link FeeCalculator} for a crypto transfer and running a legacy fee calculation
+ * with it, as the handle workflow does for every transaction.
+ * <p>
+ * {@code cachedTables} uses {@link FeeManager#createFeeCalculator}, which looks the fee data up in tables indexed by
+ * ordinal, already converted for "hapi-fees" together with the active exchange rate. {@code convertPerCalculator}
+ * repeats what {@link FeeManager} did before those tables: it looks the fee data up in a {@link HashMap} keyed by a
+ * record of the functionality and subtype, and converts both the fee data and the exchange rate for every
+ * calculator. Running {@link #main(String...)} adds the GC profiler, whose {@code gc.alloc.rate.norm} is the number
+ * of bytes allocated per calculation.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class FeeCalculatorBenchmark {
+    private static final Instant CONSENSUS_TIME = Instant.ofEpochSecond(1_700_000_000L);
+    private static final Key PAYER_KEY = Key.newBuilder()
+            .ed25519(Bytes.fromHex("0aa8e21064c61eab86e2a9c164565b4e7a9a4146106e0a6cd03a8c395a110e92"))
+            .build();
+    private static final int NUM_VERIFICATIONS = 1;
+    private static final int SIGNATURE_MAP_SIZE = 100;
+
+    public static void main(String... args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                        .include(FeeCalculatorBenchmark.class.getSimpleName())
+                        .addProfiler(GCProfiler.class)
+                        .build())
+                .run();
+    }
+
+    /**
+     * The key of the fee data in the map {@link FeeManager} used before its tables.
+     */
+    private record Entry(HederaFunctionality function, SubType subType) {}
+
+    private FeeManager feeManager;
+    private ExchangeRateManager exchangeRateManager;
+    private CongestionMultipliers congestionMultipliers;
+    private ReadableStoreFactory storeFactory;
+    private Map<Entry, FeeData> feeDataMap;
+    private TransactionBody body;
+    private com.hederahashgraph.api.proto.java.FeeData usage;
+
+    @Setup
+    public void setup() throws ParseException {
+        final var configProvider = new ConfigProviderImpl();
+        final var config = configProvider.getConfiguration();
+        final var genesisSchema = new V0490FileSchema();
+        exchangeRateManager = new ExchangeRateManager(configProvider);
+        exchangeRateManager.systemUpdate(genesisSchema.genesisExchangeRates(config));
+        final var feesConfig = config.getConfigData(FeesConfig.class);
+        final var multiplier = new ThrottleMultiplier(
+                "logical TPS",
+                "TPS",
+                "CryptoTransfer throughput",
+                () -> feesConfig.minCongestionPeriod(),
+                () -> feesConfig.percentCongestionMultipliers(),
+                List::of);
+        congestionMultipliers = new CongestionMultipliers(
+                new UtilizationScaledThrottleMultiplier(multiplier, configProvider), multiplier);
+        storeFactory = new ReadableStoreFactory(new FakeState());
+
+        final var feeSchedules = genesisSchema.genesisFeeSchedules(config);
+        feeManager = new FeeManager(exchangeRateManager, congestionMultipliers);
+        feeManager.update(feeSchedules);
+        feeDataMap = new HashMap<>();
+        final var schedules = CurrentAndNextFeeSchedule.PROTOBUF.parse(feeSchedules.toReadableSequentialData());
+        for (final var schedule : schedules.currentFeeScheduleOrThrow().transactionFeeSchedule()) {
+            for (final var feeData : schedule.fees()) {
+                feeDataMap.put(new Entry(schedule.hederaFunctionality(), feeData.subType()), feeData);
+            }
+            if (schedule.fees().isEmpty() && schedule.hasFeeData()) {
+                feeDataMap.put(new Entry(schedule.hederaFunctionality(), SubType.DEFAULT), schedule.feeDataOrThrow());
+            }
+        }
+
+        body = TransactionBody.newBuilder()
+                .memo("Fee calculator benchmark")
+                .cryptoTransfer(CryptoTransferTransactionBody.newBuilder()
+                        .transfers(TransferList.newBuilder()
+                                .accountAmounts(
+                                        AccountAmount.newBuilder()
+                                                .accountID(AccountID.newBuilder().accountNum(1001))
+                                                .amount(-1)
+                                                .build(),
+                                        AccountAmount.newBuilder()
+                                                .accountID(AccountID.newBuilder().accountNum(1002))
+                                                .amount(1)
+                                                .build())))
+                .build();
+        final var components = FeeComponents.newBuilder()
+                .constant(1)
+                .bpt(200)
+                .vpt(NUM_VERIFICATIONS)
+                .rbh(100)
+                .build();
+        usage = fromPbj(FeeData.newBuilder()
+                .nodedata(components)
+                .networkdata(components)
+                .servicedata(components)
+                .build());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Fees cachedTables() {
+        return feeManager
+                .createFeeCalculator(
+                        body,
+                        PAYER_KEY,
+                        CRYPTO_TRANSFER,
+                        NUM_VERIFICATIONS,
+                        SIGNATURE_MAP_SIZE,
+                        CONSENSUS_TIME,
+                        SubType.DEFAULT,
+                        false,
+                        storeFactory)
+                .legacyCalculate(sigValueObj -> usage);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Fees convertPerCalculator() {
+        final var feeData = feeDataMap.getOrDefault(new Entry(CRYPTO_TRANSFER, SubType.DEFAULT), FeeData.DEFAULT);
+        return new FeeCalculatorImpl(
+                        body,
+                        PAYER_KEY,
+                        NUM_VERIFICATIONS,
+                        SIGNATURE_MAP_SIZE,
+                        feeData,
+                        exchangeRateManager.activeRate(CONSENSUS_TIME),
+                        false,
+                        congestionMultipliers,
+                        storeFactory)
+                .legacyCalculate(sigValueObj -> usage);
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.grpc.impl.netty;
+
+import com.hedera.hapi.node.base.AccountAmount;
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.Duration;
+import com.hedera.hapi.node.base.SignatureMap;
+import com.hedera.hapi.node.base.SignaturePair;
+import com.hedera.hapi.node.base.Timestamp;
+import com.hedera.hapi.node.base.Transaction;
+import com.hedera.hapi.node.base.TransactionID;
+import com.hedera.hapi.node.base.TransferList;
+import com.hedera.hapi.node.token.CryptoTransferTransactionBody;
+import com.hedera.hapi.node.transaction.SignedTransaction;
+import com.hedera.hapi.node.transaction.TransactionBody;
+import com.hedera.node.app.Hedera;
+import com.hedera.node.app.fixtures.AppTestBase;
+import com.hedera.node.app.spi.workflows.PreCheckException;
+import com.hedera.node.app.workflows.TransactionChecker;
+import com.hedera.node.config.VersionedConfigImpl;
+import com.hedera.pbj.runtime.io.buffer.BufferedData;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.common.metrics.noop.NoOpMetrics;
+import java.time.Instant;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the ingest path of a single transaction, from the gRPC request stream to the bytes handed to the platform,
+ * with and without zero-copy ingest. Run with the GC profiler, {@code gc.alloc.rate.norm} is the number of bytes
+ * allocated per ingested transaction.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class IngestAllocationBenchmark {
+    public static void main(String... args) throws Exception {
+        org.openjdk.jmh.Main.main(new String[] {"-prof", "gc", IngestAllocationBenchmark.class.getName()});
+    }
+
+    @Param({"false", "true"})
+    private boolean zeroCopyIngest;
+
+    private DataBufferMarshaller marshaller;
+    private TransactionChecker checker;
+    private byte[] request;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        marshaller = new DataBufferMarshaller(zeroCopyIngest);
+        final var nodeAccount = AccountID.newBuilder().accountNum(3).build();
+        final var config = new VersionedConfigImpl(AppTestBase.DEFAULT_CONFIG, 1);
+        checker = new TransactionChecker(Hedera.MAX_SIGNED_TXN_SIZE, nodeAccount, () -> config, new NoOpMetrics());
+
+        final var payer = AccountID.newBuilder().accountNum(1001).build();
+        final var receiver = AccountID.newBuilder().accountNum(1002).build();
+        final var body = TransactionBody.newBuilder()
+                .transactionID(TransactionID.newBuilder()
+                        .accountID(payer)
+                        .transactionValidStart(Timestamp.newBuilder()
+                                .seconds(Instant.now().getEpochSecond())
+                                .build())
+                        .build())
+                .nodeAccountID(nodeAccount)
+                .transactionFee(100_000_000L)
+                .transactionValidDuration(Duration.newBuilder().seconds(120).build())
+                .memo("IngestAllocationBenchmark")
+                .cryptoTransfer(CryptoTransferTransactionBody.newBuilder()
+                        .transfers(TransferList.newBuilder()
+                                .accountAmounts(
+                                        AccountAmount.newBuilder()
+                                                .accountID(payer)
+                                                .amount(-1)
+                                                .build(),
+                                        AccountAmount.newBuilder()
+                                                .accountID(receiver)
+                                                .amount(1)
+                                                .build())
+                                .build())
+                        .build())
+                .build();
+        final var random = new Random(42);
+        final var prefix = new byte[32];
+        random.nextBytes(prefix);
+        final var signature = new byte[64];
+        random.nextBytes(signature);
+        final var signedTx = SignedTransaction.newBuilder()
+                .bodyBytes(TransactionBody.PROTOBUF.toBytes(body))
+                .sigMap(SignatureMap.newBuilder()
+                        .sigPair(SignaturePair.newBuilder()
+                                .pubKeyPrefix(Bytes.wrap(prefix))
+                                .ed25519(Bytes.wrap(signature))
+                                .build())
+                        .build())
+                .build();
+        final var tx = Transaction.newBuilder()
+                .signedTransactionBytes(SignedTransaction.PROTOBUF.toBytes(signedTx))
+                .build();
+        request = Transaction.PROTOBUF.toBytes(tx).toByteArray();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public void ingest(final Blackhole blackhole) throws PreCheckException {
+        // The gRPC server reads the request from a stream of known length, like the one used here
+        final var requestBuffer = marshaller.parse(marshaller.stream(BufferedData.wrap(request)));
+        // MethodBase
+        final var requestBytes = requestBuffer.getBytes(0, requestBuffer.length());
+        // IngestWorkflowImpl
+        final var txInfo = checker.parseAndCheck(requestBytes);
+        // SubmissionManager
+        final var submitted = zeroCopyIngest ? requestBytes : Bytes.wrap(requestBytes.toByteArray());
+        blackhole.consume(txInfo);
+        blackhole.consume(submitted);
+    }
+}
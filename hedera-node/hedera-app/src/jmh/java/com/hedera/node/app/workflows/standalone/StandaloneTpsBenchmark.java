@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.workflows.standalone;
+
+import com.hedera.node.app.state.SingleTransactionRecord;
+import com.hedera.node.app.workflows.standalone.StandaloneTpsHarness.StatusTally;
+import com.hedera.node.app.workflows.standalone.StandaloneTpsHarness.WorkloadTransaction;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the transactions per second the {@link StandaloneTpsHarness} sustains for each workload.
+ * The {@code throughput} benchmark reports TPS, and {@code latency} samples the latency of single transactions for
+ * percentiles. Running {@link #main(String...)} adds the GC profiler, whose {@code gc.alloc.rate.norm} is the number
+ * of bytes allocated per transaction.
+ * <p>
+ * Like the harness, the benchmark runs against an in-memory state, so its TPS excludes the cost of the
+ * {@code VirtualMap} state a node keeps in MerkleDB.
+ * <p>
+ * The status of every executed transaction is counted, and a trial fails if any transaction did not succeed, since
+ * the TPS of failing transactions is not the TPS of the workload.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+public class StandaloneTpsBenchmark {
+    private static final int WORKLOAD_SIZE = 100_000;
+    private static final long SEED = 42L;
+
+    public static void main(String... args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                        .include(StandaloneTpsBenchmark.class.getSimpleName())
+                        .addProfiler(GCProfiler.class)
+                        .build())
+                .run();
+    }
+
+    @Param({"MIXED", "CRYPTO_TRANSFER", "TOKEN_TRANSFER", "CONSENSUS_SUBMIT", "CONTRACT_CALL"})
+    private StandaloneTpsHarness.Workload workload;
+
+    private StandaloneTpsHarness harness;
+    private List<WorkloadTransaction> transactions;
+    private StatusTally tally;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        harness = new StandaloneTpsHarness();
+        transactions = harness.generate(workload, WORKLOAD_SIZE, SEED);
+        tally = new StatusTally();
+    }
+
+    @TearDown(Level.Trial)
+    public void checkStatuses() {
+        System.out.printf("%nStatuses:%n%s", tally);
+        tally.assertAllSucceeded();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public List<SingleTransactionRecord> throughput() {
+        return executeNext();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<SingleTransactionRecord> latency() {
+        return executeNext();
+    }
+
+    private List<SingleTransactionRecord> executeNext() {
+        final var transaction = transactions.get(next);
+        next = (next + 1) % transactions.size();
+        final var records = harness.execute(transaction.body());
+        tally.record(transaction.type(), records);
+        return records;
+    }
+}
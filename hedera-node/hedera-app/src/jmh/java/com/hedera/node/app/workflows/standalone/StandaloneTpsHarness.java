@@ -0,0 +1,689 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.workflows.standalone;
+
+import static com.hedera.hapi.node.base.ResponseCodeEnum.SUCCESS;
+import static com.hedera.node.app.spi.AppContext.Gossip.UNAVAILABLE_GOSSIP;
+import static com.hedera.node.app.workflows.standalone.TransactionExecutors.DEFAULT_NODE_INFO;
+import static com.hedera.node.app.workflows.standalone.TransactionExecutors.TRANSACTION_EXECUTORS;
+
+import com.hedera.hapi.node.base.AccountAmount;
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.ContractID;
+import com.hedera.hapi.node.base.Duration;
+import com.hedera.hapi.node.base.FileID;
+import com.hedera.hapi.node.base.Fraction;
+import com.hedera.hapi.node.base.Key;
+import com.hedera.hapi.node.base.KeyList;
+import com.hedera.hapi.node.base.ResponseCodeEnum;
+import com.hedera.hapi.node.base.ServiceEndpoint;
+import com.hedera.hapi.node.base.Timestamp;
+import com.hedera.hapi.node.base.TokenID;
+import com.hedera.hapi.node.base.TokenSupplyType;
+import com.hedera.hapi.node.base.TokenTransferList;
+import com.hedera.hapi.node.base.TokenType;
+import com.hedera.hapi.node.base.TopicID;
+import com.hedera.hapi.node.base.TransactionID;
+import com.hedera.hapi.node.base.TransferList;
+import com.hedera.hapi.node.consensus.ConsensusCreateTopicTransactionBody;
+import com.hedera.hapi.node.consensus.ConsensusSubmitMessageTransactionBody;
+import com.hedera.hapi.node.contract.ContractCallTransactionBody;
+import com.hedera.hapi.node.contract.ContractCreateTransactionBody;
+import com.hedera.hapi.node.state.file.File;
+import com.hedera.hapi.node.state.roster.Network;
+import com.hedera.hapi.node.token.CryptoCreateTransactionBody;
+import com.hedera.hapi.node.token.CryptoTransferTransactionBody;
+import com.hedera.hapi.node.token.TokenAssociateTransactionBody;
+import com.hedera.hapi.node.token.TokenCreateTransactionBody;
+import com.hedera.hapi.node.transaction.CustomFee;
+import com.hedera.hapi.node.transaction.FixedFee;
+import com.hedera.hapi.node.transaction.FractionalFee;
+import com.hedera.hapi.node.transaction.ThrottleDefinitions;
+import com.hedera.hapi.node.transaction.TransactionBody;
+import com.hedera.hapi.node.transaction.TransactionReceipt;
+import com.hedera.node.app.config.BootstrapConfigProviderImpl;
+import com.hedera.node.app.config.ConfigProviderImpl;
+import com.hedera.node.app.fees.FeeService;
+import com.hedera.node.app.fixtures.state.FakeServiceMigrator;
+import com.hedera.node.app.fixtures.state.FakeServicesRegistry;
+import com.hedera.node.app.fixtures.state.FakeStartupNetworks;
+import com.hedera.node.app.fixtures.state.FakeState;
+import com.hedera.node.app.ids.EntityIdService;
+import com.hedera.node.app.records.BlockRecordService;
+import com.hedera.node.app.service.addressbook.impl.AddressBookServiceImpl;
+import com.hedera.node.app.service.consensus.impl.ConsensusServiceImpl;
+import com.hedera.node.app.service.contract.impl.ContractServiceImpl;
+import com.hedera.node.app.service.file.FileService;
+import com.hedera.node.app.service.file.impl.FileServiceImpl;
+import com.hedera.node.app.service.file.impl.schemas.V0490FileSchema;
+import com.hedera.node.app.service.networkadmin.impl.FreezeServiceImpl;
+import com.hedera.node.app.service.networkadmin.impl.NetworkServiceImpl;
+import com.hedera.node.app.service.schedule.impl.ScheduleServiceImpl;
+import com.hedera.node.app.service.token.impl.TokenServiceImpl;
+import com.hedera.node.app.service.util.impl.UtilServiceImpl;
+import com.hedera.node.app.services.AppContextImpl;
+import com.hedera.node.app.signature.AppSignatureVerifier;
+import com.hedera.node.app.signature.impl.SignatureExpanderImpl;
+import com.hedera.node.app.signature.impl.SignatureVerifierImpl;
+import com.hedera.node.app.state.SingleTransactionRecord;
+import com.hedera.node.app.state.recordcache.RecordCacheService;
+import com.hedera.node.app.throttle.AppThrottleFactory;
+import com.hedera.node.app.throttle.CongestionThrottleService;
+import com.hedera.node.app.throttle.ThrottleAccumulator;
+import com.hedera.node.app.version.ServicesSoftwareVersion;
+import com.hedera.node.config.data.FilesConfig;
+import com.hedera.node.config.data.HederaConfig;
+import com.hedera.node.config.data.VersionConfig;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.common.crypto.CryptographyHolder;
+import com.swirlds.common.metrics.noop.NoOpMetrics;
+import com.swirlds.state.State;
+import com.swirlds.state.lifecycle.info.NetworkInfo;
+import com.swirlds.state.lifecycle.info.NodeInfo;
+import com.swirlds.state.spi.CommittableWritableStates;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
+import java.time.InstantSource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Executes realistic mixes of HAPI transactions in-process with a {@link TransactionExecutor}, so that the throughput
+ * of the handle workflow and fees can be measured on one machine with no network.
+ *
+ * <p><b>The reported TPS excludes the cost of the real state.</b> The state is an in-memory {@link FakeState} of plain
+ * maps, not the {@code VirtualMap}s a node keeps in MerkleDB, so there is no hashing, flushing, compaction or disk IO,
+ * and lookups never miss a cache. The numbers are an upper bound for the workflow alone, useful to compare changes to
+ * handle logic, and must not be read as the TPS a node sustains. For the same reason the size of the state is not a
+ * parameter: with plain maps it hardly changes the cost of a transaction.
+ *
+ * <p>The harness migrates a genesis {@link FakeState} and then pre-populates it, through the executor itself, with
+ * {@value #NUM_ACCOUNTS} funded accounts; fungible tokens with fixed and fractional custom fees, and
+ * {@value #NUM_TOKEN_HOLDERS} accounts holding them; topics; and a contract whose single function increments a
+ * storage slot. Workloads are generated from a seeded {@link Random}, with every transaction paid for by a randomly
+ * chosen account, so runs are reproducible.
+ *
+ * <p>A transaction that fails is usually cheaper than one that succeeds, so the status of every measured transaction
+ * is counted with a {@link StatusTally}, and a run in which any transaction did not succeed fails.
+ *
+ * <p>Each transaction is executed at a consensus time one microsecond after the previous one. All workload
+ * transactions share a valid start time just before the first of them, so a workload can be executed repeatedly
+ * for up to {@link #VALID_DURATION_SECS} seconds of consensus time.
+ *
+ * <p>Running {@link #main(String...)} executes a workload and prints the sustained TPS, latency percentiles per
+ * transaction type, and the bytes allocated per transaction. {@link StandaloneTpsBenchmark} runs the same
+ * workloads under JMH.
+ */
+public class StandaloneTpsHarness {
+    /** The valid duration of every transaction, the maximum the default configuration allows */
+    public static final long VALID_DURATION_SECS = 180;
+
+    private static final AccountID TREASURY_ID =
+            AccountID.newBuilder().accountNum(2).build();
+    private static final AccountID NODE_ACCOUNT_ID =
+            AccountID.newBuilder().accountNum(3).build();
+    private static final Instant GENESIS_TIME = Instant.ofEpochSecond(86_400);
+    private static final Duration AUTO_RENEW_PERIOD = new Duration(7_776_000);
+    private static final long TINYBARS_PER_HBAR = 100_000_000L;
+    private static final long MAX_TRANSACTION_FEE = 100 * TINYBARS_PER_HBAR;
+    private static final long INITIAL_ACCOUNT_BALANCE = 100_000 * TINYBARS_PER_HBAR;
+    private static final long INITIAL_TOKEN_BALANCE = 1_000_000_000L;
+    private static final int NUM_ACCOUNTS = 1_000;
+    private static final int NUM_TOKEN_HOLDERS = 100;
+    private static final int NUM_TOKENS = 4;
+    private static final int NUM_TOPICS = 16;
+    private static final int MESSAGE_BYTES = 256;
+    private static final long CONTRACT_CALL_GAS = 50_000L;
+    private static final Key ACCOUNT_KEY = Key.newBuilder()
+            .ed25519(Bytes.fromHex("0aa8e21064c61eab86e2a9c164565b4e7a9a4146106e0a6cd03a8c395a110e92"))
+            .build();
+    /**
+     * Initcode for a contract whose runtime code, {@code PUSH1 0 SLOAD PUSH1 1 ADD PUSH1 0 SSTORE STOP},
+     * increments storage slot zero on every call.
+     */
+    private static final Bytes COUNTER_INITCODE = Bytes.fromHex("600a600c600039600a6000f3" + "60005460010160005500");
+
+    /**
+     * The transaction types of a workload, and their relative weights.
+     */
+    public enum Workload {
+        CRYPTO_TRANSFER(1, 0, 0, 0),
+        TOKEN_TRANSFER(0, 1, 0, 0),
+        CONSENSUS_SUBMIT(0, 0, 1, 0),
+        CONTRACT_CALL(0, 0, 0, 1),
+        /** Roughly the mix of transaction types on a busy public network */
+        MIXED(40, 25, 25, 10);
+
+        private final int[] weights;
+
+        Workload(final int cryptoTransfers, final int tokenTransfers, final int submits, final int contractCalls) {
+            this.weights = new int[] {cryptoTransfers, tokenTransfers, submits, contractCalls};
+        }
+    }
+
+    /**
+     * The type of each generated transaction, in the same order as the weights of a {@link Workload}.
+     */
+    public enum TransactionType {
+        CRYPTO_TRANSFER,
+        TOKEN_TRANSFER,
+        CONSENSUS_SUBMIT,
+        CONTRACT_CALL
+    }
+
+    /**
+     * A generated transaction and its type.
+     *
+     * @param type the type of the transaction
+     * @param body the transaction
+     */
+    public record WorkloadTransaction(@NonNull TransactionType type, @NonNull TransactionBody body) {}
+
+    /**
+     * Counts the statuses of executed workload transactions, by transaction type.
+     */
+    public static class StatusTally {
+        private final Map<TransactionType, Map<ResponseCodeEnum, Integer>> counts =
+                new EnumMap<>(TransactionType.class);
+
+        /**
+         * Counts the status of an executed transaction.
+         *
+         * @param type the type of the transaction
+         * @param records the records of the transaction, the first of which is its own
+         */
+        public void record(@NonNull final TransactionType type, @NonNull final List<SingleTransactionRecord> records) {
+            final var status = records.getFirst().transactionRecord().receiptOrThrow().status();
+            counts.computeIfAbsent(type, ignored -> new EnumMap<>(ResponseCodeEnum.class))
+                    .merge(status, 1, Integer::sum);
+        }
+
+        /**
+         * Returns the number of counted transactions that did not succeed.
+         *
+         * @return the number of failed transactions
+         */
+        public int failures() {
+            int failures = 0;
+            for (final var statuses : counts.values()) {
+                for (final var entry : statuses.entrySet()) {
+                    if (entry.getKey() != SUCCESS) {
+                        failures += entry.getValue();
+                    }
+                }
+            }
+            return failures;
+        }
+
+        /**
+         * Fails unless every counted transaction succeeded.
+         *
+         * @throws IllegalStateException if any transaction did not succeed
+         */
+        public void assertAllSucceeded() {
+            final int failures = failures();
+            if (failures > 0) {
+                throw new IllegalStateException(failures + " workload transactions did not succeed:\n" + this);
+            }
+        }
+
+        @Override
+        public String toString() {
+            final var sb = new StringBuilder();
+            counts.forEach((type, statuses) -> sb.append(String.format("  %-16s %s%n", type, statuses)));
+            return sb.toString();
+        }
+    }
+
+    private final TransactionExecutor executor;
+    private final List<AccountID> accounts = new ArrayList<>();
+    private final List<AccountID> tokenHolders = new ArrayList<>();
+    private final List<TokenID> tokens = new ArrayList<>();
+    private final List<TopicID> topics = new ArrayList<>();
+    private ContractID contractId;
+    private Instant consensusNow = GENESIS_TIME;
+
+    /**
+     * Creates a harness with a populated state.
+     */
+    public StandaloneTpsHarness() {
+        final var overrides = Map.of("contracts.throttle.throttleByGas", "false");
+        final var state = genesisState(overrides);
+        this.executor = TRANSACTION_EXECUTORS.newExecutor(state, overrides, null);
+        populate();
+    }
+
+    /**
+     * Generates a reproducible workload of the given size.
+     *
+     * @param workload the mix of transaction types
+     * @param count the number of transactions
+     * @param seed the seed of the random choices
+     * @return the transactions
+     */
+    public List<WorkloadTransaction> generate(@NonNull final Workload workload, final int count, final long seed) {
+        final var random = new Random(seed);
+        final var validStart = asTimestamp(consensusNow);
+        final int totalWeight = Arrays.stream(workload.weights).sum();
+        final var transactions = new ArrayList<WorkloadTransaction>(count);
+        for (int i = 0; i < count; i++) {
+            final var type = pickType(workload, random.nextInt(totalWeight));
+            final var payer = type == TransactionType.TOKEN_TRANSFER
+                    ? tokenHolders.get(random.nextInt(tokenHolders.size()))
+                    : accounts.get(random.nextInt(accounts.size()));
+            final var builder =
+                    switch (type) {
+                        case CRYPTO_TRANSFER -> {
+                            final long amount = 1 + random.nextInt(1_000);
+                            yield TransactionBody.newBuilder()
+                                    .cryptoTransfer(CryptoTransferTransactionBody.newBuilder()
+                                            .transfers(TransferList.newBuilder()
+                                                    .accountAmounts(
+                                                            debit(payer, amount),
+                                                            credit(otherThan(payer, accounts, random), amount))
+                                                    .build()));
+                        }
+                        case TOKEN_TRANSFER -> {
+                            final long amount = 100 + random.nextInt(1_000);
+                            yield TransactionBody.newBuilder()
+                                    .cryptoTransfer(CryptoTransferTransactionBody.newBuilder()
+                                            .tokenTransfers(TokenTransferList.newBuilder()
+                                                    .token(tokens.get(random.nextInt(tokens.size())))
+                                                    .transfers(
+                                                            debit(payer, amount),
+                                                            credit(otherThan(payer, tokenHolders, random), amount))
+                                                    .build()));
+                        }
+                        case CONSENSUS_SUBMIT -> {
+                            final var message = new byte[MESSAGE_BYTES];
+                            random.nextBytes(message);
+                            yield TransactionBody.newBuilder()
+                                    .consensusSubmitMessage(ConsensusSubmitMessageTransactionBody.newBuilder()
+                                            .topicID(topics.get(random.nextInt(topics.size())))
+                                            .message(Bytes.wrap(message)));
+                        }
+                        case CONTRACT_CALL -> TransactionBody.newBuilder()
+                                .contractCall(ContractCallTransactionBody.newBuilder()
+                                        .contractID(contractId)
+                                        .gas(CONTRACT_CALL_GAS));
+                    };
+            transactions.add(new WorkloadTransaction(
+                    type, withStandardFields(builder, payer, validStart).build()));
+        }
+        return transactions;
+    }
+
+    /**
+     * Executes a transaction one microsecond of consensus time after the previous one.
+     *
+     * @param body the transaction
+     * @return the records of the transaction
+     */
+    public List<SingleTransactionRecord> execute(@NonNull final TransactionBody body) {
+        consensusNow = consensusNow.plusNanos(1_000);
+        return executor.execute(body, consensusNow);
+    }
+
+    /**
+     * Executes a transaction and fails unless it succeeds.
+     *
+     * @param body the transaction
+     * @return the receipt of the transaction
+     */
+    public TransactionReceipt executeOrThrow(@NonNull final TransactionBody body) {
+        final var receipt =
+                execute(body).getFirst().transactionRecord().receiptOrThrow();
+        if (receipt.status() != SUCCESS) {
+            throw new IllegalStateException("Transaction failed with " + receipt.status() + ": " + body);
+        }
+        return receipt;
+    }
+
+    private void populate() {
+        for (int i = 0; i < NUM_ACCOUNTS; i++) {
+            accounts.add(executeOrThrow(setupTransaction(TransactionBody.newBuilder()
+                            .cryptoCreateAccount(CryptoCreateTransactionBody.newBuilder()
+                                    .key(ACCOUNT_KEY)
+                                    .initialBalance(INITIAL_ACCOUNT_BALANCE)
+                                    .autoRenewPeriod(AUTO_RENEW_PERIOD))))
+                    .accountIDOrThrow());
+        }
+        for (int i = 0; i < NUM_TOKENS; i++) {
+            tokens.add(executeOrThrow(setupTransaction(TransactionBody.newBuilder()
+                            .tokenCreation(TokenCreateTransactionBody.newBuilder()
+                                    .name("Benchmark token " + i)
+                                    .symbol("BENCH" + i)
+                                    .initialSupply(Long.MAX_VALUE / 2)
+                                    .treasury(TREASURY_ID)
+                                    .tokenType(TokenType.FUNGIBLE_COMMON)
+                                    .supplyType(TokenSupplyType.INFINITE)
+                                    .customFees(
+                                            CustomFee.newBuilder()
+                                                    .fixedFee(FixedFee.newBuilder()
+                                                            .amount(1_000))
+                                                    .feeCollectorAccountId(TREASURY_ID)
+                                                    .build(),
+                                            CustomFee.newBuilder()
+                                                    .fractionalFee(FractionalFee.newBuilder()
+                                                            .fractionalAmount(new Fraction(1, 100))
+                                                            .minimumAmount(1)
+                                                            .maximumAmount(1_000))
+                                                    .feeCollectorAccountId(TREASURY_ID)
+                                                    .build())
+                                    .autoRenewAccount(TREASURY_ID)
+                                    .autoRenewPeriod(AUTO_RENEW_PERIOD))))
+                    .tokenIDOrThrow());
+        }
+        for (int i = 0; i < NUM_TOKEN_HOLDERS; i++) {
+            final var holder = accounts.get(i);
+            executeOrThrow(setupTransaction(TransactionBody.newBuilder()
+                    .tokenAssociate(TokenAssociateTransactionBody.newBuilder()
+                            .account(holder)
+                            .tokens(tokens))));
+            executeOrThrow(setupTransaction(TransactionBody.newBuilder()
+                    .cryptoTransfer(CryptoTransferTransactionBody.newBuilder()
+                            .tokenTransfers(tokens.stream()
+                                    .map(token -> TokenTransferList.newBuilder()
+                                            .token(token)
+                                            .transfers(
+                                                    debit(TREASURY_ID, INITIAL_TOKEN_BALANCE),
+                                                    credit(holder, INITIAL_TOKEN_BALANCE))
+                                            .build())
+                                    .toList()))));
+            tokenHolders.add(holder);
+        }
+        for (int i = 0; i < NUM_TOPICS; i++) {
+            topics.add(executeOrThrow(setupTransaction(TransactionBody.newBuilder()
+                            .consensusCreateTopic(ConsensusCreateTopicTransactionBody.newBuilder()
+                                    .memo("Benchmark topic " + i)
+                                    .autoRenewPeriod(AUTO_RENEW_PERIOD))))
+                    .topicIDOrThrow());
+        }
+        contractId = executeOrThrow(setupTransaction(TransactionBody.newBuilder()
+                        .contractCreateInstance(ContractCreateTransactionBody.newBuilder()
+                                .initcode(COUNTER_INITCODE)
+                                .gas(200_000L)
+                                .autoRenewPeriod(AUTO_RENEW_PERIOD))))
+                .contractIDOrThrow();
+    }
+
+    private TransactionBody setupTransaction(@NonNull final TransactionBody.Builder builder) {
+        return withStandardFields(builder, TREASURY_ID, asTimestamp(consensusNow))
+                .build();
+    }
+
+    private static TransactionBody.Builder withStandardFields(
+            @NonNull final TransactionBody.Builder builder,
+            @NonNull final AccountID payer,
+            @NonNull final Timestamp validStart) {
+        return builder.transactionID(TransactionID.newBuilder()
+                        .accountID(payer)
+                        .transactionValidStart(validStart)
+                        .build())
+                .nodeAccountID(NODE_ACCOUNT_ID)
+                .transactionFee(MAX_TRANSACTION_FEE)
+                .transactionValidDuration(new Duration(VALID_DURATION_SECS));
+    }
+
+    private static TransactionType pickType(@NonNull final Workload workload, int choice) {
+        final var types = TransactionType.values();
+        for (int i = 0; i < types.length; i++) {
+            choice -= workload.weights[i];
+            if (choice < 0) {
+                return types[i];
+            }
+        }
+        throw new IllegalStateException("No transaction type for " + workload);
+    }
+
+    private static AccountID otherThan(
+            @NonNull final AccountID account, @NonNull final List<AccountID> candidates, @NonNull final Random random) {
+        AccountID other;
+        do {
+            other = candidates.get(random.nextInt(candidates.size()));
+        } while (other.equals(account));
+        return other;
+    }
+
+    private static AccountAmount debit(@NonNull final AccountID account, final long amount) {
+        return AccountAmount.newBuilder().accountID(account).amount(-amount).build();
+    }
+
+    private static AccountAmount credit(@NonNull final AccountID account, final long amount) {
+        return AccountAmount.newBuilder().accountID(account).amount(amount).build();
+    }
+
+    private static Timestamp asTimestamp(@NonNull final Instant instant) {
+        return new Timestamp(instant.getEpochSecond(), instant.getNano());
+    }
+
+    private static State genesisState(@NonNull final Map<String, String> overrides) {
+        final var state = new FakeState();
+        final var config = new ConfigProviderImpl(false, null, overrides).getConfiguration();
+        final var networkInfo = new SingleNodeNetworkInfo();
+        final var servicesRegistry = new FakeServicesRegistry();
+        final var appContext = new AppContextImpl(
+                InstantSource.system(),
+                new AppSignatureVerifier(
+                        config.getConfigData(HederaConfig.class),
+                        new SignatureExpanderImpl(),
+                        new SignatureVerifierImpl(CryptographyHolder.get())),
+                UNAVAILABLE_GOSSIP,
+                () -> config,
+                () -> DEFAULT_NODE_INFO,
+                NoOpMetrics::new,
+                new AppThrottleFactory(
+                        () -> config, () -> state, () -> ThrottleDefinitions.DEFAULT, ThrottleAccumulator::new));
+        List.of(
+                        new EntityIdService(),
+                        new ConsensusServiceImpl(),
+                        new ContractServiceImpl(appContext),
+                        new FileServiceImpl(),
+                        new FreezeServiceImpl(),
+                        new ScheduleServiceImpl(),
+                        new TokenServiceImpl(),
+                        new UtilServiceImpl(),
+                        new RecordCacheService(),
+                        new BlockRecordService(),
+                        new FeeService(),
+                        new CongestionThrottleService(),
+                        new NetworkServiceImpl(),
+                        new AddressBookServiceImpl())
+                .forEach(servicesRegistry::register);
+        final var bootstrapConfig = new BootstrapConfigProviderImpl().getConfiguration();
+        new FakeServiceMigrator()
+                .doMigrations(
+                        state,
+                        servicesRegistry,
+                        null,
+                        new ServicesSoftwareVersion(
+                                bootstrapConfig.getConfigData(VersionConfig.class).servicesVersion()),
+                        config,
+                        config,
+                        networkInfo,
+                        new NoOpMetrics(),
+                        new FakeStartupNetworks(Network.DEFAULT));
+        final var writableStates = state.getWritableStates(FileService.NAME);
+        final var files = writableStates.<FileID, File>get(V0490FileSchema.BLOBS_KEY);
+        final var genesisSchema = new V0490FileSchema();
+        final var filesConfig = config.getConfigData(FilesConfig.class);
+        final var hederaConfig = config.getConfigData(HederaConfig.class);
+        final Map<Long, Bytes> genesisContents = Map.of(
+                filesConfig.addressBook(), genesisSchema.genesisAddressBook(networkInfo),
+                filesConfig.nodeDetails(), genesisSchema.genesisNodeDetails(networkInfo),
+                filesConfig.feeSchedules(), genesisSchema.genesisFeeSchedules(config),
+                filesConfig.exchangeRates(), genesisSchema.genesisExchangeRates(config),
+                filesConfig.networkProperties(), genesisSchema.genesisNetworkProperties(config),
+                filesConfig.hapiPermissions(), genesisSchema.genesisHapiPermissions(config),
+                filesConfig.throttleDefinitions(), genesisSchema.genesisThrottleDefinitions(config));
+        genesisContents.forEach((fileNum, contents) -> {
+            final var fileId = FileID.newBuilder()
+                    .shardNum(hederaConfig.shard())
+                    .realmNum(hederaConfig.realm())
+                    .fileNum(fileNum)
+                    .build();
+            files.put(
+                    fileId,
+                    File.newBuilder()
+                            .fileId(fileId)
+                            .keys(KeyList.DEFAULT)
+                            .contents(contents)
+                            .build());
+        });
+        ((CommittableWritableStates) writableStates).commit();
+        return state;
+    }
+
+    /**
+     * The node the transactions are submitted to. Its public key is a placeholder, as no signatures are verified.
+     */
+    private record BenchmarkNodeInfo(
+            long nodeId,
+            @NonNull AccountID accountId,
+            long weight,
+            @NonNull List<ServiceEndpoint> gossipEndpoints,
+            @NonNull Bytes sigCertBytes)
+            implements NodeInfo {
+        @Override
+        public String hexEncodedPublicKey() {
+            return "00";
+        }
+    }
+
+    /**
+     * A network of the single node the transactions are submitted to.
+     */
+    private static class SingleNodeNetworkInfo implements NetworkInfo {
+        private final NodeInfo node =
+                new BenchmarkNodeInfo(0, NODE_ACCOUNT_ID, 10, List.of(ServiceEndpoint.DEFAULT), Bytes.EMPTY);
+
+        @NonNull
+        @Override
+        public Bytes ledgerId() {
+            return Bytes.fromHex("03");
+        }
+
+        @NonNull
+        @Override
+        public NodeInfo selfNodeInfo() {
+            return node;
+        }
+
+        @NonNull
+        @Override
+        public List<NodeInfo> addressBook() {
+            return List.of(node);
+        }
+
+        @Nullable
+        @Override
+        public NodeInfo nodeInfo(final long nodeId) {
+            return nodeId == node.nodeId() ? node : null;
+        }
+
+        @Override
+        public boolean containsNode(final long nodeId) {
+            return nodeId == node.nodeId();
+        }
+
+        @Override
+        public void updateFrom(final State state) {
+            throw new UnsupportedOperationException("Not implemented");
+        }
+    }
+
+    /**
+     * Runs a workload and prints its sustained TPS, excluding the cost of the real state, latency percentiles per
+     * transaction type, allocation per transaction, and the statuses of the transactions. Fails if any measured
+     * transaction did not succeed. The optional arguments are, in order, the workload, the number of measured
+     * transactions, and the seed.
+     *
+     * @param args the optional arguments
+     */
+    public static void main(final String... args) {
+        final var workload = args.length > 0 ? Workload.valueOf(args[0]) : Workload.MIXED;
+        final int numTransactions = args.length > 1 ? Integer.parseInt(args[1]) : 500_000;
+        final long seed = args.length > 2 ? Long.parseLong(args[2]) : 42L;
+
+        System.out.printf(
+                "Populating state with %d accounts and %d token holders...%n", NUM_ACCOUNTS, NUM_TOKEN_HOLDERS);
+        final long setupStart = System.nanoTime();
+        final var harness = new StandaloneTpsHarness();
+        System.out.printf("Populated state in %.1fs%n", (System.nanoTime() - setupStart) / 1e9);
+
+        final var warmup = harness.generate(workload, numTransactions / 5, seed - 1);
+        for (final var transaction : warmup) {
+            harness.execute(transaction.body());
+        }
+        final var transactions = harness.generate(workload, numTransactions, seed);
+        final var latencies = new long[numTransactions];
+        final var tally = new StatusTally();
+        final var threadMxBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long allocatedBefore = threadMxBean.getCurrentThreadAllocatedBytes();
+        final long start = System.nanoTime();
+        for (int i = 0; i < numTransactions; i++) {
+            final var transaction = transactions.get(i);
+            final long txnStart = System.nanoTime();
+            final var records = harness.execute(transaction.body());
+            latencies[i] = System.nanoTime() - txnStart;
+            tally.record(transaction.type(), records);
+        }
+        final long elapsed = System.nanoTime() - start;
+        final long allocated = threadMxBean.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        System.out.printf(
+                "%s: %d transactions in %.2fs = %.0f TPS (in-memory state, excludes state cost), %d bytes allocated per"
+                        + " transaction%n",
+                workload,
+                numTransactions,
+                elapsed / 1e9,
+                numTransactions / (elapsed / 1e9),
+                allocated / numTransactions);
+        for (final var type : TransactionType.values()) {
+            final var typeLatencies = new long[numTransactions];
+            int n = 0;
+            for (int i = 0; i < numTransactions; i++) {
+                if (transactions.get(i).type() == type) {
+                    typeLatencies[n++] = latencies[i];
+                }
+            }
+            if (n > 0) {
+                Arrays.sort(typeLatencies, 0, n);
+                System.out.printf(
+                        "  %-16s n=%-8d p50=%7.1fus p99=%7.1fus p99.9=%8.1fus max=%8.1fus%n",
+                        type,
+                        n,
+                        percentile(typeLatencies, n, 0.5),
+                        percentile(typeLatencies, n, 0.99),
+                        percentile(typeLatencies, n, 0.999),
+                        typeLatencies[n - 1] / 1e3);
+            }
+        }
+        System.out.printf("Statuses:%n%s", tally);
+        tally.assertAllSucceeded();
+    }
+
+    private static double percentile(@NonNull final long[] sorted, final int n, final double fraction) {
+        return sorted[Math.min(n - 1, (int) (fraction * n))] / 1e3;
+    }
+}
@@ -19,8 +19,10 @@ package com.hedera.node.app.blocks;
 import com.hedera.node.app.blocks.impl.BlockStreamManagerImpl;
 import com.hedera.node.app.blocks.impl.FileBlockItemWriter;
 import com.hedera.node.app.blocks.impl.GrpcBlockItemWriter;
+import com.hedera.node.app.blocks.impl.GrpcBlockStreamPublisher;
 import com.hedera.node.config.ConfigProvider;
 import com.hedera.node.config.data.BlockStreamConfig;
+import com.swirlds.metrics.api.Metrics;
 import com.swirlds.state.lifecycle.info.NodeInfo;
 import dagger.Binds;
 import dagger.Module;
@@ -41,12 +43,21 @@ public interface BlockStreamModule {
     static Supplier<BlockItemWriter> bindBlockItemWriterSupplier(
             @NonNull final ConfigProvider configProvider,
             @NonNull final NodeInfo selfNodeInfo,
-            @NonNull final FileSystem fileSystem) {
+            @NonNull final FileSystem fileSystem,
+            @NonNull final Metrics metrics) {
         final var config = configProvider.getConfiguration();
         final var blockStreamConfig = config.getConfigData(BlockStreamConfig.class);
         return switch (blockStreamConfig.writerMode()) {
-            case FILE -> () -> new FileBlockItemWriter(configProvider, selfNodeInfo, fileSystem);
-            case GRPC -> () -> new GrpcBlockItemWriter(blockStreamConfig);
+            case FILE -> {
+                final var parallelism = blockStreamConfig.compressionParallelism();
+                final var compressionExecutor =
+                        parallelism > 1 ? FileBlockItemWriter.newCompressionExecutor(parallelism) : null;
+                yield () -> new FileBlockItemWriter(configProvider, selfNodeInfo, fileSystem, compressionExecutor);
+            }
+            case GRPC -> {
+                final var publisher = new GrpcBlockStreamPublisher(blockStreamConfig, metrics);
+                yield () -> new GrpcBlockItemWriter(publisher, blockStreamConfig.grpcRequestBatchBytes());
+            }
         };
     }
     ;
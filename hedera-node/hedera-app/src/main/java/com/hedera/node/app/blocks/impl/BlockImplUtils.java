@@ -53,9 +53,8 @@ import static com.hedera.node.app.records.impl.BlockRecordInfoUtils.HASH_SIZE;
 
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.common.crypto.DigestType;
+import com.swirlds.common.crypto.ReusableDigests;
 import edu.umd.cs.findbugs.annotations.NonNull;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 
 /**
  * Utility methods for block implementation.
@@ -236,13 +235,9 @@ public class BlockImplUtils {
      * @return the combined hash
      */
     public static byte[] combine(final byte[] leftHash, final byte[] rightHash) {
-        try {
-            final var digest = MessageDigest.getInstance(DigestType.SHA_384.algorithmName());
-            digest.update(leftHash);
-            digest.update(rightHash);
-            return digest.digest();
-        } catch (final NoSuchAlgorithmException fatal) {
-            throw new IllegalStateException(fatal);
-        }
+        final var digest = ReusableDigests.digestFor(DigestType.SHA_384);
+        digest.update(leftHash);
+        digest.update(rightHash);
+        return digest.digest();
     }
 }
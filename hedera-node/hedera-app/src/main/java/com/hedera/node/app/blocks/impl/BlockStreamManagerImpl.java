@@ -40,6 +40,7 @@ import com.hedera.hapi.block.stream.BlockItem;
 import com.hedera.hapi.block.stream.BlockProof;
 import com.hedera.hapi.block.stream.MerkleSiblingHash;
 import com.hedera.hapi.block.stream.output.BlockHeader;
+import com.hedera.hapi.block.stream.output.StateChange;
 import com.hedera.hapi.block.stream.output.TransactionResult;
 import com.hedera.hapi.block.stream.schema.BlockSchema;
 import com.hedera.hapi.node.base.SemanticVersion;
@@ -60,12 +61,14 @@ import com.hedera.node.config.ConfigProvider;
 import com.hedera.node.config.data.BlockRecordStreamConfig;
 import com.hedera.node.config.data.BlockStreamConfig;
 import com.hedera.node.config.data.NetworkAdminConfig;
+import com.hedera.node.config.data.StatsConfig;
 import com.hedera.node.config.data.VersionConfig;
-import com.hedera.node.config.types.BlockStreamWriterMode;
 import com.hedera.node.config.types.DiskNetworkExport;
 import com.hedera.pbj.runtime.io.buffer.BufferedData;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.common.metrics.RunningAverageMetric;
 import com.swirlds.config.api.Configuration;
+import com.swirlds.metrics.api.Metrics;
 import com.swirlds.platform.state.service.PlatformStateService;
 import com.swirlds.platform.state.service.schemas.V0540PlatformStateSchema;
 import com.swirlds.platform.system.Round;
@@ -104,8 +107,18 @@ import org.apache.logging.log4j.Logger;
 public class BlockStreamManagerImpl implements BlockStreamManager {
     private static final Logger log = LogManager.getLogger(BlockStreamManagerImpl.class);
 
+    private static final String COALESCED_CHANGES_NAME = "blockStreamCoalescedChangesPerRound";
+    private static final String COALESCED_CHANGES_DESC =
+            "average number of state changes per round left out of the block stream as superseded";
+    private static final String COALESCED_BYTES_NAME = "blockStreamCoalescedBytesPerRound";
+    private static final String COALESCED_BYTES_DESC =
+            "average number of block stream bytes per round saved by leaving out superseded state changes";
+    private static final String COALESCED_MICROS_NAME = "blockStreamCoalescedMicrosPerRound";
+    private static final String COALESCED_MICROS_DESC =
+            "estimated microseconds of block stream serialization per round saved by leaving out superseded changes";
+    private static final String RUNNING_AVERAGE_FORMAT = "%,13.2f";
+
     private final int roundsPerBlock;
-    private final BlockStreamWriterMode streamWriterType;
     private final int hashCombineBatchSize;
     private final int serializationBatchSize;
     private final BlockHashSigner blockHashSigner;
@@ -116,6 +129,15 @@ public class BlockStreamManagerImpl implements BlockStreamManager {
     private final DiskNetworkExport diskNetworkExport;
     private final Supplier<BlockItemWriter> writerSupplier;
     private final BoundaryStateChangeListener boundaryStateChangeListener;
+    private final KVStateChangeListener kvStateChangeListener;
+    private final int coalescedBytesSampleSize;
+    private final RunningAverageMetric coalescedChangesPerRound;
+
+    @Nullable
+    private final RunningAverageMetric coalescedBytesPerRound;
+
+    @Nullable
+    private final RunningAverageMetric coalescedMicrosPerRound;
 
     private final BlockHashManager blockHashManager;
     private final RunningHashManager runningHashManager;
@@ -144,6 +166,11 @@ public class BlockStreamManagerImpl implements BlockStreamManager {
      * hashes if applicable; <b>and</b> written to the block item writer.
      */
     private CompletableFuture<Void> writeFuture = completedFuture(null);
+    /**
+     * Moving average of the nanoseconds taken to serialize and hash a byte of block items; only updated by
+     * {@link #combineOutput(Void, ScheduledWork.Output)}, which never runs concurrently with itself.
+     */
+    private volatile double serializationNanosPerByte;
 
     /**
      * Represents a block pending completion by the block hash signature needed for its block proof.
@@ -177,19 +204,22 @@ public class BlockStreamManagerImpl implements BlockStreamManager {
             @NonNull final ExecutorService executor,
             @NonNull final ConfigProvider configProvider,
             @NonNull final BoundaryStateChangeListener boundaryStateChangeListener,
+            @NonNull final KVStateChangeListener kvStateChangeListener,
             @NonNull final InitialStateHash initialStateHash,
-            @NonNull final SemanticVersion version) {
+            @NonNull final SemanticVersion version,
+            @NonNull final Metrics metrics) {
         this.blockHashSigner = requireNonNull(blockHashSigner);
         this.version = requireNonNull(version);
         this.writerSupplier = requireNonNull(writerSupplier);
         this.executor = requireNonNull(executor);
         this.boundaryStateChangeListener = requireNonNull(boundaryStateChangeListener);
+        this.kvStateChangeListener = requireNonNull(kvStateChangeListener);
         requireNonNull(configProvider);
+        requireNonNull(metrics);
         final var config = configProvider.getConfiguration();
         this.hapiVersion = hapiVersionFrom(config);
         final var blockStreamConfig = config.getConfigData(BlockStreamConfig.class);
         this.roundsPerBlock = blockStreamConfig.roundsPerBlock();
-        this.streamWriterType = blockStreamConfig.writerMode();
         this.hashCombineBatchSize = blockStreamConfig.hashCombineBatchSize();
         this.serializationBatchSize = blockStreamConfig.serializationBatchSize();
         final var networkAdminConfig = config.getConfigData(NetworkAdminConfig.class);
@@ -197,6 +227,28 @@ public class BlockStreamManagerImpl implements BlockStreamManager {
         this.diskNetworkExportFile = networkAdminConfig.diskNetworkExportFile();
         this.blockHashManager = new BlockHashManager(config);
         this.runningHashManager = new RunningHashManager();
+        final var halfLife = config.getConfigData(StatsConfig.class).runningAvgHalfLifeSecs();
+        this.coalescedChangesPerRound = metrics.getOrCreate(
+                new RunningAverageMetric.Config("app", COALESCED_CHANGES_NAME)
+                        .withDescription(COALESCED_CHANGES_DESC)
+                        .withFormat(RUNNING_AVERAGE_FORMAT)
+                        .withHalfLife(halfLife));
+        this.coalescedBytesSampleSize = blockStreamConfig.coalescedBytesSampleSize();
+        if (coalescedBytesSampleSize > 0) {
+            this.coalescedBytesPerRound = metrics.getOrCreate(
+                    new RunningAverageMetric.Config("app", COALESCED_BYTES_NAME)
+                            .withDescription(COALESCED_BYTES_DESC)
+                            .withFormat(RUNNING_AVERAGE_FORMAT)
+                            .withHalfLife(halfLife));
+            this.coalescedMicrosPerRound = metrics.getOrCreate(
+                    new RunningAverageMetric.Config("app", COALESCED_MICROS_NAME)
+                            .withDescription(COALESCED_MICROS_DESC)
+                            .withFormat(RUNNING_AVERAGE_FORMAT)
+                            .withHalfLife(halfLife));
+        } else {
+            this.coalescedBytesPerRound = null;
+            this.coalescedMicrosPerRound = null;
+        }
         this.lastNonEmptyRoundNumber = initialStateHash.roundNum();
         final var hashFuture = initialStateHash.hashFuture();
         endRoundStateHashes.put(lastNonEmptyRoundNumber, hashFuture);
@@ -315,6 +367,7 @@ public class BlockStreamManagerImpl implements BlockStreamManager {
 
     @Override
     public void endRound(@NonNull final State state, final long roundNum) {
+        reportCoalescedChanges();
         if (shouldCloseBlock(roundNum, roundsPerBlock)) {
             // Flush all boundary state changes besides the BlockStreamInfo
             pendingItems.add(boundaryStateChangeListener.flushChanges());
@@ -466,9 +519,7 @@ public class BlockStreamManagerImpl implements BlockStreamManager {
                     .siblingHashes(siblingHashes.stream().flatMap(List::stream).toList());
             final var proofItem = BlockItem.newBuilder().blockProof(proof).build();
             block.writer().writePbjItem(BlockItem.PROTOBUF.toBytes(proofItem));
-            if (streamWriterType == BlockStreamWriterMode.FILE) {
-                block.writer().closeBlock();
-            }
+            block.writer().closeBlock();
             if (block.number() != blockNumber) {
                 siblingHashes.removeFirst();
             }
@@ -498,6 +549,49 @@ public class BlockStreamManagerImpl implements BlockStreamManager {
         }
     }
 
+    /**
+     * Reports the state changes superseded in this round by later changes to the same key or singleton. By default
+     * only their count is reported. If {@code blockStream.coalescedBytesSampleSize} is positive, up to that many
+     * changes, spread evenly over the round, are measured on the block stream executor to estimate the bytes they
+     * would have added to the block stream; a sample size at least the number of changes measures them exactly. The
+     * time saved is estimated from the bytes saved and the recent cost per byte of serializing and hashing block
+     * items.
+     */
+    private void reportCoalescedChanges() {
+        final var kvChanges = kvStateChangeListener.takeSupersededChanges();
+        final var singletonChanges = boundaryStateChangeListener.takeSupersededChanges();
+        final var numChanges = kvChanges.size() + singletonChanges.size();
+        coalescedChangesPerRound.update(numChanges);
+        if (coalescedBytesPerRound == null || coalescedMicrosPerRound == null) {
+            return;
+        }
+        if (numChanges == 0) {
+            coalescedBytesPerRound.update(0);
+            coalescedMicrosPerRound.update(0);
+            return;
+        }
+        final var nanosPerByte = serializationNanosPerByte;
+        executor.execute(() -> {
+            final int stride = Math.max(1, numChanges / coalescedBytesSampleSize);
+            long sampledBytes = 0;
+            int numSampled = 0;
+            for (int i = 0; i < numChanges && numSampled < coalescedBytesSampleSize; i += stride) {
+                final var change =
+                        i < kvChanges.size() ? kvChanges.get(i) : singletonChanges.get(i - kvChanges.size());
+                sampledBytes += measure(change);
+                numSampled++;
+            }
+            final double bytes = (double) sampledBytes * numChanges / numSampled;
+            coalescedBytesPerRound.update(bytes);
+            coalescedMicrosPerRound.update(bytes * nanosPerByte / 1_000.0);
+        });
+    }
+
+    private static int measure(@NonNull final Supplier<StateChange> change) {
+        // Plus (at most) 4 bytes for the preceding tag and length in the enclosing StateChanges
+        return StateChange.PROTOBUF.measureRecord(change.get()) + 4;
+    }
+
     private static boolean impliesPostUpgradeWorkPending(
             @NonNull final BlockStreamInfo blockStreamInfo, @NonNull final SemanticVersion version) {
         return !version.equals(blockStreamInfo.creationSoftwareVersion()) || !blockStreamInfo.postUpgradeWorkDone();
@@ -548,7 +642,8 @@ public class BlockStreamManagerImpl implements BlockStreamManager {
                 @NonNull BufferedData data,
                 @NonNull ByteBuffer inputHashes,
                 @NonNull ByteBuffer outputHashes,
-                @NonNull ByteBuffer resultHashes) {}
+                @NonNull ByteBuffer resultHashes,
+                long nanos) {}
 
         public ScheduledWork(@NonNull final List<BlockItem> items) {
             this.items = requireNonNull(items);
@@ -562,6 +657,7 @@ public class BlockStreamManagerImpl implements BlockStreamManager {
          * @return the output of doing the scheduled work
          */
         public Output computeOutput() {
+            final var start = System.nanoTime();
             var size = 0;
             var numInputs = 0;
             var numOutputs = 0;
@@ -618,7 +714,12 @@ public class BlockStreamManagerImpl implements BlockStreamManager {
                 }
             }
             data.flip();
-            return new Output(data, ByteBuffer.wrap(inputHashes), ByteBuffer.wrap(outputHashes), resultHashes.flip());
+            return new Output(
+                    data,
+                    ByteBuffer.wrap(inputHashes),
+                    ByteBuffer.wrap(outputHashes),
+                    resultHashes.flip(),
+                    System.nanoTime() - start);
         }
 
         private void finish(@NonNull final MessageDigest digest, final byte[] hashes, final int offset) {
@@ -639,6 +740,12 @@ public class BlockStreamManagerImpl implements BlockStreamManager {
      * @return {@code null}
      */
     private Void combineOutput(@Nullable Void ignore, @NonNull final ScheduledWork.Output output) {
+        final var length = output.data().length();
+        if (length > 0) {
+            final var nanosPerByte = (double) output.nanos() / length;
+            final var avg = serializationNanosPerByte;
+            serializationNanosPerByte = avg == 0 ? nanosPerByte : avg + (nanosPerByte - avg) / 16;
+        }
         writer.writeItems(output.data());
         while (output.inputHashes().hasRemaining()) {
             inputTreeHasher.addLeaf(output.inputHashes());
@@ -46,24 +46,36 @@ import com.swirlds.state.StateChangeListener;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.function.Supplier;
 
 /**
  * A state change listener that accumulates state changes that are only reported at a block boundary; either
  * because all that affects the root hash is the latest value in state, or it is simply more efficient to report
  * them in bulk. In the current system, these are the singleton and queue updates.
+ *
+ * <p>Only the latest value of each singleton is kept, and its {@link StateChange} is not built until the
+ * changes are requested. The superseded singleton values are collected so {@link #takeSupersededChanges()}
+ * can report what this saved.
  */
 public class BoundaryStateChangeListener implements StateChangeListener {
     private static final Set<StateType> TARGET_DATA_TYPES = EnumSet.of(SINGLETON, QUEUE);
+    /**
+     * Bounds the superseded changes kept for a caller that never takes them, such as a migration.
+     */
+    private static final int MAX_SUPERSEDED_CHANGES = 16_384;
 
-    private final SortedMap<Integer, StateChange> singletonUpdates = new TreeMap<>();
+    private final SortedMap<Integer, SingletonUpdate> singletonUpdates = new TreeMap<>();
     private final SortedMap<Integer, List<StateChange>> queueUpdates = new TreeMap<>();
 
+    private List<Supplier<StateChange>> supersededChanges = new ArrayList<>();
+
     @Nullable
     private Instant lastConsensusTime;
 
@@ -114,7 +126,7 @@ public class BoundaryStateChangeListener implements StateChangeListener {
     public List<StateChange> allStateChanges() {
         final var allStateChanges = new LinkedList<StateChange>();
         for (final var entry : singletonUpdates.entrySet()) {
-            allStateChanges.add(entry.getValue());
+            allStateChanges.add(entry.getValue().get());
         }
         for (final var entry : queueUpdates.entrySet()) {
             allStateChanges.addAll(entry.getValue());
@@ -122,6 +134,22 @@ public class BoundaryStateChangeListener implements StateChangeListener {
         return allStateChanges;
     }
 
+    /**
+     * Returns the singleton updates that were not reported because a later update to the same singleton
+     * superseded them, and forgets them. The returned suppliers build the {@link StateChange}s that would
+     * otherwise have been reported.
+     *
+     * @return the superseded changes since the last call
+     */
+    public List<Supplier<StateChange>> takeSupersededChanges() {
+        if (supersededChanges.isEmpty()) {
+            return List.of();
+        }
+        final var changes = supersededChanges;
+        supersededChanges = new ArrayList<>();
+        return changes;
+    }
+
     /**
      * Sets the last used consensus time in the round.
      * @param lastUsedConsensusTime the last used consensus time
@@ -164,11 +192,23 @@ public class BoundaryStateChangeListener implements StateChangeListener {
     public <V> void singletonUpdateChange(final int stateId, @NonNull final V value) {
         requireNonNull(value, "value must not be null");
 
-        final var stateChange = StateChange.newBuilder()
-                .stateId(stateId)
-                .singletonUpdate(new SingletonUpdateChange(singletonUpdateChangeValueFor(value)))
-                .build();
-        singletonUpdates.put(stateId, stateChange);
+        final var superseded = singletonUpdates.put(stateId, new SingletonUpdate(stateId, value));
+        if (superseded != null && supersededChanges.size() < MAX_SUPERSEDED_CHANGES) {
+            supersededChanges.add(superseded);
+        }
+    }
+
+    /**
+     * An update to a singleton in state, whose {@link StateChange} is built on demand.
+     */
+    private record SingletonUpdate(int stateId, @NonNull Object value) implements Supplier<StateChange> {
+        @Override
+        public StateChange get() {
+            return StateChange.newBuilder()
+                    .stateId(stateId)
+                    .singletonUpdate(new SingletonUpdateChange(singletonUpdateChangeValueFor(value)))
+                    .build();
+        }
     }
 
     private static <V> OneOf<QueuePushChange.ValueOneOfType> queuePushChangeValueFor(@NonNull final V value) {
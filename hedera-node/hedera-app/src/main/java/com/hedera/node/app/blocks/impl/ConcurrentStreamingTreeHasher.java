@@ -17,14 +17,14 @@
 package com.hedera.node.app.blocks.impl;
 
 import static com.hedera.node.app.hapi.utils.CommonUtils.noThrowSha384HashOf;
+import static com.swirlds.common.crypto.DigestType.SHA_384;
 import static java.util.Objects.requireNonNull;
 
 import com.hedera.node.app.blocks.StreamingTreeHasher;
-import com.hedera.node.app.hapi.utils.CommonUtils;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.common.crypto.ReusableDigests;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.nio.ByteBuffer;
-import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -143,8 +143,6 @@ public class ConcurrentStreamingTreeHasher implements StreamingTreeHasher {
     }
 
     private class HashCombiner {
-        private static final ThreadLocal<MessageDigest> DIGESTS =
-                ThreadLocal.withInitial(CommonUtils::sha384DigestOrThrow);
         private static final int MAX_DEPTH = 24;
         private static final int MIN_TO_SCHEDULE = 16;
 
@@ -223,16 +221,7 @@ public class ConcurrentStreamingTreeHasher implements StreamingTreeHasher {
         }
 
         private List<byte[]> combine(@NonNull final List<byte[]> hashes) {
-            final List<byte[]> result = new ArrayList<>();
-            final var digest = DIGESTS.get();
-            for (int i = 0, m = hashes.size(); i < m; i += 2) {
-                final var left = hashes.get(i);
-                final var right = i + 1 < m ? hashes.get(i + 1) : EMPTY_HASHES[height];
-                digest.update(left);
-                digest.update(right);
-                result.add(digest.digest());
-            }
-            return result;
+            return ReusableDigests.digestsOfPairs(SHA_384, hashes, EMPTY_HASHES[height]);
         }
     }
 
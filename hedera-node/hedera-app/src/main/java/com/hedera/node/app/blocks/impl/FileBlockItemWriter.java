@@ -29,6 +29,7 @@ import com.hedera.pbj.runtime.io.buffer.BufferedData;
 import com.hedera.pbj.runtime.io.stream.WritableStreamingData;
 import com.swirlds.state.lifecycle.info.NodeInfo;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
@@ -37,6 +38,9 @@ import java.math.BigInteger;
 import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.zip.GZIPOutputStream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -57,6 +61,13 @@ public class FileBlockItemWriter implements BlockItemWriter {
     /** Whether to compress the block files. */
     private final boolean compressFiles;
 
+    /** The number of chunks of a block file to compress at once, or at most 1 to compress on the writing thread */
+    private final int compressionParallelism;
+
+    /** The executor to compress chunks of block files on, or null to compress on the writing thread */
+    @Nullable
+    private final ExecutorService compressionExecutor;
+
     /** The node-specific path to the directory where block files are written */
     private final Path nodeScopedBlockDir;
 
@@ -79,7 +90,8 @@ public class FileBlockItemWriter implements BlockItemWriter {
     }
 
     /**
-     * Construct a new FileBlockItemWriter.
+     * Construct a new FileBlockItemWriter that compresses on the writing thread, whatever the configured
+     * compression parallelism.
      *
      * @param configProvider configuration provider
      * @param nodeInfo information about the current node
@@ -89,14 +101,34 @@ public class FileBlockItemWriter implements BlockItemWriter {
             @NonNull final ConfigProvider configProvider,
             @NonNull final NodeInfo nodeInfo,
             @NonNull final FileSystem fileSystem) {
+        this(configProvider, nodeInfo, fileSystem, null);
+    }
+
+    /**
+     * Construct a new FileBlockItemWriter.
+     *
+     * @param configProvider configuration provider
+     * @param nodeInfo information about the current node
+     * @param fileSystem the file system to use for writing block files
+     * @param compressionExecutor the executor to compress chunks of block files on, which should be dedicated to
+     * compression and have no more threads than the compression parallelism (see {@link
+     * #newCompressionExecutor(int)}), or null to compress on the writing thread
+     */
+    public FileBlockItemWriter(
+            @NonNull final ConfigProvider configProvider,
+            @NonNull final NodeInfo nodeInfo,
+            @NonNull final FileSystem fileSystem,
+            @Nullable final ExecutorService compressionExecutor) {
         requireNonNull(configProvider, "The supplied argument 'configProvider' cannot be null!");
         requireNonNull(nodeInfo, "The supplied argument 'nodeInfo' cannot be null!");
         requireNonNull(fileSystem, "The supplied argument 'fileSystem' cannot be null!");
+        this.compressionExecutor = compressionExecutor;
 
         this.state = State.UNINITIALIZED;
         final var config = configProvider.getConfiguration();
         final var blockStreamConfig = config.getConfigData(BlockStreamConfig.class);
         this.compressFiles = blockStreamConfig.compressFilesOnCreation();
+        this.compressionParallelism = blockStreamConfig.compressionParallelism();
 
         // Compute directory for block files
         final Path blockDir = fileSystem.getPath(blockStreamConfig.blockFileDir());
@@ -111,6 +143,22 @@ public class FileBlockItemWriter implements BlockItemWriter {
         }
     }
 
+    /**
+     * Creates a bounded executor dedicated to compressing block files, so that compression neither competes with
+     * nor waits for unrelated work on a shared pool. Its threads are daemon threads.
+     *
+     * @param parallelism the number of threads, which should be the configured compression parallelism
+     * @return the new executor
+     */
+    public static ExecutorService newCompressionExecutor(final int parallelism) {
+        final var threadCount = new AtomicInteger();
+        return Executors.newFixedThreadPool(parallelism, runnable -> {
+            final var thread = new Thread(runnable, "block-file-compression-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
     @Override
     public void openBlock(long blockNumber) {
         if (state == State.OPEN) throw new IllegalStateException("Cannot initialize a FileBlockItemWriter twice");
@@ -122,7 +170,10 @@ public class FileBlockItemWriter implements BlockItemWriter {
         try {
             out = Files.newOutputStream(blockFilePath);
             out = new BufferedOutputStream(out, 1024 * 1024); // 1 MB
-            if (compressFiles) {
+            if (compressFiles && compressionParallelism > 1 && compressionExecutor != null) {
+                // Chunks are compressed by independent tasks, so the writing thread only copies and checksums
+                out = new ParallelGzipOutputStream(out, compressionExecutor, compressionParallelism);
+            } else if (compressFiles) {
                 out = new GZIPOutputStream(out, 1024 * 256); // 256 KB
                 // By wrapping the GZIPOutputStream in a BufferedOutputStream, the code reduces the number of write
                 // operations to the GZIPOutputStream, and therefore the number of synchronized calls. Instead of
@@ -16,50 +16,37 @@
 
 package com.hedera.node.app.blocks.impl;
 
-import static com.hedera.hapi.block.protoc.PublishStreamResponseCode.STREAM_ITEMS_UNKNOWN;
-import static io.grpc.Status.fromThrowable;
+import static com.hedera.pbj.runtime.ProtoConstants.WIRE_TYPE_DELIMITED;
+import static com.hedera.pbj.runtime.ProtoWriterTools.writeTag;
 import static java.util.Objects.requireNonNull;
 
 import com.google.common.annotations.VisibleForTesting;
-import com.hedera.hapi.block.protoc.BlockItemSet;
-import com.hedera.hapi.block.protoc.BlockStreamServiceGrpc;
-import com.hedera.hapi.block.protoc.PublishStreamRequest;
-import com.hedera.hapi.block.protoc.PublishStreamResponse;
-import com.hedera.hapi.block.protoc.PublishStreamResponse.Acknowledgement;
-import com.hedera.hapi.block.protoc.PublishStreamResponse.EndOfStream;
-import com.hedera.hapi.block.protoc.PublishStreamResponseCode;
-import com.hedera.hapi.block.stream.protoc.BlockItem;
+import com.hedera.hapi.block.schema.BlockItemSetSchema;
+import com.hedera.hapi.block.schema.PublishStreamRequestSchema;
 import com.hedera.node.app.blocks.BlockItemWriter;
-import com.hedera.node.config.data.BlockStreamConfig;
 import com.hedera.pbj.runtime.io.buffer.BufferedData;
 import edu.umd.cs.findbugs.annotations.NonNull;
-import io.grpc.Status;
-import io.grpc.stub.StreamObserver;
-import io.helidon.common.tls.Tls;
-import io.helidon.webclient.grpc.GrpcClient;
-import io.helidon.webclient.grpc.GrpcClientMethodDescriptor;
-import io.helidon.webclient.grpc.GrpcClientProtocolConfig;
-import io.helidon.webclient.grpc.GrpcServiceClient;
-import io.helidon.webclient.grpc.GrpcServiceDescriptor;
-import java.io.IOException;
-import java.net.URI;
-import java.net.URISyntaxException;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
+import java.util.Arrays;
 
 /**
- * Implements the bidirectional streaming RPC for the publishBlockStream rpc in BlockStreamService
+ * Writes the items of a block to a block node through the {@link GrpcBlockStreamPublisher}, using the
+ * bidirectional streaming RPC for the publishBlockStream rpc in BlockStreamService.
  * See <a href="https://grpc.io/docs/languages/java/basics/">gRPC Basics</a>
+ *
+ * <p>Items are not converted to protoc. Their PBJ bytes are appended, as repeated {@code BlockItemSet.block_items}
+ * fields, to a {@code PublishStreamRequest} that is handed to the publisher once it reaches the configured size,
+ * and when the block is closed.
  */
 public class GrpcBlockItemWriter implements BlockItemWriter {
+    /** Room for the tag and the longest varint length of the {@code block_items} field of a request */
+    private static final int MAX_HEADER_BYTES = 6;
 
-    private static final Logger logger = LogManager.getLogger(GrpcBlockItemWriter.class);
-    private static final String INVALID_MESSAGE = "Invalid protocol buffer converting %s from PBJ to protoc for %s";
-    private static final String GRPC_END_POINT =
-            BlockStreamServiceGrpc.getPublishBlockStreamMethod().getBareMethodName();
+    private final GrpcBlockStreamPublisher publisher;
+    private final int maxRequestBytes;
+    /** The request being batched, starting at {@link #MAX_HEADER_BYTES} to leave room for its header */
+    private byte[] request;
 
-    private StreamObserver<PublishStreamRequest> requestObserver;
-    private final GrpcServiceClient grpcServiceClient;
+    private int position = MAX_HEADER_BYTES;
     private long blockNumber;
 
     /** The state of this writer */
@@ -70,52 +57,30 @@ public class GrpcBlockItemWriter implements BlockItemWriter {
      */
     public enum State {
         /**
-         * The gRPC client is not initialized.
+         * The block is not yet open.
          */
         UNINITIALIZED,
         /**
-         * The gRPC client is currently open and blocks can be streamed.
+         * The block is open and items can be streamed.
          */
         OPEN,
         /**
-         * The gRPC client is already closed and cannot be used to stream blocks.
+         * The block is already closed and no more items can be streamed.
          */
         CLOSED
     }
 
     /**
-     * @param blockStreamConfig the block stream configuration
+     * @param publisher the publisher of the block stream
+     * @param maxRequestBytes the target size in bytes of each request
      */
-    public GrpcBlockItemWriter(@NonNull final BlockStreamConfig blockStreamConfig) {
-        requireNonNull(blockStreamConfig, "The supplied argument 'blockStreamConfig' cannot be null!");
-        GrpcClient client;
-        try {
-            client = GrpcClient.builder()
-                    .tls(Tls.builder().enabled(false).build())
-                    .baseUri(new URI(
-                            null,
-                            null,
-                            blockStreamConfig.grpcAddress(),
-                            blockStreamConfig.grpcPort(),
-                            null,
-                            null,
-                            null))
-                    .protocolConfig(GrpcClientProtocolConfig.builder()
-                            .abortPollTimeExpired(false)
-                            .build())
-                    .build();
-        } catch (URISyntaxException e) {
-            throw new RuntimeException(e);
+    public GrpcBlockItemWriter(@NonNull final GrpcBlockStreamPublisher publisher, final int maxRequestBytes) {
+        this.publisher = requireNonNull(publisher, "The supplied argument 'publisher' cannot be null!");
+        if (maxRequestBytes <= 0) {
+            throw new IllegalArgumentException("Request size must be positive");
         }
-        grpcServiceClient = client.serviceClient(GrpcServiceDescriptor.builder()
-                .serviceName(BlockStreamServiceGrpc.SERVICE_NAME)
-                .putMethod(
-                        GRPC_END_POINT,
-                        GrpcClientMethodDescriptor.bidirectional(BlockStreamServiceGrpc.SERVICE_NAME, GRPC_END_POINT)
-                                .requestType(PublishStreamRequest.class)
-                                .responseType(PublishStreamResponse.class)
-                                .build())
-                .build());
+        this.maxRequestBytes = maxRequestBytes;
+        this.request = new byte[MAX_HEADER_BYTES + Math.min(maxRequestBytes, 64 * 1024)];
     }
 
     @Override
@@ -124,45 +89,7 @@ public class GrpcBlockItemWriter implements BlockItemWriter {
 
         if (blockNumber < 0) throw new IllegalArgumentException("Block number must be non-negative");
         this.blockNumber = blockNumber;
-        requestObserver = grpcServiceClient.bidi(GRPC_END_POINT, new StreamObserver<PublishStreamResponse>() {
-            @Override
-            public void onNext(PublishStreamResponse streamResponse) {
-                if (streamResponse.hasAcknowledgement()) {
-                    final Acknowledgement acknowledgement = streamResponse.getAcknowledgement();
-                    if (acknowledgement.hasBlockAck()) {
-                        logger.info("PublishStreamResponse: a full block received: {}", acknowledgement.getBlockAck());
-                    } else if (acknowledgement.hasItemAck()) {
-                        logger.info(
-                                "PublishStreamResponse: a single block item is received: {}",
-                                acknowledgement.getItemAck());
-                    }
-                } else if (streamResponse.hasStatus()) {
-                    final EndOfStream endOfStream = streamResponse.getStatus();
-                    if (endOfStream.getStatus().equals(STREAM_ITEMS_UNKNOWN)) {
-                        logger.info(
-                                "Error returned from block node at block number {}: {}",
-                                endOfStream.getBlockNumber(),
-                                endOfStream);
-                        onNext(buildErrorResponse(STREAM_ITEMS_UNKNOWN));
-                    }
-                }
-            }
-
-            @Override
-            public void onError(Throwable t) {
-                // Maybe this should be considered in this case:
-                // https://github.com/hashgraph/hedera-services/issues/15530
-                final Status status = fromThrowable(t);
-                logger.error("error occurred with an exception: ", status.toString());
-                requestObserver.onError(t);
-            }
-
-            @Override
-            public void onCompleted() {
-                logger.info("PublishStreamResponse completed");
-                requestObserver.onCompleted();
-            }
-        });
+        publisher.beginBlock(blockNumber);
         this.state = State.OPEN;
     }
 
@@ -173,40 +100,26 @@ public class GrpcBlockItemWriter implements BlockItemWriter {
             throw new IllegalStateException(
                     "Cannot write to a GrpcBlockItemWriter that is not open for block: " + this.blockNumber);
         }
-
-        PublishStreamRequest request = PublishStreamRequest.newBuilder().build();
-        try {
-            BlockItemSet items = BlockItemSet.newBuilder()
-                    .addBlockItems(BlockItem.parseFrom(bytes))
-                    .build();
-            request = PublishStreamRequest.newBuilder().setBlockItems(items).build();
-            requestObserver.onNext(request);
-        } catch (IOException e) {
-            final String message = INVALID_MESSAGE.formatted("PublishStreamResponse", request);
-            throw new RuntimeException(message, e);
-        }
+        final int itemLength = 1 + sizeOfVarInt(bytes.length) + bytes.length;
+        final var out = reserve(itemLength);
+        writeTag(out, BlockItemSetSchema.BLOCK_ITEMS, WIRE_TYPE_DELIMITED);
+        out.writeVarInt(bytes.length, false);
+        out.writeBytes(bytes);
+        advance(itemLength);
         return this;
     }
 
     @Override
-    public BlockItemWriter writeItems(@NonNull BufferedData data) {
+    public BlockItemWriter writeItems(@NonNull final BufferedData data) {
         requireNonNull(data);
         if (state != State.OPEN) {
             throw new IllegalStateException(
                     "Cannot write to a GrpcBlockItemWriter that is not open for block: " + this.blockNumber);
         }
-
-        PublishStreamRequest request = PublishStreamRequest.newBuilder().build();
-        try {
-            BlockItemSet items = BlockItemSet.newBuilder()
-                    .addBlockItems(BlockItem.parseFrom(data.asInputStream()))
-                    .build();
-            request = PublishStreamRequest.newBuilder().setBlockItems(items).build();
-            requestObserver.onNext(request);
-        } catch (IOException e) {
-            final String message = INVALID_MESSAGE.formatted("PublishStreamResponse", request);
-            throw new RuntimeException(message, e);
-        }
+        // The data is a sequence of Block.items fields, which share field number 1 with BlockItemSet.block_items
+        final int length = (int) data.remaining();
+        reserve(length).writeBytes(data);
+        advance(length);
         return this;
     }
 
@@ -217,13 +130,14 @@ public class GrpcBlockItemWriter implements BlockItemWriter {
         } else if (state.ordinal() == State.CLOSED.ordinal()) {
             throw new IllegalStateException("Cannot close a GrpcBlockItemWriter that is already closed");
         }
-
-        requestObserver.onCompleted();
+        flush();
+        publisher.endBlock(blockNumber);
+        request = null;
         this.state = State.CLOSED;
     }
 
     /**
-     * @return the current state of the gRPC writer
+     * @return the number of the block being written
      */
     @VisibleForTesting
     public long getBlockNumber() {
@@ -239,12 +153,52 @@ public class GrpcBlockItemWriter implements BlockItemWriter {
     }
 
     /**
-     * @param errorCode the error code for the stream response
-     * @return the error stream response
+     * Makes room for the given number of bytes in the request being batched, first sending it if the bytes would
+     * take it over the maximum size.
+     *
+     * @param length the number of bytes
+     * @return a buffer to write exactly these bytes to
      */
-    private PublishStreamResponse buildErrorResponse(PublishStreamResponseCode errorCode) {
-        final EndOfStream endOfStream =
-                EndOfStream.newBuilder().setStatus(errorCode).build();
-        return PublishStreamResponse.newBuilder().setStatus(endOfStream).build();
+    private BufferedData reserve(final int length) {
+        if (position > MAX_HEADER_BYTES && position + length > MAX_HEADER_BYTES + maxRequestBytes) {
+            flush();
+        }
+        if (position + length > request.length) {
+            final int doubled = Math.min(2 * request.length, MAX_HEADER_BYTES + maxRequestBytes);
+            request = Arrays.copyOf(request, Math.max(position + length, doubled));
+        }
+        return BufferedData.wrap(request, position, length);
+    }
+
+    /**
+     * Moves past bytes written to a buffer from {@link #reserve(int)}, sending the request once it is full.
+     *
+     * @param length the number of bytes written
+     */
+    private void advance(final int length) {
+        position += length;
+        if (position - MAX_HEADER_BYTES >= maxRequestBytes) {
+            flush();
+        }
+    }
+
+    /**
+     * Writes the header of the request being batched, if it has any items, and hands it to the publisher.
+     */
+    private void flush() {
+        final int itemsLength = position - MAX_HEADER_BYTES;
+        if (itemsLength == 0) {
+            return;
+        }
+        final int start = MAX_HEADER_BYTES - 1 - sizeOfVarInt(itemsLength);
+        final var header = BufferedData.wrap(request, start, MAX_HEADER_BYTES - start);
+        writeTag(header, PublishStreamRequestSchema.BLOCK_ITEMS, WIRE_TYPE_DELIMITED);
+        header.writeVarInt(itemsLength, false);
+        publisher.append(blockNumber, Arrays.copyOfRange(request, start, position));
+        position = MAX_HEADER_BYTES;
+    }
+
+    private static int sizeOfVarInt(final int value) {
+        return (38 - Integer.numberOfLeadingZeros(value | 1)) / 7;
     }
 }
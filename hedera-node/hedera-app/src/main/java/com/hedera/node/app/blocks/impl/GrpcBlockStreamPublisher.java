@@ -0,0 +1,501 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.blocks.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.hapi.block.protoc.BlockStreamServiceGrpc;
+import com.hedera.hapi.block.protoc.PublishStreamResponse;
+import com.hedera.node.config.data.BlockStreamConfig;
+import com.swirlds.metrics.api.Counter;
+import com.swirlds.metrics.api.Metrics;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import io.grpc.CallOptions;
+import io.grpc.Drainable;
+import io.grpc.KnownLength;
+import io.grpc.ManagedChannel;
+import io.grpc.MethodDescriptor;
+import io.grpc.MethodDescriptor.Marshaller;
+import io.grpc.MethodDescriptor.MethodType;
+import io.grpc.Status;
+import io.grpc.netty.NettyChannelBuilder;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientCalls;
+import io.grpc.stub.ClientResponseObserver;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Publishes the block stream to a block node over a single {@code publishBlockStream} bidirectional call, shared by
+ * the {@link GrpcBlockItemWriter}s of all blocks.
+ *
+ * <p>Requests are {@code PublishStreamRequest}s already serialized by the writers, and are written to the gRPC frames
+ * as they are. Blocks are sent strictly in order. The requests of the oldest open block are sent as soon as they are
+ * appended, while the requests of later blocks wait until every earlier block is closed. Requests are only sent
+ * while the call is ready to take them; the rest are sent from its on-ready handler.
+ *
+ * <p>Blocks are kept until the block node acknowledges them. At most {@code maxUnackedBlocks} blocks may be
+ * unacknowledged, and {@link #beginBlock(long)} waits for acknowledgements beyond that, which applies backpressure
+ * to the block stream manager. The wait is bounded by {@code grpcAckTimeoutMs}: if the block node is still behind
+ * by then, the oldest unacknowledged blocks are dropped, so a stalled block node never stalls the node. Dropped
+ * blocks are logged as errors and counted by the {@value #DROPPED_BLOCKS_NAME} metric. If the call fails or the
+ * block node ends the stream, the publisher reconnects after a delay and replays every unacknowledged block from its
+ * first request.
+ *
+ * <p>After a timeout the publisher is degraded: until the block node acknowledges a block again, {@link
+ * #beginBlock(long)} drops the oldest blocks right away instead of waiting, so a block node that stays stalled
+ * costs the node one timeout rather than one per block.
+ *
+ * <p>A dropped block that the block node had not fully received is a permanent gap in its stream, since it is never
+ * sent again. The block node is then expected to end each call at the gap, and the publisher keeps reconnecting
+ * every {@code grpcReconnectDelayMs} and dropping blocks, until the block node recovers the missing blocks from
+ * another source. The range of every gap is logged when its blocks are dropped.
+ *
+ * <p>{@link #close()} ends the call and releases the channel and the reconnect thread.
+ */
+public class GrpcBlockStreamPublisher implements AutoCloseable {
+    private static final Logger logger = LogManager.getLogger(GrpcBlockStreamPublisher.class);
+
+    private static final String DROPPED_BLOCKS_NAME = "blockNodeDroppedBlocks";
+    private static final String DROPPED_BLOCKS_DESC =
+            "number of blocks dropped without acknowledgement because the block node fell too far behind";
+    private static final long CHANNEL_SHUTDOWN_TIMEOUT_MS = 5_000;
+
+    /**
+     * The {@code publishBlockStream} method, with requests passed as serialized {@code PublishStreamRequest}s.
+     */
+    public static final MethodDescriptor<byte[], PublishStreamResponse> PUBLISH_BLOCK_STREAM =
+            MethodDescriptor.<byte[], PublishStreamResponse>newBuilder()
+                    .setType(MethodType.BIDI_STREAMING)
+                    .setFullMethodName(MethodDescriptor.generateFullMethodName(
+                            BlockStreamServiceGrpc.SERVICE_NAME,
+                            BlockStreamServiceGrpc.getPublishBlockStreamMethod().getBareMethodName()))
+                    .setRequestMarshaller(new RequestMarshaller())
+                    .setResponseMarshaller(new ResponseMarshaller())
+                    .build();
+
+    private final ManagedChannel channel;
+    private final ScheduledExecutorService reconnectExecutor;
+    private final int maxUnackedBlocks;
+    private final long reconnectDelayMs;
+    private final long ackTimeoutMs;
+    private final Counter droppedBlocks;
+
+    /** The blocks not yet acknowledged by the block node, by block number. Guarded by {@code this}. */
+    private final NavigableMap<Long, PendingBlock> pendingBlocks = new TreeMap<>();
+    /** The request stream of the current call, or {@code null} if not connected. Guarded by {@code this}. */
+    @Nullable
+    private ClientCallStreamObserver<byte[]> requestStream;
+
+    private boolean reconnectScheduled;
+    /**
+     * Whether blocks were dropped after a timeout and the block node has not acknowledged a block since, in which
+     * case {@link #beginBlock(long)} does not wait. Guarded by {@code this}.
+     */
+    private boolean degraded;
+    /** Whether {@link #close()} was called. Guarded by {@code this}. */
+    private boolean closed;
+
+    /**
+     * A block not yet acknowledged by the block node.
+     */
+    private static final class PendingBlock {
+        private final List<byte[]> requests = new ArrayList<>();
+        /** The number of requests sent on the current call */
+        private int sent;
+
+        private boolean closed;
+
+        /**
+         * Whether the block node received part of this block, but not all of it, on the current call.
+         */
+        private boolean isPartlySent() {
+            return sent > 0 && !(closed && sent == requests.size());
+        }
+    }
+
+    /**
+     * @param blockStreamConfig the block stream configuration
+     * @param metrics the metrics to register the dropped blocks counter with
+     */
+    public GrpcBlockStreamPublisher(
+            @NonNull final BlockStreamConfig blockStreamConfig, @NonNull final Metrics metrics) {
+        requireNonNull(blockStreamConfig, "The supplied argument 'blockStreamConfig' cannot be null!");
+        requireNonNull(metrics, "The supplied argument 'metrics' cannot be null!");
+        this.maxUnackedBlocks = blockStreamConfig.grpcMaxUnackedBlocks();
+        this.reconnectDelayMs = blockStreamConfig.grpcReconnectDelayMs();
+        this.ackTimeoutMs = blockStreamConfig.grpcAckTimeoutMs();
+        this.droppedBlocks = metrics.getOrCreate(
+                new Counter.Config("app", DROPPED_BLOCKS_NAME).withDescription(DROPPED_BLOCKS_DESC));
+        this.channel = NettyChannelBuilder.forAddress(blockStreamConfig.grpcAddress(), blockStreamConfig.grpcPort())
+                .usePlaintext()
+                .build();
+        this.reconnectExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final var thread = new Thread(runnable, "block-node-reconnect");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts a new block, first waiting until fewer than {@code maxUnackedBlocks} blocks are unacknowledged. If that
+     * takes longer than {@code grpcAckTimeoutMs}, or the publisher is degraded by an earlier timeout, drops the
+     * oldest unacknowledged blocks instead.
+     *
+     * @param blockNumber the number of the block
+     * @throws IllegalStateException if the block was already started, or the publisher is closed
+     */
+    public synchronized void beginBlock(final long blockNumber) {
+        if (closed) {
+            throw new IllegalStateException("Publisher is closed");
+        }
+        if (pendingBlocks.containsKey(blockNumber)) {
+            throw new IllegalStateException("Block " + blockNumber + " was already started");
+        }
+        if (pendingBlocks.size() >= maxUnackedBlocks && !degraded) {
+            logger.debug(
+                    "Waiting for the block node to acknowledge one of {} blocks before starting block {}",
+                    pendingBlocks.size(),
+                    blockNumber);
+        }
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(ackTimeoutMs);
+        try {
+            while (pendingBlocks.size() >= maxUnackedBlocks && !closed) {
+                final long remainingMs =
+                        degraded ? 0 : TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remainingMs <= 0) {
+                    dropOldestBlocks(blockNumber);
+                    break;
+                }
+                wait(remainingMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting to start block " + blockNumber, e);
+        }
+        if (closed) {
+            throw new IllegalStateException("Publisher was closed while waiting to start block " + blockNumber);
+        }
+        pendingBlocks.put(blockNumber, new PendingBlock());
+        if (requestStream == null && !reconnectScheduled) {
+            connect();
+        }
+    }
+
+    /**
+     * Appends a serialized {@code PublishStreamRequest} to a started block, sending it as soon as possible.
+     *
+     * @param blockNumber the number of the block
+     * @param request the serialized request, must not be modified later
+     */
+    public synchronized void append(final long blockNumber, @NonNull final byte[] request) {
+        requireNonNull(request);
+        final var block = pendingBlocks.get(blockNumber);
+        if (block == null || block.closed) {
+            throw new IllegalStateException("Block " + blockNumber + " is not open");
+        }
+        block.requests.add(request);
+        sendReady();
+    }
+
+    /**
+     * Closes a started block, after which the requests of the next block can be sent.
+     *
+     * @param blockNumber the number of the block
+     */
+    public synchronized void endBlock(final long blockNumber) {
+        final var block = pendingBlocks.get(blockNumber);
+        if (block == null || block.closed) {
+            throw new IllegalStateException("Block " + blockNumber + " is not open");
+        }
+        block.closed = true;
+        sendReady();
+    }
+
+    /**
+     * Drops the oldest unacknowledged blocks, so that a new block can be started, and degrades the publisher until
+     * the next acknowledgement. If the current call sent part of a dropped block, it is abandoned, and the remaining
+     * blocks are replayed on a new call.
+     *
+     * @param blockNumber the number of the block about to be started
+     */
+    private void dropOldestBlocks(final long blockNumber) {
+        if (!degraded) {
+            degraded = true;
+            logger.error(
+                    "Block node did not acknowledge block {} within {}ms, not waiting for it again until it "
+                            + "acknowledges a block",
+                    pendingBlocks.firstKey(),
+                    ackTimeoutMs);
+        }
+        final long firstDropped = pendingBlocks.firstKey();
+        long lastDropped = firstDropped;
+        boolean partlySent = false;
+        while (pendingBlocks.size() >= maxUnackedBlocks) {
+            final var dropped = pendingBlocks.pollFirstEntry();
+            lastDropped = dropped.getKey();
+            partlySent |= dropped.getValue().isPartlySent();
+            droppedBlocks.increment();
+        }
+        logger.error(
+                "Dropped unacknowledged blocks {} to {} to start block {}; unless the block node received them in "
+                        + "full, it must recover them from another source",
+                firstDropped,
+                lastDropped,
+                blockNumber);
+        final var stream = requestStream;
+        if (stream != null && partlySent) {
+            disconnect(stream);
+            stream.cancel("Dropped partly sent blocks", null);
+        }
+    }
+
+    /**
+     * Ends the current call, if any, and releases the channel and the reconnect thread. Blocks not yet acknowledged
+     * are discarded, and blocks can no longer be started.
+     */
+    @Override
+    public void close() {
+        final ClientCallStreamObserver<byte[]> stream;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            stream = requestStream;
+            requestStream = null;
+            if (!pendingBlocks.isEmpty()) {
+                logger.info("Closing block stream publisher with {} unacknowledged blocks", pendingBlocks.size());
+                pendingBlocks.clear();
+            }
+            notifyAll();
+        }
+        if (stream != null) {
+            stream.cancel("Block stream publisher closed", null);
+        }
+        reconnectExecutor.shutdownNow();
+        channel.shutdown();
+        try {
+            if (!channel.awaitTermination(CHANNEL_SHUTDOWN_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                channel.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            channel.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns the number of blocks not yet acknowledged by the block node.
+     *
+     * @return the number of unacknowledged blocks
+     */
+    public synchronized int unackedBlocks() {
+        return pendingBlocks.size();
+    }
+
+    /**
+     * Sends the pending requests, in block order, for as long as the current call is ready.
+     */
+    private synchronized void sendReady() {
+        final var stream = requestStream;
+        if (stream == null) {
+            return;
+        }
+        for (final var block : pendingBlocks.values()) {
+            while (block.sent < block.requests.size()) {
+                if (!stream.isReady()) {
+                    return;
+                }
+                stream.onNext(block.requests.get(block.sent++));
+            }
+            if (!block.closed) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Starts a new call and replays all unacknowledged blocks on it.
+     */
+    private synchronized void connect() {
+        reconnectScheduled = false;
+        if (closed || pendingBlocks.isEmpty()) {
+            // Connect again when the next block starts
+            return;
+        }
+        logger.info("Publishing block stream from block {} to the block node", pendingBlocks.firstKey());
+        pendingBlocks.values().forEach(block -> block.sent = 0);
+        ClientCalls.asyncBidiStreamingCall(
+                channel.newCall(PUBLISH_BLOCK_STREAM, CallOptions.DEFAULT), new ResponseObserver());
+    }
+
+    /**
+     * Abandons a call and schedules a reconnect, unless the call was already abandoned.
+     *
+     * @param stream the request stream of the call
+     */
+    private synchronized void disconnect(@NonNull final ClientCallStreamObserver<byte[]> stream) {
+        if (stream != requestStream || closed) {
+            return;
+        }
+        requestStream = null;
+        reconnectScheduled = true;
+        reconnectExecutor.schedule(this::connect, reconnectDelayMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Releases all blocks up to and including an acknowledged block.
+     *
+     * @param blockNumber the number of the acknowledged block
+     */
+    private synchronized void acknowledge(final long blockNumber) {
+        if (degraded) {
+            degraded = false;
+            logger.info("Block node acknowledged block {}, waiting for acknowledgements again", blockNumber);
+        }
+        final var acked = pendingBlocks.headMap(blockNumber, true);
+        if (!acked.isEmpty()) {
+            acked.clear();
+            notifyAll();
+        }
+    }
+
+    /**
+     * Observes the responses of one call.
+     */
+    private class ResponseObserver implements ClientResponseObserver<byte[], PublishStreamResponse> {
+        private ClientCallStreamObserver<byte[]> stream;
+
+        @Override
+        public void beforeStart(@NonNull final ClientCallStreamObserver<byte[]> requestStream) {
+            this.stream = requestStream;
+            synchronized (GrpcBlockStreamPublisher.this) {
+                if (closed) {
+                    requestStream.cancel("Block stream publisher closed", null);
+                    return;
+                }
+                GrpcBlockStreamPublisher.this.requestStream = requestStream;
+            }
+            requestStream.setOnReadyHandler(GrpcBlockStreamPublisher.this::sendReady);
+        }
+
+        @Override
+        public void onNext(@NonNull final PublishStreamResponse response) {
+            if (response.hasAcknowledgement()) {
+                final var acknowledgement = response.getAcknowledgement();
+                if (acknowledgement.hasBlockAck()) {
+                    acknowledge(acknowledgement.getBlockAck().getBlockNumber());
+                }
+            } else if (response.hasStatus()) {
+                final var endOfStream = response.getStatus();
+                logger.warn(
+                        "Block node ended the stream at block {} with status {}",
+                        endOfStream.getBlockNumber(),
+                        endOfStream.getStatus());
+                disconnect(stream);
+                stream.cancel("Block node ended the stream", null);
+            }
+        }
+
+        @Override
+        public void onError(@NonNull final Throwable t) {
+            logger.warn("Block stream call failed with {}", Status.fromThrowable(t));
+            disconnect(stream);
+        }
+
+        @Override
+        public void onCompleted() {
+            logger.info("Block node completed the block stream call");
+            disconnect(stream);
+            stream.onCompleted();
+        }
+    }
+
+    /**
+     * Passes serialized requests through as they are.
+     */
+    private static class RequestMarshaller implements Marshaller<byte[]> {
+        @Override
+        public InputStream stream(@NonNull final byte[] value) {
+            return new RequestStream(value);
+        }
+
+        @Override
+        public byte[] parse(@NonNull final InputStream stream) {
+            try {
+                return stream.readAllBytes();
+            } catch (IOException e) {
+                throw Status.INTERNAL
+                        .withDescription("Unable to read request")
+                        .withCause(e)
+                        .asRuntimeException();
+            }
+        }
+    }
+
+    /**
+     * A request stream that gRPC drains straight into its frames, without an intermediate copy.
+     */
+    private static class RequestStream extends ByteArrayInputStream implements KnownLength, Drainable {
+        private RequestStream(@NonNull final byte[] request) {
+            super(request);
+        }
+
+        @Override
+        public int drainTo(@NonNull final OutputStream target) throws IOException {
+            final int remaining = count - pos;
+            target.write(buf, pos, remaining);
+            pos = count;
+            return remaining;
+        }
+    }
+
+    /**
+     * Serializes and parses the small acknowledgement and status responses.
+     */
+    private static class ResponseMarshaller implements Marshaller<PublishStreamResponse> {
+        @Override
+        public InputStream stream(@NonNull final PublishStreamResponse value) {
+            return new ByteArrayInputStream(value.toByteArray());
+        }
+
+        @Override
+        public PublishStreamResponse parse(@NonNull final InputStream stream) {
+            try {
+                return PublishStreamResponse.parseFrom(stream);
+            } catch (IOException e) {
+                throw Status.INTERNAL
+                        .withDescription("Unable to parse response")
+                        .withCause(e)
+                        .asRuntimeException();
+            }
+        }
+    }
+}
@@ -63,26 +63,47 @@ import com.hedera.hapi.services.auxiliary.tss.TssMessageTransactionBody;
 import com.hedera.hapi.services.auxiliary.tss.TssVoteTransactionBody;
 import com.swirlds.state.StateChangeListener;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.util.ArrayList;
 import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Supplier;
 
 /**
- * A state change listener that tracks an entire sequence of changes, even if this sequence
- * repeats changes to the same key multiple times in a block boundary.
+ * A state change listener that tracks the key/value changes made between two calls to {@link #reset()}.
+ *
+ * <p>Changes are coalesced, so only the last change to each key is reported, in the order of these last
+ * changes. Since the changes to different keys are independent, applying the coalesced changes leaves a
+ * map in the same state as applying the full sequence of changes. The {@link StateChange}s are only built
+ * when requested by {@link #getStateChanges()}; and the superseded changes are never built on the handle
+ * thread, but collected so {@link #takeSupersededChanges()} can report what coalescing saved.
  */
 public class KVStateChangeListener implements StateChangeListener {
     private static final Set<StateType> TARGET_DATA_TYPES = EnumSet.of(MAP);
+    /**
+     * Bounds the superseded changes kept for a caller that never takes them, such as a migration.
+     */
+    private static final int MAX_SUPERSEDED_CHANGES = 16_384;
 
-    private final List<StateChange> stateChanges = new ArrayList<>();
+    /**
+     * The last change to each key since the last reset, in the order of these changes.
+     */
+    private final Map<MapKey, PendingChange> pendingChanges = new LinkedHashMap<>();
+    /**
+     * The changes superseded by a later change to the same key since the last call to
+     * {@link #takeSupersededChanges()}.
+     */
+    private List<Supplier<StateChange>> supersededChanges = new ArrayList<>();
 
     /**
      * Resets the state changes.
      */
     public void reset() {
-        stateChanges.clear();
+        pendingChanges.clear();
     }
 
     @Override
@@ -102,33 +123,79 @@ public class KVStateChangeListener implements StateChangeListener {
     public <K, V> void mapUpdateChange(final int stateId, @NonNull final K key, @NonNull final V value) {
         Objects.requireNonNull(key, "key must not be null");
         Objects.requireNonNull(value, "value must not be null");
-
-        final var change = MapUpdateChange.newBuilder()
-                .key(mapChangeKeyFor(key))
-                .value(mapChangeValueFor(value))
-                .build();
-        final var stateChange =
-                StateChange.newBuilder().stateId(stateId).mapUpdate(change).build();
-        stateChanges.add(stateChange);
+        track(new PendingChange(stateId, key, value));
     }
 
     @Override
     public <K> void mapDeleteChange(final int stateId, @NonNull final K key) {
         Objects.requireNonNull(key, "key must not be null");
-        final var change =
-                MapDeleteChange.newBuilder().key(mapChangeKeyFor(key)).build();
-        stateChanges.add(
-                StateChange.newBuilder().stateId(stateId).mapDelete(change).build());
+        track(new PendingChange(stateId, key, null));
     }
 
     /**
-     * Returns the list of state changes.
+     * Returns the list of state changes, with only the last change to each key.
      * @return the list of state changes
      */
     public List<StateChange> getStateChanges() {
+        final List<StateChange> stateChanges = new ArrayList<>(pendingChanges.size());
+        for (final var change : pendingChanges.values()) {
+            stateChanges.add(change.get());
+        }
         return stateChanges;
     }
 
+    /**
+     * Returns the changes that were not reported because a later change to the same key superseded them, and
+     * forgets them. The returned suppliers build the {@link StateChange}s that would otherwise have been
+     * reported; so callers can measure what coalescing saved off the handle thread.
+     *
+     * @return the superseded changes since the last call
+     */
+    public List<Supplier<StateChange>> takeSupersededChanges() {
+        if (supersededChanges.isEmpty()) {
+            return List.of();
+        }
+        final var changes = supersededChanges;
+        supersededChanges = new ArrayList<>();
+        return changes;
+    }
+
+    private void track(@NonNull final PendingChange change) {
+        final var mapKey = new MapKey(change.stateId(), change.key());
+        // Remove any earlier change first, so the new one is ordered by the time of the last change
+        final var superseded = pendingChanges.remove(mapKey);
+        if (superseded != null && supersededChanges.size() < MAX_SUPERSEDED_CHANGES) {
+            supersededChanges.add(superseded);
+        }
+        pendingChanges.put(mapKey, change);
+    }
+
+    /**
+     * A key in one of the maps in state.
+     */
+    private record MapKey(int stateId, @NonNull Object key) {}
+
+    /**
+     * A change to a key in one of the maps in state, with a {@code null} value for a delete.
+     */
+    private record PendingChange(int stateId, @NonNull Object key, @Nullable Object value)
+            implements Supplier<StateChange> {
+        @Override
+        public StateChange get() {
+            if (value == null) {
+                final var change =
+                        MapDeleteChange.newBuilder().key(mapChangeKeyFor(key)).build();
+                return StateChange.newBuilder().stateId(stateId).mapDelete(change).build();
+            } else {
+                final var change = MapUpdateChange.newBuilder()
+                        .key(mapChangeKeyFor(key))
+                        .value(mapChangeValueFor(value))
+                        .build();
+                return StateChange.newBuilder().stateId(stateId).mapUpdate(change).build();
+            }
+        }
+    }
+
     private static <K> MapChangeKey mapChangeKeyFor(@NonNull final K key) {
         return switch (key) {
             case AccountID accountID -> MapChangeKey.newBuilder()
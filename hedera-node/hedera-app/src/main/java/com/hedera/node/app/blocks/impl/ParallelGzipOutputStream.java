@@ -0,0 +1,236 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.blocks.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * An output stream that writes the same gzip format as {@link GZIPOutputStream}, but compresses on several threads,
+ * the way pigz does.
+ *
+ * <p>The data is cut into chunks of {@link #CHUNK_SIZE} bytes, and each chunk is deflated by its own task on the
+ * given executor. Every chunk but the last ends with a sync flush, so the compressed chunks can simply be
+ * concatenated into the single deflate stream of one gzip member. Each chunk is primed with the last 32 KB of the
+ * chunk before it as a preset dictionary, which keeps the compression ratio close to that of a single deflater.
+ * The CRC-32 of the gzip trailer is computed on the writing thread, which is cheap next to deflating.
+ *
+ * <p>At most {@code parallelism} chunks are compressed at once; writing more waits for the oldest chunk. Closing
+ * the stream waits only for the chunks still in flight. This class is not thread-safe.
+ */
+public class ParallelGzipOutputStream extends OutputStream {
+    /** The number of uncompressed bytes deflated by each task */
+    static final int CHUNK_SIZE = 256 * 1024;
+
+    private static final int DICTIONARY_SIZE = 32 * 1024;
+    private static final int GZIP_MAGIC = 0x8b1f;
+    private static final byte[] HEADER = {
+        (byte) GZIP_MAGIC, (byte) (GZIP_MAGIC >> 8), Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0
+    };
+
+    private final OutputStream out;
+    private final ExecutorService executor;
+    private final int parallelism;
+    /** The compressed chunks, in order, not yet written to the underlying stream */
+    private final Deque<Future<byte[]>> pendingChunks = new ArrayDeque<>();
+
+    private final CRC32 crc = new CRC32();
+    private byte[] chunk = new byte[CHUNK_SIZE];
+    private int count;
+    /** The previous full chunk, whose end is the preset dictionary of the next chunk */
+    @Nullable
+    private byte[] previousChunk;
+
+    private long totalBytes;
+    private boolean closed;
+
+    /**
+     * Creates a new stream and writes the gzip header to the underlying stream.
+     *
+     * @param out the underlying stream
+     * @param executor the executor to compress chunks on
+     * @param parallelism the maximum number of chunks to compress at once
+     * @throws IOException if the header cannot be written
+     */
+    public ParallelGzipOutputStream(
+            @NonNull final OutputStream out, @NonNull final ExecutorService executor, final int parallelism)
+            throws IOException {
+        this.out = requireNonNull(out);
+        this.executor = requireNonNull(executor);
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.parallelism = parallelism;
+        out.write(HEADER);
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+        ensureOpen();
+        chunk[count++] = (byte) b;
+        if (count == CHUNK_SIZE) {
+            submitChunk(false);
+        }
+    }
+
+    @Override
+    public void write(@NonNull final byte[] b, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        ensureOpen();
+        while (len > 0) {
+            final int n = Math.min(len, CHUNK_SIZE - count);
+            System.arraycopy(b, off, chunk, count, n);
+            count += n;
+            off += n;
+            len -= n;
+            if (count == CHUNK_SIZE) {
+                submitChunk(false);
+            }
+        }
+    }
+
+    /**
+     * Writes the chunks already compressed to the underlying stream, and flushes it. Like {@link GZIPOutputStream},
+     * this does not compress the partial chunk being written.
+     */
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+        writeCompletedChunks();
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try (out) {
+            submitChunk(true);
+            while (!pendingChunks.isEmpty()) {
+                writeNextChunk();
+            }
+            writeIntLE((int) crc.getValue());
+            writeIntLE((int) totalBytes);
+        } finally {
+            pendingChunks.forEach(future -> future.cancel(false));
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+
+    private void submitChunk(final boolean last) throws IOException {
+        final var input = chunk;
+        final int length = count;
+        final var dictionary = previousChunk;
+        crc.update(input, 0, length);
+        totalBytes += length;
+        pendingChunks.add(executor.submit(() -> deflate(input, length, dictionary, last)));
+        previousChunk = input;
+        if (!last) {
+            chunk = new byte[CHUNK_SIZE];
+        }
+        count = 0;
+        writeCompletedChunks();
+        while (pendingChunks.size() > parallelism) {
+            writeNextChunk();
+        }
+    }
+
+    private void writeCompletedChunks() throws IOException {
+        while (!pendingChunks.isEmpty() && pendingChunks.peek().isDone()) {
+            writeNextChunk();
+        }
+    }
+
+    private void writeNextChunk() throws IOException {
+        final var future = requireNonNull(pendingChunks.poll());
+        try {
+            out.write(future.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted waiting for a compressed chunk");
+        } catch (ExecutionException e) {
+            throw new IOException("Could not compress chunk", e.getCause());
+        }
+    }
+
+    private void writeIntLE(final int value) throws IOException {
+        out.write(value);
+        out.write(value >> 8);
+        out.write(value >> 16);
+        out.write(value >> 24);
+    }
+
+    /**
+     * Deflates one chunk into raw deflate data that ends on a byte boundary, and also ends the deflate stream if
+     * this is the last chunk.
+     *
+     * @param input the chunk
+     * @param length the number of bytes in the chunk
+     * @param dictionary the previous chunk, if any
+     * @param last whether this is the last chunk
+     * @return the compressed chunk
+     */
+    private static byte[] deflate(
+            @NonNull final byte[] input, final int length, @Nullable final byte[] dictionary, final boolean last) {
+        final var deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try {
+            if (dictionary != null) {
+                deflater.setDictionary(dictionary, dictionary.length - DICTIONARY_SIZE, DICTIONARY_SIZE);
+            }
+            deflater.setInput(input, 0, length);
+            final var compressed = new ByteArrayOutputStream(length / 2 + 64);
+            final var buffer = new byte[64 * 1024];
+            if (last) {
+                deflater.finish();
+                while (!deflater.finished()) {
+                    compressed.write(buffer, 0, deflater.deflate(buffer));
+                }
+            } else {
+                int n;
+                do {
+                    n = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+                    compressed.write(buffer, 0, n);
+                } while (n == buffer.length);
+            }
+            return compressed.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+}
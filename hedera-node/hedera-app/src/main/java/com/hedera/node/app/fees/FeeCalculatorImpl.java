@@ -50,7 +50,6 @@ import com.hedera.node.app.workflows.TransactionInfo;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
-import java.nio.charset.StandardCharsets;
 import java.util.function.Function;
 
 /**
@@ -104,11 +103,44 @@ public class FeeCalculatorImpl implements FeeCalculator {
             final boolean isInternalDispatch,
             final CongestionMultipliers congestionMultipliers,
             final ReadableStoreFactory storeFactory) {
-        //  Perform basic validations, and convert the PBJ objects to Google protobuf objects for `hapi-fees`.
+        //  Convert the PBJ objects to Google protobuf objects for `hapi-fees`.
+        this(
+                txBody,
+                payerKey,
+                null,
+                numVerifications,
+                signatureMapSize,
+                fromPbj(requireNonNull(feeData)),
+                fromPbj(requireNonNull(currentRate)),
+                isInternalDispatch,
+                congestionMultipliers,
+                storeFactory);
+    }
+
+    /**
+     * Create a new instance from fee data and an exchange rate that are already converted for "hapi-fees", as
+     * cached by the {@link FeeManager}.
+     *
+     * @param functionality    The functionality of the transaction, or {@code null} to derive it from the body.
+     * @see #FeeCalculatorImpl(TransactionBody, Key, int, int, FeeData, ExchangeRate, boolean, CongestionMultipliers,
+     * ReadableStoreFactory)
+     */
+    FeeCalculatorImpl(
+            @NonNull TransactionBody txBody,
+            @NonNull Key payerKey,
+            @Nullable final HederaFunctionality functionality,
+            final int numVerifications,
+            final int signatureMapSize,
+            @NonNull final com.hederahashgraph.api.proto.java.FeeData feeData,
+            @NonNull final com.hederahashgraph.api.proto.java.ExchangeRate currentRate,
+            final boolean isInternalDispatch,
+            final CongestionMultipliers congestionMultipliers,
+            final ReadableStoreFactory storeFactory) {
+        //  Perform basic validations
         requireNonNull(txBody);
         requireNonNull(payerKey);
-        this.feeData = fromPbj(feeData);
-        this.currentRate = fromPbj(currentRate);
+        this.feeData = requireNonNull(feeData);
+        this.currentRate = requireNonNull(currentRate);
         if (numVerifications < 0) {
             throw new IllegalArgumentException("numVerifications must be >= 0");
         }
@@ -122,9 +154,7 @@ public class FeeCalculatorImpl implements FeeCalculator {
         // with a simpler model, for now, we'll go ahead and check the transaction body type here.
         final var baseMeta = new BaseTransactionMeta(
                 // For some reason in mono-service while auto-creating we don't consider memo bytes for fees
-                isInternalDispatch
-                        ? 0
-                        : txBody.memo().getBytes(StandardCharsets.UTF_8).length, // Has to be a faster way...
+                isInternalDispatch ? 0 : utf8Length(txBody.memo()),
                 txBody.data().kind() == TransactionBody.DataOneOfType.CRYPTO_TRANSFER
                         ? ((CryptoTransferTransactionBody) txBody.data().as())
                                 .transfersOrElse(TransferList.DEFAULT)
@@ -141,7 +171,12 @@ public class FeeCalculatorImpl implements FeeCalculator {
         this.storeFactory = storeFactory;
         try {
             this.txInfo = new TransactionInfo(
-                    Transaction.DEFAULT, txBody, SignatureMap.DEFAULT, Bytes.EMPTY, functionOf(txBody), null);
+                    Transaction.DEFAULT,
+                    txBody,
+                    SignatureMap.DEFAULT,
+                    Bytes.EMPTY,
+                    functionality != null ? functionality : functionOf(txBody),
+                    null);
         } catch (UnknownHederaFunctionality e) {
             throw new IllegalStateException("Invalid transaction body " + txBody, e);
         }
@@ -153,17 +188,34 @@ public class FeeCalculatorImpl implements FeeCalculator {
             final CongestionMultipliers congestionMultipliers,
             final ReadableStoreFactory storeFactory,
             final HederaFunctionality functionality) {
+        this(
+                feeData == null ? null : fromPbj(feeData),
+                fromPbj(currentRate),
+                congestionMultipliers,
+                storeFactory,
+                functionality);
+    }
+
+    /**
+     * Create a new query instance from fee data and an exchange rate that are already converted for "hapi-fees", as
+     * cached by the {@link FeeManager}.
+     */
+    FeeCalculatorImpl(
+            @Nullable final com.hederahashgraph.api.proto.java.FeeData feeData,
+            @NonNull final com.hederahashgraph.api.proto.java.ExchangeRate currentRate,
+            final CongestionMultipliers congestionMultipliers,
+            final ReadableStoreFactory storeFactory,
+            final HederaFunctionality functionality) {
+        this.feeData = feeData;
         if (feeData == null) {
-            this.feeData = null;
             this.usage = null;
         } else {
-            this.feeData = fromPbj(feeData);
             this.usage = UsageAccumulator.fromGrpc(this.feeData);
             usage.reset();
             usage.addBpt(BASIC_QUERY_HEADER + BASIC_TX_ID_SIZE);
             usage.addBpr(BASIC_QUERY_RES_HEADER);
         }
-        this.currentRate = fromPbj(currentRate);
+        this.currentRate = requireNonNull(currentRate);
         this.sigUsage = new SigUsage(0, 0, 0);
 
         this.congestionMultipliers = congestionMultipliers;
@@ -260,6 +312,31 @@ public class FeeCalculatorImpl implements FeeCalculator {
         return congestionMultipliers.maxCurrentMultiplier(txInfo, storeFactory);
     }
 
+    /**
+     * Returns the number of bytes in the UTF-8 encoding of the given string, as {@link String#getBytes} would
+     * encode it (so an unpaired surrogate counts as one replacement byte), without allocating the encoding.
+     */
+    static int utf8Length(@NonNull final String s) {
+        final int n = s.length();
+        int length = n;
+        for (int i = 0; i < n; i++) {
+            final char c = s.charAt(i);
+            if (c < 0x80) {
+                continue;
+            }
+            if (c < 0x800) {
+                length += 1;
+            } else if (!Character.isSurrogate(c)) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < n && Character.isLowSurrogate(s.charAt(i + 1))) {
+                // The pair takes 4 bytes for 2 chars
+                length += 2;
+                i++;
+            }
+        }
+        return length;
+    }
+
     private void failIfLegacyOnly() {
         if (usage == null) {
             throw new UnsupportedOperationException("Only legacy calculation supported");
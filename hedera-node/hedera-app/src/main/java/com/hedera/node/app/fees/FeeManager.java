@@ -23,6 +23,7 @@ import static com.hedera.hapi.node.base.HederaFunctionality.TOKEN_GET_ACCOUNT_NF
 import static com.hedera.hapi.node.base.HederaFunctionality.TOKEN_GET_NFT_INFOS;
 import static com.hedera.hapi.node.base.HederaFunctionality.TRANSACTION_GET_FAST_RECORD;
 import static com.hedera.hapi.node.base.ResponseCodeEnum.SUCCESS;
+import static com.hedera.node.app.hapi.utils.CommonPbjConverters.fromPbj;
 import static java.util.Objects.requireNonNull;
 
 import com.hedera.hapi.node.base.CurrentAndNextFeeSchedule;
@@ -34,6 +35,7 @@ import com.hedera.hapi.node.base.Key;
 import com.hedera.hapi.node.base.ResponseCodeEnum;
 import com.hedera.hapi.node.base.SubType;
 import com.hedera.hapi.node.base.TransactionFeeSchedule;
+import com.hedera.hapi.node.transaction.ExchangeRate;
 import com.hedera.hapi.node.transaction.TransactionBody;
 import com.hedera.node.app.fees.congestion.CongestionMultipliers;
 import com.hedera.node.app.spi.fees.FeeCalculator;
@@ -44,11 +46,8 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.nio.BufferUnderflowException;
 import java.time.Instant;
-import java.util.Collections;
 import java.util.EnumSet;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -65,8 +64,6 @@ import org.apache.logging.log4j.Logger;
 public final class FeeManager {
     private static final Logger logger = LogManager.getLogger(FeeManager.class);
 
-    private record Entry(HederaFunctionality function, SubType subType) {}
-
     private static final long DEFAULT_FEE = 100_000L;
     /**
      * A set of operations that we do not expect to find the fee schedule. These include
@@ -89,10 +86,16 @@ public final class FeeManager {
             .servicedata(DEFAULT_FEE_COMPONENTS)
             .build();
 
+    private static final int NUM_SUB_TYPES = SubType.values().length;
+    private static final int NUM_ENTRIES = HederaFunctionality.values().length * NUM_SUB_TYPES;
+    private static final com.hederahashgraph.api.proto.java.FeeData DEFAULT_GRPC_FEE_DATA = fromPbj(DEFAULT_FEE_DATA);
+
     /** The current fee schedule, cached for speed. */
-    private Map<Entry, FeeData> currentFeeDataMap = Collections.emptyMap();
+    private FeeTable currentFeeTable = new FeeTable();
     /** The next fee schedule, cached for speed. */
-    private Map<Entry, FeeData> nextFeeDataMap = Collections.emptyMap();
+    private FeeTable nextFeeTable = currentFeeTable;
+    /** The last active exchange rate, together with its conversion for "hapi-fees". */
+    private volatile ConvertedRate lastActiveRate;
     /** The expiration time of the "current" fee schedule, in consensus seconds since the epoch, cached for speed. */
     private long currentScheduleExpirationSeconds;
     /** The exchange rate manager to use for the current rate */
@@ -135,11 +138,11 @@ public final class FeeManager {
             currentSchedule = FeeSchedule.DEFAULT;
         }
 
-        // Populate the map of HederaFunctionality -> FeeData for the current schedule, but avoid mutating
+        // Populate the table of HederaFunctionality -> FeeData for the current schedule, but avoid mutating
         // the active one in-place as other threads may be using it for ingest/query fee calculations
-        final var newCurrentFeeDataMap = new HashMap<Entry, FeeData>();
-        populateFeeDataMap(newCurrentFeeDataMap, currentSchedule.transactionFeeSchedule());
-        this.currentFeeDataMap = newCurrentFeeDataMap;
+        final var newCurrentFeeTable = new FeeTable();
+        populateFeeTable(newCurrentFeeTable, currentSchedule.transactionFeeSchedule());
+        this.currentFeeTable = newCurrentFeeTable;
 
         // Get the expiration time of the current schedule
         if (currentSchedule.hasExpiryTime()) {
@@ -160,13 +163,14 @@ public final class FeeManager {
             // schedule either, then basically we have an empty schedule with an expiration time of 0, which will
             // still get used since we continue to use the next schedule even if the expiration time has passed.
             logger.warn("Unable to parse next fee schedule, will default to the current fee schedule.");
-            nextFeeDataMap = new HashMap<>(currentFeeDataMap);
+            // (The tables are never mutated once populated, so it is safe to share one)
+            nextFeeTable = currentFeeTable;
         } else {
-            // Populate the map of HederaFunctionality -> FeeData for the next schedule, but avoid mutating
+            // Populate the table of HederaFunctionality -> FeeData for the next schedule, but avoid mutating
             // the active one in-place as other threads may be using it for ingest/query fee calculations
-            final var newNextFeeDataMap = new HashMap<Entry, FeeData>();
-            populateFeeDataMap(newNextFeeDataMap, nextSchedule.transactionFeeSchedule());
-            this.nextFeeDataMap = newNextFeeDataMap;
+            final var newNextFeeTable = new FeeTable();
+            populateFeeTable(newNextFeeTable, nextSchedule.transactionFeeSchedule());
+            this.nextFeeTable = newNextFeeTable;
         }
 
         return SUCCESS;
@@ -194,16 +198,19 @@ public final class FeeManager {
         // Determine which fee schedule to use, based on the consensus time
         // If it is not known, that is, if we have no fee data for that transaction, then we MUST NOT execute that
         // transaction! We will not be able to charge appropriately for it.
-        final var feeData = getFeeData(functionality, consensusTime, subType);
+        // The fee data and rate are passed already converted for "hapi-fees", so this is not repeated for every
+        // transaction
+        final var feeData = getGrpcFeeData(functionality, consensusTime, subType);
 
         // Create the fee calculator
         return new FeeCalculatorImpl(
                 txBody,
                 payerKey,
+                functionality,
                 numVerifications,
                 signatureMapSize,
                 feeData,
-                exchangeRateManager.activeRate(consensusTime),
+                activeGrpcRate(consensusTime),
                 isInternalDispatch,
                 congestionMultipliers,
                 storeFactory);
@@ -223,12 +230,12 @@ public final class FeeManager {
             @NonNull final Instant consensusTime,
             @NonNull final ReadableStoreFactory storeFactory) {
         // Determine which fee schedule to use, based on the consensus time
-        final var feeData = getFeeData(functionality, consensusTime, SubType.DEFAULT);
+        final var feeData = getGrpcFeeData(functionality, consensusTime, SubType.DEFAULT);
 
         // Create the fee calculator
         return new FeeCalculatorImpl(
                 feeData,
-                exchangeRateManager.activeRate(consensusTime),
+                activeGrpcRate(consensusTime),
                 congestionMultipliers,
                 storeFactory,
                 functionality);
@@ -240,34 +247,73 @@ public final class FeeManager {
     @NonNull
     public FeeData getFeeData(
             @NonNull HederaFunctionality functionality, @NonNull Instant consensusTime, @NonNull SubType subType) {
-        final var feeDataMap =
-                consensusTime.getEpochSecond() > currentScheduleExpirationSeconds ? nextFeeDataMap : currentFeeDataMap;
-
-        // Now, lookup the fee data for the transaction type.
-        final var result = feeDataMap.get(new Entry(functionality, subType));
+        final var index = indexOf(functionality, subType);
+        final var result = feeTableAt(consensusTime).feeData[index];
         if (result == null) {
-            if (!INAPPLICABLE_OPERATIONS.contains(functionality)) {
-                logger.warn("Using default usage prices to calculate fees for {}!", functionality);
-            }
+            warnIfUnexpected(functionality);
             return DEFAULT_FEE_DATA;
         }
         return result;
     }
 
     /**
-     * Used during {@link #update(Bytes)} to populate the fee data map based on the configuration.
-     * @param feeDataMap The map to populate.
+     * Looks up the fee data for the given transaction and its details, as already converted for "hapi-fees".
+     */
+    @NonNull
+    private com.hederahashgraph.api.proto.java.FeeData getGrpcFeeData(
+            @NonNull HederaFunctionality functionality, @NonNull Instant consensusTime, @NonNull SubType subType) {
+        final var index = indexOf(functionality, subType);
+        final var result = feeTableAt(consensusTime).grpcFeeData[index];
+        if (result == null) {
+            warnIfUnexpected(functionality);
+            return DEFAULT_GRPC_FEE_DATA;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the exchange rate active at the given consensus time, as converted for "hapi-fees". The conversion is
+     * only repeated when the active rate changes.
+     */
+    @NonNull
+    private com.hederahashgraph.api.proto.java.ExchangeRate activeGrpcRate(@NonNull final Instant consensusTime) {
+        final var rate = exchangeRateManager.activeRate(consensusTime);
+        var converted = lastActiveRate;
+        if (converted == null || !converted.rate().equals(rate)) {
+            converted = new ConvertedRate(rate, fromPbj(rate));
+            lastActiveRate = converted;
+        }
+        return converted.grpcRate();
+    }
+
+    private FeeTable feeTableAt(@NonNull final Instant consensusTime) {
+        return consensusTime.getEpochSecond() > currentScheduleExpirationSeconds ? nextFeeTable : currentFeeTable;
+    }
+
+    private static void warnIfUnexpected(@NonNull final HederaFunctionality functionality) {
+        if (!INAPPLICABLE_OPERATIONS.contains(functionality)) {
+            logger.warn("Using default usage prices to calculate fees for {}!", functionality);
+        }
+    }
+
+    private static int indexOf(@NonNull final HederaFunctionality functionality, @NonNull final SubType subType) {
+        return functionality.ordinal() * NUM_SUB_TYPES + subType.ordinal();
+    }
+
+    /**
+     * Used during {@link #update(Bytes)} to populate the fee table based on the configuration.
+     * @param feeTable The table to populate.
      * @param feeSchedule The fee schedule to use.
      */
-    private void populateFeeDataMap(
-            @NonNull final Map<Entry, FeeData> feeDataMap, @NonNull final List<TransactionFeeSchedule> feeSchedule) {
+    private void populateFeeTable(
+            @NonNull final FeeTable feeTable, @NonNull final List<TransactionFeeSchedule> feeSchedule) {
         feeSchedule.forEach(t -> {
             if (!t.fees().isEmpty()) {
                 for (final var feeData : t.fees()) {
-                    feeDataMap.put(new Entry(t.hederaFunctionality(), feeData.subType()), feeData);
+                    feeTable.put(t.hederaFunctionality(), feeData.subType(), feeData);
                 }
             } else if (t.hasFeeData()) {
-                feeDataMap.put(new Entry(t.hederaFunctionality(), SubType.DEFAULT), t.feeDataOrThrow());
+                feeTable.put(t.hederaFunctionality(), SubType.DEFAULT, t.feeDataOrThrow());
             } else {
                 logger.warn(
                         "Neither `fees` nor `feeData` specified for transaction type {}, ignoring it.",
@@ -275,4 +321,27 @@ public final class FeeManager {
             }
         });
     }
+
+    /**
+     * The fee data of one fee schedule, indexed by {@link HederaFunctionality} and {@link SubType} ordinals. Each
+     * entry is kept both as PBJ and as converted for "hapi-fees", so neither lookup nor conversion is repeated per
+     * transaction. Unpriced entries are {@code null}.
+     */
+    private static final class FeeTable {
+        private final FeeData[] feeData = new FeeData[NUM_ENTRIES];
+        private final com.hederahashgraph.api.proto.java.FeeData[] grpcFeeData =
+                new com.hederahashgraph.api.proto.java.FeeData[NUM_ENTRIES];
+
+        private void put(
+                @NonNull final HederaFunctionality functionality,
+                @NonNull final SubType subType,
+                @NonNull final FeeData data) {
+            final var index = indexOf(functionality, subType);
+            feeData[index] = data;
+            grpcFeeData[index] = fromPbj(data);
+        }
+    }
+
+    private record ConvertedRate(
+            @NonNull ExchangeRate rate, @NonNull com.hederahashgraph.api.proto.java.ExchangeRate grpcRate) {}
 }
@@ -21,16 +21,24 @@ import static java.util.Objects.requireNonNull;
 import com.hedera.node.app.Hedera;
 import com.hedera.pbj.runtime.io.buffer.BufferedData;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import io.grpc.KnownLength;
 import io.grpc.MethodDescriptor;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 
 /**
  * A thread-safe implementation of a gRPC marshaller which does nothing but pass through byte arrays as {@link
  * BufferedData}s. A single implementation of this class is designed to be used by multiple threads,
  * including by multiple app instances within a single JVM!
+ *
+ * <p>By default, requests are read into a per-thread buffer that is reused for the next request on the same thread,
+ * so anything that must outlive the request has to be copied out of it. In zero-copy mode, every request is read
+ * into its own buffer of the exact request size instead, so the request bytes, and anything parsed from them, can be
+ * kept as they are.
  */
 /*@ThreadSafe*/
-final class DataBufferMarshaller implements MethodDescriptor.Marshaller<BufferedData> {
+public final class DataBufferMarshaller implements MethodDescriptor.Marshaller<BufferedData> {
     // NOTE: This needs to come from config, but because of the thread local, has to be
     //       static. See Issue #4294
     private static final int MAX_MESSAGE_SIZE = Hedera.MAX_SIGNED_TXN_SIZE;
@@ -47,8 +55,17 @@ final class DataBufferMarshaller implements MethodDescriptor.Marshaller<Buffered
     private static final ThreadLocal<BufferedData> BUFFER_THREAD_LOCAL =
             ThreadLocal.withInitial(() -> BufferedData.allocate(TOO_BIG_MESSAGE_SIZE));
 
-    /** Constructs a new {@link DataBufferMarshaller}. Only called by {@link GrpcServiceBuilder}. */
-    DataBufferMarshaller() {}
+    /** Whether every request is read into its own buffer */
+    private final boolean zeroCopy;
+
+    /**
+     * Constructs a new {@link DataBufferMarshaller}. Only called by {@link GrpcServiceBuilder}, and by benchmarks.
+     *
+     * @param zeroCopy whether every request is read into its own buffer, instead of a reused per-thread buffer
+     */
+    public DataBufferMarshaller(final boolean zeroCopy) {
+        this.zeroCopy = zeroCopy;
+    }
 
     /** {@inheritDoc} */
     @Override
@@ -67,6 +84,10 @@ final class DataBufferMarshaller implements MethodDescriptor.Marshaller<Buffered
         // of the Google protobuf implementation.
         requireNonNull(stream);
 
+        if (zeroCopy && stream instanceof KnownLength) {
+            return parseOwned(stream);
+        }
+
         // Each thread has a single buffer instance that gets reused over and over.
         final var buffer = BUFFER_THREAD_LOCAL.get();
         buffer.reset();
@@ -83,6 +104,28 @@ final class DataBufferMarshaller implements MethodDescriptor.Marshaller<Buffered
         // We read some bytes into the buffer, so reset the position and limit accordingly to
         // prepare for reading the data
         buffer.flip();
+        if (zeroCopy) {
+            // The request length wasn't known in advance, so it has to be copied out of the shared buffer
+            final var bytes = new byte[(int) buffer.remaining()];
+            buffer.readBytes(bytes);
+            return BufferedData.wrap(bytes);
+        }
         return buffer;
     }
+
+    /**
+     * Reads a request of known length into a new buffer of the exact request size. Like the shared buffers, at most
+     * {@code TOO_BIG_MESSAGE_SIZE} bytes are read, so oversized requests are rejected in {@link
+     * com.hedera.node.app.grpc.impl.MethodBase} without allocating more than that.
+     */
+    @NonNull
+    private static BufferedData parseOwned(@NonNull final InputStream stream) {
+        try {
+            final var bytes = new byte[Math.min(stream.available(), TOO_BIG_MESSAGE_SIZE)];
+            final var read = stream.readNBytes(bytes, 0, bytes.length);
+            return BufferedData.wrap(bytes, 0, read);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
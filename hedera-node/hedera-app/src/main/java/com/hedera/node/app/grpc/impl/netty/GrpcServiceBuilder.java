@@ -67,7 +67,10 @@ final class GrpcServiceBuilder {
      * Create a single JVM-wide Marshaller instance that simply reads/writes byte arrays to/from
      * {@link InputStream}s. This class is thread safe.
      */
-    private static final DataBufferMarshaller MARSHALLER = new DataBufferMarshaller();
+    private static final DataBufferMarshaller MARSHALLER = new DataBufferMarshaller(false);
+
+    /** Same as {@link #MARSHALLER}, but reads every request into its own buffer. */
+    private static final DataBufferMarshaller ZERO_COPY_MARSHALLER = new DataBufferMarshaller(true);
 
     /** The name of the service we are building. For example, the TokenService. */
     private final String serviceName;
@@ -88,6 +91,9 @@ final class GrpcServiceBuilder {
      */
     private final QueryWorkflow queryWorkflow;
 
+    /** The marshaller for requests, which depends on whether zero-copy ingest is enabled */
+    private final DataBufferMarshaller requestMarshaller;
+
     /**
      * The set of transaction method names that need corresponding service method definitions generated.
      *
@@ -117,6 +123,25 @@ final class GrpcServiceBuilder {
             @NonNull final String serviceName,
             @NonNull final IngestWorkflow ingestWorkflow,
             @NonNull final QueryWorkflow queryWorkflow) {
+        this(serviceName, ingestWorkflow, queryWorkflow, false);
+    }
+
+    /**
+     * Creates a new builder. Typically only a single builder instance is created per service.
+     *
+     * @param serviceName The name of the service. Cannot be null or blank.
+     * @param ingestWorkflow The workflow to use for handling all transaction ingestion API calls
+     * @param queryWorkflow The workflow to use for handling all queries
+     * @param zeroCopyIngest Whether every request is read into its own buffer, see {@link DataBufferMarshaller}
+     * @throws NullPointerException if any of the parameters are null
+     * @throws IllegalArgumentException if the serviceName is blank
+     */
+    public GrpcServiceBuilder(
+            @NonNull final String serviceName,
+            @NonNull final IngestWorkflow ingestWorkflow,
+            @NonNull final QueryWorkflow queryWorkflow,
+            final boolean zeroCopyIngest) {
+        this.requestMarshaller = zeroCopyIngest ? ZERO_COPY_MARSHALLER : MARSHALLER;
         this.ingestWorkflow = requireNonNull(ingestWorkflow);
         this.queryWorkflow = requireNonNull(queryWorkflow);
         this.serviceName = requireNonNull(serviceName);
@@ -198,7 +223,7 @@ final class GrpcServiceBuilder {
         final var methodDescriptor = MethodDescriptor.<BufferedData, BufferedData>newBuilder()
                 .setType(MethodType.UNARY)
                 .setFullMethodName(serviceName + "/" + methodName)
-                .setRequestMarshaller(MARSHALLER)
+                .setRequestMarshaller(requestMarshaller)
                 .setResponseMarshaller(MARSHALLER)
                 .build();
 
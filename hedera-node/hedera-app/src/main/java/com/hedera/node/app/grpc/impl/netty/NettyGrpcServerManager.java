@@ -422,10 +422,13 @@ public final class NettyGrpcServerManager implements GrpcServerManager {
             @NonNull final IngestWorkflow ingestWorkflow,
             @NonNull final QueryWorkflow queryWorkflow,
             @NonNull final Metrics metrics) {
+        final var zeroCopyIngest =
+                configProvider.getConfiguration().getConfigData(GrpcConfig.class).zeroCopyIngestEnabled();
         return rpcServiceDefinitions
                 .get()
                 .map(d -> {
-                    final var builder = new GrpcServiceBuilder(d.basePath(), ingestWorkflow, queryWorkflow);
+                    final var builder =
+                            new GrpcServiceBuilder(d.basePath(), ingestWorkflow, queryWorkflow, zeroCopyIngest);
                     d.methods().stream().filter(methodFilter).forEach(m -> {
                         if (Transaction.class.equals(m.requestType())) {
                             builder.transaction(m.path());
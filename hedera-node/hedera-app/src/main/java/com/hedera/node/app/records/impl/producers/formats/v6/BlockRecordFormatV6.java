@@ -16,6 +16,9 @@
 
 package com.hedera.node.app.records.impl.producers.formats.v6;
 
+import static com.hedera.hapi.streams.schema.RecordStreamItemSchema.RECORD;
+import static com.hedera.hapi.streams.schema.RecordStreamItemSchema.TRANSACTION;
+
 import com.hedera.hapi.node.base.SemanticVersion;
 import com.hedera.hapi.node.base.Transaction;
 import com.hedera.hapi.node.transaction.TransactionRecord;
@@ -24,12 +27,13 @@ import com.hedera.hapi.streams.TransactionSidecarRecord;
 import com.hedera.node.app.records.impl.producers.BlockRecordFormat;
 import com.hedera.node.app.records.impl.producers.SerializedSingleTransactionRecord;
 import com.hedera.node.app.state.SingleTransactionRecord;
+import com.hedera.pbj.runtime.io.buffer.BufferedData;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
-import com.hedera.pbj.runtime.io.stream.WritableStreamingData;
 import com.swirlds.common.crypto.DigestType;
 import com.swirlds.common.crypto.Hash;
 import com.swirlds.common.io.streams.SerializableDataOutputStream;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
@@ -87,47 +91,108 @@ public final class BlockRecordFormatV6 implements BlockRecordFormat {
         // prohibit instantiation
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Both the hashing format and the protobuf format of a {@link RecordStreamItem} contain the same two encoded
+     * messages, the {@link Transaction} and its {@link TransactionRecord}; only the framing differs. So each message
+     * is encoded exactly once, and its encoded bytes are spliced into both formats.
+     *
+     * <p>This sharing is within the record stream only. When the block stream is also produced, its block items
+     * are encoded separately, so the transfer lists, token transfer lists and contract results of a transaction are
+     * still encoded once for each stream.
+     */
     @Override
     public SerializedSingleTransactionRecord serialize(
             @NonNull final SingleTransactionRecord singleTransactionRecord,
             final long blockNumber,
             @NonNull final SemanticVersion hapiVersion) {
-        try {
-            // create RecordStreamItem
-            final RecordStreamItem recordStreamItem = new RecordStreamItem(
-                    singleTransactionRecord.transaction(), singleTransactionRecord.transactionRecord());
-            // serialize in format for hashing
-            // the format is SelfSerializable header and then protobuf fields in reverse order with no protobuf tag
-            final var bout = new ByteArrayOutputStream();
-            bout.write(RECORD_STREAM_OBJECT_HEADER);
-            WritableStreamingData out = new WritableStreamingData(bout);
-            // [field 2] - record
-            if (recordStreamItem.record() != null) {
-                Bytes transactionRecordProtobufBytes = TransactionRecord.PROTOBUF.toBytes(recordStreamItem.record());
-                out.writeInt((int) transactionRecordProtobufBytes.length());
-                transactionRecordProtobufBytes.writeTo(out);
-            }
-            // [field 1] - transaction
-            if (recordStreamItem.transaction() != null) {
-                Bytes transactionProtobufBytes = Transaction.PROTOBUF.toBytes(recordStreamItem.transaction());
-                out.writeInt((int) transactionProtobufBytes.length());
-                transactionProtobufBytes.writeTo(out);
-            }
-            // serialize in protobuf format
-            final Bytes protobufItemBytes = RecordStreamItem.PROTOBUF.toBytes(recordStreamItem);
-            // serialize sidecar items to protobuf
-            List<Bytes> sideCarItems = singleTransactionRecord.transactionSidecarRecords().stream()
-                    .map(TransactionSidecarRecord.PROTOBUF::toBytes)
-                    .toList();
-            // return SerializedSingleTransactionRecord
-            return new SerializedSingleTransactionRecord(
-                    Bytes.wrap(bout.toByteArray()),
-                    protobufItemBytes,
-                    sideCarItems,
-                    singleTransactionRecord.transactionSidecarRecords());
-        } catch (IOException e) {
-            throw new UncheckedIOException(e);
+        final var transaction = singleTransactionRecord.transaction();
+        final var transactionRecord = singleTransactionRecord.transactionRecord();
+        final var transactionBytes = transaction == null ? null : Transaction.PROTOBUF.toBytes(transaction);
+        final var transactionRecordBytes =
+                transactionRecord == null ? null : TransactionRecord.PROTOBUF.toBytes(transactionRecord);
+        // serialize sidecar items to protobuf
+        List<Bytes> sideCarItems = singleTransactionRecord.transactionSidecarRecords().stream()
+                .map(TransactionSidecarRecord.PROTOBUF::toBytes)
+                .toList();
+        // return SerializedSingleTransactionRecord
+        return new SerializedSingleTransactionRecord(
+                hashSerializedItem(transactionBytes, transactionRecordBytes),
+                protobufSerializedItem(transactionBytes, transactionRecordBytes),
+                sideCarItems,
+                singleTransactionRecord.transactionSidecarRecords());
+    }
+
+    /**
+     * Serializes a {@link RecordStreamItem} in the format for hashing, which is the SelfSerializable header and
+     * then the protobuf fields in reverse order, each preceded by its length as an int instead of a protobuf tag.
+     *
+     * @param transactionBytes the encoded transaction, if any
+     * @param transactionRecordBytes the encoded transaction record, if any
+     * @return the item in the format for hashing
+     */
+    private static Bytes hashSerializedItem(
+            @Nullable final Bytes transactionBytes, @Nullable final Bytes transactionRecordBytes) {
+        final var size = RECORD_STREAM_OBJECT_HEADER.length
+                + (transactionRecordBytes == null ? 0 : Integer.BYTES + (int) transactionRecordBytes.length())
+                + (transactionBytes == null ? 0 : Integer.BYTES + (int) transactionBytes.length());
+        final var bytes = new byte[size];
+        final var out = BufferedData.wrap(bytes);
+        out.writeBytes(RECORD_STREAM_OBJECT_HEADER);
+        // [field 2] - record
+        if (transactionRecordBytes != null) {
+            out.writeInt((int) transactionRecordBytes.length());
+            out.writeBytes(transactionRecordBytes);
         }
+        // [field 1] - transaction
+        if (transactionBytes != null) {
+            out.writeInt((int) transactionBytes.length());
+            out.writeBytes(transactionBytes);
+        }
+        return Bytes.wrap(bytes);
+    }
+
+    /**
+     * Serializes a {@link RecordStreamItem} in protobuf format, exactly as {@link RecordStreamItem#PROTOBUF} would.
+     *
+     * @param transactionBytes the encoded transaction, if any
+     * @param transactionRecordBytes the encoded transaction record, if any
+     * @return the item in protobuf format
+     */
+    private static Bytes protobufSerializedItem(
+            @Nullable final Bytes transactionBytes, @Nullable final Bytes transactionRecordBytes) {
+        final var size = sizeOfDelimitedField(TRANSACTION.number(), transactionBytes)
+                + sizeOfDelimitedField(RECORD.number(), transactionRecordBytes);
+        final var bytes = new byte[size];
+        final var out = BufferedData.wrap(bytes);
+        writeDelimitedField(out, TRANSACTION.number(), transactionBytes);
+        writeDelimitedField(out, RECORD.number(), transactionRecordBytes);
+        return Bytes.wrap(bytes);
+    }
+
+    private static int sizeOfDelimitedField(final int fieldNumber, @Nullable final Bytes message) {
+        if (message == null) {
+            return 0;
+        }
+        final var length = (int) message.length();
+        return sizeOfVarInt(fieldNumber << TAG_TYPE_BITS) + sizeOfVarInt(length) + length;
+    }
+
+    private static void writeDelimitedField(
+            @NonNull final BufferedData out, final int fieldNumber, @Nullable final Bytes message) {
+        if (message != null) {
+            // FUTURE can change once https://github.com/hashgraph/pbj/issues/44 is fixed to:
+            // ProtoWriterTools.writeTag(out, field, ProtoConstants.WIRE_TYPE_DELIMITED);
+            out.writeVarInt((fieldNumber << TAG_TYPE_BITS) | WIRE_TYPE_DELIMITED, false);
+            out.writeVarInt((int) message.length(), false);
+            out.writeBytes(message);
+        }
+    }
+
+    private static int sizeOfVarInt(final int value) {
+        // Seven bits per byte, and at least one byte
+        return (38 - Integer.numberOfLeadingZeros(value | 1)) / 7;
     }
 
     @Override
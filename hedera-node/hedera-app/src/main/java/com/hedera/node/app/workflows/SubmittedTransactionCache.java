@@ -0,0 +1,163 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.workflows;
+
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.node.app.workflows.ingest.SubmissionManager;
+import com.hedera.node.app.workflows.prehandle.PreHandleWorkflow;
+import com.hedera.node.config.ConfigProvider;
+import com.hedera.node.config.data.CacheConfig;
+import com.hedera.node.config.data.StatsConfig;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.common.metrics.SpeedometerMetric;
+import com.swirlds.metrics.api.Metrics;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * A bounded cache of the {@link TransactionInfo}s of transactions submitted to the platform by this node.
+ *
+ * <p>Transactions received over gRPC are parsed and checked at ingest. When they come back in one of this node's
+ * events, the {@link PreHandleWorkflow} would parse them again from the very same bytes. Instead, the
+ * {@link SubmissionManager} puts the ingest {@link TransactionInfo} here, keyed by the submitted bytes, and pre-handle
+ * takes it from here. Parsing is a pure function of the bytes, so the cached info is exactly what pre-handle would
+ * have parsed. Pre-handle still re-runs {@link TransactionChecker#checkParsed(TransactionInfo)} on it.
+ *
+ * <p>Entries are removed when pre-handle takes them. Transactions that never reach pre-handle, for example because
+ * the platform dropped them during a reconnect, are evicted oldest first once the cache is full. This cache is not
+ * part of state, and a miss just means the transaction is parsed again.
+ */
+@Singleton
+public class SubmittedTransactionCache {
+    private static final String PARSE_MS_SAVED_NAME = "submittedTxnParseMsSaved_per_sec";
+    private static final String PARSE_MS_SAVED_DESC =
+            "estimated milliseconds of pre-handle parsing saved per second by reusing parsed submitted transactions";
+    private static final String SPEEDOMETER_FORMAT = "%,13.2f";
+
+    /** The weight of the latest sample in the average pre-handle parse time is {@code 1 / 2^PARSE_NANOS_SHIFT} */
+    private static final int PARSE_NANOS_SHIFT = 4;
+
+    private final int maxEntries;
+    /** Cached infos in insertion order, so the oldest one is evicted once full. Guarded by itself. */
+    private final Map<Bytes, TransactionInfo> infos;
+
+    private final SpeedometerMetric parseMsSaved;
+    /** Moving average of the time pre-handle takes to parse and check a transaction, in nanoseconds */
+    private volatile long avgParseNanos = 0;
+
+    /**
+     * Create a new {@code SubmittedTransactionCache} instance.
+     *
+     * @param configProvider the {@link ConfigProvider}
+     * @param metrics the {@link Metrics} to register the cache metrics with
+     */
+    @Inject
+    public SubmittedTransactionCache(@NonNull final ConfigProvider configProvider, @NonNull final Metrics metrics) {
+        requireNonNull(configProvider);
+        requireNonNull(metrics);
+        final var configuration = configProvider.getConfiguration();
+        this.maxEntries = configuration.getConfigData(CacheConfig.class).submittedTxnInfoMaxEntries();
+        this.infos = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Bytes, TransactionInfo> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        final var statsConfig = configuration.getConfigData(StatsConfig.class);
+        this.parseMsSaved = metrics.getOrCreate(new SpeedometerMetric.Config("app", PARSE_MS_SAVED_NAME)
+                .withDescription(PARSE_MS_SAVED_DESC)
+                .withFormat(SPEEDOMETER_FORMAT)
+                .withHalfLife(statsConfig.speedometerHalfLifeSecs()));
+    }
+
+    /**
+     * Caches the parsed info of a transaction submitted to the platform.
+     *
+     * @param serializedTx the transaction bytes submitted to the platform, must not be modified later
+     * @param txInfo the info parsed from these bytes at ingest
+     */
+    public void put(@NonNull final Bytes serializedTx, @NonNull final TransactionInfo txInfo) {
+        requireNonNull(serializedTx);
+        requireNonNull(txInfo);
+        if (maxEntries <= 0) {
+            return;
+        }
+        final var info = new TransactionInfo(
+                txInfo.transaction(),
+                txInfo.txBody(),
+                txInfo.transactionID(),
+                txInfo.payerID(),
+                txInfo.signatureMap(),
+                txInfo.signedBytes(),
+                txInfo.functionality(),
+                serializedTx);
+        synchronized (infos) {
+            infos.putIfAbsent(serializedTx, info);
+        }
+    }
+
+    /**
+     * Removes a cached transaction info, for example, if the transaction could not be submitted.
+     *
+     * @param serializedTx the transaction bytes
+     */
+    public void remove(@NonNull final Bytes serializedTx) {
+        requireNonNull(serializedTx);
+        synchronized (infos) {
+            infos.remove(serializedTx);
+        }
+    }
+
+    /**
+     * Takes the cached info of a transaction, if the transaction was submitted by this node.
+     *
+     * @param serializedTx the transaction bytes from an event
+     * @return the parsed info, or {@code null} if this transaction is not in the cache
+     */
+    @Nullable
+    public TransactionInfo take(@NonNull final Bytes serializedTx) {
+        requireNonNull(serializedTx);
+        final TransactionInfo info;
+        synchronized (infos) {
+            if (infos.isEmpty()) {
+                return null;
+            }
+            info = infos.remove(serializedTx);
+        }
+        if (info != null) {
+            parseMsSaved.update(avgParseNanos / 1_000_000.0);
+        }
+        return info;
+    }
+
+    /**
+     * Records the time pre-handle took to parse and check a transaction that was not in the cache. Used to
+     * estimate the parse time saved by cache hits.
+     *
+     * @param nanos the parse time in nanoseconds
+     */
+    public void recordParseNanos(final long nanos) {
+        // Racy updates may lose samples, which is fine for an estimate
+        final long avg = avgParseNanos;
+        avgParseNanos = avg == 0 ? nanos : avg + ((nanos - avg) >> PARSE_NANOS_SHIFT);
+    }
+}
@@ -30,7 +30,9 @@ import com.hedera.node.app.workflows.TransactionChecker;
 import com.hedera.node.app.workflows.TransactionInfo;
 import com.hedera.node.app.workflows.dispatcher.TransactionDispatcher;
 import com.hedera.node.app.workflows.prehandle.PreHandleResult;
+import com.hedera.node.config.ConfigProvider;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.config.api.Configuration;
 import com.swirlds.platform.system.Round;
 import com.swirlds.platform.system.events.ConsensusEvent;
 import com.swirlds.platform.system.transaction.Transaction;
@@ -53,15 +55,18 @@ public class CacheWarmer {
     private final TransactionChecker checker;
     private final TransactionDispatcher dispatcher;
     private final Executor executor;
+    private final ConfigProvider configProvider;
 
     @Inject
     public CacheWarmer(
             @NonNull final TransactionChecker checker,
             @NonNull final TransactionDispatcher dispatcher,
-            @NonNull @Named("CacheWarmer") final Executor executor) {
+            @NonNull @Named("CacheWarmer") final Executor executor,
+            @NonNull final ConfigProvider configProvider) {
         this.checker = checker;
         this.dispatcher = requireNonNull(dispatcher);
         this.executor = requireNonNull(executor);
+        this.configProvider = requireNonNull(configProvider);
     }
 
     /**
@@ -73,6 +78,7 @@ public class CacheWarmer {
     public void warm(@NonNull final State state, @NonNull final Round round) {
         executor.execute(() -> {
             final ReadableStoreFactory storeFactory = new ReadableStoreFactory(state);
+            final Configuration configuration = configProvider.getConfiguration();
             final ReadableAccountStore accountStore = storeFactory.getStore(ReadableAccountStore.class);
             for (final ConsensusEvent event : round) {
                 event.forEachTransaction(platformTransaction -> executor.execute(() -> {
@@ -83,7 +89,7 @@ public class CacheWarmer {
                         if (payerID != null) {
                             accountStore.warm(payerID);
                         }
-                        final var context = new WarmupContextImpl(txBody, storeFactory);
+                        final var context = new WarmupContextImpl(txBody, storeFactory, configuration);
                         dispatcher.dispatchWarmup(context);
                     }
                 }));
@@ -121,16 +127,23 @@ public class CacheWarmer {
         @NonNull
         private final ReadableStoreFactory storeFactory;
 
+        @NonNull
+        private final Configuration configuration;
+
         /**
          * Constructor of {@code WarmupContextImpl}
          *
          * @param txBody the {@link TransactionInfo} of the transaction
          * @param storeFactory the {@link ReadableStoreFactory} to create stores
+         * @param configuration the current {@link Configuration}
          */
         public WarmupContextImpl(
-                @NonNull final TransactionBody txBody, @NonNull final ReadableStoreFactory storeFactory) {
+                @NonNull final TransactionBody txBody,
+                @NonNull final ReadableStoreFactory storeFactory,
+                @NonNull final Configuration configuration) {
             this.txBody = txBody;
             this.storeFactory = storeFactory;
+            this.configuration = configuration;
         }
 
         @NonNull
@@ -139,6 +152,12 @@ public class CacheWarmer {
             return txBody;
         }
 
+        @NonNull
+        @Override
+        public Configuration configuration() {
+            return configuration;
+        }
+
         @NonNull
         @Override
         public <C> C createStore(@NonNull final Class<C> storeInterface) {
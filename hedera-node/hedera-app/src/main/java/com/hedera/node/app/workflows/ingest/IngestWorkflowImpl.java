@@ -92,7 +92,7 @@ public final class IngestWorkflowImpl implements IngestWorkflow {
             final var transactionInfo = ingestChecker.runAllChecks(state, tx, configuration);
 
             // 7. Submit to platform
-            submissionManager.submit(transactionInfo.txBody(), requestBuffer);
+            submissionManager.submit(transactionInfo, requestBuffer);
         } catch (final InsufficientBalanceException e) {
             estimatedFee = e.getEstimatedFee();
             result = e.responseCode();
@@ -23,7 +23,10 @@ import static java.util.Objects.requireNonNull;
 import com.hedera.hapi.node.transaction.TransactionBody;
 import com.hedera.node.app.spi.workflows.PreCheckException;
 import com.hedera.node.app.state.DeduplicationCache;
+import com.hedera.node.app.workflows.SubmittedTransactionCache;
+import com.hedera.node.app.workflows.TransactionInfo;
 import com.hedera.node.config.ConfigProvider;
+import com.hedera.node.config.data.GrpcConfig;
 import com.hedera.node.config.data.HederaConfig;
 import com.hedera.node.config.data.LedgerConfig;
 import com.hedera.node.config.data.StatsConfig;
@@ -33,6 +36,7 @@ import com.swirlds.common.metrics.SpeedometerMetric;
 import com.swirlds.metrics.api.Metrics;
 import com.swirlds.platform.system.Platform;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
@@ -83,14 +87,19 @@ public class SubmissionManager {
     private final SpeedometerMetric platformTxnRejections;
     /** The {@link DeduplicationCache} that keeps track of transactions that have been submitted */
     private final DeduplicationCache submittedTxns;
+    /** The {@link SubmittedTransactionCache} that passes parsed transactions on to pre-handle */
+    private final SubmittedTransactionCache submittedTxnInfos;
 
     private final ConfigProvider configProvider;
+    /** Whether transaction bytes are read into a separate buffer for every request, so they don't need copying */
+    private final boolean zeroCopyIngest;
 
     /**
      * Create a new {@code SubmissionManager} instance.
      *
      * @param platform the {@link Platform} to which transactions will be submitted
      * @param deduplicationCache used to prevent submission of duplicate transactions
+     * @param submittedTxnInfos used to pass parsed transactions on to pre-handle
      * @param configProvider the {@link ConfigProvider}
      * @param metrics             metrics related to submissions
      */
@@ -98,12 +107,16 @@ public class SubmissionManager {
     public SubmissionManager(
             @NonNull final Platform platform,
             @NonNull final DeduplicationCache deduplicationCache,
+            @NonNull final SubmittedTransactionCache submittedTxnInfos,
             @NonNull final ConfigProvider configProvider,
             @NonNull final Metrics metrics) {
         this.platform = requireNonNull(platform);
         this.submittedTxns = requireNonNull(deduplicationCache);
+        this.submittedTxnInfos = requireNonNull(submittedTxnInfos);
         this.configProvider = requireNonNull(configProvider);
 
+        this.zeroCopyIngest =
+                configProvider.getConfiguration().getConfigData(GrpcConfig.class).zeroCopyIngestEnabled();
         final var statsConfig = configProvider.getConfiguration().getConfigData(StatsConfig.class);
         this.platformTxnRejections =
                 metrics.getOrCreate(new SpeedometerMetric.Config("app", PLATFORM_TXN_REJECTIONS_NAME)
@@ -124,6 +137,27 @@ public class SubmissionManager {
     public void submit(@NonNull final TransactionBody txBody, @NonNull final Bytes txBytes) throws PreCheckException {
         requireNonNull(txBody);
         requireNonNull(txBytes);
+        submit(txBody, txBytes, null);
+    }
+
+    /**
+     * Submit a transaction parsed at ingest to the {@link Platform}. Same as {@link #submit(TransactionBody, Bytes)},
+     * but the parsed transaction is also cached, so pre-handle doesn't have to parse it again.
+     *
+     * @param txInfo  the {@link TransactionInfo} parsed from the given bytes
+     * @param txBytes the bytes of the data that should be submitted (the full transaction bytes as received from gRPC)
+     * @throws NullPointerException if one of the arguments is {@code null}
+     * @throws PreCheckException    if the transaction could not be submitted
+     */
+    public void submit(@NonNull final TransactionInfo txInfo, @NonNull final Bytes txBytes) throws PreCheckException {
+        requireNonNull(txInfo);
+        requireNonNull(txBytes);
+        submit(txInfo.txBody(), txBytes, txInfo);
+    }
+
+    private void submit(
+            @NonNull final TransactionBody txBody, @NonNull final Bytes txBytes, @Nullable TransactionInfo txInfo)
+            throws PreCheckException {
 
         Bytes payload = txBytes;
 
@@ -145,6 +179,8 @@ public class SubmissionManager {
 
             // We allow it outside of prod, but it really shouldn't be used.
             payload = txBody.uncheckedSubmitOrThrow().transactionBytes();
+            // The parsed info doesn't match the submitted bytes
+            txInfo = null;
         }
 
         // This method is not called at a super high rate, so synchronizing here is perfectly fine. We need to check
@@ -163,10 +199,24 @@ public class SubmissionManager {
             // This call to submit to the platform should almost always work. Maybe under extreme load it will fail,
             // or while the system is being shut down. In any event, the user will receive an error code indicating
             // that the transaction was not submitted and they can retry.
-            final var success = platform.createTransaction(payload.toByteArray());
+            // With zero-copy ingest, every request has its own buffer, so the payload can be handed to the platform
+            // as it is. Otherwise, it's a view of a reused buffer, and must be copied. The platform doesn't modify
+            // the submitted bytes, so they can be shared with the cache.
+            final var payloadArray = zeroCopyIngest ? null : payload.toByteArray();
+            final var submitted = payloadArray == null ? payload : Bytes.wrap(payloadArray);
+            // The info is cached before submitting, as the transaction may be pre-handled before this call returns
+            if (txInfo != null) {
+                submittedTxnInfos.put(submitted, txInfo);
+            }
+            final var success = payloadArray == null
+                    ? platform.createTransaction(submitted)
+                    : platform.createTransaction(payloadArray);
             if (success) {
                 submittedTxns.add(txId);
             } else {
+                if (txInfo != null) {
+                    submittedTxnInfos.remove(submitted);
+                }
                 platformTxnRejections.cycle();
                 throw new PreCheckException(PLATFORM_TRANSACTION_NOT_CREATED);
             }
@@ -44,11 +44,13 @@ import com.hedera.node.app.spi.workflows.PreHandleContext;
 import com.hedera.node.app.spi.workflows.TransactionHandler;
 import com.hedera.node.app.state.DeduplicationCache;
 import com.hedera.node.app.store.ReadableStoreFactory;
+import com.hedera.node.app.workflows.SubmittedTransactionCache;
 import com.hedera.node.app.workflows.TransactionChecker;
 import com.hedera.node.app.workflows.TransactionInfo;
 import com.hedera.node.app.workflows.dispatcher.TransactionDispatcher;
 import com.hedera.node.config.ConfigProvider;
 import com.hedera.node.config.VersionedConfiguration;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.platform.system.events.Event;
 import com.swirlds.platform.system.transaction.Transaction;
 import edu.umd.cs.findbugs.annotations.NonNull;
@@ -98,6 +100,10 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
      * Used for registering notice of transactionIDs seen by this node
      */
     private final DeduplicationCache deduplicationCache;
+    /**
+     * Provides transactions submitted by this node, already parsed at ingest
+     */
+    private final SubmittedTransactionCache submittedTxnInfos;
 
     /**
      * Creates a new instance of {@code PreHandleWorkflowImpl}.
@@ -106,6 +112,7 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
      * transaction.
      * @param transactionChecker the {@link TransactionChecker} for parsing and verifying the transaction
      * @param signatureVerifier the {@link SignatureVerifier} to verify signatures
+     * @param submittedTxnInfos the {@link SubmittedTransactionCache} with transactions parsed at ingest
      * @throws NullPointerException if any of the parameters is {@code null}
      */
     @Inject
@@ -115,13 +122,15 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
             @NonNull final SignatureVerifier signatureVerifier,
             @NonNull final SignatureExpander signatureExpander,
             @NonNull final ConfigProvider configProvider,
-            @NonNull final DeduplicationCache deduplicationCache) {
+            @NonNull final DeduplicationCache deduplicationCache,
+            @NonNull final SubmittedTransactionCache submittedTxnInfos) {
         this.dispatcher = requireNonNull(dispatcher);
         this.transactionChecker = requireNonNull(transactionChecker);
         this.signatureVerifier = requireNonNull(signatureVerifier);
         this.signatureExpander = requireNonNull(signatureExpander);
         this.configProvider = requireNonNull(configProvider);
         this.deduplicationCache = requireNonNull(deduplicationCache);
+        this.submittedTxnInfos = requireNonNull(submittedTxnInfos);
     }
 
     /**
@@ -181,7 +190,7 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
             // Transaction info is a pure function of the transaction, so we can
             // always reuse it from a prior result
             txInfo = previousResult == null
-                    ? transactionChecker.parseAndCheck(platformTx.getApplicationTransaction())
+                    ? parseAndCheck(platformTx.getApplicationTransaction())
                     : previousResult.txInfo();
             if (txInfo == null) {
                 // In particular, a null transaction info means we already know the transaction's final failure status
@@ -251,6 +260,25 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
         return expandAndVerifySignatures(txInfo, payer, payerAccount, storeFactory, previousResult);
     }
 
+    /**
+     * Parses and checks the given transaction bytes, unless this node submitted them and already parsed them at
+     * ingest. {@link TransactionChecker#checkParsed(TransactionInfo)} is re-run by the caller either way.
+     *
+     * @param serializedTx the transaction bytes
+     * @return the parsed transaction info
+     * @throws PreCheckException if parsing fails or any of the checks fail
+     */
+    private TransactionInfo parseAndCheck(@NonNull final Bytes serializedTx) throws PreCheckException {
+        final var submitted = submittedTxnInfos.take(serializedTx);
+        if (submitted != null) {
+            return submitted;
+        }
+        final long start = System.nanoTime();
+        final var txInfo = transactionChecker.parseAndCheck(serializedTx);
+        submittedTxnInfos.recordParseNanos(System.nanoTime() - start);
+        return txInfo;
+    }
+
     /**
      * Expands and verifies the payer signature and other require signatures for the transaction.
      *
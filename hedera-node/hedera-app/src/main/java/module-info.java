@@ -46,9 +46,6 @@ module com.hedera.node.app {
     requires com.google.protobuf;
     requires io.grpc.netty;
     requires io.grpc;
-    requires io.helidon.common.tls;
-    requires io.helidon.webclient.api;
-    requires io.helidon.webclient.grpc;
     requires io.netty.handler;
     requires io.netty.transport.classes.epoll;
     requires io.netty.transport;
@@ -108,6 +105,7 @@ module com.hedera.node.app {
     exports com.hedera.node.app.records.impl;
     exports com.hedera.node.app.records.impl.producers;
     exports com.hedera.node.app.records.impl.producers.formats;
+    exports com.hedera.node.app.records.impl.producers.formats.v6;
     exports com.hedera.node.app.grpc.impl.netty;
     exports com.hedera.node.app.tss.schemas;
     exports com.hedera.node.app.blocks.schemas;
@@ -65,6 +65,7 @@ import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
 import com.hedera.pbj.runtime.ParseException;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.metrics.noop.NoOpMetrics;
 import com.swirlds.platform.state.service.PlatformStateService;
 import com.swirlds.platform.system.Round;
 import com.swirlds.platform.system.events.ConsensusEvent;
@@ -227,8 +228,10 @@ class BlockStreamManagerImplTest {
                 ForkJoinPool.commonPool(),
                 configProvider,
                 boundaryStateChangeListener,
+                new KVStateChangeListener(),
                 hashInfo,
-                SemanticVersion.DEFAULT);
+                SemanticVersion.DEFAULT,
+                new NoOpMetrics());
         assertSame(Instant.EPOCH, subject.lastIntervalProcessTime());
         subject.setLastIntervalProcessTime(CONSENSUS_NOW);
         assertEquals(CONSENSUS_NOW, subject.lastIntervalProcessTime());
@@ -247,8 +250,10 @@ class BlockStreamManagerImplTest {
                 ForkJoinPool.commonPool(),
                 configProvider,
                 boundaryStateChangeListener,
+                new KVStateChangeListener(),
                 hashInfo,
-                SemanticVersion.DEFAULT);
+                SemanticVersion.DEFAULT,
+                new NoOpMetrics());
         assertThrows(IllegalStateException.class, () -> subject.startRound(round, state));
     }
 
@@ -522,8 +527,10 @@ class BlockStreamManagerImplTest {
                 ForkJoinPool.commonPool(),
                 configProvider,
                 boundaryStateChangeListener,
+                new KVStateChangeListener(),
                 hashInfo,
-                SemanticVersion.DEFAULT);
+                SemanticVersion.DEFAULT,
+                new NoOpMetrics());
         given(state.getReadableStates(BlockStreamService.NAME)).willReturn(readableStates);
         given(state.getReadableStates(PlatformStateService.NAME)).willReturn(readableStates);
         infoRef.set(blockStreamInfo);
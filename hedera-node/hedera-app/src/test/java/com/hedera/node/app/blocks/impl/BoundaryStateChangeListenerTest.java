@@ -110,4 +110,19 @@ class BoundaryStateChangeListenerTest {
         assertEquals(STATE_ID, stateChange.stateId());
         assertEquals(PROTO_STRING.value(), stateChange.singletonUpdate().stringValue());
     }
+
+    @Test
+    void onlyLatestSingletonUpdateIsKeptAndSupersededOnesAreTakenOnce() {
+        final var newValue = new ProtoString("newer");
+        listener.singletonUpdateChange(STATE_ID, PROTO_STRING);
+        listener.singletonUpdateChange(STATE_ID, newValue);
+
+        final var stateChanges = listener.allStateChanges();
+        assertEquals(1, stateChanges.size());
+        assertEquals(newValue.value(), stateChanges.getFirst().singletonUpdate().stringValue());
+        final var superseded = listener.takeSupersededChanges();
+        assertEquals(1, superseded.size());
+        assertEquals(PROTO_STRING.value(), superseded.getFirst().get().singletonUpdate().stringValue());
+        assertTrue(listener.takeSupersededChanges().isEmpty());
+    }
 }
@@ -29,10 +29,12 @@ import com.hedera.node.config.VersionedConfiguration;
 import com.hedera.node.config.data.BlockStreamConfig;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.state.lifecycle.info.NodeInfo;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.List;
 import java.util.zip.GZIPInputStream;
 import org.junit.jupiter.api.Test;
@@ -170,6 +172,47 @@ public class FileBlockItemWriterTest {
         }
     }
 
+    @Test
+    public void testWriteItemsCompressedInParallel() throws IOException {
+        when(configProvider.getConfiguration()).thenReturn(versionedConfiguration);
+        when(versionedConfiguration.getConfigData(BlockStreamConfig.class)).thenReturn(blockStreamConfig);
+        when(blockStreamConfig.compressFilesOnCreation()).thenReturn(true);
+        when(blockStreamConfig.compressionParallelism()).thenReturn(4);
+        when(blockStreamConfig.blockFileDir()).thenReturn("N/A");
+        when(fileSystem.getPath(anyString())).thenReturn(tempDir);
+
+        final var compressionExecutor = FileBlockItemWriter.newCompressionExecutor(4);
+        final var expected = new ByteArrayOutputStream();
+        try {
+            FileBlockItemWriter fileBlockItemWriter =
+                    new FileBlockItemWriter(configProvider, selfNodeInfo, fileSystem, compressionExecutor);
+
+            // Open a block
+            fileBlockItemWriter.openBlock(1);
+
+            // Write enough items to span several compressed chunks
+            final var bytes = new byte[100];
+            for (int i = 0; i < 3 * ParallelGzipOutputStream.CHUNK_SIZE / bytes.length; i++) {
+                Arrays.fill(bytes, (byte) i);
+                fileBlockItemWriter.writeItem(bytes);
+                expected.write(new byte[] {10, 100});
+                expected.write(bytes);
+            }
+
+            // Close the block
+            fileBlockItemWriter.closeBlock();
+        } finally {
+            compressionExecutor.shutdownNow();
+        }
+
+        // Ungzip the file
+        Path expectedBlockFile = tempDir.resolve("block-0.0.3").resolve("000000000000000000000000000000000001.blk.gz");
+        try (GZIPInputStream gzis = new GZIPInputStream(Files.newInputStream(expectedBlockFile))) {
+            assertArrayEquals(
+                    expected.toByteArray(), gzis.readAllBytes(), "Serialized items were not written correctly");
+        }
+    }
+
     @Test
     public void testWriteItemBeforeOpen() {
         when(configProvider.getConfiguration()).thenReturn(versionedConfiguration);
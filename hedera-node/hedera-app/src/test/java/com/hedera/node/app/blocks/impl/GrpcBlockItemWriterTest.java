@@ -18,15 +18,24 @@ package com.hedera.node.app.blocks.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.Mockito.when;
-
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.hedera.hapi.block.PublishStreamRequest;
 import com.hedera.hapi.block.stream.BlockItem;
 import com.hedera.hapi.block.stream.BlockProof;
-import com.hedera.node.config.data.BlockStreamConfig;
+import com.hedera.pbj.runtime.ParseException;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -34,40 +43,29 @@ import org.mockito.junit.jupiter.MockitoExtension;
 public class GrpcBlockItemWriterTest {
 
     @Mock
-    private BlockStreamConfig blockStreamConfig;
+    private GrpcBlockStreamPublisher publisher;
 
     @Test
     public void testGrpcBlockItemWriterConstructor() {
-        when(blockStreamConfig.grpcAddress()).thenReturn("localhost");
-        when(blockStreamConfig.grpcPort()).thenReturn(8080);
-
-        final GrpcBlockItemWriter grpcBlockItemWriter = new GrpcBlockItemWriter(blockStreamConfig);
+        final GrpcBlockItemWriter grpcBlockItemWriter = new GrpcBlockItemWriter(publisher, 1024);
         assertThat(grpcBlockItemWriter).isNotNull();
+        assertThatThrownBy(() -> new GrpcBlockItemWriter(publisher, 0)).isInstanceOf(IllegalArgumentException.class);
     }
 
     @Test
     public void testOpenBlockNegativeBlockNumber() {
-        when(blockStreamConfig.grpcAddress()).thenReturn("localhost");
-        when(blockStreamConfig.grpcPort()).thenReturn(8080);
-
-        GrpcBlockItemWriter grpcBlockItemWriter = new GrpcBlockItemWriter(blockStreamConfig);
+        GrpcBlockItemWriter grpcBlockItemWriter = new GrpcBlockItemWriter(publisher, 1024);
 
         assertThatThrownBy(() -> grpcBlockItemWriter.openBlock(-1), "Block number must be non-negative")
                 .isInstanceOf(IllegalArgumentException.class);
+        verify(publisher, never()).beginBlock(-1);
     }
 
     @Test
     public void testWriteItemBeforeOpen() {
-        when(blockStreamConfig.grpcAddress()).thenReturn("localhost");
-        when(blockStreamConfig.grpcPort()).thenReturn(8080);
+        GrpcBlockItemWriter grpcBlockItemWriter = new GrpcBlockItemWriter(publisher, 1024);
 
-        GrpcBlockItemWriter grpcBlockItemWriter = new GrpcBlockItemWriter(blockStreamConfig);
-
-        // Create BlockProof as easiest way to build object from BlockStreams
-        Bytes bytes = Bytes.wrap(new byte[] {1, 2, 3, 4, 5});
-        final var proof = new BlockProof.Builder().blockSignature(bytes).siblingHashes(new ArrayList<>());
-        final var blockProof = BlockItem.PROTOBUF.toBytes(
-                BlockItem.newBuilder().blockProof(proof).build());
+        final var blockProof = proofItem(1);
 
         assertThatThrownBy(
                         () -> grpcBlockItemWriter.writePbjItem(blockProof), "Cannot write item before opening a block")
@@ -76,12 +74,60 @@ public class GrpcBlockItemWriterTest {
 
     @Test
     public void testCloseBlockNotOpen() {
-        when(blockStreamConfig.grpcAddress()).thenReturn("localhost");
-        when(blockStreamConfig.grpcPort()).thenReturn(8080);
-
-        GrpcBlockItemWriter grpcBlockItemWriter = new GrpcBlockItemWriter(blockStreamConfig);
+        GrpcBlockItemWriter grpcBlockItemWriter = new GrpcBlockItemWriter(publisher, 1024);
 
         assertThatThrownBy(grpcBlockItemWriter::closeBlock, "Cannot close a GrpcBlockItemWriter that is not open")
                 .isInstanceOf(IllegalStateException.class);
     }
+
+    @Test
+    public void testItemsAreBatchedIntoRequests() throws ParseException {
+        final var item = proofItem(1);
+        // Room for two items per request
+        final var grpcBlockItemWriter = new GrpcBlockItemWriter(publisher, 2 * ((int) item.length() + 2));
+
+        grpcBlockItemWriter.openBlock(1);
+        grpcBlockItemWriter.writePbjItem(item);
+        grpcBlockItemWriter.writePbjItem(item);
+        grpcBlockItemWriter.writePbjItem(item);
+        grpcBlockItemWriter.closeBlock();
+
+        final var requests = ArgumentCaptor.forClass(byte[].class);
+        final var inOrder = inOrder(publisher);
+        inOrder.verify(publisher).beginBlock(1);
+        inOrder.verify(publisher, times(2)).append(eq(1L), requests.capture());
+        inOrder.verify(publisher).endBlock(1);
+        final List<Integer> itemsPerRequest = new ArrayList<>();
+        for (final var request : requests.getAllValues()) {
+            final var items = PublishStreamRequest.PROTOBUF
+                    .parse(Bytes.wrap(request))
+                    .blockItemsOrThrow()
+                    .blockItems();
+            items.forEach(parsed -> assertThat(BlockItem.PROTOBUF.toBytes(parsed)).isEqualTo(item));
+            itemsPerRequest.add(items.size());
+        }
+        assertThat(itemsPerRequest).containsExactly(2, 1);
+        assertThat(grpcBlockItemWriter.getState()).isEqualTo(GrpcBlockItemWriter.State.CLOSED);
+    }
+
+    @Test
+    public void testEmptyBlockSendsNoRequests() {
+        final var grpcBlockItemWriter = new GrpcBlockItemWriter(publisher, 1024);
+
+        grpcBlockItemWriter.openBlock(2);
+        grpcBlockItemWriter.closeBlock();
+
+        verify(publisher, never()).append(anyLong(), any());
+        verify(publisher).endBlock(2);
+    }
+
+    private static Bytes proofItem(final long blockNumber) {
+        // Create BlockProof as easiest way to build object from BlockStreams
+        Bytes bytes = Bytes.wrap(new byte[] {1, 2, 3, 4, 5});
+        final var proof = new BlockProof.Builder()
+                .block(blockNumber)
+                .blockSignature(bytes)
+                .siblingHashes(new ArrayList<>());
+        return BlockItem.PROTOBUF.toBytes(BlockItem.newBuilder().blockProof(proof).build());
+    }
 }
@@ -0,0 +1,251 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.blocks.impl;
+
+import static com.hedera.node.app.blocks.impl.GrpcBlockStreamPublisher.PUBLISH_BLOCK_STREAM;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import com.hedera.hapi.block.protoc.BlockStreamServiceGrpc;
+import com.hedera.hapi.block.protoc.PublishStreamResponse;
+import com.hedera.hapi.block.protoc.PublishStreamResponse.Acknowledgement;
+import com.hedera.hapi.block.protoc.PublishStreamResponse.BlockAcknowledgement;
+import com.hedera.node.config.data.BlockStreamConfig;
+import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.common.metrics.noop.NoOpMetrics;
+import io.grpc.Server;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.Status;
+import io.grpc.netty.NettyServerBuilder;
+import io.grpc.stub.ServerCalls;
+import io.grpc.stub.StreamObserver;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class GrpcBlockStreamPublisherTest {
+    private static final long ACK_TIMEOUT_MS = 500;
+    private static final long NO_ACK_TIMEOUT_MS = 60_000;
+    private static final Duration AWAIT_TIMEOUT = Duration.ofSeconds(10);
+
+    private FakeBlockNode blockNode;
+    private GrpcBlockStreamPublisher subject;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        blockNode = new FakeBlockNode();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (subject != null) {
+            subject.close();
+        }
+        blockNode.close();
+    }
+
+    @Test
+    void beginBlockWaitsForAcknowledgement() {
+        subject = publisher(1, NO_ACK_TIMEOUT_MS);
+        subject.beginBlock(1);
+        subject.append(1, request(1, 0));
+        subject.endBlock(1);
+        await().atMost(AWAIT_TIMEOUT).until(() -> blockNode.requests(0).size() == 1);
+
+        final var started = CompletableFuture.runAsync(() -> subject.beginBlock(2));
+        await().during(Duration.ofMillis(200)).atMost(AWAIT_TIMEOUT).until(() -> !started.isDone());
+
+        blockNode.acknowledge(1);
+        await().atMost(AWAIT_TIMEOUT).until(started::isDone);
+        assertThat(started).isCompleted();
+        assertThat(subject.unackedBlocks()).isEqualTo(1);
+    }
+
+    @Test
+    void unacknowledgedBlocksAreReplayedAfterError() {
+        subject = publisher(8, NO_ACK_TIMEOUT_MS);
+        subject.beginBlock(1);
+        subject.append(1, request(1, 0));
+        subject.append(1, request(1, 1));
+        subject.endBlock(1);
+        subject.beginBlock(2);
+        subject.append(2, request(2, 0));
+        await().atMost(AWAIT_TIMEOUT).until(() -> blockNode.requests(0).size() == 3);
+
+        blockNode.failCall();
+        await().atMost(AWAIT_TIMEOUT).until(() -> blockNode.requests(1).size() == 3);
+        assertThat(blockNode.requests(1)).containsExactlyElementsOf(blockNode.requests(0));
+
+        blockNode.acknowledge(1);
+        await().atMost(AWAIT_TIMEOUT).until(() -> subject.unackedBlocks() == 1);
+    }
+
+    @Test
+    void timedOutBlocksAreDroppedWithoutWaitingAgainUntilAcknowledged() {
+        subject = publisher(1, ACK_TIMEOUT_MS);
+        subject.beginBlock(1);
+        subject.append(1, request(1, 0));
+        subject.endBlock(1);
+        await().atMost(AWAIT_TIMEOUT).until(() -> blockNode.requests(0).size() == 1);
+
+        long start = System.nanoTime();
+        subject.beginBlock(2);
+        assertThat(elapsedMs(start)).isGreaterThanOrEqualTo(ACK_TIMEOUT_MS / 2);
+        assertThat(subject.unackedBlocks()).isEqualTo(1);
+        subject.endBlock(2);
+
+        // Degraded, so the next block does not wait for the timeout again
+        start = System.nanoTime();
+        subject.beginBlock(3);
+        assertThat(elapsedMs(start)).isLessThan(ACK_TIMEOUT_MS / 2);
+        subject.endBlock(3);
+
+        // Block 1 was sent in full before it was dropped, so the call was kept
+        blockNode.acknowledge(3);
+        await().atMost(AWAIT_TIMEOUT).until(() -> subject.unackedBlocks() == 0);
+        assertThat(blockNode.calls()).isEqualTo(1);
+
+        // Once the block node acknowledges a block again, new blocks wait for acknowledgements again
+        subject.beginBlock(4);
+        subject.endBlock(4);
+        final var started = CompletableFuture.runAsync(() -> subject.beginBlock(5));
+        await().during(Duration.ofMillis(ACK_TIMEOUT_MS / 2))
+                .atMost(AWAIT_TIMEOUT)
+                .until(() -> !started.isDone());
+        blockNode.acknowledge(4);
+        await().atMost(AWAIT_TIMEOUT).until(started::isDone);
+        assertThat(started).isCompleted();
+    }
+
+    @Test
+    void droppingPartlySentBlockStartsNewCallFromNextBlock() {
+        subject = publisher(1, ACK_TIMEOUT_MS);
+        subject.beginBlock(1);
+        subject.append(1, request(1, 0));
+        await().atMost(AWAIT_TIMEOUT).until(() -> blockNode.requests(0).size() == 1);
+
+        // Block 1 is never closed, so it times out after the block node received part of it
+        subject.beginBlock(2);
+        subject.append(2, request(2, 0));
+        subject.endBlock(2);
+
+        await().atMost(AWAIT_TIMEOUT).until(() -> blockNode.requests(1).size() == 1);
+        assertThat(blockNode.requests(1)).containsExactly(Bytes.wrap(request(2, 0)));
+        assertThat(subject.unackedBlocks()).isEqualTo(1);
+    }
+
+    private GrpcBlockStreamPublisher publisher(final int maxUnackedBlocks, final long ackTimeoutMs) {
+        final var config = HederaTestConfigBuilder.create()
+                .withValue("blockStream.grpcAddress", "localhost")
+                .withValue("blockStream.grpcPort", blockNode.port())
+                .withValue("blockStream.grpcMaxUnackedBlocks", maxUnackedBlocks)
+                .withValue("blockStream.grpcReconnectDelayMs", 10L)
+                .withValue("blockStream.grpcAckTimeoutMs", ackTimeoutMs)
+                .getOrCreateConfig();
+        return new GrpcBlockStreamPublisher(config.getConfigData(BlockStreamConfig.class), new NoOpMetrics());
+    }
+
+    private static byte[] request(final long blockNumber, final int index) {
+        return new byte[] {(byte) blockNumber, (byte) index};
+    }
+
+    private static long elapsedMs(final long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * A block node that records the requests of each call, and only acknowledges blocks or fails a call when told.
+     */
+    private static class FakeBlockNode implements AutoCloseable {
+        private final Server server;
+        private final List<List<Bytes>> calls = new CopyOnWriteArrayList<>();
+        private StreamObserver<PublishStreamResponse> responses;
+
+        private FakeBlockNode() throws IOException {
+            server = NettyServerBuilder.forPort(0)
+                    .addService(ServerServiceDefinition.builder(BlockStreamServiceGrpc.SERVICE_NAME)
+                            .addMethod(
+                                    PUBLISH_BLOCK_STREAM, ServerCalls.asyncBidiStreamingCall(this::publishBlockStream))
+                            .build())
+                    .build()
+                    .start();
+        }
+
+        private int port() {
+            return server.getPort();
+        }
+
+        private int calls() {
+            return calls.size();
+        }
+
+        /**
+         * Returns the requests received on a call, or none if the call has not started yet.
+         */
+        private List<Bytes> requests(final int call) {
+            return call < calls.size() ? List.copyOf(calls.get(call)) : List.of();
+        }
+
+        private synchronized void acknowledge(final long blockNumber) {
+            responses.onNext(PublishStreamResponse.newBuilder()
+                    .setAcknowledgement(Acknowledgement.newBuilder()
+                            .setBlockAck(BlockAcknowledgement.newBuilder().setBlockNumber(blockNumber)))
+                    .build());
+        }
+
+        private synchronized void failCall() {
+            responses.onError(Status.UNAVAILABLE.asRuntimeException());
+        }
+
+        @Override
+        public void close() throws InterruptedException {
+            server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        }
+
+        private synchronized StreamObserver<byte[]> publishBlockStream(
+                final StreamObserver<PublishStreamResponse> responses) {
+            final List<Bytes> requests = new CopyOnWriteArrayList<>();
+            calls.add(requests);
+            this.responses = responses;
+            return new StreamObserver<>() {
+                @Override
+                public void onNext(final byte[] request) {
+                    requests.add(Bytes.wrap(request));
+                }
+
+                @Override
+                public void onError(final Throwable t) {
+                    // The publisher cancels calls on its own
+                }
+
+                @Override
+                public void onCompleted() {
+                    synchronized (FakeBlockNode.this) {
+                        responses.onCompleted();
+                    }
+                }
+            };
+        }
+    }
+}
@@ -25,6 +25,7 @@ import com.hedera.hapi.block.stream.output.StateChange;
 import com.hedera.hapi.node.base.AccountID;
 import com.hedera.hapi.node.state.token.Account;
 import java.util.List;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -76,4 +77,43 @@ class KVStateChangeListenerTest {
         assertEquals(STATE_ID, stateChange.stateId());
         assertEquals(KEY, stateChange.mapDelete().key().accountIdKey());
     }
+
+    @Test
+    void onlyLastChangeToEachKeyIsReported() {
+        final var otherKey = AccountID.newBuilder().accountNum(5678).build();
+        final var newValue = VALUE.copyBuilder().tinybarBalance(1).build();
+        listener.mapUpdateChange(STATE_ID, KEY, VALUE);
+        listener.mapUpdateChange(STATE_ID, otherKey, VALUE);
+        listener.mapUpdateChange(STATE_ID, KEY, newValue);
+        listener.mapDeleteChange(STATE_ID, otherKey);
+
+        final var stateChanges = listener.getStateChanges();
+        assertEquals(2, stateChanges.size());
+        assertEquals(newValue, stateChanges.get(0).mapUpdate().value().accountValue());
+        assertEquals(otherKey, stateChanges.get(1).mapDelete().key().accountIdKey());
+    }
+
+    @Test
+    void changesToSameKeyInDifferentStatesAreNotCoalesced() {
+        listener.mapUpdateChange(STATE_ID, KEY, VALUE);
+        listener.mapUpdateChange(STATE_ID + 1, KEY, VALUE);
+
+        assertEquals(2, listener.getStateChanges().size());
+        assertTrue(listener.takeSupersededChanges().isEmpty());
+    }
+
+    @Test
+    void supersededChangesAreTakenOnce() {
+        listener.mapUpdateChange(STATE_ID, KEY, VALUE);
+        listener.mapDeleteChange(STATE_ID, KEY);
+        listener.reset();
+        listener.mapUpdateChange(STATE_ID, KEY, VALUE);
+
+        final List<Supplier<StateChange>> superseded = listener.takeSupersededChanges();
+        assertEquals(1, superseded.size());
+        final var stateChange = superseded.getFirst().get();
+        assertEquals(MAP_UPDATE, stateChange.changeOperation().kind());
+        assertEquals(VALUE, stateChange.mapUpdate().value().accountValue());
+        assertTrue(listener.takeSupersededChanges().isEmpty());
+    }
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.blocks.impl;
+
+import static com.hedera.node.app.blocks.impl.ParallelGzipOutputStream.CHUNK_SIZE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ParallelGzipOutputStreamTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, CHUNK_SIZE - 1, CHUNK_SIZE, CHUNK_SIZE + 1, 5 * CHUNK_SIZE + 17})
+    void roundTripsThroughGzipInputStream(final int length) throws IOException {
+        final var data = compressibleData(length);
+
+        final var compressed = parallelGzip(data, 3);
+
+        assertThat(gunzip(compressed)).isEqualTo(data);
+    }
+
+    @Test
+    void singleByteWritesRoundTrip() throws IOException {
+        final var data = compressibleData(2 * CHUNK_SIZE + 5);
+        final var out = new ByteArrayOutputStream();
+        try (final var subject = new ParallelGzipOutputStream(out, ForkJoinPool.commonPool(), 2)) {
+            for (final byte b : data) {
+                subject.write(b);
+            }
+        }
+
+        assertThat(gunzip(out.toByteArray())).isEqualTo(data);
+    }
+
+    @Test
+    void compressesAboutAsWellAsGzipOutputStream() throws IOException {
+        final var data = compressibleData(8 * CHUNK_SIZE);
+        final var gzipped = new ByteArrayOutputStream();
+        try (final var out = new GZIPOutputStream(gzipped)) {
+            out.write(data);
+        }
+
+        final var compressed = parallelGzip(data, 4);
+
+        assertThat(compressed.length).isLessThanOrEqualTo(gzipped.size() + gzipped.size() / 20);
+    }
+
+    @Test
+    void writesAfterCloseAreRejected() throws IOException {
+        final var subject = new ParallelGzipOutputStream(new ByteArrayOutputStream(), ForkJoinPool.commonPool(), 2);
+        subject.close();
+        // Closing twice has no effect
+        subject.close();
+
+        assertThatThrownBy(() -> subject.write(1)).isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> subject.write(new byte[1])).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void parallelismMustBePositive() {
+        final var out = new ByteArrayOutputStream();
+        final var executor = ForkJoinPool.commonPool();
+
+        assertThatThrownBy(() -> new ParallelGzipOutputStream(out, executor, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static byte[] parallelGzip(final byte[] data, final int parallelism) throws IOException {
+        final var out = new ByteArrayOutputStream();
+        try (final var subject = new ParallelGzipOutputStream(out, ForkJoinPool.commonPool(), parallelism)) {
+            // Write in odd-sized pieces so writes straddle chunk boundaries
+            for (int i = 0; i < data.length; i += 10_007) {
+                subject.write(data, i, Math.min(10_007, data.length - i));
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] gunzip(final byte[] compressed) throws IOException {
+        try (final var in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static byte[] compressibleData(final int length) {
+        final var random = new Random(length);
+        final var words = new String[] {"block", "item", "event", "transaction", "result", "state", "changes"};
+        final var data = new byte[length];
+        int i = 0;
+        while (i < length) {
+            final var word = words[random.nextInt(words.length)].getBytes();
+            for (int j = 0; j < word.length && i < length; j++) {
+                data[i++] = word[j];
+            }
+            if (i < length) {
+                data[i++] = (byte) random.nextInt(256);
+            }
+        }
+        return data;
+    }
+}
@@ -16,6 +16,7 @@
 
 package com.hedera.node.app.fees;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
@@ -31,9 +32,12 @@ import com.hedera.node.app.fixtures.state.FakeState;
 import com.hedera.node.app.store.ReadableStoreFactory;
 import com.hedera.node.app.workflows.TransactionInfo;
 import com.hedera.pbj.runtime.OneOf;
+import java.nio.charset.StandardCharsets;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -112,4 +116,10 @@ public class FeeCalculatorImplTest {
         calculator.getCongestionMultiplier();
         verify(congestionMultipliers).maxCurrentMultiplier(any(TransactionInfo.class), eq(storeFactory));
     }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "memo", "caf\u00e9", "\u65e5\u672c", "\ud83d\ude00!", "\ud800", "x\udc00\ud800"})
+    void utf8LengthMatchesEncodedLength(final String memo) {
+        assertEquals(memo.getBytes(StandardCharsets.UTF_8).length, FeeCalculatorImpl.utf8Length(memo));
+    }
 }
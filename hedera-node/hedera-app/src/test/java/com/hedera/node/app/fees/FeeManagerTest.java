@@ -0,0 +1,182 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.fees;
+
+import static com.hedera.hapi.node.base.HederaFunctionality.CRYPTO_TRANSFER;
+import static com.hedera.hapi.node.base.HederaFunctionality.TOKEN_MINT;
+import static com.hedera.hapi.node.base.ResponseCodeEnum.SUCCESS;
+import static com.hedera.node.app.hapi.utils.CommonPbjConverters.fromPbj;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.hedera.hapi.node.base.CurrentAndNextFeeSchedule;
+import com.hedera.hapi.node.base.FeeComponents;
+import com.hedera.hapi.node.base.FeeData;
+import com.hedera.hapi.node.base.FeeSchedule;
+import com.hedera.hapi.node.base.SubType;
+import com.hedera.hapi.node.base.TimestampSeconds;
+import com.hedera.hapi.node.base.TransactionFeeSchedule;
+import com.hedera.hapi.node.transaction.ExchangeRate;
+import com.hedera.node.app.fees.congestion.CongestionMultipliers;
+import com.hedera.node.app.fixtures.state.FakeState;
+import com.hedera.node.app.store.ReadableStoreFactory;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class FeeManagerTest {
+    private static final long EXPIRY_SECONDS = 1_000L;
+    private static final Instant BEFORE_EXPIRY = Instant.ofEpochSecond(EXPIRY_SECONDS - 1);
+    private static final Instant AFTER_EXPIRY = Instant.ofEpochSecond(EXPIRY_SECONDS + 1);
+
+    @Mock
+    private ExchangeRateManager exchangeRateManager;
+
+    @Mock
+    private CongestionMultipliers congestionMultipliers;
+
+    private final ReadableStoreFactory storeFactory = new ReadableStoreFactory(new FakeState());
+
+    private FeeManager subject;
+
+    @BeforeEach
+    void setUp() {
+        subject = new FeeManager(exchangeRateManager, congestionMultipliers);
+    }
+
+    @Test
+    void looksUpFeeDataByFunctionalityAndSubType() {
+        final var schedule = FeeSchedule.newBuilder()
+                .transactionFeeSchedule(
+                        TransactionFeeSchedule.newBuilder()
+                                .hederaFunctionality(TOKEN_MINT)
+                                .fees(
+                                        feeData(1, SubType.TOKEN_FUNGIBLE_COMMON),
+                                        feeData(2, SubType.TOKEN_NON_FUNGIBLE_UNIQUE))
+                                .build(),
+                        TransactionFeeSchedule.newBuilder()
+                                .hederaFunctionality(CRYPTO_TRANSFER)
+                                .feeData(feeData(3, SubType.DEFAULT))
+                                .build())
+                .expiryTime(TimestampSeconds.newBuilder().seconds(EXPIRY_SECONDS))
+                .build();
+
+        assertThat(subject.update(schedules(schedule, null))).isEqualTo(SUCCESS);
+
+        assertThat(constantOf(subject.getFeeData(TOKEN_MINT, BEFORE_EXPIRY, SubType.TOKEN_FUNGIBLE_COMMON)))
+                .isEqualTo(1);
+        assertThat(constantOf(subject.getFeeData(TOKEN_MINT, BEFORE_EXPIRY, SubType.TOKEN_NON_FUNGIBLE_UNIQUE)))
+                .isEqualTo(2);
+        assertThat(constantOf(subject.getFeeData(CRYPTO_TRANSFER, BEFORE_EXPIRY, SubType.DEFAULT)))
+                .isEqualTo(3);
+        // Without a next schedule, the current one is still used after it expires
+        assertThat(constantOf(subject.getFeeData(CRYPTO_TRANSFER, AFTER_EXPIRY, SubType.DEFAULT)))
+                .isEqualTo(3);
+    }
+
+    @Test
+    void fallsBackToDefaultFeeDataForUnpricedEntries() {
+        subject.update(schedules(scheduleWithPrice(3), null));
+
+        final var unpricedSubType = subject.getFeeData(CRYPTO_TRANSFER, BEFORE_EXPIRY, SubType.TOKEN_FUNGIBLE_COMMON);
+        final var unpricedFunction = subject.getFeeData(TOKEN_MINT, BEFORE_EXPIRY, SubType.DEFAULT);
+
+        assertThat(unpricedSubType).isSameAs(unpricedFunction);
+        assertThat(constantOf(unpricedSubType)).isEqualTo(100_000L);
+    }
+
+    @Test
+    void switchesToNextScheduleAfterCurrentExpires() {
+        final var current = scheduleWithPrice(3);
+        final var next = FeeSchedule.newBuilder()
+                .transactionFeeSchedule(TransactionFeeSchedule.newBuilder()
+                        .hederaFunctionality(CRYPTO_TRANSFER)
+                        .feeData(feeData(4, SubType.DEFAULT))
+                        .build())
+                .build();
+        subject.update(schedules(current, next));
+
+        assertThat(constantOf(subject.getFeeData(CRYPTO_TRANSFER, BEFORE_EXPIRY, SubType.DEFAULT)))
+                .isEqualTo(3);
+        assertThat(constantOf(subject.getFeeData(CRYPTO_TRANSFER, AFTER_EXPIRY, SubType.DEFAULT)))
+                .isEqualTo(4);
+    }
+
+    @Test
+    void calculatorsSeeScheduleAndRateUpdates() {
+        given(exchangeRateManager.activeRate(BEFORE_EXPIRY)).willReturn(rate(12), rate(12), rate(24));
+
+        subject.update(schedules(scheduleWithPrice(3_000), null));
+        final var initial = queryFee();
+        subject.update(schedules(scheduleWithPrice(30_000), null));
+        final var afterScheduleUpdate = queryFee();
+        final var afterRateUpdate = queryFee();
+
+        assertThat(afterScheduleUpdate).isEqualTo(10 * initial);
+        assertThat(afterRateUpdate).isEqualTo(2 * afterScheduleUpdate);
+    }
+
+    private long queryFee() {
+        return subject.createFeeCalculator(CRYPTO_TRANSFER, BEFORE_EXPIRY, storeFactory)
+                .legacyCalculate(sigValueObj -> fromPbj(feeData(1, SubType.DEFAULT)))
+                .totalFee();
+    }
+
+    private static ExchangeRate rate(final int hbarEquiv) {
+        return ExchangeRate.newBuilder().hbarEquiv(hbarEquiv).centEquiv(1).build();
+    }
+
+    private static FeeSchedule scheduleWithPrice(final long constant) {
+        return FeeSchedule.newBuilder()
+                .transactionFeeSchedule(TransactionFeeSchedule.newBuilder()
+                        .hederaFunctionality(CRYPTO_TRANSFER)
+                        .feeData(feeData(constant, SubType.DEFAULT))
+                        .build())
+                .expiryTime(TimestampSeconds.newBuilder().seconds(EXPIRY_SECONDS))
+                .build();
+    }
+
+    private static Bytes schedules(final FeeSchedule current, final FeeSchedule next) {
+        return CurrentAndNextFeeSchedule.PROTOBUF.toBytes(CurrentAndNextFeeSchedule.newBuilder()
+                .currentFeeSchedule(current)
+                .nextFeeSchedule(next)
+                .build());
+    }
+
+    private static FeeData feeData(final long constant, final SubType subType) {
+        final var components = FeeComponents.newBuilder()
+                .constant(constant)
+                .min(constant)
+                .max(Long.MAX_VALUE)
+                .build();
+        return FeeData.newBuilder()
+                .nodedata(components)
+                .networkdata(components)
+                .servicedata(components)
+                .subType(subType)
+                .build();
+    }
+
+    private static long constantOf(final FeeData feeData) {
+        return feeData.nodedataOrThrow().min();
+    }
+}
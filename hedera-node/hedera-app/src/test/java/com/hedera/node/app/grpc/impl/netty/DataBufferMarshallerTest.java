@@ -36,7 +36,8 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mockito;
 
 final class DataBufferMarshallerTest {
-    private final DataBufferMarshaller marshaller = new DataBufferMarshaller();
+    private final DataBufferMarshaller marshaller = new DataBufferMarshaller(false);
+    private final DataBufferMarshaller zeroCopyMarshaller = new DataBufferMarshaller(true);
 
     @Test
     void nullBufferThrows() {
@@ -158,4 +159,48 @@ final class DataBufferMarshallerTest {
             }
         }
     }
+
+    @Test
+    @DisplayName("Without zero-copy, requests are parsed into a reused buffer")
+    void parseReusesBuffer() {
+        final var first = marshaller.parse(new ByteArrayInputStream(TestUtils.randomBytes(100)));
+        final var second = marshaller.parse(new ByteArrayInputStream(TestUtils.randomBytes(100)));
+        assertSame(first, second);
+    }
+
+    @Test
+    @DisplayName("With zero-copy, requests of known length are parsed into their own buffers")
+    void zeroCopyParseKnownLengthStream() {
+        final var arr = TestUtils.randomBytes(100);
+        final var buf = zeroCopyMarshaller.parse(marshaller.stream(BufferedData.wrap(arr)));
+        final var other = zeroCopyMarshaller.parse(marshaller.stream(BufferedData.wrap(TestUtils.randomBytes(100))));
+
+        assertNotSame(buf, other);
+        assertEquals(arr.length, buf.remaining());
+        for (byte b : arr) {
+            assertEquals(b, buf.readByte());
+        }
+    }
+
+    @Test
+    @DisplayName("With zero-copy, requests of unknown length are copied into their own buffers")
+    void zeroCopyParseUnknownLengthStream() {
+        final var arr = TestUtils.randomBytes(100);
+        final var buf = zeroCopyMarshaller.parse(new ByteArrayInputStream(arr));
+        final var other = zeroCopyMarshaller.parse(new ByteArrayInputStream(TestUtils.randomBytes(100)));
+
+        assertNotSame(buf, other);
+        assertEquals(arr.length, buf.remaining());
+        for (byte b : arr) {
+            assertEquals(b, buf.readByte());
+        }
+    }
+
+    @Test
+    @DisplayName("With zero-copy, at most one byte more than the max message size is read")
+    void zeroCopyParseStreamThatIsTooBig() {
+        final var arr = TestUtils.randomBytes(1024 * 1024);
+        final var buf = zeroCopyMarshaller.parse(marshaller.stream(BufferedData.wrap(arr)));
+        assertThat(buf.length()).isEqualTo(Hedera.MAX_SIGNED_TXN_SIZE + 1);
+    }
 }
@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.workflows;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.HederaFunctionality;
+import com.hedera.hapi.node.base.SignatureMap;
+import com.hedera.hapi.node.base.Transaction;
+import com.hedera.hapi.node.base.TransactionID;
+import com.hedera.hapi.node.transaction.TransactionBody;
+import com.hedera.node.app.fixtures.AppTestBase;
+import com.hedera.node.config.ConfigProvider;
+import com.hedera.node.config.VersionedConfigImpl;
+import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+final class SubmittedTransactionCacheTest extends AppTestBase {
+    private SubmittedTransactionCache subject;
+
+    @BeforeEach
+    void setUp() {
+        final ConfigProvider configProvider = () -> new VersionedConfigImpl(
+                HederaTestConfigBuilder.create()
+                        .withValue("cache.submittedTxnInfo.maxEntries", 2)
+                        .getOrCreateConfig(),
+                1);
+        subject = new SubmittedTransactionCache(configProvider, metrics);
+    }
+
+    @Test
+    @DisplayName("Null args are not permitted")
+    @SuppressWarnings("DataFlowIssue")
+    void nullArgsThrow() {
+        assertThatThrownBy(() -> new SubmittedTransactionCache(null, metrics)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> subject.put(null, txInfo(1))).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> subject.put(Bytes.wrap(new byte[] {1}), null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> subject.take(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    @DisplayName("A cached transaction is taken exactly once, with its serialized bytes")
+    void takesCachedTransactionOnce() {
+        final var bytes = Bytes.wrap(new byte[] {1, 2, 3});
+        final var txInfo = txInfo(1);
+        subject.put(bytes, txInfo);
+
+        final var taken = subject.take(Bytes.wrap(new byte[] {1, 2, 3}));
+
+        assertThat(taken).isNotNull();
+        assertThat(taken.txBody()).isSameAs(txInfo.txBody());
+        assertThat(taken.serializedTransaction()).isEqualTo(bytes);
+        assertThat(subject.take(bytes)).isNull();
+    }
+
+    @Test
+    @DisplayName("Removed transactions are not taken")
+    void removedTransactionIsNotTaken() {
+        final var bytes = Bytes.wrap(new byte[] {1});
+        subject.put(bytes, txInfo(1));
+
+        subject.remove(bytes);
+
+        assertThat(subject.take(bytes)).isNull();
+    }
+
+    @Test
+    @DisplayName("The oldest transactions are evicted when the cache is full")
+    void evictsOldestTransactions() {
+        final var first = Bytes.wrap(new byte[] {1});
+        final var second = Bytes.wrap(new byte[] {2});
+        final var third = Bytes.wrap(new byte[] {3});
+        subject.put(first, txInfo(1));
+        subject.put(second, txInfo(2));
+        subject.put(third, txInfo(3));
+
+        assertThat(subject.take(first)).isNull();
+        assertThat(subject.take(second)).isNotNull();
+        assertThat(subject.take(third)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Taken transactions do not count towards the cache size")
+    void takenTransactionsFreeTheirEntries() {
+        final var first = Bytes.wrap(new byte[] {1});
+        final var second = Bytes.wrap(new byte[] {2});
+        subject.put(first, txInfo(1));
+        assertThat(subject.take(first)).isNotNull();
+
+        subject.put(first, txInfo(1));
+        subject.put(second, txInfo(2));
+
+        assertThat(subject.take(first)).isNotNull();
+        assertThat(subject.take(second)).isNotNull();
+    }
+
+    private static TransactionInfo txInfo(final long payerNum) {
+        final var payer = AccountID.newBuilder().accountNum(payerNum).build();
+        final var txBody = TransactionBody.newBuilder()
+                .transactionID(TransactionID.newBuilder().accountID(payer).build())
+                .build();
+        return new TransactionInfo(
+                Transaction.DEFAULT,
+                txBody,
+                SignatureMap.DEFAULT,
+                Bytes.EMPTY,
+                HederaFunctionality.CRYPTO_TRANSFER,
+                null);
+    }
+}
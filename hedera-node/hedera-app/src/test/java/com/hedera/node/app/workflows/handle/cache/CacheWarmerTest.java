@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.hedera.node.app.workflows.TransactionChecker;
 import com.hedera.node.app.workflows.dispatcher.TransactionDispatcher;
+import com.hedera.node.config.ConfigProvider;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -35,10 +36,13 @@ class CacheWarmerTest {
     @Mock
     TransactionDispatcher dispatcher;
 
+    @Mock
+    ConfigProvider configProvider;
+
     @Test
     @DisplayName("Instantiation test")
     void testInstantiation() {
-        final var cacheWarmer = new CacheWarmer(checker, dispatcher, Runnable::run);
+        final var cacheWarmer = new CacheWarmer(checker, dispatcher, Runnable::run, configProvider);
         assertThat(cacheWarmer).isInstanceOf(CacheWarmer.class);
     }
 }
@@ -21,9 +21,14 @@ import static com.hedera.node.app.records.RecordTestData.TEST_BLOCKS;
 import static com.hedera.node.app.records.RecordTestData.VERSION;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.hedera.hapi.node.base.Transaction;
+import com.hedera.hapi.node.transaction.TransactionRecord;
 import com.hedera.hapi.streams.RecordStreamItem;
 import com.hedera.hapi.streams.TransactionSidecarRecord;
 import com.hedera.pbj.runtime.ParseException;
+import com.hedera.pbj.runtime.io.stream.WritableStreamingData;
+import java.io.ByteArrayOutputStream;
+import java.util.HexFormat;
 import org.junit.jupiter.api.Test;
 
 final class BlockRecordFormatV6Test {
@@ -54,4 +59,28 @@ final class BlockRecordFormatV6Test {
             }
         }
     }
+
+    @Test
+    void splicedSerializationMatchesCodecs() {
+        for (var testBlocks : TEST_BLOCKS) {
+            for (var rec : testBlocks) {
+                final var serializedRec = BlockRecordFormatV6.INSTANCE.serialize(rec, BLOCK_NUM, VERSION);
+                final var recordStreamItem = new RecordStreamItem(rec.transaction(), rec.transactionRecord());
+                assertThat(serializedRec.protobufSerializedRecordStreamItem())
+                        .isEqualTo(RecordStreamItem.PROTOBUF.toBytes(recordStreamItem));
+                // The SelfSerializable header, then the record and transaction, each preceded by its length
+                final var bout = new ByteArrayOutputStream();
+                final var out = new WritableStreamingData(bout);
+                out.writeBytes(HexFormat.of().parseHex("e370929ba5429d8b00000001"));
+                final var recordBytes = TransactionRecord.PROTOBUF.toBytes(rec.transactionRecord());
+                out.writeInt((int) recordBytes.length());
+                out.writeBytes(recordBytes);
+                final var transactionBytes = Transaction.PROTOBUF.toBytes(rec.transaction());
+                out.writeInt((int) transactionBytes.length());
+                out.writeBytes(transactionBytes);
+                assertThat(serializedRec.hashSerializedRecordStreamItem().toByteArray())
+                        .isEqualTo(bout.toByteArray());
+            }
+        }
+    }
 }
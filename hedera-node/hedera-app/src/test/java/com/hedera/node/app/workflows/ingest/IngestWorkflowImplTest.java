@@ -29,6 +29,8 @@ import static com.hedera.hapi.node.base.ResponseCodeEnum.TRANSACTION_OVERSIZE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mock.Strictness.LENIENT;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
@@ -182,7 +184,8 @@ class IngestWorkflowImplTest extends AppTestBase {
         // The cost *MUST* be zero, it is only non-zero for insufficient balance errors
         assertThat(response.cost()).isZero();
         // And that the transaction and its bytes were actually passed to the submission manager
-        verify(submissionManager).submit(transactionBody, requestBuffer);
+        verify(submissionManager)
+                .submit(argThat((TransactionInfo info) -> transactionBody.equals(info.txBody())), eq(requestBuffer));
     }
 
     @Nested
@@ -210,7 +213,7 @@ class IngestWorkflowImplTest extends AppTestBase {
                 // The cost *MUST* be zero, it is only non-zero for insufficient balance errors
                 assertThat(response.cost()).isZero();
                 // And the transaction is not submitted to the platform
-                verify(submissionManager, never()).submit(any(), any());
+                verify(submissionManager, never()).submit(any(TransactionInfo.class), any());
             }
         }
     }
@@ -247,7 +250,7 @@ class IngestWorkflowImplTest extends AppTestBase {
             // The cost *MUST* be zero, it is only non-zero for insufficient balance errors
             assertThat(response.cost()).isZero();
             // And the transaction is not submitted to the platform
-            verify(submissionManager, never()).submit(any(), any());
+            verify(submissionManager, never()).submit(any(TransactionInfo.class), any());
         }
 
         @Test
@@ -265,7 +268,7 @@ class IngestWorkflowImplTest extends AppTestBase {
             // And the cost will be zero
             assertThat(response.cost()).isZero();
             // And the transaction is not submitted to the platform
-            verify(submissionManager, never()).submit(any(), any());
+            verify(submissionManager, never()).submit(any(TransactionInfo.class), any());
         }
     }
 
@@ -297,7 +300,7 @@ class IngestWorkflowImplTest extends AppTestBase {
             // The cost *MUST* be zero, it is only non-zero for insufficient balance errors
             assertThat(response.cost()).isZero();
             // And the transaction is not submitted to the platform
-            verify(submissionManager, never()).submit(any(), any());
+            verify(submissionManager, never()).submit(any(TransactionInfo.class), any());
         }
 
         @Test
@@ -316,7 +319,7 @@ class IngestWorkflowImplTest extends AppTestBase {
             // And the cost will be zero
             assertThat(response.cost()).isZero();
             // And the transaction is not submitted to the platform
-            verify(submissionManager, never()).submit(any(), any());
+            verify(submissionManager, never()).submit(any(TransactionInfo.class), any());
         }
     }
 
@@ -330,7 +333,7 @@ class IngestWorkflowImplTest extends AppTestBase {
             // Given a SubmissionManager that will fail the submit
             doThrow(new PreCheckException(PLATFORM_TRANSACTION_NOT_CREATED))
                     .when(submissionManager)
-                    .submit(any(), any());
+                    .submit(any(TransactionInfo.class), any());
 
             // When we submit a transaction
             workflow.submitTransaction(requestBuffer, responseBuffer);
@@ -348,7 +351,7 @@ class IngestWorkflowImplTest extends AppTestBase {
             // Given a SubmissionManager that will throw a RuntimeException from submit
             doThrow(new RuntimeException("submit exception"))
                     .when(submissionManager)
-                    .submit(any(), any());
+                    .submit(any(TransactionInfo.class), any());
 
             // When the transaction is submitted
             workflow.submitTransaction(requestBuffer, responseBuffer);
@@ -24,12 +24,18 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.HederaFunctionality;
+import com.hedera.hapi.node.base.SignatureMap;
+import com.hedera.hapi.node.base.Transaction;
 import com.hedera.hapi.node.base.TransactionID;
 import com.hedera.hapi.node.transaction.TransactionBody;
 import com.hedera.hapi.node.transaction.UncheckedSubmitBody;
 import com.hedera.node.app.fixtures.AppTestBase;
 import com.hedera.node.app.spi.workflows.PreCheckException;
 import com.hedera.node.app.state.DeduplicationCache;
+import com.hedera.node.app.workflows.SubmittedTransactionCache;
+import com.hedera.node.app.workflows.TransactionInfo;
 import com.hedera.node.config.ConfigProvider;
 import com.hedera.node.config.VersionedConfigImpl;
 import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
@@ -37,6 +43,7 @@ import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.common.metrics.SpeedometerMetric;
 import com.swirlds.metrics.api.Metrics;
 import com.swirlds.platform.system.Platform;
+import edu.umd.cs.findbugs.annotations.NonNull;
 import java.time.Instant;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -54,6 +61,9 @@ final class SubmissionManagerTest extends AppTestBase {
     /** Mocked global properties to verify default transaction duration */
     @Mock
     private DeduplicationCache deduplicationCache;
+    /** Mocked cache of submitted transaction infos */
+    @Mock
+    private SubmittedTransactionCache submittedTxnInfos;
     /** Configuration */
     private ConfigProvider config;
 
@@ -66,13 +76,15 @@ final class SubmissionManagerTest extends AppTestBase {
     @DisplayName("Null cannot be provided as any of the constructor args")
     @SuppressWarnings("ConstantConditions")
     void testConstructorWithIllegalParameters() {
-        assertThatThrownBy(() -> new SubmissionManager(null, deduplicationCache, config, metrics))
+        assertThatThrownBy(() -> new SubmissionManager(null, deduplicationCache, submittedTxnInfos, config, metrics))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new SubmissionManager(platform, null, submittedTxnInfos, config, metrics))
                 .isInstanceOf(NullPointerException.class);
-        assertThatThrownBy(() -> new SubmissionManager(platform, null, config, metrics))
+        assertThatThrownBy(() -> new SubmissionManager(platform, deduplicationCache, null, config, metrics))
                 .isInstanceOf(NullPointerException.class);
-        assertThatThrownBy(() -> new SubmissionManager(platform, deduplicationCache, null, metrics))
+        assertThatThrownBy(() -> new SubmissionManager(platform, deduplicationCache, submittedTxnInfos, null, metrics))
                 .isInstanceOf(NullPointerException.class);
-        assertThatThrownBy(() -> new SubmissionManager(platform, deduplicationCache, config, null))
+        assertThatThrownBy(() -> new SubmissionManager(platform, deduplicationCache, submittedTxnInfos, config, null))
                 .isInstanceOf(NullPointerException.class);
     }
 
@@ -106,7 +118,8 @@ final class SubmissionManagerTest extends AppTestBase {
         void setup() {
             bytes = randomBytes(25);
             when(mockedMetrics.getOrCreate(any())).thenReturn(platformTxnRejections);
-            submissionManager = new SubmissionManager(platform, deduplicationCache, config, mockedMetrics);
+            submissionManager =
+                    new SubmissionManager(platform, deduplicationCache, submittedTxnInfos, config, mockedMetrics);
             txBody = TransactionBody.newBuilder()
                     .transactionID(TransactionID.newBuilder()
                             .transactionValidStart(asTimestamp(Instant.now()))
@@ -118,7 +131,10 @@ final class SubmissionManagerTest extends AppTestBase {
         @DisplayName("Null cannot be provided as any of the 'submit' args")
         @SuppressWarnings("ConstantConditions")
         void testSubmitWithIllegalParameters() {
-            assertThatThrownBy(() -> submissionManager.submit(null, bytes)).isInstanceOf(NullPointerException.class);
+            assertThatThrownBy(() -> submissionManager.submit((TransactionBody) null, bytes))
+                    .isInstanceOf(NullPointerException.class);
+            assertThatThrownBy(() -> submissionManager.submit((TransactionInfo) null, bytes))
+                    .isInstanceOf(NullPointerException.class);
             assertThatThrownBy(() -> submissionManager.submit(txBody, null)).isInstanceOf(NullPointerException.class);
         }
 
@@ -126,7 +142,7 @@ final class SubmissionManagerTest extends AppTestBase {
         @DisplayName("Submission of the transaction to the platform is a success")
         void submittingToPlatformSucceeds() throws PreCheckException {
             // Given a platform that will succeed in taking bytes
-            when(platform.createTransaction(any())).thenReturn(true);
+            when(platform.createTransaction(any(byte[].class))).thenReturn(true);
 
             // When we submit bytes
             submissionManager.submit(txBody, bytes);
@@ -143,7 +159,7 @@ final class SubmissionManagerTest extends AppTestBase {
         @DisplayName("If the platform fails to onConsensusRound the bytes, a PreCheckException is thrown")
         void testSubmittingToPlatformFails() {
             // Given a platform that will **fail** in taking bytes
-            when(platform.createTransaction(any())).thenReturn(false);
+            when(platform.createTransaction(any(byte[].class))).thenReturn(false);
 
             // When we submit bytes, then we fail by exception
             assertThatThrownBy(() -> submissionManager.submit(txBody, bytes))
@@ -156,11 +172,62 @@ final class SubmissionManagerTest extends AppTestBase {
             verify(deduplicationCache, never()).add(txBody.transactionIDOrThrow());
         }
 
+        @Test
+        @DisplayName("Parsed transactions are cached for pre-handle when submitted")
+        void submittedTransactionInfoIsCached() throws PreCheckException {
+            // Given a platform that will succeed in taking bytes
+            when(platform.createTransaction(any(byte[].class))).thenReturn(true);
+            final var txInfo = transactionInfo(txBody);
+
+            // When we submit a parsed transaction
+            submissionManager.submit(txInfo, bytes);
+
+            // Then the parsed transaction is cached under the submitted bytes
+            verify(submittedTxnInfos).put(bytes, txInfo);
+            verify(submittedTxnInfos, never()).remove(any());
+        }
+
+        @Test
+        @DisplayName("Parsed transactions are not cached if the platform fails to take them")
+        void rejectedTransactionInfoIsNotCached() {
+            // Given a platform that will **fail** in taking bytes
+            when(platform.createTransaction(any(byte[].class))).thenReturn(false);
+
+            // When we submit a parsed transaction, then we fail by exception
+            assertThatThrownBy(() -> submissionManager.submit(transactionInfo(txBody), bytes))
+                    .isInstanceOf(PreCheckException.class);
+            // And the cached transaction is removed again
+            verify(submittedTxnInfos).remove(bytes);
+        }
+
+        @Test
+        @DisplayName("With zero-copy ingest, the submitted bytes are not copied")
+        void zeroCopySubmissionDoesNotCopyBytes() throws PreCheckException {
+            // Given a submission manager with zero-copy ingest enabled, and a platform that will succeed
+            final ConfigProvider zeroCopyConfig = () -> new VersionedConfigImpl(
+                    HederaTestConfigBuilder.create()
+                            .withValue("grpc.zeroCopyIngestEnabled", true)
+                            .getOrCreateConfig(),
+                    1);
+            submissionManager = new SubmissionManager(
+                    platform, deduplicationCache, submittedTxnInfos, zeroCopyConfig, mockedMetrics);
+            when(platform.createTransaction(any(Bytes.class))).thenReturn(true);
+            final var txInfo = transactionInfo(txBody);
+
+            // When we submit a parsed transaction
+            submissionManager.submit(txInfo, bytes);
+
+            // Then the platform and the cache receive the very same bytes
+            verify(platform).createTransaction(bytes);
+            verify(platform, never()).createTransaction(any(byte[].class));
+            verify(submittedTxnInfos).put(bytes, txInfo);
+        }
+
         @Test
         @DisplayName("Submitting the same transaction twice in close succession rejects the duplicate")
         void testSubmittingDuplicateTransactionsCloseTogether() throws PreCheckException {
             // Given a platform that will succeed in taking bytes
-            when(platform.createTransaction(any())).thenReturn(true);
+            when(platform.createTransaction(any(byte[].class))).thenReturn(true);
             when(deduplicationCache.contains(txBody.transactionIDOrThrow()))
                     .thenReturn(false)
                     .thenReturn(true);
@@ -204,7 +271,8 @@ final class SubmissionManagerTest extends AppTestBase {
                             .getOrCreateConfig(),
                     1);
             when(mockedMetrics.getOrCreate(any())).thenReturn(platformTxnRejections);
-            submissionManager = new SubmissionManager(platform, deduplicationCache, config, mockedMetrics);
+            submissionManager =
+                    new SubmissionManager(platform, deduplicationCache, submittedTxnInfos, config, mockedMetrics);
 
             bytes = randomBytes(25);
 
@@ -247,7 +315,8 @@ final class SubmissionManagerTest extends AppTestBase {
                             .withValue("ledger.id", "0x03")
                             .getOrCreateConfig(),
                     1);
-            submissionManager = new SubmissionManager(platform, deduplicationCache, config, mockedMetrics);
+            submissionManager =
+                    new SubmissionManager(platform, deduplicationCache, submittedTxnInfos, config, mockedMetrics);
 
             // When we submit an unchecked transaction, and separate bytes, then the
             // submission FAILS because we are in PROD mode
@@ -273,7 +342,8 @@ final class SubmissionManagerTest extends AppTestBase {
                             .withValue("ledger.id", "0x00")
                             .getOrCreateConfig(),
                     1);
-            submissionManager = new SubmissionManager(platform, deduplicationCache, config, mockedMetrics);
+            submissionManager =
+                    new SubmissionManager(platform, deduplicationCache, submittedTxnInfos, config, mockedMetrics);
 
             // When we submit an unchecked transaction, and separate bytes, then the
             // submission FAILS because we are in PROD mode
@@ -299,7 +369,8 @@ final class SubmissionManagerTest extends AppTestBase {
                             .withValue("ledger.id", "0x01")
                             .getOrCreateConfig(),
                     1);
-            submissionManager = new SubmissionManager(platform, deduplicationCache, config, mockedMetrics);
+            submissionManager =
+                    new SubmissionManager(platform, deduplicationCache, submittedTxnInfos, config, mockedMetrics);
 
             // When we submit an unchecked transaction, and separate bytes, then the
             // submission FAILS because we are in PROD mode
@@ -325,7 +396,8 @@ final class SubmissionManagerTest extends AppTestBase {
                             .withValue("ledger.id", "0x02")
                             .getOrCreateConfig(),
                     1);
-            submissionManager = new SubmissionManager(platform, deduplicationCache, config, mockedMetrics);
+            submissionManager =
+                    new SubmissionManager(platform, deduplicationCache, submittedTxnInfos, config, mockedMetrics);
 
             // When we submit an unchecked transaction, and separate bytes, then the
             // submission FAILS because we are in PROD mode
@@ -352,7 +424,8 @@ final class SubmissionManagerTest extends AppTestBase {
                             .withValue("hedera.profiles.active", "TEST")
                             .getOrCreateConfig(),
                     1);
-            submissionManager = new SubmissionManager(platform, deduplicationCache, config, mockedMetrics);
+            submissionManager =
+                    new SubmissionManager(platform, deduplicationCache, submittedTxnInfos, config, mockedMetrics);
             txBody = TransactionBody.newBuilder()
                     .transactionID(TransactionID.newBuilder()
                             .transactionValidStart(asTimestamp(Instant.now()))
@@ -374,4 +447,16 @@ final class SubmissionManagerTest extends AppTestBase {
             verify(deduplicationCache, never()).add(any());
         }
     }
+
+    private static TransactionInfo transactionInfo(@NonNull final TransactionBody txBody) {
+        return new TransactionInfo(
+                Transaction.DEFAULT,
+                txBody,
+                txBody.transactionIDOrThrow(),
+                AccountID.DEFAULT,
+                SignatureMap.DEFAULT,
+                Bytes.EMPTY,
+                HederaFunctionality.CRYPTO_TRANSFER,
+                null);
+    }
 }
@@ -34,6 +34,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -55,6 +56,7 @@ import com.hedera.node.app.spi.workflows.PreCheckException;
 import com.hedera.node.app.spi.workflows.PreHandleContext;
 import com.hedera.node.app.state.DeduplicationCache;
 import com.hedera.node.app.store.ReadableStoreFactory;
+import com.hedera.node.app.workflows.SubmittedTransactionCache;
 import com.hedera.node.app.workflows.TransactionChecker;
 import com.hedera.node.app.workflows.TransactionScenarioBuilder;
 import com.hedera.node.app.workflows.dispatcher.TransactionDispatcher;
@@ -119,6 +121,10 @@ final class PreHandleWorkflowImplTest extends AppTestBase implements Scenarios {
     @Mock
     private DeduplicationCache deduplicationCache;
 
+    /** We use a mocked {@link SubmittedTransactionCache}, which is empty unless stubbed. */
+    @Mock
+    private SubmittedTransactionCache submittedTxnInfos;
+
     /** We use a real functional store factory with our standard test data set. Needed by the workflow. */
     private ReadableStoreFactory storeFactory;
 
@@ -154,7 +160,8 @@ final class PreHandleWorkflowImplTest extends AppTestBase implements Scenarios {
                 signatureVerifier,
                 signatureExpander,
                 configProvider,
-                deduplicationCache);
+                deduplicationCache,
+                submittedTxnInfos);
     }
 
     /** Null arguments are not permitted to the constructor. */
@@ -168,22 +175,62 @@ final class PreHandleWorkflowImplTest extends AppTestBase implements Scenarios {
                         signatureVerifier,
                         signatureExpander,
                         configProvider,
-                        deduplicationCache))
+                        deduplicationCache,
+                        submittedTxnInfos))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new PreHandleWorkflowImpl(
-                        dispatcher, null, signatureVerifier, signatureExpander, configProvider, deduplicationCache))
+                        dispatcher,
+                        null,
+                        signatureVerifier,
+                        signatureExpander,
+                        configProvider,
+                        deduplicationCache,
+                        submittedTxnInfos))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new PreHandleWorkflowImpl(
-                        dispatcher, transactionChecker, null, signatureExpander, configProvider, deduplicationCache))
+                        dispatcher,
+                        transactionChecker,
+                        null,
+                        signatureExpander,
+                        configProvider,
+                        deduplicationCache,
+                        submittedTxnInfos))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new PreHandleWorkflowImpl(
-                        dispatcher, transactionChecker, signatureVerifier, null, configProvider, deduplicationCache))
+                        dispatcher,
+                        transactionChecker,
+                        signatureVerifier,
+                        null,
+                        configProvider,
+                        deduplicationCache,
+                        submittedTxnInfos))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new PreHandleWorkflowImpl(
-                        dispatcher, transactionChecker, signatureVerifier, signatureExpander, null, deduplicationCache))
+                        dispatcher,
+                        transactionChecker,
+                        signatureVerifier,
+                        signatureExpander,
+                        null,
+                        deduplicationCache,
+                        submittedTxnInfos))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new PreHandleWorkflowImpl(
+                        dispatcher,
+                        transactionChecker,
+                        signatureVerifier,
+                        signatureExpander,
+                        configProvider,
+                        null,
+                        submittedTxnInfos))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new PreHandleWorkflowImpl(
-                        dispatcher, transactionChecker, signatureVerifier, signatureExpander, configProvider, null))
+                        dispatcher,
+                        transactionChecker,
+                        signatureVerifier,
+                        signatureExpander,
+                        configProvider,
+                        deduplicationCache,
+                        null))
                 .isInstanceOf(NullPointerException.class);
     }
 
@@ -604,6 +651,31 @@ final class PreHandleWorkflowImplTest extends AppTestBase implements Scenarios {
             verify(deduplicationCache).add(txInfo.txBody().transactionIDOrThrow());
         }
 
+        @Test
+        @DisplayName("Transactions submitted by this node are not parsed again")
+        void submittedTransactionIsNotParsedAgain(@Mock SignatureVerificationFuture sigFuture) throws Exception {
+            // Given a perfectly good transaction that this node submitted, and already parsed at ingest
+            final var payerAccount = ALICE.accountID();
+            final var payerKey = ALICE.keyInfo().publicKey();
+            final var txInfo = scenario().withPayer(payerAccount).txInfo();
+            final var txBytes = asByteArray(txInfo.transaction());
+            final Transaction platformTx = createAppPayloadWrapper(txBytes);
+            when(sigFuture.get(anyLong(), any())).thenReturn(new SignatureVerificationImpl(payerKey, null, true));
+            when(submittedTxnInfos.take(Bytes.wrap(txBytes))).thenReturn(txInfo);
+            when(signatureVerifier.verify(any(), any())).thenReturn(Map.of(payerKey, sigFuture));
+
+            // When we pre-handle the transaction
+            workflow.preHandle(storeFactory, NODE_1.nodeAccountID(), Stream.of(platformTx), txns -> {});
+
+            // Then the transaction pre-handle succeeds with the info parsed at ingest
+            final PreHandleResult result = platformTx.getMetadata();
+            assertThat(result.status()).isEqualTo(SO_FAR_SO_GOOD);
+            assertThat(result.txInfo()).isSameAs(txInfo);
+            // And the transaction is not parsed again, but still checked
+            verify(transactionChecker, never()).parseAndCheck(any(Bytes.class));
+            verify(transactionChecker).checkParsed(txInfo);
+        }
+
         @Test
         @DisplayName(
                 "Happy path with Key-based signature verification and a result derived from different config version")
@@ -31,8 +31,18 @@ import com.swirlds.config.api.validation.annotation.Min;
  * @param writerMode if we are writing to a file or gRPC stream
  * @param blockFileDir directory to store block files
  * @param compressFilesOnCreation whether to compress files on creation
+ * @param compressionParallelism the number of chunks of a block file compressed at once, on as many threads dedicated
+ * to compression; 1 compresses on the writing thread
  * @param grpcAddress the address of the gRPC server
  * @param grpcPort the port of the gRPC server
+ * @param grpcRequestBatchBytes the target size in bytes of each request streamed to the gRPC server
+ * @param grpcMaxUnackedBlocks the maximum number of blocks not yet acknowledged by the gRPC server
+ * @param grpcReconnectDelayMs the delay in milliseconds before reconnecting to the gRPC server after an error
+ * @param grpcAckTimeoutMs how long in milliseconds to wait for the gRPC server to acknowledge a block before the
+ * oldest unacknowledged blocks are dropped to make room for a new one; after that, blocks are dropped without waiting
+ * until the gRPC server acknowledges a block again
+ * @param coalescedBytesSampleSize the number of state changes superseded in a round that are measured to estimate
+ * the block stream bytes saved by leaving them out; 0 reports only their count
  */
 @ConfigData("blockStream")
 public record BlockStreamConfig(
@@ -40,8 +50,14 @@ public record BlockStreamConfig(
         @ConfigProperty(defaultValue = "FILE") @NodeProperty BlockStreamWriterMode writerMode,
         @ConfigProperty(defaultValue = "/opt/hgcapp/blockStreams") @NodeProperty String blockFileDir,
         @ConfigProperty(defaultValue = "true") @NetworkProperty boolean compressFilesOnCreation,
+        @ConfigProperty(defaultValue = "1") @Min(1) @NodeProperty int compressionParallelism,
         @ConfigProperty(defaultValue = "32") @NetworkProperty int serializationBatchSize,
         @ConfigProperty(defaultValue = "32") @NetworkProperty int hashCombineBatchSize,
         @ConfigProperty(defaultValue = "1") @NetworkProperty int roundsPerBlock,
         @ConfigProperty(defaultValue = "localhost") String grpcAddress,
-        @ConfigProperty(defaultValue = "8080") @Min(0) @Max(65535) int grpcPort) {}
+        @ConfigProperty(defaultValue = "8080") @Min(0) @Max(65535) int grpcPort,
+        @ConfigProperty(defaultValue = "1048576") @Min(1) @NodeProperty int grpcRequestBatchBytes,
+        @ConfigProperty(defaultValue = "8") @Min(1) @NodeProperty int grpcMaxUnackedBlocks,
+        @ConfigProperty(defaultValue = "1000") @Min(0) @NodeProperty long grpcReconnectDelayMs,
+        @ConfigProperty(defaultValue = "30000") @Min(1) @NodeProperty long grpcAckTimeoutMs,
+        @ConfigProperty(defaultValue = "0") @Min(0) @NodeProperty int coalescedBytesSampleSize) {}
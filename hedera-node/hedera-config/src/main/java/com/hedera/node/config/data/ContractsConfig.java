@@ -18,6 +18,7 @@ package com.hedera.node.config.data;
 
 import com.hedera.hapi.streams.SidecarType;
 import com.hedera.node.config.NetworkProperty;
+import com.hedera.node.config.NodeProperty;
 import com.swirlds.config.api.ConfigData;
 import com.swirlds.config.api.ConfigProperty;
 import java.util.Set;
@@ -131,4 +132,8 @@ public record ContractsConfig(
         @ConfigProperty(value = "metrics.smartContract.primary.enabled", defaultValue = "true") @NetworkProperty
                 boolean metricsSmartContractPrimaryEnabled,
         @ConfigProperty(value = "metrics.smartContract.secondary.enabled", defaultValue = "true") @NetworkProperty
-                boolean metricsSmartContractSecondaryEnabled) {}
+                boolean metricsSmartContractSecondaryEnabled,
+        @ConfigProperty(value = "storagePrefetch.enabled", defaultValue = "false") @NodeProperty
+                boolean storagePrefetchEnabled,
+        @ConfigProperty(value = "storagePrefetch.maxSlotsPerPattern", defaultValue = "256") @NodeProperty
+                int storagePrefetchMaxSlotsPerPattern) {}
@@ -41,6 +41,9 @@ import com.swirlds.config.api.validation.annotation.Min;
  *             Must be non-negative. Defaults to 4MB.
  * @param noopMarshallerMaxMessageSize The maximum message size in bytes that the server can receive when using a no-op
  *             serialization strategy. Must be non-negative. Defaults to 4MB.
+ * @param zeroCopyIngestEnabled Whether every request is read into its own buffer, instead of a shared per-thread
+ *             buffer. Transaction bytes parsed from such a buffer are handed to the platform as they are, without
+ *             being copied again.
  */
 @ConfigData("grpc")
 public record GrpcConfig(
@@ -52,7 +55,8 @@ public record GrpcConfig(
         @ConfigProperty(defaultValue = "60212") @Min(0) @Max(65535) @NodeProperty int workflowsTlsPort,
         @ConfigProperty(defaultValue = "4194304") @Max(4194304) @Min(0) int maxMessageSize,
         @ConfigProperty(defaultValue = "4194304") @Max(4194304) @Min(0) int maxResponseSize,
-        @ConfigProperty(defaultValue = "4194304") @Max(4194304) @Min(0) int noopMarshallerMaxMessageSize) {
+        @ConfigProperty(defaultValue = "4194304") @Max(4194304) @Min(0) int noopMarshallerMaxMessageSize,
+        @ConfigProperty(defaultValue = "false") @NodeProperty boolean zeroCopyIngestEnabled) {
 
     public GrpcConfig {
         validateFieldRange(port, 0, 65535, "port");
@@ -26,7 +26,7 @@ class GrpcConfigTest {
     @Test
     void testValidConfiguration() {
         // Test valid configuration
-        GrpcConfig config = new GrpcConfig(50211, 50212, true, 50213, 60211, 60212, 4194304, 4194304, 4194304);
+        GrpcConfig config = new GrpcConfig(50211, 50212, true, 50213, 60211, 60212, 4194304, 4194304, 4194304, false);
 
         assertThat(config).isNotNull();
         assertThat(config.port()).isEqualTo(50211);
@@ -43,7 +43,7 @@ class GrpcConfigTest {
     @Test
     void testInvalidPortAndTlsPort() {
         Throwable throwable = catchThrowable(() -> {
-            new GrpcConfig(50212, 50212, true, 50213, 50212, 60212, 4194304, 4194304, 4194304);
+            new GrpcConfig(50212, 50212, true, 50213, 50212, 60212, 4194304, 4194304, 4194304, false);
         });
         assertThat(throwable)
                 .isInstanceOf(IllegalArgumentException.class)
@@ -53,7 +53,7 @@ class GrpcConfigTest {
     @Test
     void testInvalidWorkflowsPortAndTlsPort() {
         Throwable throwable = catchThrowable(() -> {
-            new GrpcConfig(50211, 50212, true, 50213, 60212, 60212, 4194304, 4194304, 4194304);
+            new GrpcConfig(50211, 50212, true, 50213, 60212, 60212, 4194304, 4194304, 4194304, false);
         });
         assertThat(throwable)
                 .isInstanceOf(IllegalArgumentException.class)
@@ -62,7 +62,7 @@ class GrpcConfigTest {
 
     @Test
     void testValidZeroPorts() {
-        GrpcConfig config = new GrpcConfig(0, 0, true, 50213, 60211, 60212, 4194304, 4194304, 4194304);
+        GrpcConfig config = new GrpcConfig(0, 0, true, 50213, 60211, 60212, 4194304, 4194304, 4194304, false);
 
         assertThat(config).isNotNull();
         assertThat(config.port()).isEqualTo(0);
@@ -77,7 +77,7 @@ class GrpcConfigTest {
     @Test
     void testInvalidMinValue() {
         Throwable throwable = catchThrowable(() -> {
-            new GrpcConfig(-1, 50212, true, 50213, 60211, 60212, 4194304, 5194304, 7194304);
+            new GrpcConfig(-1, 50212, true, 50213, 60211, 60212, 4194304, 5194304, 7194304, false);
         });
 
         assertThat(throwable)
@@ -88,7 +88,7 @@ class GrpcConfigTest {
     @Test
     void testInvalidMaxValue() {
         Throwable throwable = catchThrowable(() -> {
-            new GrpcConfig(65536, 50212, true, 50213, 60211, 60212, 4194304, 5194304, 7194304);
+            new GrpcConfig(65536, 50212, true, 50213, 60211, 60212, 4194304, 5194304, 7194304, false);
         });
 
         assertThat(throwable)
@@ -99,7 +99,7 @@ class GrpcConfigTest {
     @Test
     void testMaxMessageSizeMaxValue() {
         Throwable throwable = catchThrowable(() -> {
-            new GrpcConfig(50211, 50212, true, 50213, 60211, 60212, 4194305, 4194304, 4194304);
+            new GrpcConfig(50211, 50212, true, 50213, 60211, 60212, 4194305, 4194304, 4194304, false);
         });
 
         assertThat(throwable)
@@ -111,7 +111,7 @@ class GrpcConfigTest {
     @Test
     void testMaxResponseSizeMaxValue() {
         Throwable throwable = catchThrowable(() -> {
-            new GrpcConfig(50211, 50212, true, 50213, 60211, 60212, 4194304, 4194305, 4194304);
+            new GrpcConfig(50211, 50212, true, 50213, 60211, 60212, 4194304, 4194305, 4194304, false);
         });
 
         assertThat(throwable)
@@ -123,7 +123,7 @@ class GrpcConfigTest {
     @Test
     void testNoopMarshallerMaxMessageSizeMaxValue() {
         Throwable throwable = catchThrowable(() -> {
-            new GrpcConfig(50211, 50212, true, 50213, 60211, 60212, 4194304, 4194304, 4194305);
+            new GrpcConfig(50211, 50212, true, 50213, 60211, 60212, 4194304, 4194304, 4194305, false);
         });
 
         assertThat(throwable)
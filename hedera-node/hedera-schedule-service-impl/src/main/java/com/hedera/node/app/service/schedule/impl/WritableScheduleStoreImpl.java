@@ -175,7 +175,8 @@ public class WritableScheduleStoreImpl extends ReadableScheduleStoreImpl impleme
             final var countsAndUsagesKey = new TimestampSeconds(i);
             final var counts = scheduleCountsMutable.get(countsAndUsagesKey);
             if (counts != null) {
-                for (int j = 0, n = counts.numberScheduled(); j < n; j++) {
+                // Orders before the number processed were already purged as they executed
+                for (int j = counts.numberProcessed(), n = counts.numberScheduled(); j < n; j++) {
                     final var orderKey = new ScheduledOrder(i, j);
                     final var scheduleId = requireNonNull(scheduleOrdersMutable.get(orderKey));
                     purge(scheduleId);
@@ -25,6 +25,8 @@ import com.hedera.hapi.node.base.Timestamp;
 import com.hedera.hapi.node.base.TimestampSeconds;
 import com.hedera.hapi.node.state.primitives.ProtoBytes;
 import com.hedera.hapi.node.state.schedule.Schedule;
+import com.hedera.hapi.node.state.schedule.ScheduledCounts;
+import com.hedera.hapi.node.state.schedule.ScheduledOrder;
 import com.hedera.node.app.spi.workflows.PreCheckException;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.security.InvalidKeyException;
@@ -129,6 +131,33 @@ class WritableScheduleStoreImplTest extends ScheduleTestBase {
         assertThat(countAfter.numberScheduled()).isEqualTo(1);
     }
 
+    @Test
+    void purgesPartiallyProcessedSecondWithManySchedules() {
+        final int numSchedules = 100_000;
+        final long second = scheduleInState.calculatedExpirationSecond();
+        final var countsKey = new TimestampSeconds(second);
+        for (int i = 1; i < numSchedules; i++) {
+            writableSchedules.put(scheduleInState
+                    .copyBuilder()
+                    .scheduleId(ScheduleID.newBuilder().scheduleNum(10_000L + i).build())
+                    .memo("Schedule #" + i)
+                    .build());
+        }
+        // Each new schedule in the second only adds one order and updates the counts
+        assertThat(writableScheduledCounts.get(countsKey)).isEqualTo(new ScheduledCounts(numSchedules, 0));
+        final var lastId = writableScheduledOrders.get(new ScheduledOrder(second, numSchedules - 1));
+        assertThat(lastId).isNotNull();
+
+        assertThat(writableSchedules.purgeByOrder(new ScheduledOrder(second, 0))).isFalse();
+        assertThat(writableSchedules.purgeByOrder(new ScheduledOrder(second, 1))).isFalse();
+        writableSchedules.purgeExpiredRangeClosed(second, second);
+
+        assertThat(writableScheduledCounts.get(countsKey)).isNull();
+        assertThat(writableScheduledOrders.get(new ScheduledOrder(second, numSchedules - 1)))
+                .isNull();
+        assertThat(writableById.get(lastId)).isNull();
+    }
+
     @NonNull
     static Schedule replaceSignatoriesAndMarkExecuted(
             @NonNull final Schedule schedule,
@@ -19,6 +19,7 @@ package com.hedera.node.app.service.contract.impl;
 import com.hedera.node.app.service.contract.impl.exec.metrics.ContractMetrics;
 import com.hedera.node.app.service.contract.impl.exec.scope.VerificationStrategies;
 import com.hedera.node.app.service.contract.impl.handlers.ContractHandlers;
+import com.hedera.node.app.service.contract.impl.infra.StorageAccessPrefetcher;
 import com.hedera.node.app.spi.signatures.SignatureVerifier;
 import dagger.BindsInstance;
 import dagger.Component;
@@ -64,4 +65,9 @@ public interface ContractServiceComponent {
      * @return contract metrics collection, instance
      */
     ContractMetrics contractMetrics();
+
+    /**
+     * @return the prefetcher that warms the storage slots a contract call is expected to access
+     */
+    StorageAccessPrefetcher storageAccessPrefetcher();
 }
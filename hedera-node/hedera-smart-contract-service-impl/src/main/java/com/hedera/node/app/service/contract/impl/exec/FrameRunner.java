@@ -18,6 +18,7 @@ package com.hedera.node.app.service.contract.impl.exec;
 
 import static com.hedera.node.app.service.contract.impl.exec.failure.CustomExceptionalHaltReason.INSUFFICIENT_CHILD_RECORDS;
 import static com.hedera.node.app.service.contract.impl.exec.failure.CustomExceptionalHaltReason.INVALID_CONTRACT_ID;
+import static com.hedera.node.app.service.contract.impl.exec.utils.FrameUtils.accessTrackerFor;
 import static com.hedera.node.app.service.contract.impl.exec.utils.FrameUtils.contractsConfigOf;
 import static com.hedera.node.app.service.contract.impl.exec.utils.FrameUtils.getAndClearPropagatedCallFailure;
 import static com.hedera.node.app.service.contract.impl.exec.utils.FrameUtils.maybeNext;
@@ -38,6 +39,7 @@ import com.hedera.node.app.service.contract.impl.exec.gas.CustomGasCalculator;
 import com.hedera.node.app.service.contract.impl.exec.processors.CustomMessageCallProcessor;
 import com.hedera.node.app.service.contract.impl.hevm.HederaEvmTransactionResult;
 import com.hedera.node.app.service.contract.impl.hevm.HevmPropagatedCallFailure;
+import com.hedera.node.app.service.contract.impl.infra.StorageAccessPrefetcher;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import javax.inject.Inject;
@@ -55,13 +57,18 @@ import org.hyperledger.besu.evm.processor.ContractCreationProcessor;
 @Singleton
 public class FrameRunner {
     private final CustomGasCalculator gasCalculator;
+    private final StorageAccessPrefetcher storageAccessPrefetcher;
 
     /**
      * @param gasCalculator the gas calculator to be used
+     * @param storageAccessPrefetcher the prefetcher that learns the storage accessed by each message call
      */
     @Inject
-    public FrameRunner(@NonNull final CustomGasCalculator gasCalculator) {
+    public FrameRunner(
+            @NonNull final CustomGasCalculator gasCalculator,
+            @NonNull final StorageAccessPrefetcher storageAccessPrefetcher) {
         this.gasCalculator = gasCalculator;
+        this.storageAccessPrefetcher = requireNonNull(storageAccessPrefetcher);
     }
 
     /**
@@ -104,6 +111,7 @@ public class FrameRunner {
 
         // And return the result, success or failure
         final var gasUsed = effectiveGasUsed(gasLimit, frame);
+        maybeLearnStorageAccesses(frame, recipientMetadata);
         if (frame.getState() == COMPLETED_SUCCESS) {
             return successFrom(
                     gasUsed, senderId, recipientMetadata.hederaId(), asEvmContractId(recipientAddress), frame, tracer);
@@ -162,6 +170,21 @@ public class FrameRunner {
         }
     }
 
+    private void maybeLearnStorageAccesses(
+            @NonNull final MessageFrame frame, @NonNull final RecipientMetadata recipientMetadata) {
+        final var contractsConfig = contractsConfigOf(frame);
+        if (contractsConfig.storagePrefetchEnabled() && frame.getType() == MessageFrame.Type.MESSAGE_CALL) {
+            final var accessTracker = accessTrackerFor(frame);
+            if (accessTracker != null) {
+                storageAccessPrefetcher.learn(
+                        recipientMetadata.hederaId(),
+                        frame.getInputData(),
+                        accessTracker,
+                        contractsConfig.storagePrefetchMaxSlotsPerPattern());
+            }
+        }
+    }
+
     private long effectiveGasUsed(final long gasLimit, @NonNull final MessageFrame frame) {
         var nominalUsed = gasLimit - frame.getRemainingGas();
         final var selfDestructRefund = gasCalculator.getSelfDestructRefundAmount()
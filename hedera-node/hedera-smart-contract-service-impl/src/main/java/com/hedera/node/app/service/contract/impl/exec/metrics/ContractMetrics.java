@@ -25,6 +25,7 @@ import static java.util.stream.Collectors.toMap;
 import com.google.common.annotations.VisibleForTesting;
 import com.hedera.hapi.node.base.HederaFunctionality;
 import com.hedera.node.config.data.ContractsConfig;
+import com.swirlds.common.metrics.RunningAverageMetric;
 import com.swirlds.metrics.api.Counter;
 import com.swirlds.metrics.api.Metric;
 import com.swirlds.metrics.api.Metrics;
@@ -56,6 +57,11 @@ public class ContractMetrics {
     private final HashMap<HederaFunctionality, Counter> rejectedTxsCounters = new HashMap<>();
     private final HashMap<HederaFunctionality, Counter> rejectedTxsLackingIntrinsicGas = new HashMap<>();
     private Counter rejectedEthType3Counter;
+    private boolean storagePrefetchMetricsEnabled;
+    private Counter prefetchedSlotsCounter;
+    private Counter usedPrefetchedSlotsCounter;
+    private Counter unprefetchedSlotsCounter;
+    private RunningAverageMetric storageLoadLatency;
 
     private static final Map<HederaFunctionality, String> POSSIBLE_FAILING_TX_TYPES = Map.of(
             CONTRACT_CALL, "contractCallTx", CONTRACT_CREATE, "contractCreateTx", ETHEREUM_TRANSACTION, "ethereumTx");
@@ -77,6 +83,9 @@ public class ContractMetrics {
 
     private static final String REJECTED_TYPE3_FUNCTIONALITY = "ethType3BlobTransaction";
 
+    private static final String PREFETCH_NAME_TEMPLATE = "%s:StoragePrefetch_%s";
+    private static final String METRIC_SLOT_UNIT = "slots";
+
     @Inject
     public ContractMetrics(
             @NonNull final Supplier<Metrics> metricsSupplier,
@@ -140,6 +149,30 @@ public class ContractMetrics {
                         rejectedEthType3Counter = metric;
                     }
                 }
+
+                this.storagePrefetchMetricsEnabled = contractsConfig.storagePrefetchEnabled();
+                if (storagePrefetchMetricsEnabled) {
+                    prefetchedSlotsCounter = newCounter(
+                            metrics,
+                            new Counter.Config(METRIC_CATEGORY, toPrefetchName("prefetchedSlots_total"))
+                                    .withDescription("storage slots warmed before their transaction ran")
+                                    .withUnit(METRIC_SLOT_UNIT));
+                    usedPrefetchedSlotsCounter = newCounter(
+                            metrics,
+                            new Counter.Config(METRIC_CATEGORY, toPrefetchName("usedPrefetchedSlots_total"))
+                                    .withDescription("warmed storage slots that their transaction then accessed")
+                                    .withUnit(METRIC_SLOT_UNIT));
+                    unprefetchedSlotsCounter = newCounter(
+                            metrics,
+                            new Counter.Config(METRIC_CATEGORY, toPrefetchName("unprefetchedSlots_total"))
+                                    .withDescription("accessed storage slots that were not warmed in advance")
+                                    .withUnit(METRIC_SLOT_UNIT));
+                    storageLoadLatency = metrics.getOrCreate(
+                            new RunningAverageMetric.Config(METRIC_CATEGORY, toPrefetchName("sloadLatency"))
+                                    .withDescription("average latency of an SLOAD in nanoseconds")
+                                    .withUnit("ns")
+                                    .withFormat("%,13.2f"));
+                }
                 primaryMetricsAreCreated = true;
             }
         }
@@ -174,6 +207,33 @@ public class ContractMetrics {
         }
     }
 
+    /**
+     * Records how well the storage slots warmed for one transaction predicted the slots it actually accessed.
+     *
+     * @param numPrefetched the number of slots warmed before the transaction ran
+     * @param numUsed the number of warmed slots the transaction accessed
+     * @param numUnprefetched the number of accessed slots that were not warmed
+     */
+    public void recordStoragePrefetch(final long numPrefetched, final long numUsed, final long numUnprefetched) {
+        if (storagePrefetchMetricsEnabled) {
+            prefetchedSlotsCounter.add(numPrefetched);
+            usedPrefetchedSlotsCounter.add(numUsed);
+            unprefetchedSlotsCounter.add(numUnprefetched);
+        }
+    }
+
+    /**
+     * Records the average latency of the {@code SLOAD}'s executed by one transaction.
+     *
+     * @param numLoads the number of loads executed
+     * @param loadNanos the total nanoseconds spent in those loads
+     */
+    public void recordStorageLoadLatency(final long numLoads, final long loadNanos) {
+        if (storagePrefetchMetricsEnabled && numLoads > 0) {
+            storageLoadLatency.update((double) loadNanos / numLoads);
+        }
+    }
+
     @VisibleForTesting
     public @NonNull Map<String, Long> getAllCounters() {
         return Stream.concat(
@@ -220,6 +280,10 @@ public class ContractMetrics {
         return metrics.getOrCreate(config);
     }
 
+    private static @NonNull String toPrefetchName(@NonNull final String shortName) {
+        return PREFETCH_NAME_TEMPLATE.formatted(METRIC_SERVICE, shortName);
+    }
+
     private static @NonNull String toRejectedName(
             @NonNull final HederaFunctionality functionality, @NonNull final String shortDescription) {
         return toRejectedName(POSSIBLE_FAILING_TX_TYPES.get(functionality), shortDescription);
@@ -18,6 +18,7 @@ package com.hedera.node.app.service.contract.impl.exec.operations;
 
 import static com.hedera.hapi.streams.SidecarType.CONTRACT_STATE_CHANGE;
 import static com.hedera.node.app.service.contract.impl.exec.operations.utils.OpUtils.maybeTrackReadIn;
+import static com.hedera.node.app.service.contract.impl.exec.utils.FrameUtils.accessTrackerFor;
 import static java.util.Objects.requireNonNull;
 
 import com.hedera.hapi.streams.SidecarType;
@@ -29,9 +30,9 @@ import org.hyperledger.besu.evm.frame.MessageFrame;
 import org.hyperledger.besu.evm.operation.SLoadOperation;
 
 /**
- * A wrapper around {@link SLoadOperation} that takes the extra step of tracking the read storage value if
- * {@link FeatureFlags#isSidecarEnabled(MessageFrame, SidecarType)} returns true for the
- * {@link SidecarType#CONTRACT_STATE_CHANGE} type.
+ * A wrapper around {@link SLoadOperation} that takes the extra step of tracking the read storage value (and,
+ * when storage prefetch is enabled, the latency of the load) if {@link FeatureFlags#isSidecarEnabled(MessageFrame, SidecarType)} returns true
+ * for the {@link SidecarType#CONTRACT_STATE_CHANGE} type.
  */
 public class CustomSLoadOperation extends DelegatingOperation {
     private final FeatureFlags featureFlags;
@@ -54,8 +55,16 @@ public class CustomSLoadOperation extends DelegatingOperation {
         requireNonNull(frame);
 
         final var key = frame.getStackItem(0);
+        final boolean trackReads = featureFlags.isSidecarEnabled(frame, CONTRACT_STATE_CHANGE);
+        final var accessTracker = trackReads ? accessTrackerFor(frame) : null;
+        // Load latency is only timed for the storage prefetcher
+        final boolean timeLoad = accessTracker != null && accessTracker.tracksLoadLatency();
+        final long start = timeLoad ? System.nanoTime() : 0L;
         final var result = super.execute(frame, evm);
-        if (result.getHaltReason() == null && featureFlags.isSidecarEnabled(frame, CONTRACT_STATE_CHANGE)) {
+        if (result.getHaltReason() == null && trackReads) {
+            if (timeLoad) {
+                accessTracker.trackLoadNanos(System.nanoTime() - start);
+            }
             // The base SLOAD operation returns its read value on the stack
             final var value = frame.getStackItem(0);
             maybeTrackReadIn(frame, UInt256.fromBytes(key), UInt256.fromBytes(value));
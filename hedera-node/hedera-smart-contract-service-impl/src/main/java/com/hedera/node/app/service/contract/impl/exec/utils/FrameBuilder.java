@@ -130,8 +130,10 @@ public class FrameBuilder {
         contextEntries.put(TINYBAR_VALUES_CONTEXT_VARIABLE, context.tinybarValues());
         contextEntries.put(SYSTEM_CONTRACT_GAS_CALCULATOR_CONTEXT_VARIABLE, context.systemContractGasCalculator());
         contextEntries.put(PROPAGATED_CALL_FAILURE_CONTEXT_VARIABLE, new PropagatedCallFailureRef());
-        if (config.getConfigData(ContractsConfig.class).sidecars().contains(CONTRACT_STATE_CHANGE)) {
-            contextEntries.put(TRACKER_CONTEXT_VARIABLE, new StorageAccessTracker());
+        final var contractsConfig = config.getConfigData(ContractsConfig.class);
+        if (contractsConfig.sidecars().contains(CONTRACT_STATE_CHANGE)) {
+            contextEntries.put(
+                    TRACKER_CONTEXT_VARIABLE, new StorageAccessTracker(contractsConfig.storagePrefetchEnabled()));
         }
         if (context.isTransaction()) {
             contextEntries.put(HAPI_RECORD_BUILDER_CONTEXT_VARIABLE, context.recordBuilder());
@@ -23,7 +23,9 @@ import static com.hedera.node.app.service.contract.impl.utils.ConversionUtils.EV
 import static com.hedera.node.app.service.contract.impl.utils.ConversionUtils.throwIfUnsuccessful;
 import static com.hedera.node.app.spi.validation.Validations.mustExist;
 import static com.hedera.node.app.spi.workflows.PreCheckException.validateTruePreCheck;
+import static java.util.Objects.requireNonNull;
 
+import com.hedera.hapi.node.base.ContractID;
 import com.hedera.hapi.node.base.HederaFunctionality;
 import com.hedera.hapi.node.transaction.TransactionBody;
 import com.hedera.node.app.hapi.utils.fee.SigValueObj;
@@ -31,10 +33,13 @@ import com.hedera.node.app.hapi.utils.fee.SmartContractFeeBuilder;
 import com.hedera.node.app.service.contract.impl.ContractServiceComponent;
 import com.hedera.node.app.service.contract.impl.exec.TransactionComponent;
 import com.hedera.node.app.service.contract.impl.records.ContractCallStreamBuilder;
+import com.hedera.node.app.service.contract.impl.state.ContractStateStore;
 import com.hedera.node.app.spi.workflows.HandleContext;
 import com.hedera.node.app.spi.workflows.HandleException;
 import com.hedera.node.app.spi.workflows.PreCheckException;
 import com.hedera.node.app.spi.workflows.PreHandleContext;
+import com.hedera.node.app.spi.workflows.WarmupContext;
+import com.hedera.node.config.data.ContractsConfig;
 import com.hederahashgraph.api.proto.java.FeeData;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import javax.inject.Inject;
@@ -76,6 +81,22 @@ public class ContractCallHandler extends AbstractContractTransactionHandler {
         throwIfUnsuccessful(outcome.status());
     }
 
+    @Override
+    public void warm(@NonNull final WarmupContext context) {
+        requireNonNull(context);
+        if (!context.configuration().getConfigData(ContractsConfig.class).storagePrefetchEnabled()) {
+            return;
+        }
+        final var op = context.body().contractCallOrThrow();
+        final var contractID = op.contractIDOrElse(ContractID.DEFAULT);
+        // Storage access patterns are only learned for numbered contract ids
+        if (contractID.hasContractNum()) {
+            component
+                    .storageAccessPrefetcher()
+                    .prefetch(contractID, op.functionParameters(), context.createStore(ContractStateStore.class));
+        }
+    }
+
     @Override
     public void preHandle(@NonNull final PreHandleContext context) {
         // No non-payer signatures to verify
@@ -25,14 +25,20 @@ import com.hedera.hapi.node.state.contract.SlotValue;
 import com.hedera.node.app.service.contract.impl.exec.scope.HandleHederaOperations;
 import com.hedera.node.app.service.contract.impl.hevm.HederaWorldUpdater.Enhancement;
 import com.hedera.node.app.service.contract.impl.state.ContractStateStore;
+import com.hedera.node.app.service.contract.impl.state.StorageAccess;
 import com.hedera.node.app.service.contract.impl.state.StorageAccess.StorageAccessType;
 import com.hedera.node.app.service.contract.impl.state.StorageAccesses;
 import com.hedera.node.app.service.contract.impl.state.StorageSizeChange;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import org.apache.logging.log4j.LogManager;
@@ -42,6 +48,12 @@ import org.apache.logging.log4j.Logger;
  * Provides the logic for maintaining per-contract linked lists of owned storage, and keeping the
  * number of slots used per contract up to date; i.e., the logic for keeping per-contract storage
  * "legible" even though all slots are stored in a single map.
+ *
+ * <p>All link maintenance for a contract in a transaction is coalesced in memory before anything is
+ * written to the store, so that each slot is read at most once and written at most once per transaction.
+ * Where a transaction both removes and inserts slots in the same contract, each inserted slot first takes
+ * the place of a removed slot in the list; so that only the removed slot's neighbors need to be rewritten,
+ * and not also the head of the list.
  */
 @Singleton
 public class IterableStorageManager {
@@ -75,35 +87,53 @@ public class IterableStorageManager {
         final Map<ContractID, Bytes> firstKeys = new HashMap<>();
 
         // Adjust the storage linked lists for each contract
-        allAccesses.forEach(contractAccesses -> contractAccesses.accesses().forEach(access -> {
-            if (access.isUpdate()) {
-                final var contractId = contractAccesses.contractID();
-                // If we have already changed the head pointer for this contract,
-                // use that; otherwise, get the contract's head pointer from state
-                final var firstContractKey =
-                        firstKeys.computeIfAbsent(contractId, cid -> contractFirstKeyOf(enhancement, contractId));
-
-                // Only certain access types can change the head slot in a contract's storage linked list
-                final var newFirstContractKey =
-                        switch (StorageAccessType.getAccessType(access)) {
-                            case UNKNOWN, READ_ONLY, UPDATE -> firstContractKey;
-                                // We might be removing the head slot from the existing list
-                            case REMOVAL -> removeAccessedValue(
-                                    store,
-                                    firstContractKey,
-                                    contractAccesses.contractID(),
-                                    tuweniToPbjBytes(access.key()));
-                                // We always insert the new slot at the head
-                            case INSERTION -> insertAccessedValue(
-                                    store,
-                                    firstContractKey,
-                                    tuweniToPbjBytes(requireNonNull(access.writtenValue())),
-                                    contractAccesses.contractID(),
-                                    tuweniToPbjBytes(access.key()));
-                        };
-                firstKeys.put(contractAccesses.contractID(), newFirstContractKey);
+        allAccesses.forEach(contractAccesses -> {
+            final var contractId = contractAccesses.contractID();
+            final List<StorageAccess> removals = new ArrayList<>();
+            final List<StorageAccess> insertions = new ArrayList<>();
+            contractAccesses.accesses().forEach(access -> {
+                // Only certain access types can change the links in a contract's storage linked list
+                switch (StorageAccessType.getAccessType(access)) {
+                    case REMOVAL -> removals.add(access);
+                    case INSERTION -> insertions.add(access);
+                    case UNKNOWN, READ_ONLY, UPDATE -> {
+                        // No change to the linked list
+                    }
+                }
+            });
+            if (removals.isEmpty() && insertions.isEmpty()) {
+                return;
+            }
+            final var links = new PendingLinks(contractId, store);
+            var firstContractKey = contractFirstKeyOf(enhancement, contractId);
+            // Inserted slots first take the place of removed slots in the list
+            final int numReplacements = Math.min(removals.size(), insertions.size());
+            for (int i = 0; i < numReplacements; i++) {
+                final var insertion = insertions.get(i);
+                firstContractKey = replaceAccessedValue(
+                        links,
+                        firstContractKey,
+                        tuweniToPbjBytes(removals.get(i).key()),
+                        tuweniToPbjBytes(requireNonNull(insertion.writtenValue())),
+                        tuweniToPbjBytes(insertion.key()));
+            }
+            // We might be removing the head slot from the existing list
+            for (int i = numReplacements, n = removals.size(); i < n; i++) {
+                firstContractKey =
+                        removeAccessedValue(links, firstContractKey, tuweniToPbjBytes(removals.get(i).key()));
+            }
+            // We always insert any other new slots at the head
+            for (int i = numReplacements, n = insertions.size(); i < n; i++) {
+                final var insertion = insertions.get(i);
+                firstContractKey = insertAccessedValue(
+                        links,
+                        firstContractKey,
+                        tuweniToPbjBytes(requireNonNull(insertion.writtenValue())),
+                        tuweniToPbjBytes(insertion.key()));
             }
-        }));
+            links.flush();
+            firstKeys.put(contractId, firstContractKey);
+        });
 
         // Update contract metadata with the net change in slots used
         allSizeChanges.forEach(change -> {
@@ -132,34 +162,27 @@ public class IterableStorageManager {
     }
 
     /**
-     * Removes the given key from the slot storage and from the linked list of storage for the given contract, and removes the
+     * Removes the given key from the slot storage and from the linked list of storage for the given contract.
      *
-     * @param store Contract storage store
+     * @param links the pending links of the contract under consideration
      * @param firstContractKey The first key in the linked list of storage for the given contract
-     * @param contractID The contract id under consideration
      * @param key The slot key to remove
      * @return the new first key in the linked list of storage for the given contract
      */
     @NonNull
     private Bytes removeAccessedValue(
-            @NonNull final ContractStateStore store,
-            @NonNull Bytes firstContractKey,
-            @NonNull final ContractID contractID,
-            @NonNull final Bytes key) {
+            @NonNull final PendingLinks links, @NonNull Bytes firstContractKey, @NonNull final Bytes key) {
         requireNonNull(firstContractKey);
-        requireNonNull(contractID);
-        requireNonNull(store);
         requireNonNull(key);
-        final var slotKey = new SlotKey(contractID, key);
         try {
-            final var slotValue = slotValueFor(store, false, slotKey, "Missing key ");
+            final var slotValue = links.slotValueFor(key, false, "Missing key ");
             final var nextKey = slotValue.nextKey();
             final var prevKey = slotValue.previousKey();
             if (!Bytes.EMPTY.equals(nextKey)) {
-                updatePrevFor(new SlotKey(contractID, nextKey), prevKey, store);
+                links.updatePrevFor(nextKey, prevKey);
             }
             if (!Bytes.EMPTY.equals(prevKey)) {
-                updateNextFor(new SlotKey(contractID, prevKey), nextKey, store);
+                links.updateNextFor(prevKey, nextKey);
             }
             firstContractKey = key.equals(firstContractKey) ? nextKey : firstContractKey;
         } catch (Exception irreparable) {
@@ -167,69 +190,157 @@ public class IterableStorageManager {
             log.error(
                     "Failed link management when removing {}; will be unable to" + " expire all slots for contract {}",
                     key,
-                    contractID,
+                    links.contractID(),
                     irreparable);
         }
-        store.removeSlot(slotKey);
+        links.remove(key);
         return firstContractKey;
     }
 
     /**
      * Inserts the given key into the slot storage and into the linked list of storage for the given contract.
      *
-     * @param store Contract storage store
+     * @param links the pending links of the contract under consideration
      * @param firstContractKey The first key in the linked list of storage for the given contract
      * @param newValue The new value for the slot
-     * @param contractID The contract id under consideration
      * @param newKey The slot key to insert
      * @return the new first key in the linked list of storage for the given contract
      */
     @NonNull
     private Bytes insertAccessedValue(
-            @NonNull final ContractStateStore store,
+            @NonNull final PendingLinks links,
             @NonNull final Bytes firstContractKey,
             @NonNull final Bytes newValue,
-            @NonNull final ContractID contractID,
             @NonNull final Bytes newKey) {
-        requireNonNull(store);
         requireNonNull(newKey);
         requireNonNull(newValue);
         try {
             if (!Bytes.EMPTY.equals(firstContractKey)) {
-                updatePrevFor(new SlotKey(contractID, firstContractKey), newKey, store);
+                links.updatePrevFor(firstContractKey, newKey);
             }
         } catch (Exception irreparable) {
             // Since maintaining linked lists is not mission-critical, just log the error and continue
             log.error(
                     "Failed link management when inserting {}; will be unable to" + " expire all slots for contract {}",
                     newKey,
-                    contractID,
+                    links.contractID(),
                     irreparable);
         }
-        store.putSlot(new SlotKey(contractID, newKey), new SlotValue(newValue, Bytes.EMPTY, firstContractKey));
+        links.put(newKey, new SlotValue(newValue, Bytes.EMPTY, firstContractKey));
         return newKey;
     }
 
-    private void updatePrevFor(
-            @NonNull final SlotKey key, @NonNull final Bytes newPrevKey, @NonNull final ContractStateStore store) {
-        final var value = slotValueFor(store, true, key, "Missing next key ");
-        store.putSlot(key, value.copyBuilder().previousKey(newPrevKey).build());
+    /**
+     * Removes the given old key from the slot storage and inserts the given new key into the linked list of
+     * storage for the given contract at the position the old key is leaving.
+     *
+     * @param links the pending links of the contract under consideration
+     * @param firstContractKey The first key in the linked list of storage for the given contract
+     * @param oldKey The slot key to remove
+     * @param newValue The value for the inserted slot
+     * @param newKey The slot key to insert
+     * @return the new first key in the linked list of storage for the given contract
+     */
+    @NonNull
+    private Bytes replaceAccessedValue(
+            @NonNull final PendingLinks links,
+            @NonNull final Bytes firstContractKey,
+            @NonNull final Bytes oldKey,
+            @NonNull final Bytes newValue,
+            @NonNull final Bytes newKey) {
+        final var oldValue = links.slotValueOrNull(oldKey, false);
+        if (oldValue == null) {
+            // Without the old slot's links we cannot take its place, so fall back to a removal and an insertion
+            return insertAccessedValue(
+                    links, removeAccessedValue(links, firstContractKey, oldKey), newValue, newKey);
+        }
+        final var nextKey = oldValue.nextKey();
+        final var prevKey = oldValue.previousKey();
+        try {
+            if (!Bytes.EMPTY.equals(nextKey)) {
+                links.updatePrevFor(nextKey, newKey);
+            }
+            if (!Bytes.EMPTY.equals(prevKey)) {
+                links.updateNextFor(prevKey, newKey);
+            }
+        } catch (Exception irreparable) {
+            // Since maintaining linked lists is not mission-critical, just log the error and continue
+            log.error(
+                    "Failed link management when replacing {} with {}; will be unable to"
+                            + " expire all slots for contract {}",
+                    oldKey,
+                    newKey,
+                    links.contractID(),
+                    irreparable);
+        }
+        links.remove(oldKey);
+        links.put(newKey, new SlotValue(newValue, prevKey, nextKey));
+        return oldKey.equals(firstContractKey) ? newKey : firstContractKey;
     }
 
-    private void updateNextFor(
-            @NonNull final SlotKey key, @NonNull final Bytes newNextKey, @NonNull final ContractStateStore store) {
-        final var value = slotValueFor(store, true, key, "Missing prev key ");
-        store.putSlot(key, value.copyBuilder().nextKey(newNextKey).build());
-    }
+    /**
+     * The slot values (with their links) changed so far for a single contract in a single transaction,
+     * buffered so that each slot is written to the {@link ContractStateStore} at most once.
+     */
+    private static class PendingLinks {
+        private final ContractID contractID;
+        private final ContractStateStore store;
+        private final Map<Bytes, SlotValue> pendingValues = new LinkedHashMap<>();
+        private final Set<Bytes> removedKeys = new LinkedHashSet<>();
 
-    @NonNull
-    private SlotValue slotValueFor(
-            @NonNull final ContractStateStore store,
-            final boolean forModify,
-            @NonNull final SlotKey slotKey,
-            @NonNull final String msgOnError) {
-        return forModify
-                ? requireNonNull(store.getSlotValueForModify(slotKey), () -> msgOnError + slotKey.key())
-                : requireNonNull(store.getSlotValue(slotKey), () -> msgOnError + slotKey.key());
+        PendingLinks(@NonNull final ContractID contractID, @NonNull final ContractStateStore store) {
+            this.contractID = requireNonNull(contractID);
+            this.store = requireNonNull(store);
+        }
+
+        ContractID contractID() {
+            return contractID;
+        }
+
+        void put(@NonNull final Bytes key, @NonNull final SlotValue value) {
+            removedKeys.remove(key);
+            pendingValues.put(key, value);
+        }
+
+        void remove(@NonNull final Bytes key) {
+            pendingValues.remove(key);
+            removedKeys.add(key);
+        }
+
+        void updatePrevFor(@NonNull final Bytes key, @NonNull final Bytes newPrevKey) {
+            final var value = slotValueFor(key, true, "Missing next key ");
+            put(key, value.copyBuilder().previousKey(newPrevKey).build());
+        }
+
+        void updateNextFor(@NonNull final Bytes key, @NonNull final Bytes newNextKey) {
+            final var value = slotValueFor(key, true, "Missing prev key ");
+            put(key, value.copyBuilder().nextKey(newNextKey).build());
+        }
+
+        @NonNull
+        SlotValue slotValueFor(@NonNull final Bytes key, final boolean forModify, @NonNull final String msgOnError) {
+            return requireNonNull(slotValueOrNull(key, forModify), () -> msgOnError + key);
+        }
+
+        @Nullable
+        SlotValue slotValueOrNull(@NonNull final Bytes key, final boolean forModify) {
+            if (removedKeys.contains(key)) {
+                return null;
+            }
+            final var pendingValue = pendingValues.get(key);
+            if (pendingValue != null) {
+                return pendingValue;
+            }
+            final var slotKey = new SlotKey(contractID, key);
+            return forModify ? store.getSlotValueForModify(slotKey) : store.getSlotValue(slotKey);
+        }
+
+        /**
+         * Writes every pending value to the store, and removes every removed slot from it.
+         */
+        void flush() {
+            pendingValues.forEach((key, value) -> store.putSlot(new SlotKey(contractID, key), value));
+            removedKeys.forEach(key -> store.removeSlot(new SlotKey(contractID, key)));
+        }
     }
 }
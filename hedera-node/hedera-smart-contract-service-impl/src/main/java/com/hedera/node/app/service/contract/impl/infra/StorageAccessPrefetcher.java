@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.service.contract.impl.infra;
+
+import static java.util.Objects.requireNonNull;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hedera.hapi.node.base.ContractID;
+import com.hedera.hapi.node.state.contract.SlotKey;
+import com.hedera.node.app.service.contract.impl.exec.metrics.ContractMetrics;
+import com.hedera.node.app.service.contract.impl.state.ContractStateStore;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.HashSet;
+import java.util.List;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.apache.tuweni.bytes.Bytes;
+
+/**
+ * Learns which storage slots a contract call touches, keyed by the called contract and the function
+ * selector of the call, from the {@link StorageAccessTracker} of each completed top-level frame; and
+ * uses what it learned to warm those slots in parallel before a later call with the same contract and
+ * selector is handled.
+ *
+ * <p>Since {@link StorageAccessTracker}s only exist when {@code CONTRACT_STATE_CHANGE} sidecars are
+ * enabled, nothing is learned (or prefetched) otherwise.
+ */
+@Singleton
+public class StorageAccessPrefetcher {
+    private static final int MAX_ACCESS_PATTERNS = 10_000;
+    private static final int NO_SELECTOR = -1;
+
+    private final Cache<AccessPattern, List<SlotKey>> learnedSlots =
+            Caffeine.newBuilder().maximumSize(MAX_ACCESS_PATTERNS).build();
+    private final ContractMetrics contractMetrics;
+
+    /**
+     * The storage slots accessed by all calls to a contract with a given function selector.
+     *
+     * @param contractID the called contract
+     * @param selector the function selector of the call, or {@link #NO_SELECTOR} if the call data was too short
+     */
+    private record AccessPattern(@NonNull ContractID contractID, int selector) {}
+
+    /**
+     * @param contractMetrics the metrics to report prefetch accuracy and load latency to
+     */
+    @Inject
+    public StorageAccessPrefetcher(@NonNull final ContractMetrics contractMetrics) {
+        this.contractMetrics = requireNonNull(contractMetrics);
+    }
+
+    /**
+     * Warms all the slots previously learned for calls to the given contract with the given call data in the
+     * given store, using the parallelism of the calling thread's fork-join pool (if any).
+     *
+     * @param contractID the numbered id of the contract about to be called
+     * @param callData the call data of the upcoming call
+     * @param store the store to warm the slots in
+     */
+    public void prefetch(
+            @NonNull final ContractID contractID,
+            @NonNull final com.hedera.pbj.runtime.io.buffer.Bytes callData,
+            @NonNull final ContractStateStore store) {
+        requireNonNull(store);
+        final var slotKeys = learnedSlots.getIfPresent(new AccessPattern(contractID, selectorOf(callData)));
+        if (slotKeys != null) {
+            slotKeys.parallelStream().forEach(store::warm);
+        }
+    }
+
+    /**
+     * Learns the slots accessed by a completed call to the given contract with the given call data, replacing
+     * anything learned for the same contract and selector; and reports how well the previously learned slots
+     * predicted the accesses of this call.
+     *
+     * @param contractID the numbered id of the called contract
+     * @param callData the call data of the completed call
+     * @param tracker the tracker with all the storage accesses of the call
+     * @param maxSlotsPerPattern the maximum number of slots to remember for a single pattern
+     */
+    public void learn(
+            @NonNull final ContractID contractID,
+            @NonNull final Bytes callData,
+            @NonNull final StorageAccessTracker tracker,
+            final int maxSlotsPerPattern) {
+        requireNonNull(tracker);
+        final var pattern = new AccessPattern(contractID, selectorOf(callData));
+        final var accessedSlots = tracker.getAccessedSlotKeys();
+        final var predictedSlots = learnedSlots.getIfPresent(pattern);
+        if (predictedSlots != null) {
+            final var accessed = new HashSet<>(accessedSlots);
+            final long numUsed =
+                    predictedSlots.stream().filter(accessed::contains).count();
+            contractMetrics.recordStoragePrefetch(predictedSlots.size(), numUsed, accessed.size() - numUsed);
+        } else {
+            contractMetrics.recordStoragePrefetch(0, 0, accessedSlots.size());
+        }
+        contractMetrics.recordStorageLoadLatency(tracker.numLoads(), tracker.loadNanos());
+        if (accessedSlots.isEmpty()) {
+            learnedSlots.invalidate(pattern);
+        } else {
+            learnedSlots.put(
+                    pattern, List.copyOf(accessedSlots.subList(0, Math.min(maxSlotsPerPattern, accessedSlots.size()))));
+        }
+    }
+
+    private static int selectorOf(@NonNull final com.hedera.pbj.runtime.io.buffer.Bytes callData) {
+        return callData.length() < 4 ? NO_SELECTOR : callData.getInt(0);
+    }
+
+    private static int selectorOf(@NonNull final Bytes callData) {
+        return callData.size() < 4 ? NO_SELECTOR : callData.getInt(0);
+    }
+}
@@ -16,6 +16,8 @@
 
 package com.hedera.node.app.service.contract.impl.infra;
 
+import static com.hedera.node.app.service.contract.impl.utils.ConversionUtils.tuweniToPbjBytes;
+
 import com.hedera.hapi.node.base.ContractID;
 import com.hedera.hapi.node.state.contract.SlotKey;
 import com.hedera.hapi.util.HapiUtils;
@@ -37,6 +39,34 @@ public class StorageAccessTracker {
     private static final Function<ContractID, Map<UInt256, StorageAccess>> MAP_FACTORY = ignored -> new TreeMap<>();
     private final Map<ContractID, Map<UInt256, StorageAccess>> accessesByContract =
             new TreeMap<>(HapiUtils.CONTRACT_ID_COMPARATOR);
+    private final boolean tracksLoadLatency;
+    private long numLoads;
+    private long loadNanos;
+
+    /**
+     * Creates a tracker that does not track {@code SLOAD} latency.
+     */
+    public StorageAccessTracker() {
+        this(false);
+    }
+
+    /**
+     * Creates a tracker.
+     *
+     * @param tracksLoadLatency whether {@code SLOAD} latency should be timed and tracked
+     */
+    public StorageAccessTracker(final boolean tracksLoadLatency) {
+        this.tracksLoadLatency = tracksLoadLatency;
+    }
+
+    /**
+     * Returns whether the latency of each {@code SLOAD} should be timed and passed to {@link #trackLoadNanos(long)}.
+     *
+     * @return whether load latency is tracked
+     */
+    public boolean tracksLoadLatency() {
+        return tracksLoadLatency;
+    }
 
     /**
      * The first time this method is called for a particular {@link SlotKey}, tracks its
@@ -51,6 +81,47 @@ public class StorageAccessTracker {
         accessesByContract.computeIfAbsent(contractID, MAP_FACTORY).putIfAbsent(key, StorageAccess.newRead(key, value));
     }
 
+    /**
+     * Tracks the time taken by a single {@code SLOAD}, for reporting an average load latency once the
+     * transaction is complete.
+     *
+     * @param nanos the nanoseconds spent executing the load
+     */
+    public void trackLoadNanos(final long nanos) {
+        numLoads++;
+        loadNanos += nanos;
+    }
+
+    /**
+     * Returns the number of {@code SLOAD}'s whose latency was tracked.
+     *
+     * @return the number of tracked loads
+     */
+    public long numLoads() {
+        return numLoads;
+    }
+
+    /**
+     * Returns the total nanoseconds spent in the {@code SLOAD}'s whose latency was tracked.
+     *
+     * @return the total nanoseconds spent loading
+     */
+    public long loadNanos() {
+        return loadNanos;
+    }
+
+    /**
+     * Returns the {@link SlotKey}s of all storage slots accessed so far, in contract and key order.
+     *
+     * @return the keys of the accessed slots
+     */
+    public List<SlotKey> getAccessedSlotKeys() {
+        final List<SlotKey> slotKeys = new ArrayList<>();
+        accessesByContract.forEach((contract, accesses) ->
+                accesses.keySet().forEach(key -> slotKeys.add(new SlotKey(contract, tuweniToPbjBytes(key)))));
+        return slotKeys;
+    }
+
     /**
      * Returns the list of all storage reads (i.e. the tracked {@code SLOAD}'s).
      * This is a convenience methods equivalent to passing an empty list to
@@ -100,6 +100,16 @@ public interface ContractStateStore {
     @Nullable
     SlotValue getOriginalSlotValue(@NonNull SlotKey key);
 
+    /**
+     * Warms the system by preloading the {@link SlotValue} for the given {@link SlotKey} into memory.
+     *
+     * <p>The default implementation is empty because preloading data into memory is only used for some
+     * implementations.
+     *
+     * @param key the {@link SlotKey} to warm
+     */
+    default void warm(@NonNull SlotKey key) {}
+
     /**
      * Returns the number of slots.
      *
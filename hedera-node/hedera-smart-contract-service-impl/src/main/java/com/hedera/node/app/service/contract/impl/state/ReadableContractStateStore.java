@@ -121,6 +121,14 @@ public class ReadableContractStateStore implements ContractStateStore {
         return storage.get(key);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void warm(@NonNull final SlotKey key) {
+        storage.warm(requireNonNull(key));
+    }
+
     /**
      * {@inheritDoc}
      */
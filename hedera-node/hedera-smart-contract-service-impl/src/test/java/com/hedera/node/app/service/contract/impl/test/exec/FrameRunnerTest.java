@@ -53,6 +53,7 @@ import com.hedera.node.app.service.contract.impl.exec.utils.FrameUtils;
 import com.hedera.node.app.service.contract.impl.exec.utils.PropagatedCallFailureRef;
 import com.hedera.node.app.service.contract.impl.hevm.HederaEvmTransactionResult;
 import com.hedera.node.app.service.contract.impl.hevm.HevmPropagatedCallFailure;
+import com.hedera.node.app.service.contract.impl.infra.StorageAccessPrefetcher;
 import com.hedera.node.app.service.contract.impl.state.ProxyWorldUpdater;
 import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
@@ -97,13 +98,16 @@ class FrameRunnerTest {
     @Mock
     private CustomGasCalculator gasCalculator;
 
+    @Mock
+    private StorageAccessPrefetcher storageAccessPrefetcher;
+
     private final PropagatedCallFailureRef propagatedCallFailure = new PropagatedCallFailureRef();
 
     private FrameRunner subject;
 
     @BeforeEach
     void setUp() {
-        subject = new FrameRunner(gasCalculator);
+        subject = new FrameRunner(gasCalculator, storageAccessPrefetcher);
     }
 
     @Test
@@ -114,6 +114,7 @@ class CustomSLoadOperationTest {
 
         given(featureFlags.isSidecarEnabled(frame, CONTRACT_STATE_CHANGE)).willReturn(true);
         given(frame.getContextVariable(FrameUtils.TRACKER_CONTEXT_VARIABLE)).willReturn(accessTracker);
+        given(accessTracker.tracksLoadLatency()).willReturn(true);
         given(frame.getStackItem(0)).willReturn(A_STORAGE_KEY).willReturn(A_STORAGE_VALUE);
         given(frame.getWorldUpdater()).willReturn(proxyWorldUpdater);
         given(proxyWorldUpdater.getHederaContractId(EIP_1014_ADDRESS)).willReturn(CALLED_CONTRACT_ID);
@@ -128,6 +129,30 @@ class CustomSLoadOperationTest {
         verify(accessTracker)
                 .trackIfFirstRead(
                         CALLED_CONTRACT_ID, UInt256.fromBytes(A_STORAGE_KEY), UInt256.fromBytes(A_STORAGE_VALUE));
+        verify(accessTracker).trackLoadNanos(anyLong());
+    }
+
+    @Test
+    void doesNotTimeLoadsIfTrackerDoesNotTrackLatency() {
+        final var successResult = new Operation.OperationResult(123, null);
+
+        given(featureFlags.isSidecarEnabled(frame, CONTRACT_STATE_CHANGE)).willReturn(true);
+        given(frame.getContextVariable(FrameUtils.TRACKER_CONTEXT_VARIABLE)).willReturn(accessTracker);
+        given(frame.getStackItem(0)).willReturn(A_STORAGE_KEY).willReturn(A_STORAGE_VALUE);
+        given(frame.getWorldUpdater()).willReturn(proxyWorldUpdater);
+        given(proxyWorldUpdater.getHederaContractId(EIP_1014_ADDRESS)).willReturn(CALLED_CONTRACT_ID);
+        given(delegate.execute(frame, evm)).willReturn(successResult);
+        given(frame.getRecipientAddress()).willReturn(EIP_1014_ADDRESS);
+        given(frame.getMessageFrameStack()).willReturn(stack);
+        given(stack.isEmpty()).willReturn(true);
+
+        final var result = subject.execute(frame, evm);
+
+        assertSame(successResult, result);
+        verify(accessTracker)
+                .trackIfFirstRead(
+                        CALLED_CONTRACT_ID, UInt256.fromBytes(A_STORAGE_KEY), UInt256.fromBytes(A_STORAGE_VALUE));
+        verify(accessTracker, never()).trackLoadNanos(anyLong());
     }
 
     @Test
@@ -27,7 +27,11 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.notNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
+import com.hedera.hapi.node.base.ContractID;
 import com.hedera.hapi.node.base.HederaFunctionality;
 import com.hedera.hapi.node.base.TransactionID;
 import com.hedera.hapi.node.contract.ContractCallTransactionBody;
@@ -38,7 +42,9 @@ import com.hedera.node.app.service.contract.impl.exec.ContextTransactionProcesso
 import com.hedera.node.app.service.contract.impl.exec.TransactionComponent;
 import com.hedera.node.app.service.contract.impl.exec.metrics.ContractMetrics;
 import com.hedera.node.app.service.contract.impl.handlers.ContractCallHandler;
+import com.hedera.node.app.service.contract.impl.infra.StorageAccessPrefetcher;
 import com.hedera.node.app.service.contract.impl.records.ContractCallStreamBuilder;
+import com.hedera.node.app.service.contract.impl.state.ContractStateStore;
 import com.hedera.node.app.service.contract.impl.state.RootProxyWorldUpdater;
 import com.hedera.node.app.spi.fees.FeeCalculator;
 import com.hedera.node.app.spi.fees.FeeCalculatorFactory;
@@ -46,8 +52,12 @@ import com.hedera.node.app.spi.fees.FeeContext;
 import com.hedera.node.app.spi.fixtures.workflows.FakePreHandleContext;
 import com.hedera.node.app.spi.workflows.HandleContext;
 import com.hedera.node.app.spi.workflows.PreCheckException;
+import com.hedera.node.app.spi.workflows.WarmupContext;
 import com.hedera.node.config.data.ContractsConfig;
+import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.common.metrics.noop.NoOpMetrics;
+import com.swirlds.config.api.Configuration;
 import com.swirlds.metrics.api.Metrics;
 import org.hyperledger.besu.evm.gascalculator.GasCalculator;
 import org.junit.jupiter.api.BeforeEach;
@@ -92,6 +102,19 @@ class ContractCallHandlerTest extends ContractHandlerTestBase {
     @Mock
     private ContractsConfig contractsConfig;
 
+    @Mock
+    private WarmupContext warmupContext;
+
+    @Mock
+    private StorageAccessPrefetcher storageAccessPrefetcher;
+
+    @Mock
+    private ContractStateStore contractStateStore;
+
+    private static final Configuration PREFETCH_ENABLED_CONFIG = HederaTestConfigBuilder.create()
+            .withValue("contracts.storagePrefetch.enabled", true)
+            .getOrCreateConfig();
+
     private final Metrics metrics = new NoOpMetrics();
     private final ContractMetrics contractMetrics = new ContractMetrics(() -> metrics, () -> contractsConfig);
 
@@ -104,6 +127,48 @@ class ContractCallHandlerTest extends ContractHandlerTestBase {
         subject = new ContractCallHandler(() -> factory, gasCalculator, contractServiceComponent);
     }
 
+    @Test
+    void warmPrefetchesStorageForNumberedContract() {
+        final var callData = Bytes.fromHex("12345678");
+        final var body = TransactionBody.newBuilder()
+                .contractCall(ContractCallTransactionBody.newBuilder()
+                        .contractID(CALLED_CONTRACT_ID)
+                        .functionParameters(callData))
+                .build();
+        given(warmupContext.configuration()).willReturn(PREFETCH_ENABLED_CONFIG);
+        given(warmupContext.body()).willReturn(body);
+        given(warmupContext.createStore(ContractStateStore.class)).willReturn(contractStateStore);
+        given(contractServiceComponent.storageAccessPrefetcher()).willReturn(storageAccessPrefetcher);
+
+        subject.warm(warmupContext);
+
+        verify(storageAccessPrefetcher).prefetch(CALLED_CONTRACT_ID, callData, contractStateStore);
+    }
+
+    @Test
+    void warmDoesNothingForAliasedContract() {
+        final var body = TransactionBody.newBuilder()
+                .contractCall(ContractCallTransactionBody.newBuilder()
+                        .contractID(ContractID.newBuilder().evmAddress(Bytes.wrap(new byte[20]))))
+                .build();
+        given(warmupContext.configuration()).willReturn(PREFETCH_ENABLED_CONFIG);
+        given(warmupContext.body()).willReturn(body);
+
+        subject.warm(warmupContext);
+
+        verifyNoInteractions(storageAccessPrefetcher);
+    }
+
+    @Test
+    void warmDoesNothingWhenStoragePrefetchDisabled() {
+        given(warmupContext.configuration()).willReturn(HederaTestConfigBuilder.createConfig());
+
+        subject.warm(warmupContext);
+
+        verify(warmupContext, never()).body();
+        verifyNoInteractions(storageAccessPrefetcher);
+    }
+
     @Test
     void delegatesToCreatedComponentAndExposesSuccess() {
         given(factory.create(handleContext, HederaFunctionality.CONTRACT_CALL)).willReturn(component);
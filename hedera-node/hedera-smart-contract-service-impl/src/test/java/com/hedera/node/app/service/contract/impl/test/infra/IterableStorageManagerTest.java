@@ -273,30 +273,23 @@ class IterableStorageManagerTest {
         given(enhancement.operations()).willReturn(hederaOperations);
         given(store.getSlotValueForModify(new SlotKey(CONTRACT_1, BYTES_1)))
                 .willReturn(new SlotValue(tuweniToPbjBytes(UInt256.ONE), Bytes.EMPTY, Bytes.EMPTY));
-        given(store.getSlotValueForModify(new SlotKey(CONTRACT_1, BYTES_2)))
-                .willReturn(new SlotValue(tuweniToPbjBytes(UInt256.ONE), Bytes.EMPTY, BYTES_1));
 
         // Should insert into the head of the existing storage list
         subject.persistChanges(enhancement, accesses, sizeChanges, store);
 
-        // The first insert (BYTES_2)
-        verify(store)
-                .putSlot(
-                        new SlotKey(CONTRACT_1, BYTES_2),
-                        new SlotValue(tuweniToPbjBytes(UInt256.MAX_VALUE), Bytes.EMPTY, BYTES_1));
+        // Each slot is written exactly once, with its final links
         verify(store)
                 .putSlot(
                         new SlotKey(CONTRACT_1, BYTES_1),
                         new SlotValue(tuweniToPbjBytes(UInt256.ONE), BYTES_2, Bytes.EMPTY));
-        // The second insert (BYTES_3)
         verify(store)
                 .putSlot(
-                        new SlotKey(CONTRACT_1, BYTES_3),
-                        new SlotValue(tuweniToPbjBytes(UInt256.MAX_VALUE), Bytes.EMPTY, BYTES_2));
+                        new SlotKey(CONTRACT_1, BYTES_2),
+                        new SlotValue(tuweniToPbjBytes(UInt256.MAX_VALUE), BYTES_3, BYTES_1));
         verify(store)
                 .putSlot(
-                        new SlotKey(CONTRACT_1, BYTES_2),
-                        new SlotValue(tuweniToPbjBytes(UInt256.ONE), BYTES_3, BYTES_1));
+                        new SlotKey(CONTRACT_1, BYTES_3),
+                        new SlotValue(tuweniToPbjBytes(UInt256.MAX_VALUE), Bytes.EMPTY, BYTES_2));
 
         // The new first key is BYTES_3
         verify(hederaOperations).updateStorageMetadata(CONTRACT_1, BYTES_3, 2);
@@ -304,6 +297,108 @@ class IterableStorageManagerTest {
         verifyNoMoreInteractions(hederaOperations);
     }
 
+    @Test
+    void adjacentRemovalsOnlyRewriteSurvivingNeighbor() {
+        final var accesses = List.of(new StorageAccesses(
+                CONTRACT_1,
+                List.of(
+                        StorageAccess.newWrite(UInt256.ONE, UInt256.MAX_VALUE, UInt256.ZERO),
+                        StorageAccess.newWrite(UInt256.valueOf(2L), UInt256.MAX_VALUE, UInt256.ZERO))));
+
+        final var sizeChanges = List.of(new StorageSizeChange(CONTRACT_1, 2, 0));
+
+        given(enhancement.nativeOperations()).willReturn(hederaNativeOperations);
+        given(hederaNativeOperations.getAccount(CONTRACT_1)).willReturn(account);
+        given(account.firstContractStorageKey()).willReturn(BYTES_1);
+        given(enhancement.operations()).willReturn(hederaOperations);
+        given(store.getSlotValue(new SlotKey(CONTRACT_1, BYTES_1)))
+                .willReturn(new SlotValue(BYTES_1, Bytes.EMPTY, BYTES_2));
+        given(store.getSlotValueForModify(new SlotKey(CONTRACT_1, BYTES_2)))
+                .willReturn(new SlotValue(BYTES_2, BYTES_1, BYTES_3));
+        given(store.getSlotValueForModify(new SlotKey(CONTRACT_1, BYTES_3)))
+                .willReturn(new SlotValue(BYTES_3, BYTES_2, Bytes.EMPTY));
+
+        subject.persistChanges(enhancement, accesses, sizeChanges, store);
+
+        // The removed BYTES_2 is never written, only the surviving BYTES_3
+        verify(store).putSlot(new SlotKey(CONTRACT_1, BYTES_3), new SlotValue(BYTES_3, Bytes.EMPTY, Bytes.EMPTY));
+        verify(store).removeSlot(new SlotKey(CONTRACT_1, BYTES_1));
+        verify(store).removeSlot(new SlotKey(CONTRACT_1, BYTES_2));
+        verify(hederaOperations).updateStorageMetadata(CONTRACT_1, BYTES_3, -2);
+        verifyNoMoreInteractions(store);
+        verifyNoMoreInteractions(hederaOperations);
+    }
+
+    @Test
+    void insertionTakesPlaceOfRemovedHeadSlot() {
+        final var accesses = List.of(new StorageAccesses(
+                CONTRACT_1,
+                List.of(
+                        StorageAccess.newWrite(UInt256.ONE, UInt256.MAX_VALUE, UInt256.ZERO),
+                        StorageAccess.newWrite(UInt256.valueOf(3L), UInt256.ZERO, UInt256.MAX_VALUE))));
+
+        final var sizeChanges = List.of(new StorageSizeChange(CONTRACT_1, 1, 1));
+
+        given(enhancement.nativeOperations()).willReturn(hederaNativeOperations);
+        given(hederaNativeOperations.getAccount(CONTRACT_1)).willReturn(account);
+        given(account.firstContractStorageKey()).willReturn(BYTES_1);
+        given(enhancement.operations()).willReturn(hederaOperations);
+        given(store.getSlotValue(new SlotKey(CONTRACT_1, BYTES_1)))
+                .willReturn(new SlotValue(BYTES_1, Bytes.EMPTY, BYTES_2));
+        given(store.getSlotValueForModify(new SlotKey(CONTRACT_1, BYTES_2)))
+                .willReturn(new SlotValue(BYTES_2, BYTES_1, Bytes.EMPTY));
+
+        subject.persistChanges(enhancement, accesses, sizeChanges, store);
+
+        // BYTES_3 takes the place of BYTES_1, so only its one neighbor is rewritten
+        verify(store).putSlot(new SlotKey(CONTRACT_1, BYTES_2), new SlotValue(BYTES_2, BYTES_3, Bytes.EMPTY));
+        verify(store)
+                .putSlot(
+                        new SlotKey(CONTRACT_1, BYTES_3),
+                        new SlotValue(tuweniToPbjBytes(UInt256.MAX_VALUE), Bytes.EMPTY, BYTES_2));
+        verify(store).removeSlot(new SlotKey(CONTRACT_1, BYTES_1));
+        verify(hederaOperations).updateStorageMetadata(CONTRACT_1, BYTES_3, 0);
+        verifyNoMoreInteractions(store);
+        verifyNoMoreInteractions(hederaOperations);
+    }
+
+    @Test
+    void insertionTakesPlaceOfRemovedInteriorSlot() {
+        final var accesses = List.of(new StorageAccesses(
+                CONTRACT_1,
+                List.of(
+                        StorageAccess.newWrite(UInt256.valueOf(3L), UInt256.ZERO, UInt256.MAX_VALUE),
+                        StorageAccess.newWrite(UInt256.valueOf(2L), UInt256.MAX_VALUE, UInt256.ZERO))));
+
+        final var sizeChanges = List.of(new StorageSizeChange(CONTRACT_1, 1, 1));
+        final var bytes4 = tuweniToPbjBytes(UInt256.valueOf(4L));
+
+        given(enhancement.nativeOperations()).willReturn(hederaNativeOperations);
+        given(hederaNativeOperations.getAccount(CONTRACT_1)).willReturn(account);
+        given(account.firstContractStorageKey()).willReturn(BYTES_1);
+        given(enhancement.operations()).willReturn(hederaOperations);
+        given(store.getSlotValue(new SlotKey(CONTRACT_1, BYTES_2)))
+                .willReturn(new SlotValue(BYTES_2, BYTES_1, bytes4));
+        given(store.getSlotValueForModify(new SlotKey(CONTRACT_1, BYTES_1)))
+                .willReturn(new SlotValue(BYTES_1, Bytes.EMPTY, BYTES_2));
+        given(store.getSlotValueForModify(new SlotKey(CONTRACT_1, bytes4)))
+                .willReturn(new SlotValue(bytes4, BYTES_2, Bytes.EMPTY));
+
+        subject.persistChanges(enhancement, accesses, sizeChanges, store);
+
+        verify(store).putSlot(new SlotKey(CONTRACT_1, BYTES_1), new SlotValue(BYTES_1, Bytes.EMPTY, BYTES_3));
+        verify(store).putSlot(new SlotKey(CONTRACT_1, bytes4), new SlotValue(bytes4, BYTES_3, Bytes.EMPTY));
+        verify(store)
+                .putSlot(
+                        new SlotKey(CONTRACT_1, BYTES_3),
+                        new SlotValue(tuweniToPbjBytes(UInt256.MAX_VALUE), BYTES_1, bytes4));
+        verify(store).removeSlot(new SlotKey(CONTRACT_1, BYTES_2));
+        // The head of the list is unchanged
+        verify(hederaOperations).updateStorageMetadata(CONTRACT_1, BYTES_1, 0);
+        verifyNoMoreInteractions(store);
+        verifyNoMoreInteractions(hederaOperations);
+    }
+
     @Test
     void insertSlotIntoExistingStorage() {
         final var accesses = List.of(new StorageAccesses(
@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.service.contract.impl.test.infra;
+
+import static com.hedera.node.app.service.contract.impl.utils.ConversionUtils.tuweniToPbjBytes;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.hedera.hapi.node.base.ContractID;
+import com.hedera.hapi.node.state.contract.SlotKey;
+import com.hedera.node.app.service.contract.impl.exec.metrics.ContractMetrics;
+import com.hedera.node.app.service.contract.impl.infra.StorageAccessPrefetcher;
+import com.hedera.node.app.service.contract.impl.infra.StorageAccessTracker;
+import com.hedera.node.app.service.contract.impl.state.ContractStateStore;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.units.bigints.UInt256;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class StorageAccessPrefetcherTest {
+    private static final ContractID CONTRACT_ID =
+            ContractID.newBuilder().contractNum(123L).build();
+    private static final Bytes CALL_DATA = Bytes.fromHexString("0x12345678abcd");
+    private static final Bytes OTHER_CALL_DATA = Bytes.fromHexString("0x87654321abcd");
+    private static final SlotKey ONE_KEY = new SlotKey(CONTRACT_ID, tuweniToPbjBytes(UInt256.ONE));
+    private static final SlotKey TWO_KEY = new SlotKey(CONTRACT_ID, tuweniToPbjBytes(UInt256.valueOf(2)));
+
+    @Mock
+    private ContractMetrics contractMetrics;
+
+    @Mock
+    private ContractStateStore store;
+
+    private StorageAccessPrefetcher subject;
+
+    @BeforeEach
+    void setUp() {
+        subject = new StorageAccessPrefetcher(contractMetrics);
+    }
+
+    @Test
+    void prefetchesNothingForUnknownPattern() {
+        subject.prefetch(CONTRACT_ID, tuweniToPbjBytes(CALL_DATA), store);
+
+        verifyNoInteractions(store);
+    }
+
+    @Test
+    void prefetchesLearnedSlotsOnlyForSameSelector() {
+        final var tracker = new StorageAccessTracker();
+        tracker.trackIfFirstRead(CONTRACT_ID, UInt256.ONE, UInt256.MAX_VALUE);
+        tracker.trackIfFirstRead(CONTRACT_ID, UInt256.valueOf(2), UInt256.MAX_VALUE);
+        tracker.trackLoadNanos(1_000L);
+        tracker.trackLoadNanos(3_000L);
+
+        subject.learn(CONTRACT_ID, CALL_DATA, tracker, 256);
+        subject.prefetch(CONTRACT_ID, tuweniToPbjBytes(OTHER_CALL_DATA), store);
+        verifyNoInteractions(store);
+
+        subject.prefetch(CONTRACT_ID, tuweniToPbjBytes(CALL_DATA), store);
+        verify(store).warm(ONE_KEY);
+        verify(store).warm(TWO_KEY);
+        verify(contractMetrics).recordStoragePrefetch(0, 0, 2);
+        verify(contractMetrics).recordStorageLoadLatency(2, 4_000L);
+    }
+
+    @Test
+    void limitsLearnedSlotsAndReportsAccuracy() {
+        final var firstTracker = new StorageAccessTracker();
+        firstTracker.trackIfFirstRead(CONTRACT_ID, UInt256.ONE, UInt256.MAX_VALUE);
+        firstTracker.trackIfFirstRead(CONTRACT_ID, UInt256.valueOf(2), UInt256.MAX_VALUE);
+        subject.learn(CONTRACT_ID, CALL_DATA, firstTracker, 1);
+
+        final var secondTracker = new StorageAccessTracker();
+        secondTracker.trackIfFirstRead(CONTRACT_ID, UInt256.ONE, UInt256.MAX_VALUE);
+        secondTracker.trackIfFirstRead(CONTRACT_ID, UInt256.valueOf(2), UInt256.MAX_VALUE);
+        subject.learn(CONTRACT_ID, CALL_DATA, secondTracker, 1);
+
+        verify(contractMetrics).recordStoragePrefetch(1, 1, 1);
+
+        subject.prefetch(CONTRACT_ID, tuweniToPbjBytes(CALL_DATA), store);
+        verify(store).warm(ONE_KEY);
+        verify(store, never()).warm(TWO_KEY);
+    }
+
+    @Test
+    void forgetsPatternWithNoAccesses() {
+        final var tracker = new StorageAccessTracker();
+        tracker.trackIfFirstRead(CONTRACT_ID, UInt256.ONE, UInt256.MAX_VALUE);
+        subject.learn(CONTRACT_ID, CALL_DATA, tracker, 256);
+
+        subject.learn(CONTRACT_ID, CALL_DATA, new StorageAccessTracker(), 256);
+        subject.prefetch(CONTRACT_ID, tuweniToPbjBytes(CALL_DATA), store);
+
+        verifyNoInteractions(store);
+    }
+}
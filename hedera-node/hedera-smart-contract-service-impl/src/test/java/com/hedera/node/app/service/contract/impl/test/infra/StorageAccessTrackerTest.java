@@ -16,10 +16,14 @@
 
 package com.hedera.node.app.service.contract.impl.test.infra;
 
+import static com.hedera.node.app.service.contract.impl.utils.ConversionUtils.tuweniToPbjBytes;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.hedera.hapi.node.base.ContractID;
+import com.hedera.hapi.node.state.contract.SlotKey;
 import com.hedera.node.app.service.contract.impl.infra.StorageAccessTracker;
 import com.hedera.node.app.service.contract.impl.state.StorageAccess;
 import com.hedera.node.app.service.contract.impl.state.StorageAccesses;
@@ -80,4 +84,26 @@ class StorageAccessTrackerTest {
 
         assertEquals(reads, subject.getReadsMergedWith(List.of()));
     }
+
+    @Test
+    void getsAccessedSlotKeysAndLoadLatency() {
+        subject.trackIfFirstRead(ANOTHER_CONTRACT_ID, UInt256.MAX_VALUE, UInt256.ONE);
+        subject.trackIfFirstRead(CONTRACT_ID, UInt256.ONE, UInt256.MIN_VALUE);
+        subject.trackLoadNanos(5L);
+        subject.trackLoadNanos(7L);
+
+        assertEquals(
+                List.of(
+                        new SlotKey(CONTRACT_ID, tuweniToPbjBytes(UInt256.ONE)),
+                        new SlotKey(ANOTHER_CONTRACT_ID, tuweniToPbjBytes(UInt256.MAX_VALUE))),
+                subject.getAccessedSlotKeys());
+        assertEquals(2L, subject.numLoads());
+        assertEquals(12L, subject.loadNanos());
+    }
+
+    @Test
+    void tracksLoadLatencyOnlyIfAsked() {
+        assertFalse(subject.tracksLoadLatency());
+        assertTrue(new StorageAccessTracker(true).tracksLoadLatency());
+    }
 }
@@ -44,6 +44,7 @@ import com.hedera.hapi.node.transaction.Response;
 import com.hedera.node.app.service.token.ReadableAccountStore;
 import com.hedera.node.app.service.token.ReadableTokenRelationStore;
 import com.hedera.node.app.service.token.ReadableTokenStore;
+import com.hedera.node.app.service.token.impl.util.TokenRelationWalkCache;
 import com.hedera.node.app.spi.workflows.FreeQueryHandler;
 import com.hedera.node.app.spi.workflows.PreCheckException;
 import com.hedera.node.app.spi.workflows.QueryContext;
@@ -68,13 +69,19 @@ public class CryptoGetAccountBalanceHandler extends FreeQueryHandler {
             .withDescription("Number of balances requested in GetAccountBalance queries per second");
 
     private final SpeedometerMetric balanceSpeedometer;
+    private final TokenRelationWalkCache tokenRelationWalkCache;
 
     /**
      * Default constructor for injection.
+     *
+     * @param metrics the metrics to register the balance speedometer with
+     * @param tokenRelationWalkCache the cache used to batch repeat reads of an account's token relations
      */
     @Inject
-    public CryptoGetAccountBalanceHandler(@NonNull final Metrics metrics) {
+    public CryptoGetAccountBalanceHandler(
+            @NonNull final Metrics metrics, @NonNull final TokenRelationWalkCache tokenRelationWalkCache) {
         this.balanceSpeedometer = metrics.getOrCreate(BALANCE_SPEEDOMETER_CONFIG);
+        this.tokenRelationWalkCache = requireNonNull(tokenRelationWalkCache);
     }
 
     @Override
@@ -177,6 +184,9 @@ public class CryptoGetAccountBalanceHandler extends FreeQueryHandler {
             @NonNull final ReadableTokenStore readableTokenStore,
             @NonNull final ReadableTokenRelationStore tokenRelationStore) {
         final var ret = new ArrayList<TokenBalance>();
+        final var walkedTokenIds = new ArrayList<TokenID>();
+        tokenRelationWalkCache.prefetch(
+                account, tokenRelationStore, readableTokenStore, tokenConfig.maxRelsPerInfoQuery());
         var tokenId = account.headTokenId();
         int count = 0;
         TokenRelation tokenRelation;
@@ -187,6 +197,7 @@ public class CryptoGetAccountBalanceHandler extends FreeQueryHandler {
             accountID = account.accountId();
             tokenRelation = tokenRelationStore.get(accountID, tokenId);
             if (tokenRelation != null) {
+                walkedTokenIds.add(tokenId);
                 token = readableTokenStore.get(tokenId);
                 if (token != null) {
                     tokenBalance = TokenBalance.newBuilder()
@@ -202,6 +213,7 @@ public class CryptoGetAccountBalanceHandler extends FreeQueryHandler {
             }
             count++;
         }
+        tokenRelationWalkCache.remember(account.accountIdOrThrow(), walkedTokenIds);
         return ret;
     }
 }
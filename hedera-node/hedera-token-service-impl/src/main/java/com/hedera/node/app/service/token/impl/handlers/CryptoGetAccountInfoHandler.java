@@ -32,6 +32,7 @@ import com.hedera.hapi.node.base.HederaFunctionality;
 import com.hedera.hapi.node.base.QueryHeader;
 import com.hedera.hapi.node.base.ResponseHeader;
 import com.hedera.hapi.node.base.Timestamp;
+import com.hedera.hapi.node.base.TokenRelationship;
 import com.hedera.hapi.node.state.token.Account;
 import com.hedera.hapi.node.token.AccountInfo;
 import com.hedera.hapi.node.token.CryptoGetInfoQuery;
@@ -48,6 +49,7 @@ import com.hedera.node.app.service.token.ReadableStakingInfoStore;
 import com.hedera.node.app.service.token.ReadableTokenRelationStore;
 import com.hedera.node.app.service.token.ReadableTokenStore;
 import com.hedera.node.app.service.token.api.AccountSummariesApi;
+import com.hedera.node.app.service.token.impl.util.TokenRelationWalkCache;
 import com.hedera.node.app.spi.fees.Fees;
 import com.hedera.node.app.spi.workflows.PaidQueryHandler;
 import com.hedera.node.app.spi.workflows.PreCheckException;
@@ -71,16 +73,22 @@ import javax.inject.Singleton;
 public class CryptoGetAccountInfoHandler extends PaidQueryHandler {
     private final CryptoOpsUsage cryptoOpsUsage;
     private final InstantSource instantSource;
+    private final TokenRelationWalkCache tokenRelationWalkCache;
 
     /**
      * Default constructor for injection.
      * @param cryptoOpsUsage the usage of the crypto operations for calculating fees
+     * @param instantSource the source of the current instant
+     * @param tokenRelationWalkCache the cache used to batch repeat reads of an account's token relations
      */
     @Inject
     public CryptoGetAccountInfoHandler(
-            @NonNull final CryptoOpsUsage cryptoOpsUsage, @NonNull final InstantSource instantSource) {
+            @NonNull final CryptoOpsUsage cryptoOpsUsage,
+            @NonNull final InstantSource instantSource,
+            @NonNull final TokenRelationWalkCache tokenRelationWalkCache) {
         this.cryptoOpsUsage = requireNonNull(cryptoOpsUsage);
         this.instantSource = requireNonNull(instantSource);
+        this.tokenRelationWalkCache = requireNonNull(tokenRelationWalkCache);
     }
 
     @Override
@@ -182,8 +190,14 @@ public class CryptoGetAccountInfoHandler extends PaidQueryHandler {
                 info.alias(account.alias());
             }
             if (tokensConfig.balancesInQueriesEnabled()) {
-                info.tokenRelationships(tokenRelationshipsOf(
-                        account, tokenStore, tokenRelationStore, tokensConfig.maxRelsPerInfoQuery()));
+                tokenRelationWalkCache.prefetch(
+                        account, tokenRelationStore, tokenStore, tokensConfig.maxRelsPerInfoQuery());
+                final var tokenRels = tokenRelationshipsOf(
+                        account, tokenStore, tokenRelationStore, tokensConfig.maxRelsPerInfoQuery());
+                tokenRelationWalkCache.remember(
+                        account.accountIdOrThrow(),
+                        tokenRels.stream().map(TokenRelationship::tokenIdOrThrow).toList());
+                info.tokenRelationships(tokenRels);
             }
             info.stakingInfo(AccountSummariesApi.summarizeStakingInfo(
                     stakingConfig.rewardHistoryNumStoredPeriods(),
@@ -0,0 +1,157 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.service.token.impl.util;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.TokenID;
+import com.hedera.hapi.node.state.token.Account;
+import com.hedera.node.app.service.token.ReadableTokenRelationStore;
+import com.hedera.node.app.service.token.ReadableTokenStore;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * A bounded, in-memory cache of the token ids found by the most recent walk of each recently queried
+ * account's linked list of token relations. A repeat query uses it to fetch those relations, and their
+ * tokens, as a parallel batch instead of one serial read per hop through
+ * {@link com.hedera.hapi.node.state.token.TokenRelation#nextToken()}.
+ *
+ * <p>This is <b>not</b> the persistent per-account index of token relations originally requested; that
+ * needs a new keyed state, a HAPI change and a migration, and is out of scope. Nothing here is in state,
+ * so the first query for an account after a restart or reconnect (or after the account falls out of the
+ * cache) still walks its list serially; association and dissociation still rewrite neighbouring links; and
+ * the NFT owner list is unchanged. The cache is also only ever a hint. Queries still follow the linked list
+ * from {@link Account#headTokenId()}, so a stale or missing entry costs at most some wasted (or serial)
+ * reads, never a wrong answer.
+ *
+ * <p>The batch is warmed on a small dedicated pool, never on the common fork-join pool, since warming is
+ * blocking disk IO. When the pool is saturated the querying thread warms the rest of its batch itself.
+ */
+@Singleton
+public class TokenRelationWalkCache {
+    private static final Logger log = LogManager.getLogger(TokenRelationWalkCache.class);
+
+    private static final int MAX_CACHED_ACCOUNTS = 10_000;
+    private static final int WARM_THREADS = 4;
+    private static final int MAX_QUEUED_WARMS = 64;
+
+    private final Cache<AccountID, List<TokenID>> tokenIdsByAccount =
+            CacheBuilder.newBuilder().maximumSize(MAX_CACHED_ACCOUNTS).build();
+    private final Executor warmExecutor;
+
+    /**
+     * Default constructor for injection.
+     */
+    @Inject
+    public TokenRelationWalkCache() {
+        this(newWarmExecutor());
+    }
+
+    /**
+     * @param warmExecutor the executor to warm batches of token relations on
+     */
+    public TokenRelationWalkCache(@NonNull final Executor warmExecutor) {
+        this.warmExecutor = requireNonNull(warmExecutor);
+    }
+
+    /**
+     * Warms (in parallel) the relations, and their tokens, of up to {@code limit} token ids cached for the
+     * given account, so that a following walk of its linked list of token relations reads from memory.
+     * Returns once the batch is warm.
+     *
+     * @param account the account whose token relations are about to be walked
+     * @param tokenRelationStore the store the walk will read relations from
+     * @param tokenStore the store the walk will read tokens from
+     * @param limit the maximum number of relations the walk will read
+     */
+    public void prefetch(
+            @NonNull final Account account,
+            @NonNull final ReadableTokenRelationStore tokenRelationStore,
+            @NonNull final ReadableTokenStore tokenStore,
+            final long limit) {
+        requireNonNull(tokenRelationStore);
+        requireNonNull(tokenStore);
+        final var accountId = account.accountIdOrThrow();
+        final var tokenIds = tokenIdsByAccount.getIfPresent(accountId);
+        if (tokenIds == null) {
+            return;
+        }
+        final var batch = tokenIds.subList(0, (int) Math.min(limit, tokenIds.size()));
+        if (batch.isEmpty()) {
+            return;
+        }
+        final int chunkSize = (batch.size() + WARM_THREADS - 1) / WARM_THREADS;
+        final var warms = new CompletableFuture<?>[(batch.size() + chunkSize - 1) / chunkSize];
+        for (int i = 0; i < warms.length; i++) {
+            final var chunk = batch.subList(i * chunkSize, Math.min((i + 1) * chunkSize, batch.size()));
+            warms[i] = CompletableFuture.runAsync(
+                    () -> chunk.forEach(tokenId -> {
+                        tokenRelationStore.warm(accountId, tokenId);
+                        tokenStore.warm(tokenId);
+                    }),
+                    warmExecutor);
+        }
+        try {
+            CompletableFuture.allOf(warms).join();
+        } catch (final CompletionException e) {
+            // Warming is only a hint, the walk reads anything that was not warmed itself
+            log.debug("Failed to warm token relations of {}", accountId, e);
+        }
+    }
+
+    /**
+     * Remembers the token ids found by a walk of the given account's linked list of token relations,
+     * replacing anything cached for it before. Accounts with at most one relation are not cached,
+     * since there is nothing to batch for them.
+     *
+     * @param accountId the account whose token relations were walked
+     * @param tokenIds the token ids in the order they were walked
+     */
+    public void remember(@NonNull final AccountID accountId, @NonNull final List<TokenID> tokenIds) {
+        requireNonNull(accountId);
+        if (tokenIds.size() > 1) {
+            tokenIdsByAccount.put(accountId, List.copyOf(tokenIds));
+        } else {
+            tokenIdsByAccount.invalidate(accountId);
+        }
+    }
+
+    private static Executor newWarmExecutor() {
+        return new ThreadPoolExecutor(
+                WARM_THREADS,
+                WARM_THREADS,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(MAX_QUEUED_WARMS),
+                Thread.ofPlatform().name("token-relation-warmer-", 0).daemon().factory(),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+}
@@ -59,6 +59,7 @@ import com.hedera.node.app.service.token.impl.ReadableTokenRelationStoreImpl;
 import com.hedera.node.app.service.token.impl.ReadableTokenStoreImpl;
 import com.hedera.node.app.service.token.impl.handlers.CryptoGetAccountBalanceHandler;
 import com.hedera.node.app.service.token.impl.test.handlers.util.CryptoHandlerTestBase;
+import com.hedera.node.app.service.token.impl.util.TokenRelationWalkCache;
 import com.hedera.node.app.spi.workflows.PreCheckException;
 import com.hedera.node.app.spi.workflows.QueryContext;
 import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
@@ -100,7 +101,7 @@ class CryptoGetAccountBalanceHandlerTest extends CryptoHandlerTestBase {
     public void setUp() {
         super.setUp();
         given(metrics.getOrCreate(any())).willReturn(balanceSpeedometer);
-        subject = new CryptoGetAccountBalanceHandler(metrics);
+        subject = new CryptoGetAccountBalanceHandler(metrics, new TokenRelationWalkCache(Runnable::run));
     }
 
     @Test
@@ -68,6 +68,7 @@ import com.hedera.node.app.service.token.impl.ReadableTokenRelationStoreImpl;
 import com.hedera.node.app.service.token.impl.ReadableTokenStoreImpl;
 import com.hedera.node.app.service.token.impl.handlers.CryptoGetAccountInfoHandler;
 import com.hedera.node.app.service.token.impl.test.handlers.util.CryptoHandlerTestBase;
+import com.hedera.node.app.service.token.impl.util.TokenRelationWalkCache;
 import com.hedera.node.app.spi.workflows.PreCheckException;
 import com.hedera.node.app.spi.workflows.QueryContext;
 import com.hedera.node.config.converter.BytesConverter;
@@ -113,7 +114,8 @@ class CryptoGetAccountInfoHandlerTest extends CryptoHandlerTestBase {
     public void setUp() {
         super.setUp();
         cryptoOpsUsage = new CryptoOpsUsage();
-        subject = new CryptoGetAccountInfoHandler(cryptoOpsUsage, instantSource);
+        subject = new CryptoGetAccountInfoHandler(
+                cryptoOpsUsage, instantSource, new TokenRelationWalkCache(Runnable::run));
     }
 
     @Test
@@ -116,7 +116,8 @@ class CryptoTransferHandlerTest extends CryptoTransferHandlerTestBase {
 
         TransactionBody txn = newCryptoTransfer(ACCT_3333_MINUS_10, ACCT_4444_PLUS_10);
 
-        WarmupContext warmupContext = new CacheWarmer.WarmupContextImpl(txn, storeFactory);
+        WarmupContext warmupContext =
+                new CacheWarmer.WarmupContextImpl(txn, storeFactory, defaultConfig().getOrCreateConfig());
         when(storeFactory.getStore(ReadableAccountStore.class)).thenReturn(readableAccountStore);
 
         subject.warm(warmupContext);
@@ -143,7 +144,8 @@ class CryptoTransferHandlerTest extends CryptoTransferHandlerTestBase {
                         .build())
                 .build());
 
-        WarmupContext warmupContext = new CacheWarmer.WarmupContextImpl(txn, storeFactory);
+        WarmupContext warmupContext =
+                new CacheWarmer.WarmupContextImpl(txn, storeFactory, defaultConfig().getOrCreateConfig());
         when(storeFactory.getStore(ReadableAccountStore.class)).thenReturn(readableAccountStore);
         when(storeFactory.getStore(ReadableTokenStore.class)).thenReturn(readableTokenStore);
         when(storeFactory.getStore(ReadableNftStore.class)).thenReturn(readableNftStore);
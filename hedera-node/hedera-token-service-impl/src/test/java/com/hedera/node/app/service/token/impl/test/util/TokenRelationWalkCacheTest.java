@@ -0,0 +1,106 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.service.token.impl.test.util;
+
+import static com.hedera.node.app.service.token.impl.handlers.BaseTokenHandler.asToken;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.TokenID;
+import com.hedera.hapi.node.state.token.Account;
+import com.hedera.node.app.service.token.ReadableTokenRelationStore;
+import com.hedera.node.app.service.token.ReadableTokenStore;
+import com.hedera.node.app.service.token.impl.handlers.BaseTokenHandler;
+import com.hedera.node.app.service.token.impl.util.TokenRelationWalkCache;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRelationWalkCacheTest {
+    private static final TokenID TOKEN_ID_1 = asToken(1L);
+    private static final TokenID TOKEN_ID_2 = asToken(2L);
+    private static final TokenID TOKEN_ID_3 = asToken(3L);
+    private static final AccountID ACCOUNT_ID =
+            AccountID.newBuilder().accountNum(2300L).build();
+    private static final Account ACCOUNT =
+            Account.newBuilder().accountId(ACCOUNT_ID).headTokenId(TOKEN_ID_1).build();
+
+    @Mock
+    private ReadableTokenRelationStore tokenRelationStore;
+
+    @Mock
+    private ReadableTokenStore tokenStore;
+
+    private final TokenRelationWalkCache subject = new TokenRelationWalkCache(Runnable::run);
+
+    @Test
+    void prefetchesNothingForUncachedAccount() {
+        subject.prefetch(ACCOUNT, tokenRelationStore, tokenStore, 1000);
+
+        verifyNoInteractions(tokenRelationStore, tokenStore);
+    }
+
+    @Test
+    void prefetchesCachedTokenIdsUpToLimit() {
+        subject.remember(ACCOUNT_ID, List.of(TOKEN_ID_1, TOKEN_ID_2, TOKEN_ID_3));
+
+        subject.prefetch(ACCOUNT, tokenRelationStore, tokenStore, 2);
+
+        verify(tokenRelationStore).warm(ACCOUNT_ID, TOKEN_ID_1);
+        verify(tokenRelationStore).warm(ACCOUNT_ID, TOKEN_ID_2);
+        verify(tokenStore).warm(TOKEN_ID_1);
+        verify(tokenStore).warm(TOKEN_ID_2);
+        verifyNoMoreInteractions(tokenRelationStore, tokenStore);
+    }
+
+    @Test
+    void splitsBatchIntoOneTaskPerWarmThread() {
+        final var tasks = new AtomicInteger();
+        final var counting = new TokenRelationWalkCache(task -> {
+            tasks.incrementAndGet();
+            task.run();
+        });
+        final var tokenIds = LongStream.rangeClosed(1, 10)
+                .mapToObj(BaseTokenHandler::asToken)
+                .toList();
+        counting.remember(ACCOUNT_ID, tokenIds);
+
+        counting.prefetch(ACCOUNT, tokenRelationStore, tokenStore, 1000);
+
+        assertThat(tasks).hasValue(4);
+        tokenIds.forEach(tokenId -> verify(tokenRelationStore).warm(ACCOUNT_ID, tokenId));
+        tokenIds.forEach(tokenId -> verify(tokenStore).warm(tokenId));
+    }
+
+    @Test
+    void forgetsAccountsWithAtMostOneRelation() {
+        subject.remember(ACCOUNT_ID, List.of(TOKEN_ID_1, TOKEN_ID_2));
+        subject.remember(ACCOUNT_ID, List.of(TOKEN_ID_1));
+
+        subject.prefetch(ACCOUNT, tokenRelationStore, tokenStore, 1000);
+
+        verifyNoInteractions(tokenRelationStore, tokenStore);
+    }
+}
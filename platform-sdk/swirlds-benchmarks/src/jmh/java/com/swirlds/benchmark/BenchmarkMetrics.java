@@ -37,8 +37,10 @@ import com.swirlds.metrics.api.Metrics;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
 import java.lang.management.BufferPoolMXBean;
+import java.lang.management.GarbageCollectorMXBean;
 import java.lang.management.ManagementFactory;
 import java.lang.management.OperatingSystemMXBean;
+import java.lang.management.ThreadMXBean;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Instant;
@@ -133,6 +135,20 @@ public final class BenchmarkMetrics {
             .withDescription("Open file descriptors")
             .withFormat(FORMAT_INTEGER);
 
+    private static final List<GarbageCollectorMXBean> gcMXBeans = ManagementFactory.getGarbageCollectorMXBeans();
+
+    private static final FunctionGauge.Config<Long> GC_TIME_CONFIG = new FunctionGauge.Config<>(
+                    "AAG", "gcTime", Long.class, BenchmarkMetrics::getGcTimeMillis)
+            .withDescription("total time spent in garbage collection (ms)")
+            .withFormat(FORMAT_INTEGER);
+
+    private static final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+    private static final FunctionGauge.Config<Long> ALLOC_BYTES_CONFIG = new FunctionGauge.Config<>(
+                    "AAH", "allocBytes", Long.class, BenchmarkMetrics::getAllocatedBytes)
+            .withDescription("total bytes allocated on the JVM heap")
+            .withFormat(FORMAT_INTEGER);
+
     private static final LongGauge.Config TPS_CONFIG = new LongGauge.Config(BENCHMARK_CATEGORY, "tps")
             .withDescription("transactions per second")
             .withFormat(FORMAT_FLOAT0);
@@ -141,6 +157,48 @@ public final class BenchmarkMetrics {
         // prevent instantiation
     }
 
+    /**
+     * Returns the total time spent in garbage collection since the JVM start.
+     * @return GC time in ms, or -1 if not available
+     */
+    public static long getGcTimeMillis() {
+        long total = 0;
+        for (final GarbageCollectorMXBean bean : gcMXBeans) {
+            final long time = bean.getCollectionTime();
+            if (time < 0) {
+                return -1;
+            }
+            total += time;
+        }
+        return total;
+    }
+
+    /**
+     * Returns the total number of garbage collections since the JVM start.
+     * @return GC count, or -1 if not available
+     */
+    public static long getGcCount() {
+        long total = 0;
+        for (final GarbageCollectorMXBean bean : gcMXBeans) {
+            final long count = bean.getCollectionCount();
+            if (count < 0) {
+                return -1;
+            }
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * Returns an approximation of the total bytes allocated on the heap since the JVM start.
+     * @return allocated bytes, or -1 if not available
+     */
+    public static long getAllocatedBytes() {
+        return threadMXBean instanceof com.sun.management.ThreadMXBean sunBean
+                ? sunBean.getTotalThreadAllocatedBytes()
+                : -1L;
+    }
+
     private static BufferPoolMXBean getDirectMemMXBean() {
         final List<BufferPoolMXBean> pools = ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class);
         for (final BufferPoolMXBean pool : pools) {
@@ -365,6 +423,8 @@ public final class BenchmarkMetrics {
         metrics.getOrCreate(DIRECT_MEM_CONFIG);
         metrics.getOrCreate(CPU_LOAD_PROC_CONFIG);
         metrics.getOrCreate(OPEN_FDS_CONFIG);
+        metrics.getOrCreate(GC_TIME_CONFIG);
+        metrics.getOrCreate(ALLOC_BYTES_CONFIG);
         registerDiskMetrics();
 
         origMetricString = curMetricString = getMetricNames(getAllMetrics());
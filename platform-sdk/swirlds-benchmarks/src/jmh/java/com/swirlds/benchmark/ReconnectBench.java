@@ -20,6 +20,7 @@ import com.swirlds.benchmark.reconnect.MerkleBenchmarkUtils;
 import com.swirlds.benchmark.reconnect.StateBuilder;
 import com.swirlds.common.merkle.MerkleInternal;
 import com.swirlds.common.merkle.MerkleNode;
+import com.swirlds.common.merkle.synchronization.config.ReconnectConfig;
 import com.swirlds.common.platform.NodeId;
 import com.swirlds.virtualmap.VirtualKey;
 import com.swirlds.virtualmap.VirtualMap;
@@ -41,6 +42,15 @@ import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.annotations.Warmup;
 
+/**
+ * Reconnects virtual maps of {@code numRecords * numFiles} leaves, 10M by default. The reconnect mode and other
+ * virtual map settings are read from settings.txt. For example, to compare node-by-node and bulk file transfer
+ * reconnects of 100M leaves, run with {@code -p numFiles=1000} and these settings:
+ * <pre>
+ * virtualMap.reconnectMode=pullTopToBottom
+ * virtualMap.reconnectBulkThreshold=0.0 (node by node) or 0.01 (bulk)
+ * </pre>
+ */
 @BenchmarkMode(Mode.AverageTime)
 @Fork(value = 1)
 @Warmup(iterations = 1)
@@ -52,9 +62,13 @@ public class ReconnectBench extends VirtualMapBaseBench {
     public long randomSeed;
 
     /** Number of virtual maps in the merkle tree to reconnect. */
-    @Param({"1"})
+    @Param({"1", "4"})
     public int mapCount = 1;
 
+    /** The maximum number of virtual maps to reconnect concurrently, see {@link ReconnectConfig#parallelSubtrees()}. */
+    @Param({"1", "4"})
+    public int parallelSubtrees = 1;
+
     /** The probability of the teacher map having an extra node. */
     @Param({"0.05"})
     public double teacherAddProbability;
@@ -108,6 +122,8 @@ public class ReconnectBench extends VirtualMapBaseBench {
 
     private MerkleNode reconnectedTree;
 
+    private ReconnectConfig reconnectConfig;
+
     String benchmarkName() {
         return "ReconnectBench";
     }
@@ -132,12 +148,32 @@ public class ReconnectBench extends VirtualMapBaseBench {
         };
     }
 
+    private static ReconnectConfig withParallelSubtrees(final ReconnectConfig config, final int parallelSubtrees) {
+        return new ReconnectConfig(
+                config.active(),
+                config.reconnectWindowSeconds(),
+                config.fallenBehindThreshold(),
+                config.asyncStreamTimeout(),
+                config.asyncOutputStreamFlush(),
+                config.asyncStreamBufferSize(),
+                config.maxAckDelay(),
+                config.maximumReconnectFailuresBeforeShutdown(),
+                config.minimumTimeBetweenReconnects(),
+                config.teacherMaxNodesPerSecond(),
+                config.teacherRateLimiterSleep(),
+                config.pullLearnerRootResponseTimeout(),
+                parallelSubtrees,
+                config.parallelSubtreeBufferBytes());
+    }
+
     /** Generate a state and save it to disk once for the entire benchmark. */
     @Setup
     public void setupBenchmark() {
         beforeTest("reconnect");
         updateMerkleDbPath();
 
+        reconnectConfig = withParallelSubtrees(configuration.getConfigData(ReconnectConfig.class), parallelSubtrees);
+
         final Random random = new Random(randomSeed);
 
         final List<VirtualMap<BenchmarkKey, BenchmarkValue>> maps = new ArrayList<>();
@@ -265,6 +301,7 @@ public class ReconnectBench extends VirtualMapBaseBench {
                 delayNetworkMicroseconds,
                 delayNetworkFuzzRangePercent,
                 new NodeId(),
-                configuration);
+                configuration,
+                reconnectConfig);
     }
 }
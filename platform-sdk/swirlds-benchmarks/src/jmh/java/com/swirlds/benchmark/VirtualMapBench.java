@@ -40,6 +40,18 @@ public class VirtualMapBench extends VirtualMapBaseBench {
         return "VirtualMapBench";
     }
 
+    /**
+     * Log GC time and heap allocations since the given starting values, to compare garbage produced
+     * by virtual map caches and indices between runs.
+     */
+    private static void logGcStats(final long gcTime, final long gcCount, final long allocBytes) {
+        logger.info(
+                "GC: {} collections in {} ms, allocated {} MB",
+                BenchmarkMetrics.getGcCount() - gcCount,
+                BenchmarkMetrics.getGcTimeMillis() - gcTime,
+                (BenchmarkMetrics.getAllocatedBytes() - allocBytes) / (1024 * 1024));
+    }
+
     /**
      * [Read-update or create-write] cycle. Single-threaded.
      */
@@ -57,6 +69,9 @@ public class VirtualMapBench extends VirtualMapBaseBench {
         }
 
         // Update values
+        final long gcTime = BenchmarkMetrics.getGcTimeMillis();
+        final long gcCount = BenchmarkMetrics.getGcCount();
+        final long allocBytes = BenchmarkMetrics.getAllocatedBytes();
         long start = System.currentTimeMillis();
         for (int i = 0; i < numFiles; i++) {
 
@@ -87,6 +102,7 @@ public class VirtualMapBench extends VirtualMapBaseBench {
 
         // Ensure the map is done with hashing/merging/flushing
         final var finalMap = flushMap(virtualMap);
+        logGcStats(gcTime, gcCount, allocBytes);
 
         verifyMap(map, finalMap);
 
@@ -109,6 +125,9 @@ public class VirtualMapBench extends VirtualMapBaseBench {
         VirtualMap<BenchmarkKey, BenchmarkValue> virtualMap = createMap(map);
 
         // Write files
+        final long gcTime = BenchmarkMetrics.getGcTimeMillis();
+        final long gcCount = BenchmarkMetrics.getGcCount();
+        final long allocBytes = BenchmarkMetrics.getAllocatedBytes();
         long start = System.currentTimeMillis();
         for (int i = 0; i < numFiles; i++) {
             for (int j = 0; j < numRecords; ++j) {
@@ -129,6 +148,7 @@ public class VirtualMapBench extends VirtualMapBaseBench {
 
         // Ensure the map is done with hashing/merging/flushing
         final var finalMap = flushMap(virtualMap);
+        logGcStats(gcTime, gcCount, allocBytes);
 
         verifyMap(map, finalMap);
 
@@ -67,7 +67,8 @@ public class MerkleBenchmarkUtils {
             final long delayNetworkMicroseconds,
             final double delayNetworkFuzzRangePercent,
             final NodeId selfId,
-            final Configuration configuration)
+            final Configuration configuration,
+            final ReconnectConfig reconnectConfig)
             throws Exception {
         System.out.println("------------");
         System.out.println("starting: " + startingTree);
@@ -88,7 +89,8 @@ public class MerkleBenchmarkUtils {
                 delayNetworkMicroseconds,
                 delayNetworkFuzzRangePercent,
                 selfId,
-                configuration);
+                configuration,
+                reconnectConfig);
     }
 
     /**
@@ -104,11 +106,11 @@ public class MerkleBenchmarkUtils {
             final long delayNetworkMicroseconds,
             final double delayNetworkFuzzRangePercent,
             final NodeId selfId,
-            final Configuration configuration)
+            final Configuration configuration,
+            final ReconnectConfig reconnectConfig)
             throws Exception {
         final SocketConfig socketConfig = configuration.getConfigData(SocketConfig.class);
         final GossipConfig gossipConfig = configuration.getConfigData(GossipConfig.class);
-        final ReconnectConfig reconnectConfig = configuration.getConfigData(ReconnectConfig.class);
 
         try (PairedStreams streams = new PairedStreams(selfId, socketConfig, gossipConfig)) {
             final LearningSynchronizer learner;
@@ -2,6 +2,7 @@
 plugins {
     id("org.hiero.gradle.module.library")
     id("org.hiero.gradle.feature.publish-artifactregistry")
+    id("org.hiero.gradle.feature.benchmark")
     id("org.hiero.gradle.feature.test-fixtures")
     id("org.hiero.gradle.feature.test-timing-sensitive")
 }
@@ -21,6 +22,12 @@ mainModuleInfo {
     runtimeOnly("com.sun.jna")
 }
 
+jmhModuleInfo {
+    requires("com.swirlds.common")
+    requires("jmh.core")
+    requires("org.bouncycastle.provider")
+}
+
 testModuleInfo {
     requires("com.swirlds.config.extensions.test.fixtures")
     requires("com.swirlds.base.test.fixtures")
@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.crypto.jmh;
+
+import com.swirlds.common.crypto.DigestType;
+import com.swirlds.common.crypto.ReusableDigests;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.bouncycastle.jcajce.provider.digest.Keccak;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares hashing with a freshly created digest per message against the thread-confined digests of
+ * {@link ReusableDigests}, for each algorithm and for both heap and direct (off-heap) input.
+ */
+@State(Scope.Thread)
+@Fork(value = 1)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DigestBenchmark {
+    private static final int BATCH_SIZE = 64;
+
+    @Param({"SHA_384", "SHA_512", "KECCAK_256"})
+    public Algorithm algorithm;
+
+    @Param({"48", "1024"})
+    public int messageSize;
+
+    private byte[] message;
+    private ByteBuffer directMessage;
+    private List<byte[]> batch;
+
+    public enum Algorithm {
+        SHA_384,
+        SHA_512,
+        KECCAK_256;
+
+        MessageDigest newDigest() {
+            return switch (this) {
+                case SHA_384 -> DigestType.SHA_384.buildDigest();
+                case SHA_512 -> DigestType.SHA_512.buildDigest();
+                case KECCAK_256 -> new Keccak.Digest256();
+            };
+        }
+
+        MessageDigest reusableDigest() {
+            return switch (this) {
+                case SHA_384 -> ReusableDigests.digestFor(DigestType.SHA_384);
+                case SHA_512 -> ReusableDigests.digestFor(DigestType.SHA_512);
+                case KECCAK_256 -> ReusableDigests.keccak256Digest();
+            };
+        }
+    }
+
+    @Setup
+    public void setup() {
+        final var random = new Random(42);
+        message = new byte[messageSize];
+        random.nextBytes(message);
+        directMessage = ByteBuffer.allocateDirect(messageSize).put(message).flip();
+        batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            final var item = new byte[messageSize];
+            random.nextBytes(item);
+            batch.add(item);
+        }
+    }
+
+    @Benchmark
+    public void freshDigest(final Blackhole bh) {
+        bh.consume(algorithm.newDigest().digest(message));
+    }
+
+    @Benchmark
+    public void reusableDigest(final Blackhole bh) {
+        bh.consume(algorithm.reusableDigest().digest(message));
+    }
+
+    @Benchmark
+    public void reusableDigestDirectBuffer(final Blackhole bh) {
+        final var digest = algorithm.reusableDigest();
+        digest.update(directMessage.duplicate());
+        bh.consume(digest.digest());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void freshDigestPerBatchItem(final Blackhole bh) {
+        for (final var item : batch) {
+            bh.consume(algorithm.newDigest().digest(item));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void reusableDigestBatch(final Blackhole bh) {
+        final var digest = algorithm.reusableDigest();
+        for (final var item : batch) {
+            digest.update(item);
+            bh.consume(digest.digest());
+        }
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.crypto;
+
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import org.bouncycastle.jcajce.provider.digest.Keccak;
+
+/**
+ * Thread-confined, reusable message digests for the hashing hot paths (virtual map hashing, event hashing,
+ * block stream hashing, and EVM address derivation).
+ *
+ * <p>Each thread lazily creates at most one {@link MessageDigest} per {@link DigestType}, one Keccak-256
+ * digest, and one {@link HashBuilder} per {@link DigestType}; and reuses them for every later hash. So
+ * hashing never pays for a JCE provider lookup or a digest allocation after the first use on a thread.
+ *
+ * <p>A digest returned by this class is only valid until the next call to this class on the same thread,
+ * and must never be handed to another thread.
+ */
+public final class ReusableDigests {
+    private static final DigestType[] DIGEST_TYPES = DigestType.values();
+
+    private static final ThreadLocal<MessageDigest[]> DIGESTS =
+            ThreadLocal.withInitial(() -> new MessageDigest[DIGEST_TYPES.length]);
+    private static final ThreadLocal<HashBuilder[]> HASH_BUILDERS =
+            ThreadLocal.withInitial(() -> new HashBuilder[DIGEST_TYPES.length]);
+    private static final ThreadLocal<MessageDigest> KECCAK_256_DIGEST = ThreadLocal.withInitial(Keccak.Digest256::new);
+
+    private ReusableDigests() {
+        throw new UnsupportedOperationException("Utility Class");
+    }
+
+    /**
+     * Returns this thread's reset digest of the given type.
+     *
+     * @param digestType the type of digest
+     * @return the reset digest
+     */
+    public static @NonNull MessageDigest digestFor(@NonNull final DigestType digestType) {
+        final var digests = DIGESTS.get();
+        final int i = digestType.ordinal();
+        var digest = digests[i];
+        if (digest == null) {
+            digest = digests[i] = digestType.buildDigest();
+        } else {
+            digest.reset();
+        }
+        return digest;
+    }
+
+    /**
+     * Returns this thread's reset Keccak-256 digest.
+     *
+     * @return the reset digest
+     */
+    public static @NonNull MessageDigest keccak256Digest() {
+        final var digest = KECCAK_256_DIGEST.get();
+        digest.reset();
+        return digest;
+    }
+
+    /**
+     * Returns this thread's reset {@link HashBuilder} of the given type. This builder does not share its
+     * digest with {@link #digestFor(DigestType)}, so the two may be used together.
+     *
+     * @param digestType the type of digest
+     * @return the reset hash builder
+     */
+    public static @NonNull HashBuilder hashBuilderFor(@NonNull final DigestType digestType) {
+        final var builders = HASH_BUILDERS.get();
+        final int i = digestType.ordinal();
+        var builder = builders[i];
+        if (builder == null) {
+            builder = builders[i] = new HashBuilder(digestType);
+        } else {
+            builder.reset();
+        }
+        return builder;
+    }
+
+    /**
+     * Returns the digest of the given type of the given message.
+     *
+     * @param digestType the type of digest
+     * @param message the message
+     * @return the digest
+     */
+    public static @NonNull byte[] digestOf(@NonNull final DigestType digestType, @NonNull final byte[] message) {
+        return digestFor(digestType).digest(requireNonNull(message));
+    }
+
+    /**
+     * Returns the digest of the given type of the remaining bytes of the given buffer, which may be direct
+     * (off-heap). Consumes the remaining bytes of the buffer.
+     *
+     * @param digestType the type of digest
+     * @param message the message
+     * @return the digest
+     */
+    public static @NonNull byte[] digestOf(@NonNull final DigestType digestType, @NonNull final ByteBuffer message) {
+        final var digest = digestFor(digestType);
+        digest.update(requireNonNull(message));
+        return digest.digest();
+    }
+
+    /**
+     * Returns the digest of the given type of the given bytes.
+     *
+     * @param digestType the type of digest
+     * @param message the message
+     * @return the digest
+     */
+    public static @NonNull byte[] digestOf(@NonNull final DigestType digestType, @NonNull final Bytes message) {
+        final var digest = digestFor(digestType);
+        message.writeTo(digest);
+        return digest.digest();
+    }
+
+    /**
+     * Returns the Keccak-256 digest of the given message.
+     *
+     * @param message the message
+     * @return the digest
+     */
+    public static @NonNull byte[] keccak256Of(@NonNull final byte[] message) {
+        return keccak256Digest().digest(requireNonNull(message));
+    }
+
+    /**
+     * Returns the Keccak-256 digest of the remaining bytes of the given buffer, which may be direct
+     * (off-heap). Consumes the remaining bytes of the buffer.
+     *
+     * @param message the message
+     * @return the digest
+     */
+    public static @NonNull byte[] keccak256Of(@NonNull final ByteBuffer message) {
+        final var digest = keccak256Digest();
+        digest.update(requireNonNull(message));
+        return digest.digest();
+    }
+
+    /**
+     * Returns the digests of the given type of each of the given messages, in order, using a single
+     * digest for the whole batch.
+     *
+     * @param digestType the type of digest
+     * @param messages the messages
+     * @return the digests
+     */
+    public static @NonNull List<byte[]> digestsOf(
+            @NonNull final DigestType digestType, @NonNull final List<byte[]> messages) {
+        final var digest = digestFor(digestType);
+        final List<byte[]> result = new ArrayList<>(messages.size());
+        for (final var message : messages) {
+            digest.update(message);
+            result.add(digest.digest());
+        }
+        return result;
+    }
+
+    /**
+     * Returns the digests of the given type of each consecutive pair of the given hashes, in order, using a
+     * single digest for the whole batch. If there are an odd number of hashes, the last is paired with the
+     * given padding.
+     *
+     * @param digestType the type of digest
+     * @param hashes the hashes to combine in pairs
+     * @param padding the right-hand hash to pair with an unpaired last hash
+     * @return the digests of the pairs
+     */
+    public static @NonNull List<byte[]> digestsOfPairs(
+            @NonNull final DigestType digestType, @NonNull final List<byte[]> hashes, @NonNull final byte[] padding) {
+        requireNonNull(padding);
+        final var digest = digestFor(digestType);
+        final int n = hashes.size();
+        final List<byte[]> result = new ArrayList<>((n + 1) / 2);
+        for (int i = 0; i < n; i += 2) {
+            digest.update(hashes.get(i));
+            digest.update(i + 1 < n ? hashes.get(i + 1) : padding);
+            result.add(digest.digest());
+        }
+        return result;
+    }
+}
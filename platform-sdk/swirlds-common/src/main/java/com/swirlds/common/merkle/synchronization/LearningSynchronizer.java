@@ -30,6 +30,7 @@ import com.swirlds.common.merkle.synchronization.config.ReconnectConfig;
 import com.swirlds.common.merkle.synchronization.stats.ReconnectMapMetrics;
 import com.swirlds.common.merkle.synchronization.stats.ReconnectMapStats;
 import com.swirlds.common.merkle.synchronization.streams.AsyncOutputStream;
+import com.swirlds.common.merkle.synchronization.streams.MultiplexedStreams;
 import com.swirlds.common.merkle.synchronization.task.ReconnectNodeCount;
 import com.swirlds.common.merkle.synchronization.utility.MerkleSynchronizationException;
 import com.swirlds.common.merkle.synchronization.views.CustomReconnectRoot;
@@ -41,11 +42,15 @@ import com.swirlds.common.threading.pool.StandardWorkGroup;
 import com.swirlds.logging.legacy.payload.SynchronizationCompletePayload;
 import com.swirlds.metrics.api.Metrics;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Deque;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Queue;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import org.apache.logging.log4j.LogManager;
@@ -78,10 +83,10 @@ public class LearningSynchronizer implements ReconnectNodeCount {
      */
     private MerkleNode newRoot;
 
-    private int leafNodesReceived;
-    private int internalNodesReceived;
-    private int redundantLeafNodes;
-    private int redundantInternalNodes;
+    private final AtomicInteger leafNodesReceived = new AtomicInteger();
+    private final AtomicInteger internalNodesReceived = new AtomicInteger();
+    private final AtomicInteger redundantLeafNodes = new AtomicInteger();
+    private final AtomicInteger redundantInternalNodes = new AtomicInteger();
 
     private long synchronizationTimeMilliseconds;
     private long hashTimeMilliseconds;
@@ -188,18 +193,107 @@ public class LearningSynchronizer implements ReconnectNodeCount {
         logger.info(RECONNECT.getMarker(), "synchronizing tree");
         final long start = System.currentTimeMillis();
 
+        // The first tree synchronized contains the root of the tree as a whole.
+        // Receiving it finds all the subtrees with custom views.
+        newRoot = receiveNextTree(rootsToReceive, inputStream, outputStream, viewsToInitialize);
+
+        final int lanes = Math.min(reconnectConfig.parallelSubtrees(), rootsToReceive.size());
+        if (lanes > 1) {
+            receiveSubtreesInParallel(lanes);
+        }
         while (!rootsToReceive.isEmpty()) {
-            final MerkleNode root = receiveTree(rootsToReceive.remove());
-            if (newRoot == null) {
-                // The first tree synchronized will contain the root of the tree as a whole
-                newRoot = root;
-            }
+            receiveNextTree(rootsToReceive, inputStream, outputStream, viewsToInitialize);
         }
 
         synchronizationTimeMilliseconds = System.currentTimeMillis() - start;
         logger.info(RECONNECT.getMarker(), "synchronization complete");
     }
 
+    /**
+     * Remove the next root from a queue and receive its tree.
+     */
+    private MerkleNode receiveNextTree(
+            final Queue<MerkleNode> queue,
+            final MerkleDataInputStream in,
+            final MerkleDataOutputStream out,
+            final Deque<LearnerTreeView<?>> views)
+            throws InterruptedException {
+        return receiveTree(queue.remove(), in, out, queue, views);
+    }
+
+    /**
+     * Receive all remaining subtrees over several lanes multiplexed on the connection, receiving the subtrees of each
+     * lane one at a time. Subtrees are dealt to the lanes round-robin, exactly as the teacher deals them, so both sides
+     * agree on which subtrees each lane carries.
+     *
+     * @param lanes the number of lanes
+     */
+    private void receiveSubtreesInParallel(final int lanes) throws InterruptedException {
+        final List<Queue<MerkleNode>> laneRoots = new ArrayList<>(lanes);
+        final List<Deque<LearnerTreeView<?>>> laneViews = new ArrayList<>(lanes);
+        for (int lane = 0; lane < lanes; lane++) {
+            laneRoots.add(new LinkedList<>());
+            laneViews.add(new LinkedList<>());
+        }
+        for (int i = 0; !rootsToReceive.isEmpty(); i++) {
+            laneRoots.get(i % lanes).add(rootsToReceive.remove());
+        }
+        logger.info(RECONNECT.getMarker(), "receiving subtrees over {} parallel lanes", lanes);
+
+        final AtomicReference<Throwable> firstReconnectException = new AtomicReference<>();
+        final StandardWorkGroup workGroup = createStandardWorkGroup(threadManager, breakConnection, t -> {
+            firstReconnectException.compareAndSet(null, t);
+            return false;
+        });
+
+        final MultiplexedStreams streams = new MultiplexedStreams(inputStream, outputStream, lanes, reconnectConfig);
+        streams.start(workGroup);
+        for (int lane = 0; lane < lanes; lane++) {
+            final int laneIndex = lane;
+            workGroup.execute(
+                    "learner-lane-" + lane,
+                    () -> receiveLane(streams, laneIndex, laneRoots.get(laneIndex), laneViews.get(laneIndex)));
+        }
+
+        workGroup.waitForTermination();
+
+        if (workGroup.hasExceptions()) {
+            throw new MerkleSynchronizationException(
+                    "Parallel synchronization failed with exceptions", firstReconnectException.get());
+        }
+
+        // Views of subtrees must be initialized before the views of the trees containing them
+        for (final Deque<LearnerTreeView<?>> views : laneViews) {
+            views.descendingIterator().forEachRemaining(viewsToInitialize::addFirst);
+        }
+
+        logger.info(RECONNECT.getMarker(), "finished receiving subtrees over {} parallel lanes", lanes);
+    }
+
+    /**
+     * Receive the subtrees of one lane, then finish the lane, or abort it if that fails. Runs on a thread of its own.
+     */
+    private void receiveLane(
+            final MultiplexedStreams streams,
+            final int lane,
+            final Queue<MerkleNode> laneRoots,
+            final Deque<LearnerTreeView<?>> laneViews) {
+        try {
+            while (!laneRoots.isEmpty()) {
+                receiveNextTree(laneRoots, streams.getInputStream(lane), streams.getOutputStream(lane), laneViews);
+            }
+            streams.finishLane(lane);
+        } catch (final IOException e) {
+            throw new MerkleSynchronizationException("Unable to finish lane " + lane, e);
+        } catch (final InterruptedException e) {
+            logger.warn(RECONNECT.getMarker(), "lane {} interrupted", lane);
+            Thread.currentThread().interrupt();
+        } finally {
+            // Tells the teacher if the lane did not finish, instead of leaving it waiting for data
+            streams.abortLane(lane);
+        }
+    }
+
     /**
      * Initialize the tree.
      */
@@ -241,11 +335,11 @@ public class LearningSynchronizer implements ReconnectNodeCount {
                 .setTimeInSeconds(synchronizationTimeMilliseconds * MILLISECONDS_TO_SECONDS)
                 .setHashTimeInSeconds(hashTimeMilliseconds * MILLISECONDS_TO_SECONDS)
                 .setInitializationTimeInSeconds(initializationTimeMilliseconds * MILLISECONDS_TO_SECONDS)
-                .setTotalNodes(leafNodesReceived + internalNodesReceived)
-                .setLeafNodes(leafNodesReceived)
-                .setRedundantLeafNodes(redundantLeafNodes)
-                .setInternalNodes(internalNodesReceived)
-                .setRedundantInternalNodes(redundantInternalNodes)
+                .setTotalNodes(leafNodesReceived.get() + internalNodesReceived.get())
+                .setLeafNodes(leafNodesReceived.get())
+                .setRedundantLeafNodes(redundantLeafNodes.get())
+                .setInternalNodes(internalNodesReceived.get())
+                .setRedundantInternalNodes(redundantInternalNodes.get())
                 .toString());
         logger.info(RECONNECT.getMarker(), () -> mapStats.format());
     }
@@ -260,11 +354,21 @@ public class LearningSynchronizer implements ReconnectNodeCount {
     /**
      * Receive a tree (or subtree) from the teacher
      *
-     * @param root the root of the tree (or subtree) that is already possessed
+     * @param root  the root of the tree (or subtree) that is already possessed
+     * @param in    the stream to read the tree from
+     * @param out   the stream to write to the teacher
+     * @param queue the queue to add the roots of any subtrees with custom views to
+     * @param views the views to initialize once all trees are received, which this tree's view is added to the front of
      * @return the root of the reconstructed tree
      */
     @SuppressWarnings("unchecked")
-    private <T> MerkleNode receiveTree(final MerkleNode root) throws InterruptedException {
+    private <T> MerkleNode receiveTree(
+            final MerkleNode root,
+            final MerkleDataInputStream in,
+            final MerkleDataOutputStream out,
+            final Queue<MerkleNode> queue,
+            final Deque<LearnerTreeView<?>> views)
+            throws InterruptedException {
 
         logger.info(
                 RECONNECT.getMarker(),
@@ -290,7 +394,7 @@ public class LearningSynchronizer implements ReconnectNodeCount {
 
         final AtomicReference<T> reconstructedRoot = new AtomicReference<>();
 
-        view.startLearnerTasks(this, workGroup, inputStream, outputStream, rootsToReceive, reconstructedRoot);
+        view.startLearnerTasks(this, workGroup, in, out, queue, reconstructedRoot);
         InterruptedException interruptException = null;
         try {
             workGroup.waitForTermination();
@@ -334,7 +438,7 @@ public class LearningSynchronizer implements ReconnectNodeCount {
                     "Synchronization failed with exceptions", firstReconnectException.get());
         }
 
-        viewsToInitialize.addFirst(view);
+        views.addFirst(view);
 
         return view.getMerkleRoot(reconstructedRoot.get());
     }
@@ -359,7 +463,7 @@ public class LearningSynchronizer implements ReconnectNodeCount {
      */
     @Override
     public void incrementLeafCount() {
-        leafNodesReceived++;
+        leafNodesReceived.incrementAndGet();
     }
 
     /**
@@ -367,7 +471,7 @@ public class LearningSynchronizer implements ReconnectNodeCount {
      */
     @Override
     public void incrementRedundantLeafCount() {
-        redundantLeafNodes++;
+        redundantLeafNodes.incrementAndGet();
     }
 
     /**
@@ -375,7 +479,7 @@ public class LearningSynchronizer implements ReconnectNodeCount {
      */
     @Override
     public void incrementInternalCount() {
-        internalNodesReceived++;
+        internalNodesReceived.incrementAndGet();
     }
 
     /**
@@ -383,6 +487,6 @@ public class LearningSynchronizer implements ReconnectNodeCount {
      */
     @Override
     public void incrementRedundantInternalCount() {
-        redundantInternalNodes++;
+        redundantInternalNodes.incrementAndGet();
     }
 }
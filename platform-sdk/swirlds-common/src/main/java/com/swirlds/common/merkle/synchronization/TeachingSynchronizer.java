@@ -26,6 +26,7 @@ import com.swirlds.common.io.streams.SerializableDataOutputStream;
 import com.swirlds.common.merkle.MerkleNode;
 import com.swirlds.common.merkle.synchronization.config.ReconnectConfig;
 import com.swirlds.common.merkle.synchronization.streams.AsyncOutputStream;
+import com.swirlds.common.merkle.synchronization.streams.MultiplexedStreams;
 import com.swirlds.common.merkle.synchronization.task.TeacherSubtree;
 import com.swirlds.common.merkle.synchronization.utility.MerkleSynchronizationException;
 import com.swirlds.common.merkle.synchronization.views.TeacherTreeView;
@@ -34,8 +35,11 @@ import com.swirlds.common.threading.pool.StandardWorkGroup;
 import com.swirlds.config.api.Configuration;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.IOException;
 import java.net.SocketException;
+import java.util.ArrayList;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Queue;
 import java.util.concurrent.atomic.AtomicReference;
@@ -126,11 +130,16 @@ public class TeachingSynchronizer {
      */
     public void synchronize() throws InterruptedException {
         try {
+            // The first subtree contains the root of the tree as a whole.
+            // Sending it finds all the subtrees with custom views.
+            sendNextSubtree(subtrees, inputStream, outputStream);
+
+            final int lanes = Math.min(reconnectConfig.parallelSubtrees(), subtrees.size());
+            if (lanes > 1) {
+                sendSubtreesInParallel(lanes);
+            }
             while (!subtrees.isEmpty()) {
-                try (final TeacherSubtree subtree = subtrees.remove()) {
-                    subtree.getView().waitUntilReady();
-                    sendTree(subtree.getRoot(), subtree.getView());
-                }
+                sendNextSubtree(subtrees, inputStream, outputStream);
             }
         } finally {
             // If we crash, make sure to clean up any remaining subtrees.
@@ -140,10 +149,92 @@ public class TeachingSynchronizer {
         }
     }
 
+    /**
+     * Remove the next subtree from a queue and send it.
+     */
+    private void sendNextSubtree(
+            final Queue<TeacherSubtree> queue, final MerkleDataInputStream in, final MerkleDataOutputStream out)
+            throws InterruptedException {
+        try (final TeacherSubtree subtree = queue.remove()) {
+            subtree.getView().waitUntilReady();
+            sendTree(subtree.getRoot(), subtree.getView(), in, out, queue);
+        }
+    }
+
+    /**
+     * Send all remaining subtrees over several lanes multiplexed on the connection, sending the subtrees of each lane
+     * one at a time. Subtrees are dealt to the lanes round-robin, exactly as the learner deals them, so both sides
+     * agree on which subtrees each lane carries.
+     *
+     * @param lanes the number of lanes
+     */
+    private void sendSubtreesInParallel(final int lanes) throws InterruptedException {
+        final List<Queue<TeacherSubtree>> laneSubtrees = new ArrayList<>(lanes);
+        for (int lane = 0; lane < lanes; lane++) {
+            laneSubtrees.add(new LinkedList<>());
+        }
+        for (int i = 0; !subtrees.isEmpty(); i++) {
+            laneSubtrees.get(i % lanes).add(subtrees.remove());
+        }
+        logger.info(RECONNECT.getMarker(), "sending subtrees over {} parallel lanes", lanes);
+
+        final AtomicReference<Throwable> firstReconnectException = new AtomicReference<>();
+        final StandardWorkGroup workGroup = createStandardWorkGroup(threadManager, breakConnection, cause -> {
+            firstReconnectException.compareAndSet(null, cause);
+            return false;
+        });
+
+        final MultiplexedStreams streams = new MultiplexedStreams(inputStream, outputStream, lanes, reconnectConfig);
+        streams.start(workGroup);
+        for (int lane = 0; lane < lanes; lane++) {
+            final int laneIndex = lane;
+            workGroup.execute("teacher-lane-" + lane, () -> sendLane(streams, laneIndex, laneSubtrees.get(laneIndex)));
+        }
+
+        workGroup.waitForTermination();
+
+        if (workGroup.hasExceptions()) {
+            throw new MerkleSynchronizationException(
+                    "Parallel synchronization failed with exceptions", firstReconnectException.get());
+        }
+
+        logger.info(RECONNECT.getMarker(), "finished sending subtrees over {} parallel lanes", lanes);
+    }
+
+    /**
+     * Send the subtrees of one lane, then finish the lane, or abort it if that fails. Runs on a thread of its own.
+     */
+    private void sendLane(final MultiplexedStreams streams, final int lane, final Queue<TeacherSubtree> laneSubtrees) {
+        try {
+            while (!laneSubtrees.isEmpty()) {
+                sendNextSubtree(laneSubtrees, streams.getInputStream(lane), streams.getOutputStream(lane));
+            }
+            streams.finishLane(lane);
+        } catch (final IOException e) {
+            throw new MerkleSynchronizationException("Unable to finish lane " + lane, e);
+        } catch (final InterruptedException e) {
+            logger.warn(RECONNECT.getMarker(), "lane {} interrupted", lane);
+            Thread.currentThread().interrupt();
+        } finally {
+            // Tells the learner if the lane did not finish, instead of leaving it waiting for data
+            streams.abortLane(lane);
+            // If we crash, make sure to clean up any remaining subtrees of this lane.
+            for (final TeacherSubtree subtree : laneSubtrees) {
+                subtree.close();
+            }
+        }
+    }
+
     /**
      * Send a tree (or subtree).
      */
-    private <T> void sendTree(final MerkleNode root, final TeacherTreeView<T> view) throws InterruptedException {
+    private <T> void sendTree(
+            final MerkleNode root,
+            final TeacherTreeView<T> view,
+            final MerkleDataInputStream in,
+            final MerkleDataOutputStream out,
+            final Queue<TeacherSubtree> queue)
+            throws InterruptedException {
         logger.info(
                 RECONNECT.getMarker(),
                 "sending tree rooted at {} with route {}",
@@ -173,7 +264,7 @@ public class TeachingSynchronizer {
             return false;
         });
 
-        view.startTeacherTasks(this, time, workGroup, inputStream, outputStream, subtrees);
+        view.startTeacherTasks(this, time, workGroup, in, out, queue);
 
         workGroup.waitForTermination();
 
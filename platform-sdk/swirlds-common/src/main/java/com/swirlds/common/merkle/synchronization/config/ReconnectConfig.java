@@ -56,6 +56,15 @@ import java.time.Duration;
  * @param pullLearnerRootResponseTimeout         In pull-based reconnect implementations (virtual trees only), the
  *                                               timeout on the learner side to get a virtual root node response from
  *                                               teacher
+ * @param parallelSubtrees                       The maximum number of subtrees with custom reconnect views (such as
+ *                                               virtual maps) to synchronize concurrently, each over its own stream
+ *                                               multiplexed on the reconnect connection. If 1 then subtrees are
+ *                                               synchronized one at a time. Must be the same on the teacher and the
+ *                                               learner.
+ * @param parallelSubtreeBufferBytes             The maximum number of bytes received on each of the lanes of
+ *                                               {@code parallelSubtrees} that may be buffered before they are read.
+ *                                               The peer is told how many more bytes it may send on each lane as they
+ *                                               are read, so a slow lane never holds up the others.
  */
 @ConfigData("reconnect")
 public record ReconnectConfig(
@@ -70,4 +79,6 @@ public record ReconnectConfig(
         @ConfigProperty(defaultValue = "10m") Duration minimumTimeBetweenReconnects,
         @ConfigProperty(defaultValue = "0") int teacherMaxNodesPerSecond,
         @ConfigProperty(defaultValue = "1us") Duration teacherRateLimiterSleep,
-        @ConfigProperty(defaultValue = "60s") Duration pullLearnerRootResponseTimeout) {}
+        @ConfigProperty(defaultValue = "60s") Duration pullLearnerRootResponseTimeout,
+        @ConfigProperty(defaultValue = "1") int parallelSubtrees,
+        @ConfigProperty(defaultValue = "1048576") int parallelSubtreeBufferBytes) {}
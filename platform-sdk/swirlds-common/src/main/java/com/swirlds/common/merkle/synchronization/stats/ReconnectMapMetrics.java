@@ -107,7 +107,10 @@ public class ReconnectMapMetrics implements ReconnectMapStats {
     }
 
     private static void add(final LongGauge metric, final long value) {
-        metric.set(metric.get() + value);
+        // Subtrees may be synchronized concurrently, see ReconnectConfig.parallelSubtrees()
+        synchronized (metric) {
+            metric.set(metric.get() + value);
+        }
     }
 
     /**
@@ -0,0 +1,594 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.merkle.synchronization.streams;
+
+import static com.swirlds.logging.legacy.LogMarker.RECONNECT;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import com.swirlds.common.io.streams.MerkleDataInputStream;
+import com.swirlds.common.io.streams.MerkleDataOutputStream;
+import com.swirlds.common.merkle.synchronization.config.ReconnectConfig;
+import com.swirlds.common.merkle.synchronization.utility.MerkleSynchronizationException;
+import com.swirlds.common.threading.pool.StandardWorkGroup;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * <p>
+ * Splits a single pair of reconnect streams into several independent pairs of streams ("lanes"), so that several
+ * subtrees can be synchronized concurrently over one connection.
+ * </p>
+ *
+ * <p>
+ * Bytes written to a lane are sent in frames of a lane index, a length, and up to {@link #MAX_FRAME_SIZE} bytes.
+ * Negative lengths mark control frames: {@link #END_OF_LANE} (the peer will never write to that lane again),
+ * {@link #ABORT_LANE} (the peer gave up on that lane) and {@link #WINDOW} (the peer may send that many more bytes on
+ * that lane). A frame for lane {@link #CLOSE} is the last frame a node ever sends.
+ * </p>
+ *
+ * <p>
+ * Each lane is flow controlled on its own: a node only sends as many bytes on a lane as the peer has made room for, and
+ * makes room again as the bytes are read, up to {@link ReconnectConfig#parallelSubtreeBufferBytes()} per lane. So one
+ * thread can run {@link #demultiplex()}, routing the frames received from the peer to the input streams of their
+ * lanes, without ever waiting for a slow lane to make room and holding up the others. The demultiplexer returns once
+ * the peer has sent its last frame, which it only does once both nodes have finished (or aborted) every lane, so
+ * nothing is ever read from the underlying input stream past the end.
+ * </p>
+ *
+ * <p>
+ * All frames, data and control alike, are queued and written to the underlying output stream by a single thread
+ * running {@link #multiplex()}. Nobody else ever touches the underlying output stream, so the demultiplexer never
+ * waits behind a lane writer that is blocked on a full socket: if it did, it would stop reading, the peer's writers
+ * would block in turn, and neither node would ever make progress again. The queue needs no bound of its own, since
+ * the data frames in it are limited by the send windows. {@link #start(StandardWorkGroup)} starts both threads.
+ * </p>
+ *
+ * <p>
+ * Each lane's streams may be used by different threads, but (just like the underlying streams) each lane's input
+ * stream must only be read by one thread at a time, and each lane's output stream must only be written by one thread
+ * at a time. Both peers must create this object with the same number of lanes, and must end every lane with
+ * {@link #finishLane(int)} or {@link #abortLane(int)}.
+ * </p>
+ */
+public class MultiplexedStreams {
+
+    private static final Logger logger = LogManager.getLogger(MultiplexedStreams.class);
+
+    private static final String DEMULTIPLEXER_THREAD_NAME = "multiplexed-streams-demultiplexer";
+    private static final String MULTIPLEXER_THREAD_NAME = "multiplexed-streams-multiplexer";
+
+    /**
+     * The maximum number of bytes in a single frame.
+     */
+    public static final int MAX_FRAME_SIZE = 64 * 1024;
+
+    /**
+     * The frame length that marks the end of a lane.
+     */
+    private static final int END_OF_LANE = -1;
+
+    /**
+     * The frame length that marks a lane the peer gave up on.
+     */
+    private static final int ABORT_LANE = -2;
+
+    /**
+     * The frame length of a frame that lets the peer send more bytes on a lane, followed by the number of bytes.
+     */
+    private static final int WINDOW = -3;
+
+    /**
+     * The lane of the last frame a node sends.
+     */
+    private static final int CLOSE = -1;
+
+    /**
+     * Queued for a lane's input stream when the peer has finished the lane.
+     */
+    private static final byte[] END_OF_LANE_CHUNK = new byte[0];
+
+    /**
+     * Queued for a lane's input stream when the peer has aborted the lane.
+     */
+    private static final byte[] ABORT_LANE_CHUNK = new byte[0];
+
+    private final MerkleDataInputStream in;
+    /** only ever written by the thread running {@link #multiplex()} */
+    private final MerkleDataOutputStream out;
+
+    /** the frames waiting to be written to {@link #out}, in order */
+    private final BlockingQueue<Frame> outgoing = new LinkedBlockingQueue<>();
+    /** set if the multiplexer failed to write to {@link #out}, no more frames can be sent afterwards */
+    private volatile IOException writeFailure;
+
+    private final List<BlockingQueue<byte[]>> receivedChunks;
+    private final List<MerkleDataInputStream> laneInputs;
+    private final List<MerkleDataOutputStream> laneOutputs;
+
+    /**
+     * For each lane, the number of bytes the peer may still send before it is told it may send more.
+     */
+    private final List<AtomicInteger> receiveWindows;
+
+    /**
+     * For each lane, the number of bytes this node may still send before the peer makes more room.
+     */
+    private final List<Semaphore> sendWindows;
+
+    /**
+     * The maximum number of bytes received on a lane that may be waiting to be read.
+     */
+    private final int laneBufferBytes;
+
+    /**
+     * The maximum amount of time to wait for a lane to provide a chunk of bytes, or for the peer to make room on a
+     * lane.
+     */
+    private final Duration pollTimeout;
+
+    /** Never held while waiting for IO, only to keep frames in order with the fields it guards */
+    private final Object lock = new Object();
+
+    // The fields below are guarded by lock
+
+    /** for each lane, true once this node has finished or aborted it */
+    private final boolean[] lanesEnded;
+    /** for each lane, true once the peer has finished or aborted it */
+    private final boolean[] peerLanesEnded;
+    /** the number of true values in {@link #lanesEnded} */
+    private int endedLanes;
+    /** the number of true values in {@link #peerLanesEnded} */
+    private int endedPeerLanes;
+    /** true once the last frame has been sent */
+    private boolean closed;
+
+    /**
+     * Create multiplexed streams.
+     *
+     * @param in     the underlying input stream
+     * @param out    the underlying output stream
+     * @param lanes  the number of lanes
+     * @param config the configuration to use
+     */
+    public MultiplexedStreams(
+            @NonNull final MerkleDataInputStream in,
+            @NonNull final MerkleDataOutputStream out,
+            final int lanes,
+            @NonNull final ReconnectConfig config) {
+        Objects.requireNonNull(config, "config must not be null");
+        if (lanes < 1) {
+            throw new IllegalArgumentException("there must be at least one lane");
+        }
+        if (config.parallelSubtreeBufferBytes() < 1) {
+            throw new IllegalArgumentException("lanes must buffer at least one byte");
+        }
+
+        this.in = Objects.requireNonNull(in, "in must not be null");
+        this.out = Objects.requireNonNull(out, "out must not be null");
+        this.pollTimeout = config.asyncStreamTimeout();
+        this.laneBufferBytes = config.parallelSubtreeBufferBytes();
+
+        receivedChunks = new ArrayList<>(lanes);
+        laneInputs = new ArrayList<>(lanes);
+        laneOutputs = new ArrayList<>(lanes);
+        receiveWindows = new ArrayList<>(lanes);
+        sendWindows = new ArrayList<>(lanes);
+        lanesEnded = new boolean[lanes];
+        peerLanesEnded = new boolean[lanes];
+        for (int lane = 0; lane < lanes; lane++) {
+            // bounded by the receive window, not by the queue
+            final BlockingQueue<byte[]> chunks = new LinkedBlockingQueue<>();
+            receivedChunks.add(chunks);
+            receiveWindows.add(new AtomicInteger());
+            sendWindows.add(new Semaphore(0));
+            laneInputs.add(new MerkleDataInputStream(new LaneInputStream(lane, chunks)));
+            laneOutputs.add(new MerkleDataOutputStream(
+                    new BufferedOutputStream(new LaneOutputStream(lane), MAX_FRAME_SIZE)));
+        }
+    }
+
+    /**
+     * Get the number of lanes.
+     *
+     * @return the number of lanes
+     */
+    public int getLaneCount() {
+        return laneInputs.size();
+    }
+
+    /**
+     * Get the input stream of a lane.
+     *
+     * @param lane the index of the lane
+     * @return the input stream of the lane
+     */
+    public @NonNull MerkleDataInputStream getInputStream(final int lane) {
+        return laneInputs.get(lane);
+    }
+
+    /**
+     * Get the output stream of a lane.
+     *
+     * @param lane the index of the lane
+     * @return the output stream of the lane
+     */
+    public @NonNull MerkleDataOutputStream getOutputStream(final int lane) {
+        return laneOutputs.get(lane);
+    }
+
+    /**
+     * Flush everything written to a lane, and tell the peer that nothing more will be written to it. The lane's
+     * output stream must not be used afterwards.
+     *
+     * @param lane the index of the lane
+     * @throws IOException if the underlying output stream fails
+     */
+    public void finishLane(final int lane) throws IOException {
+        laneOutputs.get(lane).flush();
+        endLane(lane, END_OF_LANE);
+    }
+
+    /**
+     * Tell the peer that this node gave up on a lane, so that the peer's reader of the lane fails at once instead of
+     * waiting for data that will never come. Whatever was written to the lane but not yet flushed is dropped. Does
+     * nothing if the lane has already been finished or aborted, so it is safe to call from a {@code finally} block.
+     * Never throws, since the lane has already failed: if the peer cannot be told, the connection is broken anyway.
+     *
+     * @param lane the index of the lane
+     */
+    public void abortLane(final int lane) {
+        try {
+            endLane(lane, ABORT_LANE);
+        } catch (final IOException e) {
+            logger.warn(RECONNECT.getMarker(), "unable to tell the peer that lane {} was aborted", lane, e);
+        }
+    }
+
+    private void endLane(final int lane, final int marker) throws IOException {
+        synchronized (lock) {
+            if (lanesEnded[lane]) {
+                return;
+            }
+            lanesEnded[lane] = true;
+            endedLanes++;
+            send(new Frame(lane, marker, null, 0));
+            closeIfDone();
+        }
+    }
+
+    /**
+     * Send the last frame, if both nodes have ended every lane. Must hold {@link #lock}.
+     */
+    private void closeIfDone() throws IOException {
+        final int lanes = getLaneCount();
+        if (!closed && endedLanes == lanes && endedPeerLanes == lanes) {
+            closed = true;
+            send(new Frame(CLOSE, 0, null, 0));
+        }
+    }
+
+    /**
+     * Let the peer send some more bytes on a lane, unless the peer has already ended it.
+     */
+    private void grantWindow(final int lane, final int bytes) throws IOException {
+        synchronized (lock) {
+            if (peerLanesEnded[lane]) {
+                return;
+            }
+            receiveWindows.get(lane).addAndGet(bytes);
+            send(new Frame(lane, WINDOW, null, bytes));
+        }
+    }
+
+    /**
+     * Queue a frame for the multiplexer. Never waits.
+     */
+    private void send(@NonNull final Frame frame) throws IOException {
+        final IOException failure = writeFailure;
+        if (failure != null) {
+            throw new IOException("the multiplexed output stream has failed", failure);
+        }
+        outgoing.add(frame);
+    }
+
+    /**
+     * Start a thread that runs {@link #demultiplex()} and a thread that runs {@link #multiplex()}.
+     *
+     * @param workGroup the work group that will manage the threads
+     */
+    public void start(@NonNull final StandardWorkGroup workGroup) {
+        workGroup.execute(MULTIPLEXER_THREAD_NAME, this::runMultiplexer);
+        workGroup.execute(DEMULTIPLEXER_THREAD_NAME, this::runDemultiplexer);
+    }
+
+    private void runMultiplexer() {
+        try {
+            multiplex();
+        } catch (final IOException e) {
+            throw new MerkleSynchronizationException("failed to write multiplexed streams", e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MerkleSynchronizationException("interrupted while writing multiplexed streams", e);
+        }
+    }
+
+    private void runDemultiplexer() {
+        try {
+            demultiplex();
+        } catch (final IOException e) {
+            throw new MerkleSynchronizationException("failed to read multiplexed streams", e);
+        }
+    }
+
+    /**
+     * Write the queued frames of every lane to the underlying output stream, in order, until the last frame has been
+     * written. Flushes whenever the queue runs empty. This is the only method that writes to the underlying output
+     * stream.
+     *
+     * @throws IOException          if the underlying output stream fails
+     * @throws InterruptedException if interrupted while waiting for a frame
+     */
+    public void multiplex() throws IOException, InterruptedException {
+        try {
+            while (true) {
+                Frame frame = outgoing.poll();
+                if (frame == null) {
+                    out.flush();
+                    frame = outgoing.take();
+                }
+                out.writeInt(frame.lane());
+                out.writeInt(frame.length());
+                if (frame.lane() == CLOSE) {
+                    out.flush();
+                    return;
+                }
+                if (frame.length() == WINDOW) {
+                    out.writeInt(frame.window());
+                } else if (frame.bytes() != null) {
+                    out.write(frame.bytes());
+                }
+            }
+        } catch (final IOException e) {
+            writeFailure = e;
+            throw e;
+        }
+    }
+
+    /**
+     * Let the peer fill the buffer of every lane, then route frames from the underlying input stream to the input
+     * streams of their lanes until the peer sends its last frame. Never waits for a lane to read what it was sent.
+     *
+     * @throws IOException if the underlying input stream fails, or a malformed frame is received
+     */
+    public void demultiplex() throws IOException {
+        final int lanes = getLaneCount();
+        for (int lane = 0; lane < lanes; lane++) {
+            grantWindow(lane, laneBufferBytes);
+        }
+
+        while (true) {
+            final int lane = in.readInt();
+            final int length = in.readInt();
+            if (lane == CLOSE) {
+                break;
+            }
+            if (lane < 0 || lane >= lanes) {
+                throw new IOException("received a frame for unknown lane " + lane);
+            }
+
+            if (length == WINDOW) {
+                final int bytes = in.readInt();
+                if (bytes < 1) {
+                    throw new IOException("received an invalid window of " + bytes + " bytes for lane " + lane);
+                }
+                sendWindows.get(lane).release(bytes);
+            } else if (length == END_OF_LANE || length == ABORT_LANE) {
+                synchronized (lock) {
+                    if (peerLanesEnded[lane]) {
+                        throw new IOException("received a second end of lane " + lane);
+                    }
+                    peerLanesEnded[lane] = true;
+                    endedPeerLanes++;
+                    closeIfDone();
+                }
+                receivedChunks.get(lane).add(length == END_OF_LANE ? END_OF_LANE_CHUNK : ABORT_LANE_CHUNK);
+            } else if (length < 0 || length > MAX_FRAME_SIZE) {
+                throw new IOException("received a frame with invalid length " + length);
+            } else {
+                if (receiveWindows.get(lane).addAndGet(-length) < 0) {
+                    throw new IOException("peer sent more bytes on lane " + lane + " than it was allowed to");
+                }
+                final byte[] chunk = new byte[length];
+                in.readFully(chunk);
+                receivedChunks.get(lane).add(chunk);
+            }
+        }
+        logger.info(RECONNECT.getMarker(), "peer finished all {} lanes", lanes);
+    }
+
+    /**
+     * Reads the chunks of bytes the demultiplexer routed to one lane.
+     */
+    private final class LaneInputStream extends InputStream {
+
+        private final int lane;
+        private final BlockingQueue<byte[]> chunks;
+        private byte[] chunk = END_OF_LANE_CHUNK;
+        private int position;
+        private boolean finished;
+        /** bytes read since the peer was last told it may send more */
+        private int unacknowledged;
+
+        private LaneInputStream(final int lane, @NonNull final BlockingQueue<byte[]> chunks) {
+            this.lane = lane;
+            this.chunks = chunks;
+        }
+
+        /**
+         * Make sure there is an unread byte in the current chunk, waiting for the next chunk if needed.
+         *
+         * @return false if the peer has finished the lane
+         */
+        private boolean fill() throws IOException {
+            while (!finished && position == chunk.length) {
+                final byte[] next;
+                try {
+                    next = chunks.poll(pollTimeout.toMillis(), MILLISECONDS);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("interrupted while waiting for data", e);
+                }
+                if (next == null) {
+                    throw new MerkleSynchronizationException("Timed out waiting for data");
+                }
+                if (next == ABORT_LANE_CHUNK) {
+                    throw new MerkleSynchronizationException("Peer aborted lane " + lane);
+                }
+                finished = next == END_OF_LANE_CHUNK;
+                chunk = next;
+                position = 0;
+            }
+            return !finished;
+        }
+
+        /**
+         * Count bytes as read, and let the peer send more once half of the lane's buffer has been read.
+         */
+        private void consumed(final int count) throws IOException {
+            unacknowledged += count;
+            if (unacknowledged >= Math.max(1, laneBufferBytes / 2)) {
+                grantWindow(lane, unacknowledged);
+                unacknowledged = 0;
+            }
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (!fill()) {
+                return -1;
+            }
+            final int b = chunk[position++] & 0xFF;
+            consumed(1);
+            return b;
+        }
+
+        @Override
+        public int read(@NonNull final byte[] b, final int off, final int len) throws IOException {
+            Objects.checkFromIndexSize(off, len, b.length);
+            if (len == 0) {
+                return 0;
+            }
+            if (!fill()) {
+                return -1;
+            }
+            final int count = Math.min(len, chunk.length - position);
+            System.arraycopy(chunk, position, b, off, count);
+            position += count;
+            consumed(count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return chunk.length - position;
+        }
+    }
+
+    /**
+     * Writes the bytes of one lane to the underlying output stream as frames, as fast as the peer makes room for them.
+     */
+    private final class LaneOutputStream extends OutputStream {
+
+        private final int lane;
+
+        private LaneOutputStream(final int lane) {
+            this.lane = lane;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(@NonNull final byte[] b, final int off, final int len) throws IOException {
+            Objects.checkFromIndexSize(off, len, b.length);
+            int written = 0;
+            while (written < len) {
+                final int length = acquireWindow(Math.min(MAX_FRAME_SIZE, len - written));
+                final byte[] bytes = Arrays.copyOfRange(b, off + written, off + written + length);
+                synchronized (lock) {
+                    if (lanesEnded[lane]) {
+                        throw new IOException("lane " + lane + " has already ended");
+                    }
+                    send(new Frame(lane, length, bytes, 0));
+                }
+                written += length;
+            }
+        }
+
+        /**
+         * Wait until the peer has made room for at least one byte on this lane, and take as much of the room as can
+         * be used, up to the given number of bytes.
+         */
+        private int acquireWindow(final int wanted) throws IOException {
+            final Semaphore window = sendWindows.get(lane);
+            try {
+                if (!window.tryAcquire(pollTimeout.toMillis(), MILLISECONDS)) {
+                    throw new MerkleSynchronizationException("Timed out waiting for the peer to read lane " + lane);
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("interrupted while waiting for the peer to read lane " + lane, e);
+            }
+            // only this lane's writer takes permits, so these are still available
+            final int more = Math.min(window.availablePermits(), wanted - 1);
+            window.acquireUninterruptibly(more);
+            return 1 + more;
+        }
+
+        @Override
+        public void flush() {
+            // the multiplexer flushes whenever it runs out of frames to write
+        }
+    }
+
+    /**
+     * A frame waiting to be written by the multiplexer.
+     *
+     * @param lane   the lane, or {@link #CLOSE}
+     * @param length the number of bytes, or a control marker
+     * @param bytes  the bytes of a data frame, or null for a control frame
+     * @param window the number of bytes granted by a {@link #WINDOW} frame
+     */
+    private record Frame(int lane, int length, @Nullable byte[] bytes, int window) {}
+}
@@ -17,6 +17,8 @@
 package com.swirlds.common.threading.pool;
 
 import com.swirlds.common.threading.manager.ThreadManager;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Objects;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -49,6 +51,14 @@ public class CachedPoolParallelExecutor implements ParallelExecutor {
         factory = threadManager.createThreadFactory("parallel-executor", name);
     }
 
+    /**
+     * @param factory
+     * 		creates the threads in the pool, e.g. virtual threads
+     */
+    public CachedPoolParallelExecutor(@NonNull final ThreadFactory factory) {
+        this.factory = Objects.requireNonNull(factory);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.crypto;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class ReusableDigestsTest {
+    private static final byte[] MESSAGE = "The quick brown fox".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] OTHER_MESSAGE = "jumps over the lazy dog".getBytes(StandardCharsets.UTF_8);
+
+    @ParameterizedTest
+    @EnumSource(DigestType.class)
+    void reusesOneResetDigestPerThread(final DigestType digestType) {
+        final var digest = ReusableDigests.digestFor(digestType);
+        digest.update(OTHER_MESSAGE);
+
+        final var reused = ReusableDigests.digestFor(digestType);
+
+        assertSame(digest, reused);
+        assertArrayEquals(digestType.buildDigest().digest(MESSAGE), reused.digest(MESSAGE));
+    }
+
+    @ParameterizedTest
+    @EnumSource(DigestType.class)
+    void allInputFormsHaveSameDigest(final DigestType digestType) {
+        final var expected = digestType.buildDigest().digest(MESSAGE);
+        final var direct = ByteBuffer.allocateDirect(MESSAGE.length).put(MESSAGE).flip();
+
+        assertArrayEquals(expected, ReusableDigests.digestOf(digestType, MESSAGE));
+        assertArrayEquals(expected, ReusableDigests.digestOf(digestType, direct));
+        assertArrayEquals(expected, ReusableDigests.digestOf(digestType, Bytes.wrap(MESSAGE)));
+        assertEquals(0, direct.remaining());
+    }
+
+    @Test
+    void computesKnownKeccak256Digests() {
+        final var expected =
+                HexFormat.of().parseHex("c5d2460186f7233c927e7db2dcc703c0e500b653ca82273b7bfad8045d85a470");
+
+        assertArrayEquals(expected, ReusableDigests.keccak256Of(new byte[0]));
+        assertArrayEquals(expected, ReusableDigests.keccak256Of(ByteBuffer.allocateDirect(0)));
+    }
+
+    @Test
+    void batchDigestsMatchSingleDigests() {
+        final var digests = ReusableDigests.digestsOf(DigestType.SHA_384, List.of(MESSAGE, OTHER_MESSAGE));
+
+        assertEquals(2, digests.size());
+        assertArrayEquals(ReusableDigests.digestOf(DigestType.SHA_384, MESSAGE), digests.get(0));
+        assertArrayEquals(ReusableDigests.digestOf(DigestType.SHA_384, OTHER_MESSAGE), digests.get(1));
+    }
+
+    @Test
+    void pairDigestsPadUnpairedLastHash() {
+        final byte[] padding = new byte[] {42};
+
+        final var digests =
+                ReusableDigests.digestsOfPairs(DigestType.SHA_384, List.of(MESSAGE, OTHER_MESSAGE, MESSAGE), padding);
+
+        final var digest = DigestType.SHA_384.buildDigest();
+        digest.update(MESSAGE);
+        digest.update(OTHER_MESSAGE);
+        final var firstPair = digest.digest();
+        digest.update(MESSAGE);
+        digest.update(padding);
+        final var secondPair = digest.digest();
+        assertEquals(2, digests.size());
+        assertArrayEquals(firstPair, digests.get(0));
+        assertArrayEquals(secondPair, digests.get(1));
+    }
+
+    @Test
+    void hashBuilderIsResetAndIndependentOfDigest() {
+        final var builder = ReusableDigests.hashBuilderFor(DigestType.SHA_384);
+        builder.update(7L);
+
+        final var reused = ReusableDigests.hashBuilderFor(DigestType.SHA_384);
+        ReusableDigests.digestFor(DigestType.SHA_384).update(MESSAGE);
+
+        assertSame(builder, reused);
+        assertEquals(new HashBuilder(DigestType.SHA_384).update(1).build(), reused.update(1).build());
+    }
+}
@@ -0,0 +1,305 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.merkle.synchronization.streams;
+
+import static com.swirlds.common.threading.manager.AdHocThreadManager.getStaticThreadManager;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.common.io.streams.MerkleDataInputStream;
+import com.swirlds.common.io.streams.MerkleDataOutputStream;
+import com.swirlds.common.merkle.synchronization.config.ReconnectConfig;
+import com.swirlds.common.merkle.synchronization.config.ReconnectConfig_;
+import com.swirlds.common.merkle.synchronization.utility.MerkleSynchronizationException;
+import com.swirlds.common.test.fixtures.merkle.util.PairedStreams;
+import com.swirlds.common.threading.pool.StandardWorkGroup;
+import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+class MultiplexedStreamsTest {
+    private static final int LANES = 3;
+    private static final int LANE_BUFFER_BYTES = 1024;
+
+    private final ReconnectConfig reconnectConfig = new TestConfigBuilder()
+            .withValue(ReconnectConfig_.ASYNC_STREAM_TIMEOUT, "5s")
+            .withValue(ReconnectConfig_.PARALLEL_SUBTREE_BUFFER_BYTES, LANE_BUFFER_BYTES)
+            .getOrCreateConfig()
+            .getConfigData(ReconnectConfig.class);
+
+    @Test
+    void lanesCarryIndependentData() throws IOException, InterruptedException {
+        try (final PairedStreams streams = new PairedStreams()) {
+            final MultiplexedStreams teacher = new MultiplexedStreams(
+                    streams.getTeacherInput(), streams.getTeacherOutput(), LANES, reconnectConfig);
+            final MultiplexedStreams learner = new MultiplexedStreams(
+                    streams.getLearnerInput(), streams.getLearnerOutput(), LANES, reconnectConfig);
+            final StandardWorkGroup workGroup = new StandardWorkGroup(getStaticThreadManager(), "test", null);
+            teacher.start(workGroup);
+            learner.start(workGroup);
+
+            // Larger than a frame and than the lane buffer, so it must be split across frames and windows
+            final byte[][] payloads = new byte[LANES][];
+            final Random random = new Random(42);
+            for (int lane = 0; lane < LANES; lane++) {
+                payloads[lane] = new byte[MultiplexedStreams.MAX_FRAME_SIZE * 2 + lane];
+                random.nextBytes(payloads[lane]);
+            }
+
+            // Write the lanes in reverse order to interleave them with the lanes read below
+            for (int lane = LANES - 1; lane >= 0; lane--) {
+                final int writtenLane = lane;
+                workGroup.execute("lane-writer", () -> {
+                    try {
+                        teacher.getOutputStream(writtenLane).writeInt(writtenLane);
+                        teacher.getOutputStream(writtenLane).write(payloads[writtenLane]);
+                        teacher.finishLane(writtenLane);
+                        learner.getOutputStream(writtenLane).writeLong(writtenLane);
+                        learner.finishLane(writtenLane);
+                    } catch (final IOException e) {
+                        throw new RuntimeException(e);
+                    }
+                });
+            }
+
+            for (int lane = 0; lane < LANES; lane++) {
+                final MerkleDataInputStream in = learner.getInputStream(lane);
+                assertEquals(lane, in.readInt(), "lanes should not mix data");
+                final byte[] payload = new byte[payloads[lane].length];
+                in.readFully(payload);
+                assertArrayEquals(payloads[lane], payload, "payload should be received intact");
+                assertEquals(-1, in.read(), "lane should end after the peer finishes it");
+
+                assertEquals(lane, teacher.getInputStream(lane).readLong(), "lanes should work in both directions");
+            }
+
+            workGroup.waitForTermination();
+            assertFalse(workGroup.hasExceptions(), "demultiplexers should finish once the peer finishes all lanes");
+        }
+    }
+
+    @Test
+    void slowLaneDoesNotHoldUpOtherLanes() throws Exception {
+        try (final PairedStreams streams = new PairedStreams()) {
+            final MultiplexedStreams teacher = new MultiplexedStreams(
+                    streams.getTeacherInput(), streams.getTeacherOutput(), 2, reconnectConfig);
+            final MultiplexedStreams learner = new MultiplexedStreams(
+                    streams.getLearnerInput(), streams.getLearnerOutput(), 2, reconnectConfig);
+            final StandardWorkGroup workGroup = new StandardWorkGroup(getStaticThreadManager(), "test", null);
+            teacher.start(workGroup);
+            learner.start(workGroup);
+
+            // Nobody reads lane 0 yet, so its writer runs out of window and waits
+            final byte[] slowPayload = new byte[LANE_BUFFER_BYTES * 4];
+            new Random(42).nextBytes(slowPayload);
+            final CompletableFuture<Void> slowWriter = CompletableFuture.runAsync(() -> {
+                try {
+                    teacher.getOutputStream(0).write(slowPayload);
+                    teacher.finishLane(0);
+                } catch (final IOException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+
+            final MerkleDataOutputStream fastOut = teacher.getOutputStream(1);
+            for (int i = 0; i < LANE_BUFFER_BYTES; i++) {
+                fastOut.writeInt(i);
+            }
+            teacher.finishLane(1);
+            final MerkleDataInputStream fastIn = learner.getInputStream(1);
+            for (int i = 0; i < LANE_BUFFER_BYTES; i++) {
+                assertEquals(i, fastIn.readInt(), "lane 1 should be readable while lane 0 is full");
+            }
+            assertFalse(slowWriter.isDone(), "lane 0 should wait for the learner to read it");
+
+            final byte[] slowReceived = new byte[slowPayload.length];
+            learner.getInputStream(0).readFully(slowReceived);
+            assertArrayEquals(slowPayload, slowReceived, "the slow lane should be received intact");
+            slowWriter.get(5, TimeUnit.SECONDS);
+
+            learner.finishLane(0);
+            learner.finishLane(1);
+            workGroup.waitForTermination();
+            assertFalse(workGroup.hasExceptions(), "demultiplexers should finish once both peers finish all lanes");
+        }
+    }
+
+    @Test
+    void abortedLaneFailsPeerReader() throws IOException, InterruptedException {
+        try (final PairedStreams streams = new PairedStreams()) {
+            final MultiplexedStreams teacher = new MultiplexedStreams(
+                    streams.getTeacherInput(), streams.getTeacherOutput(), LANES, reconnectConfig);
+            final MultiplexedStreams learner = new MultiplexedStreams(
+                    streams.getLearnerInput(), streams.getLearnerOutput(), LANES, reconnectConfig);
+            final StandardWorkGroup workGroup = new StandardWorkGroup(getStaticThreadManager(), "test", null);
+            teacher.start(workGroup);
+            learner.start(workGroup);
+
+            teacher.abortLane(0);
+            teacher.abortLane(0);
+            final MerkleSynchronizationException e = assertThrows(
+                    MerkleSynchronizationException.class,
+                    () -> learner.getInputStream(0).read(),
+                    "the peer should not wait for data on an aborted lane");
+            assertTrue(e.getMessage().contains("aborted"), "the failure should say the lane was aborted");
+
+            // aborting a finished lane does nothing
+            learner.abortLane(0);
+            for (int lane = 1; lane < LANES; lane++) {
+                teacher.finishLane(lane);
+                learner.finishLane(lane);
+                learner.abortLane(lane);
+            }
+            workGroup.waitForTermination();
+            assertFalse(workGroup.hasExceptions(), "aborted lanes should still let the demultiplexers finish");
+        }
+    }
+
+    @Test
+    void blockedOutputDoesNotStopDemultiplexing() throws Exception {
+        try (final PairedStreams streams = new PairedStreams()) {
+            final GatedOutputStream learnerOutput = new GatedOutputStream(streams.getLearnerOutput());
+            final MultiplexedStreams teacher = new MultiplexedStreams(
+                    streams.getTeacherInput(), streams.getTeacherOutput(), 2, reconnectConfig);
+            final MultiplexedStreams learner = new MultiplexedStreams(
+                    streams.getLearnerInput(), new MerkleDataOutputStream(learnerOutput), 2, reconnectConfig);
+            final StandardWorkGroup workGroup = new StandardWorkGroup(getStaticThreadManager(), "test", null);
+            teacher.start(workGroup);
+            learner.start(workGroup);
+
+            // the flush waits for the window the learner grants for lane 0, so that grant has been written
+            teacher.getOutputStream(0).writeLong(42);
+            teacher.getOutputStream(0).flush();
+            learnerOutput.gated.set(true);
+
+            // the learner's output is now stuck, like a socket the peer does not read
+            learner.getOutputStream(1).writeLong(7);
+            learner.getOutputStream(1).flush();
+            assertTrue(learnerOutput.blocked.await(5, TimeUnit.SECONDS), "the learner's output should be stuck");
+
+            teacher.finishLane(0);
+            final MerkleDataInputStream in = learner.getInputStream(0);
+            assertEquals(42, in.readLong(), "the learner should still receive data while its output is stuck");
+            assertEquals(-1, in.read(), "the learner should still receive control frames while its output is stuck");
+
+            learnerOutput.release();
+            assertEquals(7, teacher.getInputStream(1).readLong(), "the stuck output should resume");
+            teacher.finishLane(1);
+            learner.finishLane(0);
+            learner.finishLane(1);
+            workGroup.waitForTermination();
+            assertFalse(workGroup.hasExceptions(), "both nodes should finish once the output is released");
+        }
+    }
+
+    @Test
+    void rejectsBytesBeyondWindow() throws IOException {
+        try (final PairedStreams streams = new PairedStreams()) {
+            final MultiplexedStreams learner = new MultiplexedStreams(
+                    streams.getLearnerInput(), streams.getLearnerOutput(), LANES, reconnectConfig);
+
+            streams.getTeacherOutput().writeInt(0);
+            streams.getTeacherOutput().writeInt(LANE_BUFFER_BYTES + 1);
+            streams.getTeacherOutput().write(new byte[LANE_BUFFER_BYTES + 1]);
+            streams.getTeacherOutput().flush();
+
+            assertThrows(IOException.class, learner::demultiplex, "a peer ignoring flow control should be rejected");
+        }
+    }
+
+    @Test
+    void rejectsUnknownLane() throws IOException {
+        try (final PairedStreams streams = new PairedStreams()) {
+            final MultiplexedStreams learner = new MultiplexedStreams(
+                    streams.getLearnerInput(), streams.getLearnerOutput(), LANES, reconnectConfig);
+
+            streams.getTeacherOutput().writeInt(LANES);
+            streams.getTeacherOutput().writeInt(0);
+            streams.getTeacherOutput().flush();
+
+            assertThrows(IOException.class, learner::demultiplex, "frames for unknown lanes should be rejected");
+        }
+    }
+
+    @Test
+    void rejectsNoLanes() throws IOException {
+        try (final PairedStreams streams = new PairedStreams()) {
+            assertThrows(
+                    IllegalArgumentException.class,
+                    () -> new MultiplexedStreams(
+                            streams.getLearnerInput(), streams.getLearnerOutput(), 0, reconnectConfig),
+                    "there must be at least one lane");
+        }
+    }
+
+    /**
+     * An output stream that, once gated, blocks every write until released.
+     */
+    private static final class GatedOutputStream extends FilterOutputStream {
+        private final AtomicBoolean gated = new AtomicBoolean();
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+
+        private GatedOutputStream(final OutputStream out) {
+            super(out);
+        }
+
+        private void release() {
+            released.countDown();
+        }
+
+        private void waitIfClosed() throws IOException {
+            if (gated.get()) {
+                blocked.countDown();
+                try {
+                    released.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            waitIfClosed();
+            out.write(b);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            waitIfClosed();
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            waitIfClosed();
+            out.flush();
+        }
+    }
+}
@@ -25,6 +25,8 @@ public class Constants {
     public static final String CONSOLE_TYPE = "CONSOLE";
     public static final String FILE_TYPE = "FILE";
     public static final String CONSOLE_AND_FILE_TYPE = "CONSOLE_AND_FILE";
+    public static final String ASYNC_FILE_TYPE = "ASYNC_FILE";
+    public static final String ASYNC_FILE_HANDLER_TYPE = "asyncFile";
     public static final String SWIRLDS = "SWIRLDS";
     public static final String LOG4J2 = "LOG4J2";
 
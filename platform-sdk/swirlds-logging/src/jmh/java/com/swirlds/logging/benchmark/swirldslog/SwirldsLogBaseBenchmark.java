@@ -16,6 +16,8 @@
 
 package com.swirlds.logging.benchmark.swirldslog;
 
+import static com.swirlds.logging.benchmark.config.Constants.ASYNC_FILE_HANDLER_TYPE;
+import static com.swirlds.logging.benchmark.config.Constants.ASYNC_FILE_TYPE;
 import static com.swirlds.logging.benchmark.config.Constants.CONSOLE_AND_FILE_TYPE;
 import static com.swirlds.logging.benchmark.config.Constants.CONSOLE_TYPE;
 import static com.swirlds.logging.benchmark.config.Constants.FILE_TYPE;
@@ -40,7 +42,7 @@ import org.openjdk.jmh.annotations.TearDown;
 @State(Scope.Benchmark)
 public class SwirldsLogBaseBenchmark {
 
-    @Param({CONSOLE_TYPE, FILE_TYPE, CONSOLE_AND_FILE_TYPE})
+    @Param({CONSOLE_TYPE, FILE_TYPE, CONSOLE_AND_FILE_TYPE, ASYNC_FILE_TYPE})
     public String loggingType;
 
     @Param({MODE_NOT_ROLLING, MODE_ROLLING})
@@ -54,7 +56,10 @@ public class SwirldsLogBaseBenchmark {
 
     @Setup(Level.Trial)
     public void init() {
-        config = Objects.equals(mode, MODE_NOT_ROLLING) ? new SwirldsLogConfig() : new RollingSwirldsLogConfig();
+        final String fileHandlerType = Objects.equals(loggingType, ASYNC_FILE_TYPE) ? ASYNC_FILE_HANDLER_TYPE : "file";
+        config = Objects.equals(mode, MODE_NOT_ROLLING)
+                ? new SwirldsLogConfig(fileHandlerType)
+                : new RollingSwirldsLogConfig(fileHandlerType);
 
         if (Objects.equals(loggingType, FILE_TYPE)) {
             loggingSystem = config.configureFileLogging(LogFiles.provideLogFilePath(Constants.LOG4J2, FILE_TYPE, mode));
@@ -63,6 +68,9 @@ public class SwirldsLogBaseBenchmark {
         } else if (Objects.equals(loggingType, CONSOLE_AND_FILE_TYPE)) {
             loggingSystem = config.configureFileAndConsoleLogging(
                     LogFiles.provideLogFilePath(Constants.LOG4J2, CONSOLE_AND_FILE_TYPE, mode));
+        } else if (Objects.equals(loggingType, ASYNC_FILE_TYPE)) {
+            loggingSystem =
+                    config.configureFileLogging(LogFiles.provideLogFilePath(Constants.SWIRLDS, ASYNC_FILE_TYPE, mode));
         }
         logger = loggingSystem.getLogger(LOGGER_NAME);
     }
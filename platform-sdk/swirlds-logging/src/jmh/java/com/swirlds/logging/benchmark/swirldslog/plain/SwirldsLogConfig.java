@@ -30,6 +30,23 @@ import edu.umd.cs.findbugs.annotations.NonNull;
  */
 public class SwirldsLogConfig implements LoggingBenchmarkConfig<LoggingSystem> {
 
+    private final String fileHandlerType;
+
+    /**
+     * Creates a config that logs to files with the {@code file} handler
+     */
+    public SwirldsLogConfig() {
+        this("file");
+    }
+
+    /**
+     * Creates a config that logs to files with the given handler type
+     * @param fileHandlerType the {@code logging.handler.NAME.type} of the file handler, e.g. {@code asyncFile}
+     */
+    public SwirldsLogConfig(@NonNull final String fileHandlerType) {
+        this.fileHandlerType = fileHandlerType;
+    }
+
     /**
      * {@inheritDoc}
      * @param logFile
@@ -39,7 +56,7 @@ public class SwirldsLogConfig implements LoggingBenchmarkConfig<LoggingSystem> {
                 .withConverter(new ConfigLevelConverter())
                 .withConverter(new MarkerStateConverter())
                 .withValue("logging.level", "trace")
-                .withValue("logging.handler.file.type", "file")
+                .withValue("logging.handler.file.type", fileHandlerType)
                 .withValue("logging.handler.file.enabled", "true")
                 .withValue("logging.handler.file.formatTimestamp", ConfigManagement.formatTimestamp() + "")
                 .withValue("logging.handler.file.level", "trace")
@@ -75,7 +92,7 @@ public class SwirldsLogConfig implements LoggingBenchmarkConfig<LoggingSystem> {
                 .withConverter(new ConfigLevelConverter())
                 .withConverter(new MarkerStateConverter())
                 .withValue("logging.level", "trace")
-                .withValue("logging.handler.file.type", "file")
+                .withValue("logging.handler.file.type", fileHandlerType)
                 .withValue("logging.handler.file.enabled", "true")
                 .withValue("logging.handler.file.formatTimestamp", ConfigManagement.formatTimestamp() + "")
                 .withValue("logging.handler.file.level", "trace")
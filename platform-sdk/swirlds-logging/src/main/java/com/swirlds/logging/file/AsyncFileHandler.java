@@ -0,0 +1,376 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.logging.file;
+
+import com.swirlds.config.api.Configuration;
+import com.swirlds.logging.api.Level;
+import com.swirlds.logging.api.extensions.event.LogEvent;
+import com.swirlds.logging.api.extensions.event.LogMessage;
+import com.swirlds.logging.api.extensions.handler.AbstractLogHandler;
+import com.swirlds.logging.api.internal.event.MutableLogEvent;
+import com.swirlds.logging.api.internal.event.ReuseableLogEventFactory;
+import com.swirlds.logging.api.internal.event.SimpleLogMessage;
+import com.swirlds.logging.api.internal.format.FormattedLinePrinter;
+import com.swirlds.logging.io.OutputStreamFactory;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A {@link com.swirlds.logging.api.extensions.handler.LogHandler} that writes log events to a file like the
+ * {@link FileHandler}, but on its own writer thread, so that logging threads never wait for formatting or file IO.
+ * <p>
+ * Logging threads copy each event into a slot of a preallocated ring of {@link MutableLogEvent}s, the same event type
+ * the {@link ReuseableLogEventFactory} reuses per thread. A single writer thread formats the events in order into a
+ * reusable line buffer, encodes them as UTF-8 into a reusable byte buffer, and writes the byte buffer to the file
+ * once it is full or the ring is empty. The parameters of a parameterized message are still converted to strings on
+ * the logging thread, so the file shows the values they had when the event was logged; only the rest of the line is
+ * formatted on the writer thread.
+ * <p>
+ * When the ring is full, the handler either blocks the logging thread until the writer frees a slot, or drops the
+ * event. Dropped events are counted and reported to the emergency logger by the writer thread. The number of queued
+ * and dropped events is available from {@link #getQueuedEventCount()} and {@link #getDroppedEventCount()}.
+ * <p>
+ * In addition to the properties of the {@link FileHandler}, the handler can be configured with the following
+ * properties:
+ * <ul>
+ *     <li>{@code queueSize} - The number of events the ring can hold, rounded up to a power of two.</li>
+ *     <li>{@code queueFullPolicy} - {@code BLOCK} or {@code DROP}, what to do with an event when the ring is full.</li>
+ * </ul>
+ */
+public class AsyncFileHandler extends AbstractLogHandler {
+
+    /**
+     * What to do with an event when the ring is full.
+     */
+    public enum QueueFullPolicy {
+        /**
+         * Wait until the writer thread frees a slot.
+         */
+        BLOCK,
+        /**
+         * Drop the event.
+         */
+        DROP
+    }
+
+    private static final String PROPERTY_QUEUE_SIZE = PROPERTY_HANDLER + ".queueSize";
+    private static final String PROPERTY_QUEUE_FULL_POLICY = PROPERTY_HANDLER + ".queueFullPolicy";
+    private static final int DEFAULT_QUEUE_SIZE = 8 * 1024;
+    private static final int EVENT_LOG_PRINTER_SIZE = 4 * 1024;
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    /** The maximum number of events encoded before the write buffer is written, even if the ring is not empty */
+    private static final int MAX_BATCH_SIZE = 256;
+
+    private static final long IDLE_PARK_NANOS = 1_000_000;
+    private static final long FULL_PARK_NANOS = 10_000;
+
+    private final OutputStream outputStream;
+    private final FormattedLinePrinter format;
+    private final QueueFullPolicy queueFullPolicy;
+
+    private final MutableLogEvent[] ring;
+    private final int mask;
+    /** The sequence number of the event in each slot, once the event is fully copied into the slot */
+    private final AtomicLongArray published;
+    /** The sequence number of the next event to claim a slot */
+    private final AtomicLong claimed = new AtomicLong();
+    /** The sequence number of the next event to format; slots of earlier events can be reused */
+    private volatile long consumed;
+    /** The sequence number of the first event not yet written to the output stream */
+    private volatile long written;
+
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile boolean running = true;
+    private volatile boolean writerParked;
+    private final Thread writerThread;
+
+    // Only used by the writer thread
+    private final StringBuilder line = new StringBuilder(EVENT_LOG_PRINTER_SIZE);
+    private char[] lineChars = new char[EVENT_LOG_PRINTER_SIZE];
+    private CharBuffer lineBuffer = CharBuffer.wrap(lineChars);
+    private final ByteBuffer writeBuffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8
+            .newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private long reportedDrops;
+
+    /**
+     * Creates a new async file handler and starts its writer thread.
+     *
+     * @param handlerName   the unique handler name
+     * @param configuration the configuration
+     */
+    public AsyncFileHandler(@NonNull final String handlerName, @NonNull final Configuration configuration)
+            throws IOException {
+        super(handlerName, configuration);
+
+        this.format = FormattedLinePrinter.createForHandler(handlerName, configuration);
+        final Integer queueSize =
+                configuration.getValue(PROPERTY_QUEUE_SIZE.formatted(handlerName), Integer.class, DEFAULT_QUEUE_SIZE);
+        final String policy = configuration.getValue(
+                PROPERTY_QUEUE_FULL_POLICY.formatted(handlerName), String.class, QueueFullPolicy.BLOCK.name());
+        this.queueFullPolicy = QueueFullPolicy.valueOf(policy.toUpperCase(Locale.ROOT));
+
+        final int capacity = queueSize == null || queueSize < 2 ? 2 : Integer.highestOneBit(queueSize - 1) << 1;
+        this.ring = new MutableLogEvent[capacity];
+        for (int i = 0; i < capacity; i++) {
+            ring[i] = new MutableLogEvent();
+        }
+        this.mask = capacity - 1;
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            published.set(i, -1);
+        }
+
+        try {
+            // The writer thread batches writes itself, so the stream is not buffered
+            this.outputStream = OutputStreamFactory.getInstance().outputStream(configuration, handlerName);
+        } catch (IOException e) {
+            throw new IOException("Could not create AsyncFileHandler", e);
+        }
+        this.writerThread = new Thread(this::runWriter, "logging-" + handlerName + "-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Queues a log event to be written by the writer thread.
+     *
+     * @param event The log event to be printed.
+     */
+    @Override
+    public void handle(@NonNull final LogEvent event) {
+        if (!running || Thread.currentThread() == writerThread) {
+            // An event logged while formatting another event would wait for a slot only the writer thread can free
+            EMERGENCY_LOGGER.log(event);
+            return;
+        }
+        final long sequence = claimSlot();
+        if (sequence < 0) {
+            dropped.incrementAndGet();
+            return;
+        }
+        final int index = (int) sequence & mask;
+        ring[index].update(
+                event.level(),
+                event.loggerName(),
+                event.threadName(),
+                event.timestamp(),
+                resolve(event.message()),
+                event.throwable(),
+                event.marker(),
+                event.context());
+        published.set(index, sequence);
+        if (writerParked) {
+            LockSupport.unpark(writerThread);
+        }
+    }
+
+    /**
+     * Resolves the parameters of a message on the logging thread, so the writer thread prints the values they had when
+     * the event was logged, like the {@link FileHandler} does, even if a parameter is mutable or not thread safe.
+     *
+     * @param message the message of the event
+     * @return a message that needs no further resolution
+     */
+    @NonNull
+    private static LogMessage resolve(@NonNull final LogMessage message) {
+        if (message instanceof SimpleLogMessage) {
+            return message;
+        }
+        return new SimpleLogMessage(message.getMessage());
+    }
+
+    /**
+     * Waits until all events queued so far are written, then flushes the file.
+     */
+    @Override
+    public void flush() {
+        final long target = claimed.get();
+        while (written < target && writerThread.isAlive()) {
+            LockSupport.unpark(writerThread);
+            LockSupport.parkNanos(FULL_PARK_NANOS);
+        }
+        try {
+            this.outputStream.flush();
+        } catch (IOException e) {
+            EMERGENCY_LOGGER.log(Level.WARN, "Failed to flush to file output stream " + this.getName(), e);
+        }
+    }
+
+    /**
+     * Stops the handler after writing all queued events, and no further events are processed
+     */
+    @Override
+    public void stopAndFinalize() {
+        super.stopAndFinalize();
+        running = false;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            EMERGENCY_LOGGER.log(Level.ERROR, "Interrupted waiting for the log writer thread", e);
+        }
+        try {
+            outputStream.close();
+        } catch (final Exception exception) {
+            EMERGENCY_LOGGER.log(Level.ERROR, "Failed to close file output stream", exception);
+        }
+    }
+
+    /**
+     * Returns the number of events queued and not yet formatted by the writer thread.
+     *
+     * @return the number of queued events
+     */
+    public long getQueuedEventCount() {
+        return Math.max(0, claimed.get() - consumed);
+    }
+
+    /**
+     * Returns the number of events dropped because the ring was full.
+     *
+     * @return the number of dropped events
+     */
+    public long getDroppedEventCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Claims the slot for a new event, waiting or giving up per the queue full policy if the ring is full.
+     *
+     * @return the sequence number of the event, or -1 if the event must be dropped
+     */
+    private long claimSlot() {
+        while (true) {
+            final long sequence = claimed.get();
+            if (sequence - consumed >= ring.length) {
+                if (queueFullPolicy == QueueFullPolicy.DROP || !running) {
+                    return -1;
+                }
+                LockSupport.unpark(writerThread);
+                LockSupport.parkNanos(FULL_PARK_NANOS);
+            } else if (claimed.compareAndSet(sequence, sequence + 1)) {
+                return sequence;
+            }
+        }
+    }
+
+    private void runWriter() {
+        long next = 0;
+        int batchSize = 0;
+        while (true) {
+            final int index = (int) next & mask;
+            if (published.get(index) == next) {
+                encode(ring[index]);
+                consumed = ++next;
+                if (++batchSize < MAX_BATCH_SIZE) {
+                    continue;
+                }
+            }
+            writeBuffer();
+            written = next;
+            batchSize = 0;
+            reportDrops();
+            if (published.get(index) == next) {
+                continue;
+            }
+            if (!running && claimed.get() == next) {
+                return;
+            }
+            writerParked = true;
+            if (published.get(index) != next) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+            writerParked = false;
+        }
+    }
+
+    /**
+     * Formats an event and encodes it into the write buffer, writing the buffer whenever it is full.
+     *
+     * @param event the event
+     */
+    private void encode(@NonNull final LogEvent event) {
+        // Where this event starts in the write buffer, so a failure does not discard the events before it
+        int eventStart = writeBuffer.position();
+        try {
+            line.setLength(0);
+            format.print(line, event);
+            final int length = line.length();
+            if (lineChars.length < length) {
+                lineChars = new char[Math.max(length, 2 * lineChars.length)];
+                lineBuffer = CharBuffer.wrap(lineChars);
+            }
+            line.getChars(0, length, lineChars, 0);
+            lineBuffer.clear().limit(length);
+            encoder.reset();
+            CoderResult result = encoder.encode(lineBuffer, writeBuffer, true);
+            while (result.isOverflow()) {
+                writeBuffer();
+                eventStart = 0;
+                result = encoder.encode(lineBuffer, writeBuffer, true);
+            }
+            while (encoder.flush(writeBuffer).isOverflow()) {
+                writeBuffer();
+                eventStart = 0;
+            }
+        } catch (final Exception exception) {
+            // Only the part of this event that was not yet written is rolled back
+            writeBuffer.position(eventStart);
+            EMERGENCY_LOGGER.log(Level.ERROR, "Failed to write to file output stream", exception);
+            // FORWARDING the event to the emergency logger
+            EMERGENCY_LOGGER.log(event);
+        }
+    }
+
+    private void writeBuffer() {
+        if (writeBuffer.position() == 0) {
+            return;
+        }
+        try {
+            outputStream.write(writeBuffer.array(), 0, writeBuffer.position());
+        } catch (final IOException exception) {
+            EMERGENCY_LOGGER.log(Level.ERROR, "Failed to write to file output stream", exception);
+        } finally {
+            writeBuffer.clear();
+        }
+    }
+
+    private void reportDrops() {
+        final long drops = dropped.get();
+        if (drops > reportedDrops) {
+            final long newDrops = drops - reportedDrops;
+            EMERGENCY_LOGGER.log(
+                    Level.WARN, "Handler " + getName() + " dropped " + newDrops + " log events as its queue was full");
+            reportedDrops = drops;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.logging.file;
+
+import static com.swirlds.logging.test.fixtures.util.LoggingTestUtils.EXPECTED_STATEMENTS;
+import static com.swirlds.logging.test.fixtures.util.LoggingTestUtils.countLinesInStatements;
+import static com.swirlds.logging.test.fixtures.util.LoggingTestUtils.getLines;
+import static com.swirlds.logging.test.fixtures.util.LoggingTestUtils.linesToStatements;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.swirlds.base.test.fixtures.context.WithContext;
+import com.swirlds.config.api.Configuration;
+import com.swirlds.logging.api.Level;
+import com.swirlds.logging.api.Logger;
+import com.swirlds.logging.api.internal.LoggingSystem;
+import com.swirlds.logging.api.internal.event.MutableLogEvent;
+import com.swirlds.logging.api.internal.event.ParameterizedLogMessage;
+import com.swirlds.logging.api.internal.event.SimpleLogMessage;
+import com.swirlds.logging.test.fixtures.internal.LoggingMirrorImpl;
+import com.swirlds.logging.test.fixtures.util.LoggingTestUtils;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@WithContext
+public class AsyncFileHandlerTest {
+
+    private static final String HANDLER_NAME = "async";
+    private static final int EVENT_COUNT = 1_000;
+
+    @Test
+    void testLogsEverythingThroughLoggingSystem(@TempDir final Path tempDir) throws IOException {
+        // given
+        final String logFile = tempDir.resolve("async-file-handler-test.log").toString();
+        final Configuration configuration = configuration(logFile, 16, "BLOCK");
+        final LoggingMirrorImpl mirror = new LoggingMirrorImpl();
+        final LoggingSystem loggingSystem = LoggingTestUtils.loggingSystemWithHandlers(configuration, mirror);
+        final Logger logger = loggingSystem.getLogger(UUID.randomUUID().toString());
+
+        // when
+        LoggingTestUtils.loggExtensively(logger);
+        loggingSystem.stopAndFinalize();
+
+        // then
+        final List<String> statementsInMirror = LoggingTestUtils.mirrorToStatements(mirror);
+        final List<String> logLines = getLines(logFile);
+        final List<String> statementsInFile = linesToStatements(logLines);
+        assertThat(statementsInFile).hasSize(EXPECTED_STATEMENTS);
+        assertThat(logLines).hasSize(countLinesInStatements(statementsInMirror));
+        assertThat(statementsInFile).isSubsetOf(statementsInMirror);
+    }
+
+    @Test
+    void testCopiesReusedEventsAndKeepsOrder(@TempDir final Path tempDir) throws IOException {
+        // given
+        final String logFile = tempDir.resolve("async-file-handler-test.log").toString();
+        final AsyncFileHandler handler = new AsyncFileHandler(HANDLER_NAME, configuration(logFile, 8, "BLOCK"));
+        final MutableLogEvent event = new MutableLogEvent();
+
+        // when
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            updateEvent(event, i);
+            handler.handle(event);
+        }
+        handler.flush();
+
+        // then
+        final List<String> lines = getLines(logFile);
+        assertThat(lines).hasSize(EVENT_COUNT);
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            assertThat(lines.get(i)).endsWith("message " + i);
+        }
+        assertThat(handler.getQueuedEventCount()).isZero();
+        assertThat(handler.getDroppedEventCount()).isZero();
+        handler.stopAndFinalize();
+    }
+
+    @Test
+    void testDropPolicyAccountsForEveryEvent(@TempDir final Path tempDir) throws IOException {
+        // given
+        final String logFile = tempDir.resolve("async-file-handler-test.log").toString();
+        final AsyncFileHandler handler = new AsyncFileHandler(HANDLER_NAME, configuration(logFile, 2, "drop"));
+        final MutableLogEvent event = new MutableLogEvent();
+
+        // when
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            updateEvent(event, i);
+            handler.handle(event);
+        }
+        handler.stopAndFinalize();
+
+        // then
+        final List<String> lines = getLines(logFile);
+        assertThat(lines.size() + handler.getDroppedEventCount()).isEqualTo(EVENT_COUNT);
+    }
+
+    @Test
+    void testResolvesParametersWhenLogged(@TempDir final Path tempDir) throws IOException {
+        // given
+        final String logFile = tempDir.resolve("async-file-handler-test.log").toString();
+        final AsyncFileHandler handler = new AsyncFileHandler(HANDLER_NAME, configuration(logFile, 8, "BLOCK"));
+        final MutableLogEvent event = new MutableLogEvent();
+        final StringBuilder parameter = new StringBuilder("before");
+
+        // when
+        event.update(
+                Level.INFO,
+                "test-logger",
+                "test-thread",
+                System.currentTimeMillis(),
+                new ParameterizedLogMessage("value {}", parameter),
+                null,
+                null,
+                Map.of());
+        handler.handle(event);
+        parameter.replace(0, parameter.length(), "after");
+        handler.stopAndFinalize();
+
+        // then
+        assertThat(getLines(logFile)).singleElement().asString().endsWith("value before");
+    }
+
+    private static void updateEvent(final MutableLogEvent event, final int index) {
+        event.update(
+                Level.INFO,
+                "test-logger",
+                "test-thread",
+                System.currentTimeMillis(),
+                new SimpleLogMessage("message " + index),
+                null,
+                null,
+                Map.of());
+    }
+
+    private static Configuration configuration(final String logFile, final int queueSize, final String policy) {
+        return LoggingTestUtils.getConfigBuilder()
+                .withValue("logging.level", "trace")
+                .withValue("logging.handler.%s.type".formatted(HANDLER_NAME), "asyncFile")
+                .withValue("logging.handler.%s.enabled".formatted(HANDLER_NAME), "true")
+                .withValue("logging.handler.%s.formatTimestamp".formatted(HANDLER_NAME), "false")
+                .withValue("logging.handler.%s.level".formatted(HANDLER_NAME), "trace")
+                .withValue("logging.handler.%s.file".formatted(HANDLER_NAME), logFile)
+                .withValue("logging.handler.%s.queueSize".formatted(HANDLER_NAME), queueSize)
+                .withValue("logging.handler.%s.queueFullPolicy".formatted(HANDLER_NAME), policy)
+                .getOrCreateConfig();
+    }
+}
@@ -16,12 +16,21 @@
 
 package com.swirlds.virtual.merkle.reconnect;
 
+import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.common.io.streams.SerializableDataInputStream;
 import com.swirlds.common.io.streams.SerializableDataOutputStream;
 import com.swirlds.virtualmap.datasource.VirtualDataSource;
 import com.swirlds.virtualmap.datasource.VirtualDataSourceBuilder;
+import com.swirlds.virtualmap.datasource.VirtualHashRecord;
+import com.swirlds.virtualmap.datasource.VirtualLeafBytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 public final class BrokenBuilder implements VirtualDataSourceBuilder {
 
@@ -37,6 +46,13 @@ public final class BrokenBuilder implements VirtualDataSourceBuilder {
     volatile int numCalls = 0;
     volatile int numTimesBroken = 0;
 
+    // Used by bulk reconnect tests to make the teacher send forged data source files. A forged snapshot
+    // keeps all the hashes of the real one, but the first leaf gets the value of the last leaf.
+    private VirtualDataSourceBuilder forgeryBuilder;
+    private String forgeryLabel;
+    private int numSnapshotsToForge = 0;
+    private final AtomicInteger numTransferredRestores = new AtomicInteger();
+
     public BrokenBuilder() {}
 
     public BrokenBuilder(VirtualDataSourceBuilder delegate) {
@@ -86,7 +102,11 @@ public final class BrokenBuilder implements VirtualDataSourceBuilder {
     @Override
     public void snapshot(final Path to, final VirtualDataSource snapshotMe) {
         final var breakableSnapshot = (BreakableDataSource) snapshotMe;
-        delegate.snapshot(to, breakableSnapshot.delegate);
+        if (shouldForgeSnapshot()) {
+            forgeSnapshot(to, breakableSnapshot.delegate);
+        } else {
+            delegate.snapshot(to, breakableSnapshot.delegate);
+        }
     }
 
     @Override
@@ -94,6 +114,24 @@ public final class BrokenBuilder implements VirtualDataSourceBuilder {
         return new BreakableDataSource(this, delegate.restore(label, from));
     }
 
+    @Override
+    public boolean supportsFileTransfer() {
+        return delegate.supportsFileTransfer();
+    }
+
+    @NonNull
+    @Override
+    public Path createTransferDirectory() throws IOException {
+        return delegate.createTransferDirectory();
+    }
+
+    @NonNull
+    @Override
+    public BreakableDataSource restoreTransferred(final String label, final Path source) {
+        numTransferredRestores.incrementAndGet();
+        return new BreakableDataSource(this, delegate.restoreTransferred(label, source));
+    }
+
     public void setNumCallsBeforeThrow(final int numCallsBeforeThrow) {
         this.numCallsBeforeThrow = numCallsBeforeThrow;
     }
@@ -101,4 +139,54 @@ public final class BrokenBuilder implements VirtualDataSourceBuilder {
     public void setNumTimesToBreak(final int numTimesToBreak) {
         this.numTimesToBreak = numTimesToBreak;
     }
+
+    /**
+     * Make the next snapshots forged. The forged data source is built with the given builder, which must
+     * use a different database than this builder's delegate, under the label of the snapshotted data source.
+     */
+    public synchronized void forgeSnapshots(
+            final VirtualDataSourceBuilder forgeryBuilder, final String label, final int numSnapshotsToForge) {
+        this.forgeryBuilder = forgeryBuilder;
+        this.forgeryLabel = label;
+        this.numSnapshotsToForge = numSnapshotsToForge;
+    }
+
+    /**
+     * Get the number of data sources restored from files received from another node.
+     */
+    public int getNumTransferredRestores() {
+        return numTransferredRestores.get();
+    }
+
+    private synchronized boolean shouldForgeSnapshot() {
+        if (numSnapshotsToForge > 0) {
+            numSnapshotsToForge--;
+            return true;
+        }
+        return false;
+    }
+
+    private void forgeSnapshot(final Path to, final VirtualDataSource original) {
+        final long firstLeafPath = original.getFirstLeafPath();
+        final long lastLeafPath = original.getLastLeafPath();
+        final VirtualDataSource forged = forgeryBuilder.build(forgeryLabel, false);
+        try {
+            final List<VirtualHashRecord> hashes = new ArrayList<>();
+            for (long path = 0; path <= lastLeafPath; path++) {
+                hashes.add(new VirtualHashRecord(path, original.loadHash(path)));
+            }
+            final List<VirtualLeafBytes> leaves = new ArrayList<>();
+            for (long path = firstLeafPath; path <= lastLeafPath; path++) {
+                leaves.add(original.loadLeafRecord(path));
+            }
+            final VirtualLeafBytes first = leaves.getFirst();
+            final Bytes forgedValue = leaves.getLast().valueBytes();
+            leaves.set(0, new VirtualLeafBytes(first.path(), first.keyBytes(), first.keyHashCode(), forgedValue));
+            forged.saveRecords(firstLeafPath, lastLeafPath, hashes.stream(), leaves.stream(), Stream.empty(), false);
+            forgeryBuilder.snapshot(to, forged);
+            forged.close();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.virtual.merkle.reconnect;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.swirlds.common.constructable.ClassConstructorPair;
+import com.swirlds.common.constructable.ConstructableRegistry;
+import com.swirlds.common.constructable.ConstructableRegistryException;
+import com.swirlds.common.crypto.DigestType;
+import com.swirlds.common.io.utility.LegacyTemporaryFileBuilder;
+import com.swirlds.common.merkle.synchronization.config.ReconnectConfig_;
+import com.swirlds.config.api.Configuration;
+import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
+import com.swirlds.merkledb.MerkleDbDataSourceBuilder;
+import com.swirlds.merkledb.MerkleDbTableConfig;
+import com.swirlds.merkledb.config.MerkleDbConfig;
+import com.swirlds.virtual.merkle.TestKey;
+import com.swirlds.virtual.merkle.TestKeySerializer;
+import com.swirlds.virtual.merkle.TestValue;
+import com.swirlds.virtual.merkle.TestValueSerializer;
+import com.swirlds.virtualmap.VirtualMap;
+import com.swirlds.virtualmap.config.VirtualMapConfig;
+import com.swirlds.virtualmap.config.VirtualMapConfig_;
+import com.swirlds.virtualmap.config.VirtualMapReconnectMode;
+import com.swirlds.virtualmap.datasource.VirtualDataSourceBuilder;
+import com.swirlds.virtualmap.internal.merkle.VirtualRootNode;
+import java.io.IOException;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Reconnects where the learner's tree differs enough from the teacher's to receive the teacher's MerkleDb files in
+ * bulk. The teacher and the learner use separate databases, and maps with the same label, as different nodes do.
+ */
+@DisplayName("Virtual Map Bulk Reconnect Test")
+class VirtualMapBulkReconnectTest extends VirtualMapReconnectTestBase {
+
+    private static final String LABEL = "Map";
+
+    private static final Configuration BULK_CONFIGURATION = new TestConfigBuilder()
+            .withValue(ReconnectConfig_.ACTIVE, "true")
+            .withValue(ReconnectConfig_.ASYNC_STREAM_TIMEOUT, "5000ms")
+            .withValue(ReconnectConfig_.MAX_ACK_DELAY, "1000ms")
+            .withValue(VirtualMapConfig_.RECONNECT_MODE, VirtualMapReconnectMode.PULL_TOP_TO_BOTTOM)
+            .withValue(VirtualMapConfig_.RECONNECT_BULK_THRESHOLD, "0.5")
+            .getOrCreateConfig();
+
+    @BeforeAll
+    static void registerBulkConstructables() throws ConstructableRegistryException {
+        // The learner builds the received maps through the registry, so they must have bulk transfer enabled too
+        final ConstructableRegistry registry = ConstructableRegistry.getInstance();
+        registry.registerConstructable(
+                new ClassConstructorPair(VirtualMap.class, () -> new VirtualMap(BULK_CONFIGURATION)));
+        registry.registerConstructable(new ClassConstructorPair(
+                VirtualRootNode.class,
+                () -> new VirtualRootNode<>(BULK_CONFIGURATION.getConfigData(VirtualMapConfig.class))));
+    }
+
+    @BeforeEach
+    void setupBulkMaps() throws IOException {
+        // The maps built by the base class don't transfer files in bulk, and are never reconnected
+        teacherMap.release();
+        learnerMap.release();
+        teacherBuilder = new BrokenBuilder(createBulkBuilder("teacher"));
+        learnerBuilder = new BrokenBuilder(createBulkBuilder("learner"));
+        teacherMap = new VirtualMap<>(
+                LABEL, new TestKeySerializer(), new TestValueSerializer(), teacherBuilder, BULK_CONFIGURATION);
+        learnerMap = new VirtualMap<>(
+                LABEL, new TestKeySerializer(), new TestValueSerializer(), learnerBuilder, BULK_CONFIGURATION);
+    }
+
+    private static VirtualDataSourceBuilder createBulkBuilder(final String name) throws IOException {
+        final Path databaseDir = LegacyTemporaryFileBuilder.buildTemporaryDirectory(name, BULK_CONFIGURATION);
+        final MerkleDbConfig merkleDbConfig = BULK_CONFIGURATION.getConfigData(MerkleDbConfig.class);
+        final MerkleDbTableConfig tableConfig = new MerkleDbTableConfig(
+                (short) 1,
+                DigestType.SHA_384,
+                merkleDbConfig.maxNumOfKeys(),
+                merkleDbConfig.hashesRamToDiskThreshold());
+        tableConfig.hashesRamToDiskThreshold(0);
+        return new MerkleDbDataSourceBuilder(databaseDir, tableConfig, BULK_CONFIGURATION);
+    }
+
+    private void populateDisjointMaps() {
+        for (int i = 0; i < 1_000; i++) {
+            teacherMap.put(new TestKey(i), new TestValue(i));
+            learnerMap.put(new TestKey(i + 1_000), new TestValue(i + 1_000));
+        }
+    }
+
+    @Test
+    @Tags({@Tag("VirtualMerkle"), @Tag("Reconnect")})
+    @DisplayName("Learner receives the teacher's files in bulk")
+    void bulkReconnect() {
+        populateDisjointMaps();
+
+        assertDoesNotThrow(this::reconnect, "Should not throw a Exception");
+        assertEquals(1, learnerBuilder.getNumTransferredRestores(), "The learner should restore the teacher's files");
+    }
+
+    @Test
+    @Tags({@Tag("VirtualMerkle"), @Tag("Reconnect")})
+    @DisplayName("Learner rejects forged files from the teacher")
+    void forgedBulkFilesAreRejected() throws IOException {
+        populateDisjointMaps();
+        // The forged files keep every hash of the teacher's tree, including the root hash, but not its leaves
+        teacherBuilder.forgeSnapshots(createBulkBuilder("forgery"), LABEL, 1);
+
+        // The first attempt gets the forged files and must fail, the second gets the real files
+        assertDoesNotThrow(() -> reconnectMultipleTimes(2), "Should not throw a Exception");
+        assertEquals(2, learnerBuilder.getNumTransferredRestores(), "Both attempts should restore files");
+    }
+}
@@ -25,6 +25,7 @@ import com.swirlds.common.io.streams.SerializableDataOutputStream;
 import com.swirlds.common.io.utility.LegacyTemporaryFileBuilder;
 import com.swirlds.config.api.Configuration;
 import com.swirlds.merkledb.constructable.constructors.MerkleDbDataSourceBuilderConstructor;
+import com.swirlds.merkledb.files.DataFileCommon;
 import com.swirlds.virtualmap.datasource.VirtualDataSource;
 import com.swirlds.virtualmap.datasource.VirtualDataSourceBuilder;
 import edu.umd.cs.findbugs.annotations.NonNull;
@@ -174,6 +175,51 @@ public class MerkleDbDataSourceBuilder implements VirtualDataSourceBuilder {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supportsFileTransfer() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    public Path createTransferDirectory() throws IOException {
+        return LegacyTemporaryFileBuilder.buildTemporaryDirectory("reconnect", configuration);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The received files are restored into a new database instance in a temporary directory rather
+     * than into this builder's database, since the latter already contains a table with the same label.
+     * If the restore fails, the temporary directory is deleted.
+     */
+    @NonNull
+    @Override
+    public VirtualDataSource restoreTransferred(final String label, final Path source) {
+        Path target = null;
+        boolean restored = false;
+        try {
+            target = LegacyTemporaryFileBuilder.buildTemporaryDirectory("merkledb", configuration);
+            final MerkleDb database = MerkleDb.restore(source, target, configuration);
+            final VirtualDataSource dataSource = database.getDataSource(label, true);
+            restored = true;
+            return dataSource;
+        } catch (final IOException z) {
+            throw new UncheckedIOException(z);
+        } finally {
+            // On success the restored data source lives in the directory, so it must only be deleted on failure
+            if (!restored && target != null) {
+                DataFileCommon.deleteDirectoryAndContents(target);
+            }
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -26,6 +26,7 @@ jmhModuleInfo {
     requires("com.swirlds.common.test.fixtures")
     requires("com.swirlds.platform.core.test.fixtures")
     requires("com.hedera.node.hapi")
+    requires("com.github.spotbugs.annotations")
     requires("jmh.core")
 }
 
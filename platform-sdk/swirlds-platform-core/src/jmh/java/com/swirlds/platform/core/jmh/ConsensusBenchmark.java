@@ -50,7 +50,7 @@ import org.openjdk.jmh.infra.Blackhole;
 @Warmup(iterations = 1, time = 1)
 @Measurement(iterations = 3, time = 10)
 public class ConsensusBenchmark {
-    @Param({"39"})
+    @Param({"10", "40", "100"})
     public int numNodes;
 
     @Param({"100000"})
@@ -0,0 +1,169 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.core.jmh;
+
+import static com.swirlds.common.threading.manager.AdHocThreadManager.getStaticThreadManager;
+
+import com.swirlds.common.threading.pool.CachedPoolParallelExecutor;
+import com.swirlds.common.threading.pool.ParallelExecutionException;
+import com.swirlds.common.threading.pool.ParallelExecutor;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures gossip over loopback TCP connections with many peers, with the protocols with each peer run on a platform
+ * thread per peer (the default) or on a virtual thread per peer ({@code sync.virtualThreads}).
+ * <p>
+ * Each invocation is one round in which both ends of every connection sync at the same time, the way
+ * {@code ShadowgraphSynchronizer} does: each end writes {@link #syncBytes} on a background thread while reading the
+ * same amount from its peer on the protocol thread. So the average time is the latency of a sync when syncing with all
+ * peers at once, and the throughput is {@code 2 * peers * syncBytes} divided by that time.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+public class GossipTransportBenchmark {
+
+    @Param({"30", "100"})
+    public int peers;
+
+    @Param({"PLATFORM", "VIRTUAL"})
+    public Threads threads;
+
+    @Param({"65536"})
+    public int syncBytes;
+
+    /** the size of the buffered streams, the default of {@code socket.bufferSize} */
+    @Param({"8192"})
+    public int bufferSize;
+
+    private ServerSocket serverSocket;
+    private final List<Socket> sockets = new ArrayList<>();
+    private final List<Peer> ends = new ArrayList<>();
+    private ExecutorService protocolThreads;
+    private CachedPoolParallelExecutor writers;
+
+    public enum Threads {
+        PLATFORM,
+        VIRTUAL
+    }
+
+    /**
+     * One end of a connection.
+     */
+    private record Peer(
+            DataInputStream in, DataOutputStream out, ParallelExecutor writers, byte[] payload, byte[] received) {
+        void sync() throws ParallelExecutionException {
+            writers.doParallel(
+                    () -> {
+                        in.readFully(received);
+                        return null;
+                    },
+                    () -> {
+                        out.write(payload);
+                        out.flush();
+                        return null;
+                    });
+        }
+    }
+
+    @Setup
+    public void setup() throws IOException {
+        if (threads == Threads.VIRTUAL) {
+            protocolThreads = Executors.newVirtualThreadPerTaskExecutor();
+            writers = new CachedPoolParallelExecutor(
+                    Thread.ofVirtual().name("benchmark-writer-", 0).factory());
+        } else {
+            protocolThreads = Executors.newFixedThreadPool(2 * peers);
+            writers = new CachedPoolParallelExecutor(getStaticThreadManager(), "benchmark-writer");
+        }
+        writers.start();
+
+        final Random random = new Random(0);
+        final byte[] payload = new byte[syncBytes];
+        random.nextBytes(payload);
+
+        final InetAddress loopback = InetAddress.getLoopbackAddress();
+        serverSocket = new ServerSocket(0, peers, loopback);
+        for (int i = 0; i < peers; i++) {
+            final Socket client = new Socket(loopback, serverSocket.getLocalPort());
+            final Socket server = serverSocket.accept();
+            for (final Socket socket : List.of(client, server)) {
+                socket.setTcpNoDelay(true);
+                sockets.add(socket);
+                ends.add(new Peer(
+                        new DataInputStream(new BufferedInputStream(socket.getInputStream(), bufferSize)),
+                        new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), bufferSize)),
+                        writers,
+                        payload,
+                        new byte[syncBytes]));
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        protocolThreads.shutdownNow();
+        for (final Socket socket : sockets) {
+            socket.close();
+        }
+        serverSocket.close();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void syncWithAllPeers() throws ExecutionException, InterruptedException {
+        final List<Future<Void>> syncs = new ArrayList<>(ends.size());
+        for (final Peer end : ends) {
+            syncs.add(protocolThreads.submit(() -> {
+                end.sync();
+                return null;
+            }));
+        }
+        for (final Future<Void> sync : syncs) {
+            sync.get();
+        }
+    }
+}
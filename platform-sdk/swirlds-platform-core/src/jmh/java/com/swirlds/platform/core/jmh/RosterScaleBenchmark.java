@@ -0,0 +1,405 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.core.jmh;
+
+import static com.swirlds.common.threading.manager.AdHocThreadManager.getStaticThreadManager;
+
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.crypto.Signature;
+import com.swirlds.common.crypto.SignatureType;
+import com.swirlds.common.merkle.synchronization.config.ReconnectConfig;
+import com.swirlds.common.platform.NodeId;
+import com.swirlds.common.threading.pool.CachedPoolParallelExecutor;
+import com.swirlds.platform.components.consensus.ConsensusEngine;
+import com.swirlds.platform.components.consensus.DefaultConsensusEngine;
+import com.swirlds.platform.consensus.EventWindow;
+import com.swirlds.platform.core.jmh.SyntheticHashgraph.StakeDistribution;
+import com.swirlds.platform.event.PlatformEvent;
+import com.swirlds.platform.event.creation.EventCreator;
+import com.swirlds.platform.event.creation.tipset.TipsetEventCreator;
+import com.swirlds.platform.event.deduplication.EventDeduplicator;
+import com.swirlds.platform.event.deduplication.StandardEventDeduplicator;
+import com.swirlds.platform.event.orphan.DefaultOrphanBuffer;
+import com.swirlds.platform.event.orphan.OrphanBuffer;
+import com.swirlds.platform.event.validation.DefaultInternalEventValidator;
+import com.swirlds.platform.event.validation.InternalEventValidator;
+import com.swirlds.platform.gossip.FallenBehindManagerImpl;
+import com.swirlds.platform.gossip.NoOpIntakeEventCounter;
+import com.swirlds.platform.gossip.shadowgraph.ShadowEvent;
+import com.swirlds.platform.gossip.shadowgraph.Shadowgraph;
+import com.swirlds.platform.gossip.shadowgraph.ShadowgraphSynchronizer;
+import com.swirlds.platform.internal.ConsensusRound;
+import com.swirlds.platform.metrics.SyncMetrics;
+import com.swirlds.platform.network.topology.StaticTopology;
+import com.swirlds.platform.system.BasicSoftwareVersion;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.lang.ref.Reference;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures how event creation, event intake, consensus and gossip scale with the size of the roster. All benchmarks
+ * replay the same synthetic hashgraph from the point of view of its first node.
+ * <ul>
+ *     <li>{@code eventCreation}: the {@link TipsetEventCreator} registers every event, and tries to create an event
+ *     after each one of its own. The other nodes build on the events of the hashgraph rather than on the created
+ *     ones, so the created events are not gossiped and the hashgraph stays the same for every node count.</li>
+ *     <li>{@code intake}: internal validation, deduplication, the orphan buffer and insertion into the
+ *     {@link Shadowgraph}. Signatures are not validated, since the synthetic events are not really signed.</li>
+ *     <li>{@code consensus}: linking and {@code ConsensusImpl}.</li>
+ *     <li>{@code fullPipeline}: all of the above, with consensus driving the event window of the other components.
+ *     Its {@link RetainedMemory} counters report the heap retained per non-expired event once the whole hashgraph
+ *     has gone through the pipeline.</li>
+ *     <li>{@code syncSendList}: {@link ShadowgraphSynchronizer#createSendList}, which finds, sorts and filters the
+ *     events a peer lacks, for a peer that is {@value #SYNC_LAG_PER_NODE} events per node behind. Network transfer is
+ *     not included.</li>
+ * </ul>
+ * The per-event benchmarks report the average time per event. Running {@link #main(String...)} adds the GC profiler,
+ * whose {@code gc.alloc.rate.norm} is then the number of bytes allocated per event.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+public class RosterScaleBenchmark {
+    private static final int NUM_EVENTS = 50_000;
+    private static final int SYNC_LAG_PER_NODE = 2;
+    private static final Signature SIGNATURE =
+            new Signature(SignatureType.RSA, new byte[SignatureType.RSA.signatureLength()]);
+
+    public static void main(String... args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                        .include(RosterScaleBenchmark.class.getSimpleName())
+                        .addProfiler(GCProfiler.class)
+                        .build())
+                .run();
+    }
+
+    @Param({"4", "10", "40", "100", "200"})
+    public int numNodes;
+
+    @Param({"BALANCED", "INCREMENTING", "RANDOM"})
+    public StakeDistribution stakeDistribution;
+
+    @Param({"0", "4"})
+    public double eventRateSkew;
+
+    @Param({"0"})
+    public long seed;
+
+    private SyntheticHashgraph hashgraph;
+    private NodeId selfId;
+    private List<PlatformEvent> events;
+    private SimulatedNode node;
+
+    private Shadowgraph syncShadowgraph;
+    private ShadowgraphSynchronizer synchronizer;
+    private EventWindow syncEventWindow;
+    private EventWindow peerEventWindow;
+    private List<Hash> peerTips;
+
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        hashgraph = new SyntheticHashgraph(numNodes, stakeDistribution, eventRateSkew, NUM_EVENTS, seed);
+        selfId = hashgraph.selfId();
+        setupSync();
+    }
+
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        events = hashgraph.copyEvents();
+        node = new SimulatedNode(hashgraph);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @OperationsPerInvocation(NUM_EVENTS)
+    public void eventCreation(final Blackhole bh) {
+        for (int i = 0; i < events.size(); i++) {
+            final PlatformEvent event = events.get(i);
+            node.eventCreator.registerEvent(event);
+            if (event.getCreatorId().equals(selfId)) {
+                bh.consume(node.eventCreator.maybeCreateEvent());
+            }
+            final EventWindow eventWindow = hashgraph.eventWindowAfter(i);
+            if (eventWindow != null) {
+                node.eventCreator.setEventWindow(eventWindow);
+            }
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @OperationsPerInvocation(NUM_EVENTS)
+    public void intake(final Blackhole bh) {
+        for (int i = 0; i < events.size(); i++) {
+            bh.consume(node.intake(events.get(i)));
+            final EventWindow eventWindow = hashgraph.eventWindowAfter(i);
+            if (eventWindow != null) {
+                bh.consume(node.setIntakeEventWindow(eventWindow));
+            }
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @OperationsPerInvocation(NUM_EVENTS)
+    public void consensus(final Blackhole bh) {
+        for (final PlatformEvent event : events) {
+            bh.consume(node.consensusEngine.addEvent(event));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @OperationsPerInvocation(NUM_EVENTS)
+    public void fullPipeline(final RetainedMemory memory) {
+        for (final PlatformEvent event : events) {
+            node.process(event);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<PlatformEvent> syncSendList() {
+        // The tips of the peer that this node has, as the synchronizer collects them before creating the send list
+        final Set<ShadowEvent> knownSet = new HashSet<>();
+        for (final ShadowEvent tip : syncShadowgraph.shadows(peerTips)) {
+            if (tip != null) {
+                knownSet.add(tip);
+            }
+        }
+        return synchronizer.createSendList(selfId, knownSet, syncEventWindow, peerEventWindow);
+    }
+
+    /**
+     * Build the shadowgraph of a node that has received the whole hashgraph, and the tips of a peer that is
+     * {@link #SYNC_LAG_PER_NODE} events per node behind it.
+     */
+    private void setupSync() {
+        final SimulatedNode syncNode = new SimulatedNode(hashgraph);
+        final List<PlatformEvent> syncEvents = hashgraph.copyEvents();
+        final int peerEventCount = Math.max(0, syncEvents.size() - SYNC_LAG_PER_NODE * numNodes);
+        final Map<NodeId, Hash> peerTipsByCreator = new HashMap<>();
+        EventWindow peerWindow = EventWindow.getGenesisEventWindow(hashgraph.ancientMode());
+        for (int i = 0; i < syncEvents.size(); i++) {
+            final PlatformEvent event = syncEvents.get(i);
+            syncNode.intake(event);
+            final EventWindow eventWindow = hashgraph.eventWindowAfter(i);
+            if (eventWindow != null) {
+                syncNode.setIntakeEventWindow(eventWindow);
+            }
+            if (i < peerEventCount) {
+                peerTipsByCreator.put(event.getCreatorId(), event.getHash());
+                if (eventWindow != null) {
+                    peerWindow = eventWindow;
+                }
+            }
+        }
+        syncShadowgraph = syncNode.shadowgraph;
+        synchronizer = createSynchronizer(syncShadowgraph);
+        syncEventWindow = syncShadowgraph.getEventWindow();
+        peerEventWindow = peerWindow;
+        peerTips = List.copyOf(peerTipsByCreator.values());
+    }
+
+    /**
+     * Create the synchronizer that a node with the given shadowgraph gossips with. Only its send list is measured,
+     * so the components it needs for the rest of a sync do nothing.
+     */
+    @NonNull
+    private ShadowgraphSynchronizer createSynchronizer(@NonNull final Shadowgraph shadowgraph) {
+        final var platformContext = hashgraph.platformContext();
+        final var fallenBehindManager = new FallenBehindManagerImpl(
+                selfId,
+                new StaticTopology(List.of(), selfId),
+                action -> {},
+                () -> {},
+                platformContext.getConfiguration().getConfigData(ReconnectConfig.class));
+        return new ShadowgraphSynchronizer(
+                platformContext,
+                shadowgraph,
+                numNodes,
+                new SyncMetrics(platformContext.getMetrics()),
+                event -> {},
+                fallenBehindManager,
+                new NoOpIntakeEventCounter(),
+                new CachedPoolParallelExecutor(getStaticThreadManager(), "roster-scale-benchmark"));
+    }
+
+    /**
+     * The components of a single node that handle events on their way from gossip to consensus, and the event
+     * creator that builds on them.
+     */
+    private static final class SimulatedNode {
+        private final InternalEventValidator internalEventValidator;
+        private final EventDeduplicator eventDeduplicator;
+        private final OrphanBuffer orphanBuffer;
+        private final Shadowgraph shadowgraph;
+        private final ConsensusEngine consensusEngine;
+        private final EventCreator eventCreator;
+        private final NodeId selfId;
+
+        private SimulatedNode(@NonNull final SyntheticHashgraph hashgraph) {
+            final var platformContext = hashgraph.platformContext();
+            final var intakeEventCounter = new NoOpIntakeEventCounter();
+            selfId = hashgraph.selfId();
+            internalEventValidator = new DefaultInternalEventValidator(platformContext, false, intakeEventCounter);
+            eventDeduplicator = new StandardEventDeduplicator(platformContext, intakeEventCounter);
+            orphanBuffer = new DefaultOrphanBuffer(platformContext, intakeEventCounter);
+            shadowgraph = new Shadowgraph(
+                    platformContext, hashgraph.roster().rosterEntries().size(), intakeEventCounter);
+            shadowgraph.updateEventWindow(EventWindow.getGenesisEventWindow(hashgraph.ancientMode()));
+            consensusEngine = new DefaultConsensusEngine(platformContext, hashgraph.roster(), selfId);
+            eventCreator = new TipsetEventCreator(
+                    platformContext,
+                    new Random(0),
+                    data -> SIGNATURE,
+                    hashgraph.roster(),
+                    selfId,
+                    new BasicSoftwareVersion(1),
+                    List::of);
+        }
+
+        /**
+         * Pass an event through validation, deduplication and the orphan buffer, and add the events that come out
+         * to the shadowgraph.
+         *
+         * @return the events released by the orphan buffer
+         */
+        @NonNull
+        private List<PlatformEvent> intake(@NonNull final PlatformEvent event) {
+            final PlatformEvent validEvent = internalEventValidator.validateEvent(event);
+            final PlatformEvent uniqueEvent = validEvent == null ? null : eventDeduplicator.handleEvent(validEvent);
+            if (uniqueEvent == null) {
+                return List.of();
+            }
+            final List<PlatformEvent> released = orphanBuffer.handleEvent(uniqueEvent);
+            released.forEach(shadowgraph::addEvent);
+            return released;
+        }
+
+        /**
+         * Move the event window of the intake components.
+         *
+         * @return the events released by the orphan buffer
+         */
+        @NonNull
+        private List<PlatformEvent> setIntakeEventWindow(@NonNull final EventWindow eventWindow) {
+            eventDeduplicator.setEventWindow(eventWindow);
+            final List<PlatformEvent> released = orphanBuffer.setEventWindow(eventWindow);
+            released.forEach(shadowgraph::addEvent);
+            shadowgraph.updateEventWindow(eventWindow);
+            return released;
+        }
+
+        /**
+         * Pass an event through the whole pipeline, letting consensus move the event window of everything else. The
+         * events the node creates are dropped.
+         */
+        private void process(@NonNull final PlatformEvent event) {
+            EventWindow eventWindow = null;
+            for (final PlatformEvent released : intake(event)) {
+                eventCreator.registerEvent(released);
+                if (released.getCreatorId().equals(selfId)) {
+                    eventCreator.maybeCreateEvent();
+                }
+                final List<ConsensusRound> rounds = consensusEngine.addEvent(released);
+                if (!rounds.isEmpty()) {
+                    eventWindow = rounds.getLast().getEventWindow();
+                }
+            }
+            if (eventWindow != null) {
+                setIntakeEventWindow(eventWindow);
+                eventCreator.setEventWindow(eventWindow);
+            }
+        }
+    }
+
+    /**
+     * Reports the heap retained by a node per event that it has not yet expired, measured once per iteration after
+     * the whole hashgraph has gone through {@code fullPipeline} on a fresh node.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class RetainedMemory {
+        public long retainedBytesPerEvent;
+        public long retainedEvents;
+
+        @Setup(Level.Iteration)
+        public void measure(final RosterScaleBenchmark benchmark) {
+            final SyntheticHashgraph hashgraph = benchmark.hashgraph;
+            final List<PlatformEvent> copies = hashgraph.copyEvents();
+            final long before = usedHeap();
+            final SimulatedNode retainedNode = new SimulatedNode(hashgraph);
+            for (final PlatformEvent event : copies) {
+                retainedNode.process(event);
+            }
+            final long after = usedHeap();
+
+            final EventWindow eventWindow = retainedNode.shadowgraph.getEventWindow();
+            retainedEvents = 0;
+            for (int i = 0; i < hashgraph.size(); i++) {
+                if (hashgraph.event(i).getAncientIndicator(hashgraph.ancientMode())
+                        >= eventWindow.getExpiredThreshold()) {
+                    retainedEvents++;
+                }
+            }
+            // Expired events are only reachable from the copies list, which exists before and after
+            retainedBytesPerEvent = retainedEvents == 0 ? 0 : Math.max(0, after - before) / retainedEvents;
+            Reference.reachabilityFence(retainedNode);
+            Reference.reachabilityFence(copies);
+        }
+
+        private static long usedHeap() {
+            final Runtime runtime = Runtime.getRuntime();
+            for (int i = 0; i < 3; i++) {
+                System.gc();
+            }
+            return runtime.totalMemory() - runtime.freeMemory();
+        }
+    }
+}
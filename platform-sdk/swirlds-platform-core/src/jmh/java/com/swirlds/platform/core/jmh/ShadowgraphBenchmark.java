@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.core.jmh;
+
+import static com.swirlds.platform.event.AncientMode.GENERATION_THRESHOLD;
+
+import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.platform.NodeId;
+import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
+import com.swirlds.platform.consensus.EventWindow;
+import com.swirlds.platform.event.PlatformEvent;
+import com.swirlds.platform.gossip.NoOpIntakeEventCounter;
+import com.swirlds.platform.gossip.shadowgraph.ReservedEventWindow;
+import com.swirlds.platform.gossip.shadowgraph.ShadowEvent;
+import com.swirlds.platform.gossip.shadowgraph.Shadowgraph;
+import com.swirlds.platform.test.fixtures.event.TestingEventBuilder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures how the shadowgraph holds up when many peers sync against it at once, while event intake keeps adding
+ * events to it. Each reader thread does what a sync does with the shadowgraph; the single writer thread does what
+ * event intake does.
+ */
+@State(Scope.Group)
+@Fork(value = 1)
+@Warmup(iterations = 1, time = 1)
+@Measurement(iterations = 3, time = 5)
+public class ShadowgraphBenchmark {
+
+    @Param({"0"})
+    public long seed;
+
+    @Param({"40"})
+    public int numNodes;
+
+    @Param({"5000"})
+    public int initialEvents;
+
+    @Param({"200000"})
+    public int intakeEvents;
+
+    private Shadowgraph shadowgraph;
+    private List<PlatformEvent> events;
+    private List<Hash> knownHashes;
+    private int nextEvent;
+
+    @Setup(Level.Trial)
+    public void generateEvents() {
+        final Random random = new Random(seed);
+        final PlatformEvent[] latestByCreator = new PlatformEvent[numNodes];
+        events = new ArrayList<>(initialEvents + intakeEvents);
+        for (int i = 0; i < initialEvents + intakeEvents; i++) {
+            final int creator = random.nextInt(numNodes);
+            final int otherCreator = (creator + 1 + random.nextInt(numNodes - 1)) % numNodes;
+            final PlatformEvent event = new TestingEventBuilder(random)
+                    .setCreatorId(NodeId.of(creator))
+                    .setSelfParent(latestByCreator[creator])
+                    .setOtherParent(latestByCreator[otherCreator])
+                    .build();
+            latestByCreator[creator] = event;
+            events.add(event);
+        }
+        knownHashes = events.subList(initialEvents - numNodes, initialEvents).stream()
+                .map(PlatformEvent::getHash)
+                .toList();
+    }
+
+    @Setup(Level.Iteration)
+    public void buildShadowgraph() {
+        final PlatformContext platformContext =
+                TestPlatformContextBuilder.create().build();
+        shadowgraph = new Shadowgraph(platformContext, numNodes, new NoOpIntakeEventCounter());
+        shadowgraph.updateEventWindow(EventWindow.getGenesisEventWindow(GENERATION_THRESHOLD));
+        for (int i = 0; i < initialEvents; i++) {
+            shadowgraph.addEvent(events.get(i));
+        }
+        nextEvent = initialEvents;
+    }
+
+    /**
+     * What a single sync with a peer does with the shadowgraph.
+     */
+    @Benchmark
+    @Group("sync")
+    @GroupThreads(16)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void peerSync(final Blackhole bh) {
+        try (final ReservedEventWindow reservation = shadowgraph.reserve()) {
+            bh.consume(reservation.getEventWindow());
+            final List<ShadowEvent> tips = shadowgraph.getTips();
+            final List<ShadowEvent> theirTips = shadowgraph.shadows(knownHashes);
+            bh.consume(theirTips);
+            bh.consume(shadowgraph.findAncestors(
+                    tips, e -> e.getEvent().getGeneration() + 8 > tips.getFirst().getEvent().getGeneration()));
+        }
+    }
+
+    /**
+     * What event intake does with the shadowgraph. Once all generated events are added, it only updates the event
+     * window, which still takes the lock.
+     */
+    @Benchmark
+    @Group("sync")
+    @GroupThreads(1)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void intake(final Blackhole bh) {
+        if (nextEvent < events.size()) {
+            bh.consume(shadowgraph.addEvent(events.get(nextEvent++)));
+        } else {
+            shadowgraph.updateEventWindow(shadowgraph.getEventWindow());
+        }
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.core.jmh;
+
+import com.hedera.hapi.node.state.roster.Roster;
+import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.platform.NodeId;
+import com.swirlds.common.test.fixtures.WeightGenerator;
+import com.swirlds.common.test.fixtures.WeightGenerators;
+import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
+import com.swirlds.platform.components.consensus.DefaultConsensusEngine;
+import com.swirlds.platform.consensus.EventWindow;
+import com.swirlds.platform.event.AncientMode;
+import com.swirlds.platform.event.PlatformEvent;
+import com.swirlds.platform.eventhandling.EventConfig;
+import com.swirlds.platform.internal.ConsensusRound;
+import com.swirlds.platform.internal.EventImpl;
+import com.swirlds.platform.roster.RosterRetriever;
+import com.swirlds.platform.test.event.emitter.StandardEventEmitter;
+import com.swirlds.platform.test.event.source.EventSourceFactory;
+import com.swirlds.platform.test.fixtures.event.generator.StandardGraphGenerator;
+import com.swirlds.platform.test.fixtures.event.source.EventSource;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A synthetic hashgraph used by {@link RosterScaleBenchmark}. It is generated once, and each benchmark invocation
+ * works on fresh copies of its events, so the consensus data written while handling one copy never leaks into the
+ * next.
+ */
+final class SyntheticHashgraph {
+
+    /**
+     * How the stake is split between the nodes of the roster.
+     */
+    enum StakeDistribution {
+        /** All nodes have the same stake */
+        BALANCED(WeightGenerators.BALANCED),
+        /** Node {@code i} has {@code i + 1} times the stake of the first node */
+        INCREMENTING(WeightGenerators.INCREMENTING),
+        /** Random stakes, no node has more than half, some nodes may have none */
+        RANDOM(WeightGenerators.RANDOM);
+
+        private final WeightGenerator weightGenerator;
+
+        StakeDistribution(@NonNull final WeightGenerator weightGenerator) {
+            this.weightGenerator = weightGenerator;
+        }
+    }
+
+    private final PlatformContext platformContext;
+    private final Roster roster;
+    private final AncientMode ancientMode;
+    private final List<PlatformEvent> events;
+    private final EventWindow[] eventWindows;
+
+    /**
+     * Generate a new hashgraph.
+     *
+     * @param numNodes          the number of nodes in the roster
+     * @param stakeDistribution how the stake is split between the nodes
+     * @param eventRateSkew     how much more often the last node creates events than the first one; node {@code i}
+     *                          creates events at {@code 1 + eventRateSkew * i / (numNodes - 1)} times the rate of the
+     *                          first node, so 0 means all nodes create events at the same rate
+     * @param numEvents         the number of events to generate
+     * @param seed              the seed for the generator
+     */
+    SyntheticHashgraph(
+            final int numNodes,
+            @NonNull final StakeDistribution stakeDistribution,
+            final double eventRateSkew,
+            final int numEvents,
+            final long seed) {
+        platformContext = TestPlatformContextBuilder.create().build();
+        ancientMode =
+                platformContext.getConfiguration().getConfigData(EventConfig.class).getAncientMode();
+
+        final List<EventSource<?>> eventSources = EventSourceFactory.newStandardEventSources(
+                stakeDistribution.weightGenerator.getWeights(seed, numNodes));
+        for (int i = 0; i < numNodes; i++) {
+            eventSources.get(i).setNewEventWeight(1.0 + eventRateSkew * i / Math.max(1, numNodes - 1));
+        }
+        final StandardGraphGenerator generator = new StandardGraphGenerator(platformContext, seed, eventSources);
+        final List<EventImpl> generated = new StandardEventEmitter(generator).emitEvents(numEvents);
+        roster = RosterRetriever.buildRoster(generator.getAddressBook());
+
+        events = new ArrayList<>(generated.size());
+        for (final EventImpl event : generated) {
+            events.add(event.getBaseEvent().copyGossipedData());
+        }
+
+        // Run consensus once to learn when the event window moves, so benchmarks of the components in front of
+        // consensus can be fed the same windows without running consensus themselves
+        eventWindows = new EventWindow[events.size()];
+        final DefaultConsensusEngine consensusEngine = new DefaultConsensusEngine(platformContext, roster, selfId());
+        for (int i = 0; i < events.size(); i++) {
+            final List<ConsensusRound> rounds = consensusEngine.addEvent(events.get(i).copyGossipedData());
+            if (!rounds.isEmpty()) {
+                eventWindows[i] = rounds.getLast().getEventWindow();
+            }
+        }
+    }
+
+    /**
+     * @return the platform context the hashgraph was generated with
+     */
+    @NonNull
+    PlatformContext platformContext() {
+        return platformContext;
+    }
+
+    /**
+     * @return the roster of the hashgraph
+     */
+    @NonNull
+    Roster roster() {
+        return roster;
+    }
+
+    /**
+     * @return the ancient mode in use
+     */
+    @NonNull
+    AncientMode ancientMode() {
+        return ancientMode;
+    }
+
+    /**
+     * @return the node whose point of view is benchmarked, the first node of the roster
+     */
+    @NonNull
+    NodeId selfId() {
+        return NodeId.of(roster.rosterEntries().getFirst().nodeId());
+    }
+
+    /**
+     * @return the number of events in the hashgraph
+     */
+    int size() {
+        return events.size();
+    }
+
+    /**
+     * @param index the index of an event
+     * @return the event at that index, shared between callers and not to be handed to any component that mutates it
+     */
+    @NonNull
+    PlatformEvent event(final int index) {
+        return events.get(index);
+    }
+
+    /**
+     * @param index the index of an event
+     * @return the event window that consensus moved to after the event at that index was added, or {@code null} if
+     * the event did not move it
+     */
+    @Nullable
+    EventWindow eventWindowAfter(final int index) {
+        return eventWindows[index];
+    }
+
+    /**
+     * @return fresh copies of all events, in topological order, as they would arrive over gossip
+     */
+    @NonNull
+    List<PlatformEvent> copyEvents() {
+        final List<PlatformEvent> copies = new ArrayList<>(events.size());
+        for (final PlatformEvent event : events) {
+            copies.add(event.copyGossipedData());
+        }
+        return copies;
+    }
+}
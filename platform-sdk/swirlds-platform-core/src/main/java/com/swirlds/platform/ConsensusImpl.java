@@ -32,6 +32,7 @@ import com.swirlds.logging.legacy.LogMarker;
 import com.swirlds.platform.consensus.AncestorSearch;
 import com.swirlds.platform.consensus.CandidateWitness;
 import com.swirlds.platform.consensus.ConsensusConstants;
+import com.swirlds.platform.consensus.ConsensusMetadataArena;
 import com.swirlds.platform.consensus.ConsensusRounds;
 import com.swirlds.platform.consensus.ConsensusSnapshot;
 import com.swirlds.platform.consensus.ConsensusSorter;
@@ -179,6 +180,8 @@ public class ConsensusImpl extends ThreadSafeConsensusInfo implements Consensus
     private final List<EventImpl> recentEvents = new LinkedList<>();
     /** stores all round information */
     private final ConsensusRounds rounds;
+    /** stores the lastSee and stronglySeeP metadata of all events */
+    private final ConsensusMetadataArena metadataArena;
     /**
      * Number of events that have reached consensus order. This is used for setting consensus order
      * numbers in events, so it must be part of the signed state.
@@ -247,6 +250,7 @@ public class ConsensusImpl extends ThreadSafeConsensusInfo implements Consensus
         this.rosterIndicesMap = RosterUtils.toIndicesMap(roster);
 
         this.rounds = new ConsensusRounds(config, getStorage(), roster);
+        this.metadataArena = new ConsensusMetadataArena(roster.rosterEntries().size());
         this.ancientMode = platformContext
                 .getConfiguration()
                 .getConfigData(EventConfig.class)
@@ -272,6 +276,8 @@ public class ConsensusImpl extends ThreadSafeConsensusInfo implements Consensus
 
     /** Reset this instance to a state of a newly created instance */
     private void reset() {
+        // return the metadata slots of the discarded events to the arena
+        recentEvents.forEach(EventImpl::clearMetadata);
         recentEvents.clear();
         rounds.reset();
         numConsensus = 0;
@@ -999,7 +1005,7 @@ public class ConsensusImpl extends ThreadSafeConsensusInfo implements Consensus
         }
         // memoize answers for all choices of m, then return answer for just this m
         numMembers = roster.rosterEntries().size();
-        x.initLastSee(numMembers);
+        x.initLastSee(metadataArena);
 
         op = otherParent(x);
         sp = selfParent(x);
@@ -1078,7 +1084,7 @@ public class ConsensusImpl extends ThreadSafeConsensusInfo implements Consensus
         final long prsp = parentRound(sp); // parent round of self parent of x
         final long prop = parentRound(op); // parent round of other parent of x
 
-        x.initStronglySeeP(numMembers);
+        x.initStronglySeeP(metadataArena);
         for (int mm = 0; mm < numMembers; mm++) {
             if (stronglySeeP(sp, mm) != null && prx == prsp) {
                 x.setStronglySeeP(mm, stronglySeeP(sp, mm));
@@ -469,6 +469,14 @@ public class SwirldsPlatform implements Platform {
         return transactionPoolNexus.submitApplicationTransaction(Bytes.wrap(transaction));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean createTransaction(@NonNull final Bytes transaction) {
+        return transactionPoolNexus.submitApplicationTransaction(transaction);
+    }
+
     /**
      * {@inheritDoc}
      */
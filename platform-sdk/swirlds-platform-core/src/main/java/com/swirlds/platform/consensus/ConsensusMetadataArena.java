@@ -0,0 +1,178 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.consensus;
+
+import com.swirlds.platform.internal.EventImpl;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.Arrays;
+
+/**
+ * Stores the per-member consensus metadata of events (lastSee and stronglySeeP, from Swirlds-TR-2020-01) as two flat
+ * columns, instead of two arrays per event.
+ * <p>
+ * Each event with metadata holds a slot, which is a row of {@code numMembers} entries in each column. Slots are
+ * released when the metadata of an event is cleared (which happens to every non-ancient event each time a round is
+ * decided, and to every event once it is ancient), and reused by the next events. So after the first few rounds,
+ * calculating consensus no longer allocates any metadata arrays, and the metadata of recent events is stored in a few
+ * contiguous arrays.
+ * <p>
+ * The columns hold the events themselves, rather than the slots of the events. A slot is recycled as soon as the
+ * metadata of its event is cleared, while the metadata of other events may still refer to that event; so a slot number
+ * would not safely identify the event.
+ * <p>
+ * This class is not thread safe. It is only used by the consensus thread.
+ */
+public class ConsensusMetadataArena {
+    /** the value of a slot that has not been allocated */
+    public static final int NO_SLOT = -1;
+    /** the default number of slots to allocate up front */
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    /** the number of entries in each row */
+    private final int numMembers;
+    /** lastSee[slot * numMembers + m] is the last ancestor created by m of the event with the slot */
+    private EventImpl[] lastSee;
+    /** stronglySeeP[slot * numMembers + m] is the witness by m in the parent round strongly seen by the event */
+    private EventImpl[] stronglySeeP;
+    /** a stack of released slots */
+    private int[] freeSlots;
+    /** the number of slots on the stack of released slots */
+    private int numFreeSlots;
+    /** the lowest slot that has never been allocated */
+    private int nextNewSlot;
+    /** the number of slots the columns have room for */
+    private int capacity;
+
+    /**
+     * @param numMembers the number of members in the roster
+     */
+    public ConsensusMetadataArena(final int numMembers) {
+        this(numMembers, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param numMembers      the number of members in the roster
+     * @param initialCapacity the number of slots to allocate up front, will be grown as needed
+     */
+    public ConsensusMetadataArena(final int numMembers, final int initialCapacity) {
+        if (numMembers <= 0) {
+            throw new IllegalArgumentException("numMembers must be positive");
+        }
+        this.numMembers = numMembers;
+        this.capacity = Math.max(1, initialCapacity);
+        this.lastSee = new EventImpl[capacity * numMembers];
+        this.stronglySeeP = new EventImpl[capacity * numMembers];
+        this.freeSlots = new int[capacity];
+    }
+
+    /**
+     * @return the number of members, which is the number of entries in each row
+     */
+    public int getNumMembers() {
+        return numMembers;
+    }
+
+    /**
+     * Allocate a slot, whose entries are all null.
+     *
+     * @return the slot
+     */
+    public int allocate() {
+        if (numFreeSlots > 0) {
+            return freeSlots[--numFreeSlots];
+        }
+        if (nextNewSlot == capacity) {
+            grow();
+        }
+        return nextNewSlot++;
+    }
+
+    /**
+     * Release a slot, so it can be reused. The slot must not be used after this call.
+     *
+     * @param slot the slot to release
+     */
+    public void release(final int slot) {
+        final int from = slot * numMembers;
+        Arrays.fill(lastSee, from, from + numMembers, null);
+        Arrays.fill(stronglySeeP, from, from + numMembers, null);
+        freeSlots[numFreeSlots++] = slot;
+    }
+
+    /**
+     * @return the number of slots currently allocated
+     */
+    public int getAllocatedSlots() {
+        return nextNewSlot - numFreeSlots;
+    }
+
+    /**
+     * @param slot the slot of the event
+     * @param m    the member index
+     * @return the last ancestor created by m of the event with the slot
+     */
+    public @Nullable EventImpl getLastSee(final int slot, final int m) {
+        return lastSee[slot * numMembers + m];
+    }
+
+    /**
+     * @param slot  the slot of the event
+     * @param m     the member index
+     * @param event the last ancestor created by m of the event with the slot
+     */
+    public void setLastSee(final int slot, final int m, @Nullable final EventImpl event) {
+        lastSee[slot * numMembers + m] = event;
+    }
+
+    /**
+     * @param slot the slot of the event
+     * @param m    the member index
+     * @return the witness created by m in the parent round that the event with the slot strongly sees
+     */
+    public @Nullable EventImpl getStronglySeeP(final int slot, final int m) {
+        return stronglySeeP[slot * numMembers + m];
+    }
+
+    /**
+     * @param slot  the slot of the event
+     * @param m     the member index
+     * @param event the witness created by m in the parent round that the event with the slot strongly sees
+     */
+    public void setStronglySeeP(final int slot, final int m, @Nullable final EventImpl event) {
+        stronglySeeP[slot * numMembers + m] = event;
+    }
+
+    /**
+     * @param slot the slot of the event
+     * @return a copy of the row of stronglySeeP for the event with the slot
+     */
+    public @NonNull EventImpl[] copyStronglySeeP(final int slot) {
+        final int from = slot * numMembers;
+        return Arrays.copyOfRange(stronglySeeP, from, from + numMembers);
+    }
+
+    /**
+     * Double the number of slots the columns have room for.
+     */
+    private void grow() {
+        capacity *= 2;
+        lastSee = Arrays.copyOf(lastSee, capacity * numMembers);
+        stronglySeeP = Arrays.copyOf(stronglySeeP, capacity * numMembers);
+        freeSlots = Arrays.copyOf(freeSlots, capacity);
+    }
+}
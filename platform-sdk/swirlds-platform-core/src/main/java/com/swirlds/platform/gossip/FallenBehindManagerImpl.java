@@ -18,6 +18,9 @@ package com.swirlds.platform.gossip;
 
 import com.swirlds.common.merkle.synchronization.config.ReconnectConfig;
 import com.swirlds.common.platform.NodeId;
+import com.swirlds.common.threading.locks.AutoClosableLock;
+import com.swirlds.common.threading.locks.Locks;
+import com.swirlds.common.threading.locks.locked.Locked;
 import com.swirlds.platform.network.topology.NetworkTopology;
 import com.swirlds.platform.system.status.StatusActionSubmitter;
 import com.swirlds.platform.system.status.actions.FallenBehindAction;
@@ -65,6 +68,11 @@ public class FallenBehindManagerImpl implements FallenBehindManager {
     private final Runnable fallenBehindCallback;
 
     private final ReconnectConfig config;
+
+    /**
+     * guards {@link #reportFallenBehind}, a lock rather than a monitor so that gossip on virtual threads is not pinned
+     */
+    private final AutoClosableLock lock = Locks.createAutoLock();
     /**
      * number of neighbors who think this node has fallen behind
      */
@@ -91,20 +99,22 @@ public class FallenBehindManagerImpl implements FallenBehindManager {
     }
 
     @Override
-    public synchronized void reportFallenBehind(final NodeId id) {
-        final boolean previouslyFallenBehind = hasFallenBehind();
-        if (reportFallenBehind.add(id)) {
-            if (numReportFallenBehind == 0) {
-                // we have received the first indication that we have fallen behind, so we need to check with other
-                // nodes to confirm
-                notYetReportFallenBehind.addAll(allNeighbors);
-            }
-            // we don't need to check with this node
-            notYetReportFallenBehind.remove(id);
-            numReportFallenBehind++;
-            if (!previouslyFallenBehind && hasFallenBehind()) {
-                statusActionSubmitter.submitStatusAction(new FallenBehindAction());
-                fallenBehindCallback.run();
+    public void reportFallenBehind(final NodeId id) {
+        try (final Locked ignored = lock.lock()) {
+            final boolean previouslyFallenBehind = hasFallenBehind();
+            if (reportFallenBehind.add(id)) {
+                if (numReportFallenBehind == 0) {
+                    // we have received the first indication that we have fallen behind, so we need to check with other
+                    // nodes to confirm
+                    notYetReportFallenBehind.addAll(allNeighbors);
+                }
+                // we don't need to check with this node
+                notYetReportFallenBehind.remove(id);
+                numReportFallenBehind++;
+                if (!previouslyFallenBehind && hasFallenBehind()) {
+                    statusActionSubmitter.submitStatusAction(new FallenBehindAction());
+                    fallenBehindCallback.run();
+                }
             }
         }
     }
@@ -125,10 +135,12 @@ public class FallenBehindManagerImpl implements FallenBehindManager {
     }
 
     @Override
-    public synchronized List<NodeId> getNeighborsForReconnect() {
-        final List<NodeId> ret = new ArrayList<>(reportFallenBehind);
-        Collections.shuffle(ret);
-        return ret;
+    public List<NodeId> getNeighborsForReconnect() {
+        try (final Locked ignored = lock.lock()) {
+            final List<NodeId> ret = new ArrayList<>(reportFallenBehind);
+            Collections.shuffle(ret);
+            return ret;
+        }
     }
 
     @Override
@@ -136,17 +148,19 @@ public class FallenBehindManagerImpl implements FallenBehindManager {
         if (!hasFallenBehind()) {
             return false;
         }
-        synchronized (this) {
+        try (final Locked ignored = lock.lock()) {
             // if this neighbor has told me I have fallen behind, I will reconnect with him
             return reportFallenBehind.contains(peerId);
         }
     }
 
     @Override
-    public synchronized void resetFallenBehind() {
-        numReportFallenBehind = 0;
-        reportFallenBehind.clear();
-        notYetReportFallenBehind.clear();
+    public void resetFallenBehind() {
+        try (final Locked ignored = lock.lock()) {
+            numReportFallenBehind = 0;
+            reportFallenBehind.clear();
+            notYetReportFallenBehind.clear();
+        }
     }
 
     @Override
@@ -54,8 +54,11 @@ import com.swirlds.platform.network.NetworkMetrics;
 import com.swirlds.platform.network.NetworkPeerIdentifier;
 import com.swirlds.platform.network.NetworkUtils;
 import com.swirlds.platform.network.PeerInfo;
+import com.swirlds.platform.network.SocketConfig;
 import com.swirlds.platform.network.communication.NegotiationProtocols;
 import com.swirlds.platform.network.communication.ProtocolNegotiatorThread;
+import com.swirlds.platform.network.communication.VirtualProtocolThreads;
+import com.swirlds.platform.network.communication.handshake.CompressionHandshake;
 import com.swirlds.platform.network.communication.handshake.VersionCompareHandshake;
 import com.swirlds.platform.network.connectivity.ConnectionServer;
 import com.swirlds.platform.network.connectivity.InboundConnectionHandler;
@@ -126,6 +129,11 @@ public class SyncGossip implements ConnectionTracker, Gossip {
      */
     private final List<StoppableThread> syncProtocolThreads = new ArrayList<>();
 
+    /**
+     * The protocols with each peer, if they are run on virtual threads instead of {@link #syncProtocolThreads}.
+     */
+    private final VirtualProtocolThreads virtualProtocolThreads;
+
     private final NetworkTopology topology;
     private final NetworkMetrics networkMetrics;
     private final ReconnectHelper reconnectHelper;
@@ -278,7 +286,9 @@ public class SyncGossip implements ConnectionTracker, Gossip {
 
         syncConfig = platformContext.getConfiguration().getConfigData(SyncConfig.class);
 
-        final ParallelExecutor shadowgraphExecutor = new CachedPoolParallelExecutor(threadManager, "node-sync");
+        final ParallelExecutor shadowgraphExecutor = syncConfig.virtualThreads()
+                ? new CachedPoolParallelExecutor(Thread.ofVirtual().name("node-sync-", 0).factory())
+                : new CachedPoolParallelExecutor(threadManager, "node-sync");
         thingsToStart.add(shadowgraphExecutor);
         final SyncMetrics syncMetrics = new SyncMetrics(platformContext.getMetrics());
         syncShadowgraphSynchronizer = new ShadowgraphSynchronizer(
@@ -296,6 +306,7 @@ public class SyncGossip implements ConnectionTracker, Gossip {
         final ProtocolConfig protocolConfig = platformContext.getConfiguration().getConfigData(ProtocolConfig.class);
 
         final Duration hangingThreadDuration = basicConfig.hangingThreadDuration();
+        virtualProtocolThreads = new VirtualProtocolThreads(hangingThreadDuration);
 
         final int permitCount;
         if (syncConfig.onePermitPerPeer()) {
@@ -319,6 +330,7 @@ public class SyncGossip implements ConnectionTracker, Gossip {
                 reconnectConfig);
 
         thingsToStart.add(() -> syncProtocolThreads.forEach(StoppableThread::start));
+        thingsToStart.add(virtualProtocolThreads);
     }
 
     private void buildSyncProtocolThreads(
@@ -361,25 +373,34 @@ public class SyncGossip implements ConnectionTracker, Gossip {
                 Duration.ofMillis(syncConfig.syncProtocolHeartbeatPeriod()), networkMetrics, platformContext.getTime());
         final VersionCompareHandshake versionCompareHandshake =
                 new VersionCompareHandshake(appVersion, !protocolConfig.tolerateMismatchedVersion());
-        final List<ProtocolRunnable> handshakeProtocols = List.of(versionCompareHandshake);
+        final SocketConfig socketConfig = platformContext.getConfiguration().getConfigData(SocketConfig.class);
+        final List<ProtocolRunnable> handshakeProtocols =
+                socketConfig.negotiateCompression() && !socketConfig.gzipCompression()
+                        ? List.of(versionCompareHandshake, new CompressionHandshake(socketConfig.compression()))
+                        : List.of(versionCompareHandshake);
         for (final NodeId otherId : topology.getNeighbors()) {
-            syncProtocolThreads.add(new StoppableThreadConfiguration<>(threadManager)
-                    .setPriority(Thread.NORM_PRIORITY)
-                    .setNodeId(selfId)
-                    .setComponent(PLATFORM_THREAD_POOL_NAME)
-                    .setOtherNodeId(otherId)
-                    .setThreadName("SyncProtocolWith" + otherId)
-                    .setHangingThreadPeriod(hangingThreadDuration)
-                    .setWork(new ProtocolNegotiatorThread(
-                            connectionManagers.getManager(otherId, topology.shouldConnectTo(otherId)),
-                            syncConfig.syncSleepAfterFailedNegotiation(),
-                            handshakeProtocols,
-                            new NegotiationProtocols(List.of(
-                                    heartbeatProtocolFactory.build(otherId),
-                                    reconnectProtocolFactory.build(otherId),
-                                    syncProtocolFactory.build(otherId))),
-                            platformContext.getTime()))
-                    .build());
+            final ProtocolNegotiatorThread work = new ProtocolNegotiatorThread(
+                    connectionManagers.getManager(otherId, topology.shouldConnectTo(otherId)),
+                    syncConfig.syncSleepAfterFailedNegotiation(),
+                    handshakeProtocols,
+                    new NegotiationProtocols(List.of(
+                            heartbeatProtocolFactory.build(otherId),
+                            reconnectProtocolFactory.build(otherId),
+                            syncProtocolFactory.build(otherId))),
+                    platformContext.getTime());
+            if (syncConfig.virtualThreads()) {
+                virtualProtocolThreads.add("SyncProtocolWith" + otherId, work);
+            } else {
+                syncProtocolThreads.add(new StoppableThreadConfiguration<>(threadManager)
+                        .setPriority(Thread.NORM_PRIORITY)
+                        .setNodeId(selfId)
+                        .setComponent(PLATFORM_THREAD_POOL_NAME)
+                        .setOtherNodeId(otherId)
+                        .setThreadName("SyncProtocolWith" + otherId)
+                        .setHangingThreadPeriod(hangingThreadDuration)
+                        .setWork(work)
+                        .build());
+            }
         }
     }
 
@@ -416,6 +437,7 @@ public class SyncGossip implements ConnectionTracker, Gossip {
         for (final StoppableThread thread : syncProtocolThreads) {
             thread.stop();
         }
+        virtualProtocolThreads.stop();
     }
 
     /**
@@ -23,6 +23,9 @@ import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 import com.swirlds.base.time.Time;
 import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.threading.locks.AutoClosableLock;
+import com.swirlds.common.threading.locks.Locks;
+import com.swirlds.common.threading.locks.locked.Locked;
 import com.swirlds.platform.gossip.sync.config.SyncConfig;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.time.Duration;
@@ -108,6 +111,12 @@ public class SyncPermitProvider {
      */
     private final SyncPermitMetrics metrics;
 
+    /**
+     * Guards the permit counts. A lock rather than a monitor, so that a sync on a virtual thread waiting for it parks
+     * instead of pinning its carrier thread.
+     */
+    private final AutoClosableLock lock = Locks.createAutoLock();
+
     /**
      * Constructor.
      *
@@ -136,13 +145,15 @@ public class SyncPermitProvider {
      *
      * @return true if a permit was acquired, false otherwise
      */
-    public synchronized boolean acquire() {
-        if (getAvailablePermits() > 0) {
-            usedPermits++;
-            updateMetrics();
-            return true;
+    public boolean acquire() {
+        try (final Locked ignored = lock.lock()) {
+            if (getAvailablePermits() > 0) {
+                usedPermits++;
+                updateMetrics();
+                return true;
+            }
+            return false;
         }
-        return false;
     }
 
     /**
@@ -151,22 +162,24 @@ public class SyncPermitProvider {
      * @param duration the duration for which the system has been unhealthy, or {@link Duration#ZERO} if the system has
      *                 become healthy again
      */
-    public synchronized void reportUnhealthyDuration(@NonNull final Duration duration) {
-        if (isLessThan(duration, unhealthyGracePeriod)) {
-            if (!healthy) {
-                computeRevokedPermits();
-                healthy = true;
-                statusStartTime = time.now();
-                revokedPermitsAccumulator += (int) revokedPermitDelta;
-                revokedPermitDelta = 0;
-            }
-        } else {
-            if (healthy) {
-                computeRevokedPermits();
-                healthy = false;
-                statusStartTime = time.now();
-                revokedPermitsAccumulator -= (int) returnedPermitDelta;
-                returnedPermitDelta = 0;
+    public void reportUnhealthyDuration(@NonNull final Duration duration) {
+        try (final Locked ignored = lock.lock()) {
+            if (isLessThan(duration, unhealthyGracePeriod)) {
+                if (!healthy) {
+                    computeRevokedPermits();
+                    healthy = true;
+                    statusStartTime = time.now();
+                    revokedPermitsAccumulator += (int) revokedPermitDelta;
+                    revokedPermitDelta = 0;
+                }
+            } else {
+                if (healthy) {
+                    computeRevokedPermits();
+                    healthy = false;
+                    statusStartTime = time.now();
+                    revokedPermitsAccumulator -= (int) returnedPermitDelta;
+                    returnedPermitDelta = 0;
+                }
             }
         }
     }
@@ -174,24 +187,28 @@ public class SyncPermitProvider {
     /**
      * Immediately revoke all permits.
      */
-    public synchronized void revokeAll() {
-        returnedPermitDelta = 0;
-        revokedPermitDelta = 0;
-        revokedPermitsAccumulator = totalPermits;
-        revokedPermits = totalPermits;
-        statusStartTime = time.now();
-        updateMetrics();
+    public void revokeAll() {
+        try (final Locked ignored = lock.lock()) {
+            returnedPermitDelta = 0;
+            revokedPermitDelta = 0;
+            revokedPermitsAccumulator = totalPermits;
+            revokedPermits = totalPermits;
+            statusStartTime = time.now();
+            updateMetrics();
+        }
     }
 
     /**
      * Release a permit. Should be called exactly once for each call to {@link #acquire()} that returns true.
      */
-    public synchronized void release() {
-        if (usedPermits == 0) {
-            throw new IllegalStateException("No permits to release");
+    public void release() {
+        try (final Locked ignored = lock.lock()) {
+            if (usedPermits == 0) {
+                throw new IllegalStateException("No permits to release");
+            }
+            usedPermits--;
+            updateMetrics();
         }
-        usedPermits--;
-        updateMetrics();
     }
 
     /**
@@ -199,7 +216,7 @@ public class SyncPermitProvider {
      */
     public void waitForAllPermitsToBeReleased() {
         while (true) {
-            synchronized (this) {
+            try (final Locked ignored = lock.lock()) {
                 if (usedPermits == 0) {
                     return;
                 }
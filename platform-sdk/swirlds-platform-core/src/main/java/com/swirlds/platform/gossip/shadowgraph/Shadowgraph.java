@@ -22,6 +22,9 @@ import static com.swirlds.logging.legacy.LogMarker.SYNC_INFO;
 
 import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.threading.locks.AutoClosableLock;
+import com.swirlds.common.threading.locks.Locks;
+import com.swirlds.common.threading.locks.locked.Locked;
 import com.swirlds.common.utility.Clearable;
 import com.swirlds.platform.consensus.EventWindow;
 import com.swirlds.platform.event.AncientMode;
@@ -44,6 +47,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
@@ -52,6 +56,12 @@ import org.apache.logging.log4j.Logger;
 /**
  * The primary purpose of the shadowgraph is to unlink events when it is safe to do so. In order to decide when it is
  * safe to unlink an event, it allows for batches of events (by ancient indicator) to be reserved.
+ *
+ * <p>Methods that change the graph (adding events, expiring events, reserving and clearing) hold a
+ * {@link java.util.concurrent.locks.ReentrantLock} rather than a monitor, so that a sync on a virtual thread that
+ * has to wait for it parks instead of pinning its carrier thread. The lookups used by every sync with every peer
+ * ({@link #shadow(EventDescriptorWrapper)}, {@link #shadows(List)}, {@link #getTips()}, {@link #getEventWindow()}, ...)
+ * take no lock, so that syncs with many peers at once neither contend with each other nor wait for event intake.</p>
  */
 public class Shadowgraph implements Clearable {
 
@@ -63,9 +73,14 @@ public class Shadowgraph implements Clearable {
     public static final int NO_RESERVATION = -1;
 
     /**
-     * The shadowgraph represented in a map from has to shadow event.
+     * Guards every change to the graph.
+     */
+    private final AutoClosableLock lock = Locks.createAutoLock();
+
+    /**
+     * The shadowgraph represented in a map from hash to shadow event. Concurrent, so it can be read without the lock.
      */
-    private final HashMap<Hash, ShadowEvent> hashToShadowEvent;
+    private final Map<Hash, ShadowEvent> hashToShadowEvent;
 
     /**
      * Map from ancient indicator to all shadow events with that ancient indicator.
@@ -77,10 +92,16 @@ public class Shadowgraph implements Clearable {
      */
     private final HashSet<ShadowEvent> tips;
 
+    /**
+     * An immutable copy of {@link #tips}, republished after every change to the tips, so it can be read without the
+     * lock.
+     */
+    private volatile List<ShadowEvent> tipsSnapshot = List.of();
+
     /**
      * The oldest ancient indicator that has not yet been expired
      */
-    private long oldestUnexpiredIndicator;
+    private volatile long oldestUnexpiredIndicator;
 
     /**
      * The list of all currently reserved indicators and their number of reservations.
@@ -105,7 +126,7 @@ public class Shadowgraph implements Clearable {
     /**
      * The most recent event window we know about.
      */
-    private EventWindow eventWindow;
+    private volatile EventWindow eventWindow;
 
     /**
      * For each peer, track the number of events in the intake pipeline prior to the shadowgraph.
@@ -133,7 +154,7 @@ public class Shadowgraph implements Clearable {
         this.numberOfNodes = numberOfNodes;
         this.intakeEventCounter = Objects.requireNonNull(intakeEventCounter);
         tips = new HashSet<>();
-        hashToShadowEvent = new HashMap<>();
+        hashToShadowEvent = new ConcurrentHashMap<>();
         indicatorToShadowEvent = new HashMap<>();
         reservationList = new LinkedList<>();
     }
@@ -155,14 +176,17 @@ public class Shadowgraph implements Clearable {
     /**
      * Reset the shadowgraph manager to its constructed state.
      */
-    public synchronized void clear() {
-        eventWindow = null;
-        oldestUnexpiredIndicator = ancientMode.getGenesisIndicator();
-        disconnectShadowEvents();
-        tips.clear();
-        hashToShadowEvent.clear();
-        indicatorToShadowEvent.clear();
-        reservationList.clear();
+    public void clear() {
+        try (final Locked ignored = lock.lock()) {
+            eventWindow = null;
+            oldestUnexpiredIndicator = ancientMode.getGenesisIndicator();
+            disconnectShadowEvents();
+            tips.clear();
+            publishTips();
+            hashToShadowEvent.clear();
+            indicatorToShadowEvent.clear();
+            reservationList.clear();
+        }
     }
 
     /**
@@ -181,33 +205,35 @@ public class Shadowgraph implements Clearable {
      * @return the reservation instance, must be closed when the reservation is no longer needed
      */
     @NonNull
-    public synchronized ReservedEventWindow reserve() {
-        if (reservationList.isEmpty()) {
-            // If we are not currently holding any reservations, we need to create a new one.
-            return new ReservedEventWindow(eventWindow, newReservation());
-        }
+    public ReservedEventWindow reserve() {
+        try (final Locked ignored = lock.lock()) {
+            if (reservationList.isEmpty()) {
+                // If we are not currently holding any reservations, we need to create a new one.
+                return new ReservedEventWindow(eventWindow, newReservation());
+            }
 
-        // Check to see if an existing reservation is good enough.
+            // Check to see if an existing reservation is good enough.
 
-        final ShadowgraphReservation lastReservation = reservationList.getLast();
+            final ShadowgraphReservation lastReservation = reservationList.getLast();
 
-        final long previouslyReservedThreshold = lastReservation.getReservedThreshold();
-        final long thresholdWeWantToReserve = eventWindow.getExpiredThreshold();
+            final long previouslyReservedThreshold = lastReservation.getReservedThreshold();
+            final long thresholdWeWantToReserve = eventWindow.getExpiredThreshold();
 
-        if (previouslyReservedThreshold == thresholdWeWantToReserve) {
+            if (previouslyReservedThreshold == thresholdWeWantToReserve) {
 
-            // The latest reservation is against the same expired threshold that we currently want to reserve.
-            // We can reuse that reservation instead of creating a new one. We still need to package that
-            // reservation with the most recent eventWindow we know about.
+                // The latest reservation is against the same expired threshold that we currently want to reserve.
+                // We can reuse that reservation instead of creating a new one. We still need to package that
+                // reservation with the most recent eventWindow we know about.
 
-            lastReservation.incrementReservations();
-            return new ReservedEventWindow(eventWindow, lastReservation);
-        } else {
+                lastReservation.incrementReservations();
+                return new ReservedEventWindow(eventWindow, lastReservation);
+            } else {
 
-            // We want a reservation on an expired threshold that isn't currently reserved.
-            // Create a new reservation.
+                // We want a reservation on an expired threshold that isn't currently reserved.
+                // Create a new reservation.
 
-            return new ReservedEventWindow(eventWindow, newReservation());
+                return new ReservedEventWindow(eventWindow, newReservation());
+            }
         }
     }
 
@@ -215,7 +241,7 @@ public class Shadowgraph implements Clearable {
      * Get the latest event window known to the shadowgraph.
      */
     @NonNull
-    public synchronized EventWindow getEventWindow() {
+    public EventWindow getEventWindow() {
         return eventWindow;
     }
 
@@ -227,8 +253,8 @@ public class Shadowgraph implements Clearable {
      * @deprecated still used by tests, planned for removal. Do not add new uses.
      */
     @Deprecated(forRemoval = true)
-    public synchronized boolean isHashInGraph(final Hash hash) {
-        return hashToShadowEvent.containsKey(hash);
+    public boolean isHashInGraph(final Hash hash) {
+        return shadow(hash) != null;
     }
 
     /**
@@ -236,15 +262,15 @@ public class Shadowgraph implements Clearable {
      * depth-first search. The provided {@code events} are not included in the return set. Searching stops at nodes that
      * have no parents, or nodes that do not pass the {@code predicate}.</p>
      *
-     * <p>It is safe for this method not to be synchronized because:</p>
+     * <p>It is safe for this method not to hold the lock because:</p>
      * <ol>
      *     <li>this method does not modify any data</li>
      *     <li>adding events to the the graph does not affect ancestors</li>
      *     <li>checks for expired parent events are atomic</li>
      * </ol>
-     * <p>Note: This method is always accessed after a call to a synchronized {@link Shadowgraph} method, like
-     * {@link #getTips()}, which acts as a memory gate and causes the calling thread to read the latest values for all
-     * variables from memory, including {@link ShadowEvent} links.</p>
+     * <p>Note: This method is always accessed after a call to a {@link Shadowgraph} method, like {@link #getTips()},
+     * that reads a volatile field or the concurrent hash map. That read acts as a memory gate and causes the calling
+     * thread to see all {@link ShadowEvent} links made before the events it returns were published.</p>
      *
      * @param events    the event to find ancestors of
      * @param predicate determines whether or not to add the ancestor to the return list
@@ -325,19 +351,21 @@ public class Shadowgraph implements Clearable {
      */
     @Deprecated(forRemoval = true)
     @NonNull
-    public synchronized Collection<PlatformEvent> findByAncientIndicator(
+    public Collection<PlatformEvent> findByAncientIndicator(
             final long lowerBound, final long upperBound, @NonNull final Predicate<PlatformEvent> predicate) {
-        final List<PlatformEvent> result = new ArrayList<>();
-        if (lowerBound >= upperBound) {
+        try (final Locked ignored = lock.lock()) {
+            final List<PlatformEvent> result = new ArrayList<>();
+            if (lowerBound >= upperBound) {
+                return result;
+            }
+            for (long indicator = lowerBound; indicator < upperBound; indicator++) {
+                indicatorToShadowEvent.getOrDefault(indicator, Collections.emptySet()).stream()
+                        .map(ShadowEvent::getEvent)
+                        .filter(predicate)
+                        .forEach(result::add);
+            }
             return result;
         }
-        for (long indicator = lowerBound; indicator < upperBound; indicator++) {
-            indicatorToShadowEvent.getOrDefault(indicator, Collections.emptySet()).stream()
-                    .map(ShadowEvent::getEvent)
-                    .filter(predicate)
-                    .forEach(result::add);
-        }
-        return result;
     }
 
     /**
@@ -353,55 +381,62 @@ public class Shadowgraph implements Clearable {
      *
      * @param eventWindow describes the current window of non-expired events
      */
-    public synchronized void updateEventWindow(@NonNull final EventWindow eventWindow) {
-        if (this.eventWindow == null) {
-            startWithEventWindow(eventWindow);
-            return;
-        }
+    public void updateEventWindow(@NonNull final EventWindow eventWindow) {
+        try (final Locked ignored = lock.lock()) {
+            if (this.eventWindow == null) {
+                startWithEventWindow(eventWindow);
+                return;
+            }
 
-        final long expiredThreshold = eventWindow.getExpiredThreshold();
+            final long expiredThreshold = eventWindow.getExpiredThreshold();
 
-        if (expiredThreshold < eventWindow.getExpiredThreshold()) {
-            logger.error(
-                    EXCEPTION.getMarker(),
-                    "A request to expire below {} is less than request of {}. Ignoring expiration request",
-                    expiredThreshold,
-                    eventWindow.getExpiredThreshold());
-            // The value of expireBelow must never decrease, so if we receive an invalid request like this, ignore it
-            return;
-        }
-        this.eventWindow = eventWindow;
+            if (expiredThreshold < eventWindow.getExpiredThreshold()) {
+                logger.error(
+                        EXCEPTION.getMarker(),
+                        "A request to expire below {} is less than request of {}. Ignoring expiration request",
+                        expiredThreshold,
+                        eventWindow.getExpiredThreshold());
+                // The value of expireBelow must never decrease, so if we receive an invalid request like this,
+                // ignore it
+                return;
+            }
+            this.eventWindow = eventWindow;
 
-        // Remove reservations for events that can and should be expired, and
-        // keep track of the oldest threshold that can be expired
-        long oldestReservedIndicator = pruneReservationList();
+            // Remove reservations for events that can and should be expired, and
+            // keep track of the oldest threshold that can be expired
+            long oldestReservedIndicator = pruneReservationList();
 
-        if (oldestReservedIndicator == NO_RESERVATION) {
-            oldestReservedIndicator = eventWindow.getExpiredThreshold();
-        }
+            if (oldestReservedIndicator == NO_RESERVATION) {
+                oldestReservedIndicator = eventWindow.getExpiredThreshold();
+            }
 
-        metrics.updateIndicatorsWaitingForExpiry(eventWindow.getExpiredThreshold() - oldestReservedIndicator);
+            metrics.updateIndicatorsWaitingForExpiry(eventWindow.getExpiredThreshold() - oldestReservedIndicator);
 
-        // Expire events that can and should be expired, starting with the oldest non-expired ancient indicator
-        // and working up until we reach an indicator that should not or cannot be expired.
-        //
-        // This process must be separate from iterating through the reservations because even if there are no
-        // reservations, expiry should still function correctly.
+            // Expire events that can and should be expired, starting with the oldest non-expired ancient indicator
+            // and working up until we reach an indicator that should not or cannot be expired.
+            //
+            // This process must be separate from iterating through the reservations because even if there are no
+            // reservations, expiry should still function correctly.
 
-        final long minimumIndicatorToKeep = Math.min(eventWindow.getExpiredThreshold(), oldestReservedIndicator);
+            final long minimumIndicatorToKeep = Math.min(eventWindow.getExpiredThreshold(), oldestReservedIndicator);
+            if (oldestUnexpiredIndicator >= minimumIndicatorToKeep) {
+                return;
+            }
 
-        while (oldestUnexpiredIndicator < minimumIndicatorToKeep) {
-            final Set<ShadowEvent> shadowsToExpire = indicatorToShadowEvent.remove(oldestUnexpiredIndicator);
-            // shadowsToExpire should never be null, but check just in case.
-            if (shadowsToExpire == null) {
-                logger.error(
-                        EXCEPTION.getMarker(),
-                        "There were no events with ancient indicator {} to expire.",
-                        oldestUnexpiredIndicator);
-            } else {
-                shadowsToExpire.forEach(this::expire);
+            while (oldestUnexpiredIndicator < minimumIndicatorToKeep) {
+                final Set<ShadowEvent> shadowsToExpire = indicatorToShadowEvent.remove(oldestUnexpiredIndicator);
+                // shadowsToExpire should never be null, but check just in case.
+                if (shadowsToExpire == null) {
+                    logger.error(
+                            EXCEPTION.getMarker(),
+                            "There were no events with ancient indicator {} to expire.",
+                            oldestUnexpiredIndicator);
+                } else {
+                    shadowsToExpire.forEach(this::expire);
+                }
+                oldestUnexpiredIndicator++;
             }
-            oldestUnexpiredIndicator++;
+            publishTips();
         }
     }
 
@@ -458,7 +493,7 @@ public class Shadowgraph implements Clearable {
      * @throws IllegalArgumentException if {@code otherParentsDescriptors} contains more than one event descriptor
      */
     @Nullable
-    private synchronized ShadowEvent shadow(@NonNull final List<EventDescriptorWrapper> otherParentsDescriptors) {
+    private ShadowEvent shadow(@NonNull final List<EventDescriptorWrapper> otherParentsDescriptors) {
         if (otherParentsDescriptors.isEmpty()) {
             return null;
         }
@@ -467,7 +502,7 @@ public class Shadowgraph implements Clearable {
             throw new IllegalArgumentException("Only one otherParent descriptor is supported");
         }
 
-        return hashToShadowEvent.get(otherParentsDescriptors.getFirst().hash());
+        return shadow(otherParentsDescriptors.getFirst().hash());
     }
 
     /**
@@ -477,12 +512,12 @@ public class Shadowgraph implements Clearable {
      * @return the shadow event that references an event, or null is {@code e} is null
      */
     @Nullable
-    public synchronized ShadowEvent shadow(@Nullable final EventDescriptorWrapper e) {
+    public ShadowEvent shadow(@Nullable final EventDescriptorWrapper e) {
         if (e == null) {
             return null;
         }
 
-        return hashToShadowEvent.get(e.hash());
+        return shadow(e.hash());
     }
 
     /**
@@ -491,7 +526,7 @@ public class Shadowgraph implements Clearable {
      * @param hashes The event hashes to get shadow events for
      * @return the shadow events that reference the events with the given hashes
      */
-    public synchronized List<ShadowEvent> shadows(final List<Hash> hashes) {
+    public List<ShadowEvent> shadows(final List<Hash> hashes) {
         Objects.requireNonNull(hashes);
         final List<ShadowEvent> shadows = new ArrayList<>(hashes.size());
         for (final Hash hash : hashes) {
@@ -507,7 +542,7 @@ public class Shadowgraph implements Clearable {
      * @return the hashgraph event, if there is one in {@code this} shadowgraph, else `null`
      */
     @Nullable
-    public synchronized PlatformEvent hashgraphEvent(@Nullable final Hash h) {
+    public PlatformEvent hashgraphEvent(@Nullable final Hash h) {
         final ShadowEvent shadow = shadow(h);
         if (shadow == null) {
             return null;
@@ -517,14 +552,22 @@ public class Shadowgraph implements Clearable {
     }
 
     /**
-     * Returns a copy of the tips at the time of invocation. The returned list is not affected by changes made to the
-     * tip set.
+     * Returns a copy of the tips as of the most recent change to the tip set. The returned list is not affected by
+     * later changes made to the tip set.
      *
      * @return an unmodifiable copy of the tips
      */
     @NonNull
-    public synchronized List<ShadowEvent> getTips() {
-        return new ArrayList<>(tips);
+    public List<ShadowEvent> getTips() {
+        return tipsSnapshot;
+    }
+
+    /**
+     * Publishes a new immutable copy of the tips for {@link #getTips()}. Must be called with the lock held, after
+     * every change to {@link #tips}.
+     */
+    private void publishTips() {
+        tipsSnapshot = List.copyOf(tips);
     }
 
     /**
@@ -534,62 +577,65 @@ public class Shadowgraph implements Clearable {
      * @return {@code true} if the event was added, {@code false} otherwise
      * @throws ShadowgraphInsertionException if the event was unable to be added to the shadowgraph
      */
-    public synchronized boolean addEvent(@NonNull final PlatformEvent event) throws ShadowgraphInsertionException {
-        if (eventWindow == null) {
-            throw new IllegalStateException("Initial event window not set");
-        }
-        Objects.requireNonNull(event);
-        try {
-            final InsertableStatus status = insertable(event);
-
-            if (status == InsertableStatus.INSERTABLE) {
-                final int tipsBefore = tips.size();
-                final ShadowEvent s = insert(event);
-                tips.add(s);
-                tips.remove(s.getSelfParent());
-
-                if (numberOfNodes > 0 && tips.size() > numberOfNodes && tips.size() > tipsBefore) {
-                    // It is possible that we have more tips than nodes even if there is no fork.
-                    // Explained in: sync-protocol.md
-                    logger.info(
-                            SYNC_INFO.getMarker(),
-                            "tips size is {} after adding {}. Esp null:{} Ssp null:{}\n"
-                                    + "eventWindow.getExpiredThreshold: {} oldestUnexpiredIndicator: {}\n"
-                                    + "current tips:{}",
-                            tips::size,
-                            () -> event,
-                            () -> event.getSelfParent() == null,
-                            () -> s.getSelfParent() == null,
-                            () -> eventWindow.getExpiredThreshold(),
-                            () -> oldestUnexpiredIndicator,
-                            () -> tips.stream()
-                                    .map(sh -> sh.getEvent().getDescriptor().toString())
-                                    .collect(Collectors.joining(",")));
-                }
-
-                return true;
-            } else {
-                if (status == InsertableStatus.EXPIRED_EVENT) {
-                    logger.error(
-                            EXCEPTION.getMarker(),
-                            "`addEvent`: did not insert, status is {} for event {}, oldestUnexpiredIndicator = {}",
-                            status,
-                            event,
-                            oldestUnexpiredIndicator);
-                    return false;
-                } else if (status == InsertableStatus.NULL_EVENT) {
-                    throw new ShadowgraphInsertionException(
-                            String.format("`addEvent`: did not insert, status is %s", status), status);
+    public boolean addEvent(@NonNull final PlatformEvent event) throws ShadowgraphInsertionException {
+        try (final Locked ignored = lock.lock()) {
+            if (eventWindow == null) {
+                throw new IllegalStateException("Initial event window not set");
+            }
+            Objects.requireNonNull(event);
+            try {
+                final InsertableStatus status = insertable(event);
+
+                if (status == InsertableStatus.INSERTABLE) {
+                    final int tipsBefore = tips.size();
+                    final ShadowEvent s = insert(event);
+                    tips.add(s);
+                    tips.remove(s.getSelfParent());
+                    publishTips();
+
+                    if (numberOfNodes > 0 && tips.size() > numberOfNodes && tips.size() > tipsBefore) {
+                        // It is possible that we have more tips than nodes even if there is no fork.
+                        // Explained in: sync-protocol.md
+                        logger.info(
+                                SYNC_INFO.getMarker(),
+                                "tips size is {} after adding {}. Esp null:{} Ssp null:{}\n"
+                                        + "eventWindow.getExpiredThreshold: {} oldestUnexpiredIndicator: {}\n"
+                                        + "current tips:{}",
+                                tips::size,
+                                () -> event,
+                                () -> event.getSelfParent() == null,
+                                () -> s.getSelfParent() == null,
+                                () -> eventWindow.getExpiredThreshold(),
+                                () -> oldestUnexpiredIndicator,
+                                () -> tips.stream()
+                                        .map(sh -> sh.getEvent().getDescriptor().toString())
+                                        .collect(Collectors.joining(",")));
+                    }
+
+                    return true;
                 } else {
-                    throw new ShadowgraphInsertionException(
-                            String.format(
-                                    "`addEvent`: did not insert, status is %s for event %s, oldestUnexpiredIndicator = %s",
-                                    status, event, oldestUnexpiredIndicator),
-                            status);
+                    if (status == InsertableStatus.EXPIRED_EVENT) {
+                        logger.error(
+                                EXCEPTION.getMarker(),
+                                "`addEvent`: did not insert, status is {} for event {}, oldestUnexpiredIndicator = {}",
+                                status,
+                                event,
+                                oldestUnexpiredIndicator);
+                        return false;
+                    } else if (status == InsertableStatus.NULL_EVENT) {
+                        throw new ShadowgraphInsertionException(
+                                String.format("`addEvent`: did not insert, status is %s", status), status);
+                    } else {
+                        throw new ShadowgraphInsertionException(
+                                String.format(
+                                        "`addEvent`: did not insert, status is %s for event %s, oldestUnexpiredIndicator = %s",
+                                        status, event, oldestUnexpiredIndicator),
+                                status);
+                    }
                 }
+            } finally {
+                intakeEventCounter.eventExitedIntakePipeline(event.getSenderId());
             }
-        } finally {
-            intakeEventCounter.eventExitedIntakePipeline(event.getSenderId());
         }
     }
 
@@ -599,8 +645,9 @@ public class Shadowgraph implements Clearable {
         return reservation;
     }
 
-    private ShadowEvent shadow(final Hash h) {
-        return hashToShadowEvent.get(h);
+    private ShadowEvent shadow(@Nullable final Hash h) {
+        // the concurrent map does not accept null keys
+        return h == null ? null : hashToShadowEvent.get(h);
     }
 
     /**
@@ -608,8 +655,8 @@ public class Shadowgraph implements Clearable {
      * @return the event that has the hash provided, or null if none exists
      */
     @Nullable
-    public synchronized PlatformEvent getEvent(@Nullable final Hash hash) {
-        final ShadowEvent shadowEvent = hashToShadowEvent.get(hash);
+    public PlatformEvent getEvent(@Nullable final Hash hash) {
+        final ShadowEvent shadowEvent = shadow(hash);
         return shadowEvent == null ? null : shadowEvent.getEvent();
     }
 
@@ -306,7 +306,7 @@ public class ShadowgraphSynchronizer {
     }
 
     /**
-     * Create a list of events to send to the peer.
+     * Create a list of events to send to the peer. Public so that benchmarks can measure it without a connection.
      *
      * @param selfId           the id of this node
      * @param knownSet         the set of events that the peer already has (this is incomplete at this stage and is
@@ -316,7 +316,7 @@ public class ShadowgraphSynchronizer {
      * @return a list of events to send to the peer
      */
     @NonNull
-    private List<PlatformEvent> createSendList(
+    public List<PlatformEvent> createSendList(
             @NonNull final NodeId selfId,
             @NonNull final Set<ShadowEvent> knownSet,
             @NonNull final EventWindow myEventWindow,
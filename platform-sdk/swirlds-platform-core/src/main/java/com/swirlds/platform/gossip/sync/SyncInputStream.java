@@ -23,13 +23,13 @@ import com.swirlds.common.crypto.Hash;
 import com.swirlds.common.io.extendable.extensions.CountingStreamExtension;
 import com.swirlds.common.io.streams.SerializableDataInputStream;
 import com.swirlds.platform.network.SocketConfig;
+import com.swirlds.platform.network.StreamCompression;
 import edu.umd.cs.findbugs.annotations.NonNull;
-import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
-import java.util.zip.Inflater;
-import java.util.zip.InflaterInputStream;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
 
 public class SyncInputStream extends SerializableDataInputStream {
 
@@ -37,38 +37,94 @@ public class SyncInputStream extends SerializableDataInputStream {
     private static final int MAX_TIPS_PER_NODE = 1000;
 
     private final CountingStreamExtension syncByteCounter;
+    private final LongAdder decompressionNanos;
+    /** the codec stream, which can be replaced once the codec is negotiated */
+    private final CodecInputStream codecStream;
 
-    private SyncInputStream(InputStream in, CountingStreamExtension syncByteCounter) {
-        super(in);
+    private SyncInputStream(
+            final CodecInputStream codecStream,
+            final CountingStreamExtension syncByteCounter,
+            final LongAdder decompressionNanos) {
+        super(codecStream);
         this.syncByteCounter = syncByteCounter;
+        this.decompressionNanos = decompressionNanos;
+        this.codecStream = codecStream;
     }
 
+    /**
+     * Creates a stream that decompresses with deflate if the legacy {@code socket.gzipCompression} is set, and
+     * otherwise does not decompress until a codec is negotiated with the peer (see
+     * {@link #startDecompression(StreamCompression)}).
+     *
+     * @param platformContext the platform context
+     * @param in              the stream to read from
+     * @param bufferSize      the size of the buffer
+     * @return a new sync input stream
+     */
     public static SyncInputStream createSyncInputStream(
             @NonNull final PlatformContext platformContext, @NonNull final InputStream in, final int bufferSize) {
-
-        final CountingStreamExtension syncCounter = new CountingStreamExtension();
-
         final boolean compress = platformContext
                 .getConfiguration()
                 .getConfigData(SocketConfig.class)
                 .gzipCompression();
+        return createSyncInputStream(in, bufferSize, compress ? StreamCompression.DEFLATE : StreamCompression.NONE);
+    }
+
+    /**
+     * @param in          the stream to read from
+     * @param bufferSize  the size of the buffer
+     * @param compression the codec to decompress with from the first byte on
+     * @return a new sync input stream
+     */
+    public static SyncInputStream createSyncInputStream(
+            @NonNull final InputStream in, final int bufferSize, @NonNull final StreamCompression compression) {
+
+        final CountingStreamExtension syncCounter = new CountingStreamExtension();
+        final LongAdder decompressionNanos = new LongAdder();
 
         final InputStream meteredStream = extendInputStream(in, syncCounter);
 
-        final InputStream wrappedStream;
-        if (compress) {
-            wrappedStream = new InflaterInputStream(meteredStream, new Inflater(true), bufferSize);
-        } else {
-            wrappedStream = new BufferedInputStream(meteredStream, bufferSize);
+        final CodecInputStream codecStream =
+                new CodecInputStream(meteredStream, bufferSize, compression, decompressionNanos);
+
+        return new SyncInputStream(codecStream, syncCounter, decompressionNanos);
+    }
+
+    /**
+     * Decompresses everything read from now on with the given codec. Used once the codec has been negotiated with the
+     * peer, which must switch to the same codec at the same point of the stream. Bytes already read ahead into the
+     * buffer are decompressed too, since the new codec reads through the buffer.
+     *
+     * @param compression the codec to decompress with from now on
+     * @throws IllegalStateException if this stream already decompresses
+     */
+    public void startDecompression(@NonNull final StreamCompression compression) {
+        Objects.requireNonNull(compression);
+        if (codecStream.compression != StreamCompression.NONE) {
+            throw new IllegalStateException("Stream already decompresses with " + codecStream.compression);
         }
+        codecStream.setCompression(compression);
+    }
 
-        return new SyncInputStream(wrappedStream, syncCounter);
+    /**
+     * @return the codec this stream currently decompresses with
+     */
+    @NonNull
+    public StreamCompression getCompression() {
+        return codecStream.compression;
     }
 
     public CountingStreamExtension getSyncByteCounter() {
         return syncByteCounter;
     }
 
+    /**
+     * @return the nanoseconds spent decompressing so far
+     */
+    public LongAdder getDecompressionNanos() {
+        return decompressionNanos;
+    }
+
     /**
      * Read the other node's tip hashes
      *
@@ -77,4 +133,56 @@ public class SyncInputStream extends SerializableDataInputStream {
     public List<Hash> readTipHashes(final int numberOfNodes) throws IOException {
         return readSerializableList(numberOfNodes * MAX_TIPS_PER_NODE, false, Hash::new);
     }
+
+    /**
+     * Reads from the connection through the current codec, which starts out as the one the stream was created with and
+     * can be replaced once.
+     */
+    private static final class CodecInputStream extends InputStream {
+        private final int bufferSize;
+        private final LongAdder decompressionNanos;
+        private StreamCompression compression;
+        private InputStream in;
+
+        CodecInputStream(
+                final InputStream meteredStream,
+                final int bufferSize,
+                final StreamCompression compression,
+                final LongAdder decompressionNanos) {
+            this.bufferSize = bufferSize;
+            this.decompressionNanos = decompressionNanos;
+            this.compression = compression;
+            this.in = compression.decompress(meteredStream, bufferSize, decompressionNanos);
+        }
+
+        /**
+         * Replaces the codec, which reads through the current stream so that nothing it buffered is lost.
+         */
+        void setCompression(final StreamCompression compression) {
+            if (compression != StreamCompression.NONE) {
+                this.in = compression.decompress(in, bufferSize, decompressionNanos);
+                this.compression = compression;
+            }
+        }
+
+        @Override
+        public int read() throws IOException {
+            return in.read();
+        }
+
+        @Override
+        public int read(@NonNull final byte[] b, final int off, final int len) throws IOException {
+            return in.read(b, off, len);
+        }
+
+        @Override
+        public int available() throws IOException {
+            return in.available();
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
 }
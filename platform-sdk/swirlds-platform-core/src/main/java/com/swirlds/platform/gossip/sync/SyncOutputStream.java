@@ -23,51 +23,116 @@ import com.swirlds.common.crypto.Hash;
 import com.swirlds.common.io.extendable.extensions.CountingStreamExtension;
 import com.swirlds.common.io.streams.SerializableDataOutputStream;
 import com.swirlds.platform.network.SocketConfig;
+import com.swirlds.platform.network.StreamCompression;
 import edu.umd.cs.findbugs.annotations.NonNull;
-import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.time.Instant;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.zip.Deflater;
-import java.util.zip.DeflaterOutputStream;
+import java.util.concurrent.atomic.LongAdder;
 
 public class SyncOutputStream extends SerializableDataOutputStream {
     private final CountingStreamExtension syncByteCounter;
     private final CountingStreamExtension connectionByteCounter;
+    private final CountingStreamExtension uncompressedByteCounter;
+    private final LongAdder compressionNanos;
     private final AtomicReference<Instant> requestSent;
+    /** the codec stream, which can be replaced once the codec is negotiated; null if it cannot be replaced */
+    private final CodecOutputStream codecStream;
 
     protected SyncOutputStream(
             OutputStream out, CountingStreamExtension syncByteCounter, CountingStreamExtension connectionByteCounter) {
+        this(out, syncByteCounter, connectionByteCounter, new CountingStreamExtension(), new LongAdder(), null);
+    }
+
+    private SyncOutputStream(
+            final OutputStream out,
+            final CountingStreamExtension syncByteCounter,
+            final CountingStreamExtension connectionByteCounter,
+            final CountingStreamExtension uncompressedByteCounter,
+            final LongAdder compressionNanos,
+            final CodecOutputStream codecStream) {
         super(out);
         this.syncByteCounter = syncByteCounter;
         this.connectionByteCounter = connectionByteCounter;
+        this.uncompressedByteCounter = uncompressedByteCounter;
+        this.compressionNanos = compressionNanos;
+        this.codecStream = codecStream;
         this.requestSent = new AtomicReference<>(null);
     }
 
+    /**
+     * Creates a stream that compresses with deflate if the legacy {@code socket.gzipCompression} is set, and otherwise
+     * does not compress until a codec is negotiated with the peer (see {@link #startCompression(StreamCompression)}).
+     *
+     * @param platformContext the platform context
+     * @param out             the stream to write to
+     * @param bufferSize      the size of the buffer
+     * @return a new sync output stream
+     */
     public static SyncOutputStream createSyncOutputStream(
             @NonNull final PlatformContext platformContext, @NonNull final OutputStream out, final int bufferSize) {
-        CountingStreamExtension syncByteCounter = new CountingStreamExtension();
-        CountingStreamExtension connectionByteCounter = new CountingStreamExtension();
-
         final boolean compress = platformContext
                 .getConfiguration()
                 .getConfigData(SocketConfig.class)
                 .gzipCompression();
+        return createSyncOutputStream(out, bufferSize, compress ? StreamCompression.DEFLATE : StreamCompression.NONE);
+    }
+
+    /**
+     * @param out         the stream to write to
+     * @param bufferSize  the size of the buffer
+     * @param compression the codec to compress with from the first byte on
+     * @return a new sync output stream
+     */
+    public static SyncOutputStream createSyncOutputStream(
+            @NonNull final OutputStream out, final int bufferSize, @NonNull final StreamCompression compression) {
+        CountingStreamExtension syncByteCounter = new CountingStreamExtension();
+        CountingStreamExtension connectionByteCounter = new CountingStreamExtension();
+        final CountingStreamExtension uncompressedByteCounter = new CountingStreamExtension();
+        final LongAdder compressionNanos = new LongAdder();
 
         final OutputStream meteredStream = extendOutputStream(out, connectionByteCounter);
 
-        final OutputStream wrappedStream;
-        if (compress) {
-            wrappedStream = new DeflaterOutputStream(
-                    meteredStream, new Deflater(Deflater.DEFAULT_COMPRESSION, true), bufferSize, true);
-        } else {
-            wrappedStream = new BufferedOutputStream(meteredStream, bufferSize);
+        // we write the data to the buffer first, for efficiency
+        final CodecOutputStream codecStream =
+                new CodecOutputStream(meteredStream, bufferSize, compression, compressionNanos);
+        return new SyncOutputStream(
+                extendOutputStream(codecStream, uncompressedByteCounter),
+                syncByteCounter,
+                connectionByteCounter,
+                uncompressedByteCounter,
+                compressionNanos,
+                codecStream);
+    }
+
+    /**
+     * Flushes everything written so far as it is, then compresses everything written after with the given codec. Used
+     * once the codec has been negotiated with the peer, which must switch to the same codec at the same point of the
+     * stream.
+     *
+     * @param compression the codec to compress with from now on
+     * @throws IOException if flushing fails
+     * @throws IllegalStateException if this stream already compresses, or its codec cannot be replaced
+     */
+    public void startCompression(@NonNull final StreamCompression compression) throws IOException {
+        Objects.requireNonNull(compression);
+        if (codecStream == null || getCompression() != StreamCompression.NONE) {
+            throw new IllegalStateException("Cannot start compressing a stream that compresses with "
+                    + getCompression() + " or was not created to negotiate a codec");
         }
+        flush();
+        codecStream.setCompression(compression);
+    }
 
-        // we write the data to the buffer first, for efficiency
-        return new SyncOutputStream(wrappedStream, syncByteCounter, connectionByteCounter);
+    /**
+     * @return the codec this stream currently compresses with
+     */
+    @NonNull
+    public StreamCompression getCompression() {
+        return codecStream == null ? StreamCompression.NONE : codecStream.compression;
     }
 
     public CountingStreamExtension getSyncByteCounter() {
@@ -78,6 +143,20 @@ public class SyncOutputStream extends SerializableDataOutputStream {
         return connectionByteCounter;
     }
 
+    /**
+     * @return counts the bytes written before compression
+     */
+    public CountingStreamExtension getUncompressedByteCounter() {
+        return uncompressedByteCounter;
+    }
+
+    /**
+     * @return the nanoseconds spent compressing so far
+     */
+    public LongAdder getCompressionNanos() {
+        return compressionNanos;
+    }
+
     /**
      * Write to the {@link SyncOutputStream} the hashes of the tip events from this node's shadow graph
      *
@@ -86,4 +165,56 @@ public class SyncOutputStream extends SerializableDataOutputStream {
     public void writeTipHashes(final List<Hash> tipHashes) throws IOException {
         writeSerializableList(tipHashes, false, true);
     }
+
+    /**
+     * Writes to the connection through the current codec, which starts out as the one the stream was created with and
+     * can be replaced once.
+     */
+    private static final class CodecOutputStream extends OutputStream {
+        private final OutputStream meteredStream;
+        private final int bufferSize;
+        private final LongAdder compressionNanos;
+        private StreamCompression compression;
+        private OutputStream out;
+
+        CodecOutputStream(
+                final OutputStream meteredStream,
+                final int bufferSize,
+                final StreamCompression compression,
+                final LongAdder compressionNanos) {
+            this.meteredStream = meteredStream;
+            this.bufferSize = bufferSize;
+            this.compressionNanos = compressionNanos;
+            this.compression = compression;
+            this.out = compression.compress(meteredStream, bufferSize, compressionNanos);
+        }
+
+        /**
+         * Replaces the codec. Must only be called once everything written so far has been flushed.
+         */
+        void setCompression(final StreamCompression compression) {
+            this.compression = compression;
+            this.out = compression.compress(meteredStream, bufferSize, compressionNanos);
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            out.write(b);
+        }
+
+        @Override
+        public void write(@NonNull final byte[] b, final int off, final int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
 }
@@ -50,6 +50,10 @@ import java.time.Duration;
  * @param minimumHealthyUnrevokedPermitCount the minimum number of permits that must be unrevoked when the system is in
  *                                           a healthy state. If non-zero, this means that this number of permits is
  *                                           immediately returned as soon as the system becomes healthy.
+ * @param virtualThreads                     if true, run the protocols with each peer, and the background writes of
+ *                                           each sync, on virtual threads instead of on platform threads. Blocked
+ *                                           socket reads and writes then wait on the JDK's shared NIO pollers instead
+ *                                           of holding a platform thread per peer.
  */
 @ConfigData("sync")
 public record SyncConfig(
@@ -66,4 +70,5 @@ public record SyncConfig(
         @ConfigProperty(defaultValue = "1s") Duration unhealthyGracePeriod,
         @ConfigProperty(defaultValue = "5") double permitsRevokedPerSecond,
         @ConfigProperty(defaultValue = "0.1") double permitsReturnedPerSecond,
-        @ConfigProperty(defaultValue = "1") int minimumHealthyUnrevokedPermitCount) {}
+        @ConfigProperty(defaultValue = "1") int minimumHealthyUnrevokedPermitCount,
+        @ConfigProperty(defaultValue = "false") boolean virtualThreads) {}
@@ -21,6 +21,7 @@ import com.swirlds.common.platform.NodeId;
 import com.swirlds.common.utility.Clearable;
 import com.swirlds.platform.consensus.CandidateWitness;
 import com.swirlds.platform.consensus.ConsensusConstants;
+import com.swirlds.platform.consensus.ConsensusMetadataArena;
 import com.swirlds.platform.event.EventCounter;
 import com.swirlds.platform.event.PlatformEvent;
 import edu.umd.cs.findbugs.annotations.NonNull;
@@ -61,12 +62,17 @@ public class EventImpl implements Clearable {
      * calculation, this field may or may not store the final consensus time.
      */
     private Instant preliminaryConsensusTimestamp;
-    /** lastSee[m] is the last ancestor created by m (memoizes function from Swirlds-TR-2020-01) */
-    private EventImpl[] lastSee;
     /**
-     * stronglySeeP[m] is strongly-seen witness in parent round by m (memoizes function from Swirlds-TR-2020-01)
+     * the arena holding lastSee[m], the last ancestor created by m, and stronglySeeP[m], the strongly-seen witness in
+     * parent round by m (memoize functions from Swirlds-TR-2020-01), or null if this event has neither
      */
-    private EventImpl[] stronglySeeP;
+    private ConsensusMetadataArena metadataArena;
+    /** the slot of this event in {@link #metadataArena} */
+    private int metadataSlot = ConsensusMetadataArena.NO_SLOT;
+    /** has lastSee been initialized? */
+    private boolean hasLastSee;
+    /** has stronglySeeP been initialized? */
+    private boolean hasStronglySeeP;
     /**
      * The first witness that's a self-ancestor in the self round (memoizes function from Swirlds-TR-2020-01)
      */
@@ -240,7 +246,7 @@ public class EventImpl implements Clearable {
      * @return last ancestor created by m (memoizes lastSee function from Swirlds-TR-2020-01)
      */
     public @Nullable EventImpl getLastSee(final int m) {
-        return lastSee[m];
+        return metadataArena.getLastSee(metadataSlot, m);
     }
 
     /**
@@ -251,17 +257,18 @@ public class EventImpl implements Clearable {
      * @param event the last seen {@link EventImpl} object created by m
      */
     public void setLastSee(final int m, @Nullable final EventImpl event) {
-        lastSee[m] = event;
+        metadataArena.setLastSee(metadataSlot, m, event);
     }
 
     /**
-     * Initialize the lastSee array to hold n elements (for n &ge; 0) (memoizes lastSee function
-     * from Swirlds-TR-2020-01)
+     * Initialize lastSee to hold one element per member, stored in the given arena (memoizes lastSee
+     * function from Swirlds-TR-2020-01)
      *
-     * @param n number of members in the initial address book
+     * @param arena the arena to store the metadata of this event in
      */
-    public void initLastSee(final int n) {
-        lastSee = n == 0 ? null : new EventImpl[n];
+    public void initLastSee(@NonNull final ConsensusMetadataArena arena) {
+        allocateMetadataSlot(arena);
+        hasLastSee = true;
     }
 
     /**
@@ -269,7 +276,7 @@ public class EventImpl implements Clearable {
      *     Swirlds-TR-2020-01)
      */
     public int sizeLastSee() {
-        return lastSee == null ? 0 : lastSee.length;
+        return hasLastSee ? metadataArena.getNumMembers() : 0;
     }
 
     /**
@@ -278,15 +285,15 @@ public class EventImpl implements Clearable {
      *     Swirlds-TR-2020-01)
      */
     public @Nullable EventImpl getStronglySeeP(final int m) {
-        return stronglySeeP[m];
+        return metadataArena.getStronglySeeP(metadataSlot, m);
     }
 
     /**
-     * @return strongly-seen witness in parent round (memoizes stronglySeeP function from
-     *     Swirlds-TR-2020-01)
+     * @return a copy of the strongly-seen witnesses in parent round, or null if not initialized (memoizes
+     *     stronglySeeP function from Swirlds-TR-2020-01)
      */
-    public EventImpl[] getStronglySeeP() {
-        return stronglySeeP;
+    public @Nullable EventImpl[] getStronglySeeP() {
+        return hasStronglySeeP ? metadataArena.copyStronglySeeP(metadataSlot) : null;
     }
 
     /**
@@ -297,17 +304,18 @@ public class EventImpl implements Clearable {
      * @param event the strongly-seen witness in parent round created by m
      */
     public void setStronglySeeP(final int m, @Nullable final EventImpl event) {
-        stronglySeeP[m] = event;
+        metadataArena.setStronglySeeP(metadataSlot, m, event);
     }
 
     /**
-     * Initialize the stronglySeeP array to hold n elements (for n &ge; 0) (memoizes stronglySeeP
-     * function from Swirlds-TR-2020-01)
+     * Initialize stronglySeeP to hold one element per member, stored in the given arena (memoizes
+     * stronglySeeP function from Swirlds-TR-2020-01)
      *
-     * @param n number of members in AddressBook
+     * @param arena the arena to store the metadata of this event in
      */
-    public void initStronglySeeP(final int n) {
-        stronglySeeP = n == 0 ? null : new EventImpl[n];
+    public void initStronglySeeP(@NonNull final ConsensusMetadataArena arena) {
+        allocateMetadataSlot(arena);
+        hasStronglySeeP = true;
     }
 
     /**
@@ -315,7 +323,33 @@ public class EventImpl implements Clearable {
      *     Swirlds-TR-2020-01)
      */
     public int sizeStronglySeeP() {
-        return stronglySeeP == null ? 0 : stronglySeeP.length;
+        return hasStronglySeeP ? metadataArena.getNumMembers() : 0;
+    }
+
+    /**
+     * Allocate a slot for the metadata of this event in the given arena, unless it already has one.
+     *
+     * @param arena the arena to store the metadata of this event in
+     */
+    private void allocateMetadataSlot(@NonNull final ConsensusMetadataArena arena) {
+        if (metadataSlot != ConsensusMetadataArena.NO_SLOT) {
+            return;
+        }
+        metadataArena = Objects.requireNonNull(arena);
+        metadataSlot = arena.allocate();
+    }
+
+    /**
+     * Release the slot of this event in its arena, if it has one, clearing lastSee and stronglySeeP.
+     */
+    private void releaseMetadataSlot() {
+        if (metadataSlot != ConsensusMetadataArena.NO_SLOT) {
+            metadataArena.release(metadataSlot);
+            metadataSlot = ConsensusMetadataArena.NO_SLOT;
+            metadataArena = null;
+        }
+        hasLastSee = false;
+        hasStronglySeeP = false;
     }
 
     /**
@@ -459,8 +493,7 @@ public class EventImpl implements Clearable {
     }
 
     private void clearNonJudgeMetadata() {
-        initLastSee(0);
-        initStronglySeeP(0);
+        releaseMetadataSlot();
         setFirstSelfWitnessS(null);
         setFirstWitnessS(null);
         setRecTimes(null);
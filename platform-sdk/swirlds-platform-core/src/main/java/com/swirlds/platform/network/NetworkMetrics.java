@@ -18,6 +18,7 @@ package com.swirlds.platform.network;
 
 import com.hedera.hapi.node.state.roster.Roster;
 import com.hedera.hapi.node.state.roster.RosterEntry;
+import com.swirlds.common.io.extendable.extensions.CountingStreamExtension;
 import com.swirlds.common.metrics.RunningAverageMetric;
 import com.swirlds.common.metrics.SpeedometerMetric;
 import com.swirlds.common.metrics.extensions.CountPerSecond;
@@ -41,6 +42,7 @@ public class NetworkMetrics {
 
     private static final String PING_CATEGORY = "ping";
     private static final String BPSS_CATEGORY = "bpss";
+    private static final String COMPRESSION_CATEGORY = "compression";
 
     private static final RunningAverageMetric.Config AVG_PING_CONFIG = new RunningAverageMetric.Config(
                     Metrics.PLATFORM_CATEGORY, "ping")
@@ -67,6 +69,10 @@ public class NetworkMetrics {
     private final Map<NodeId, RunningAverageMetric> avgPingMilliseconds = new HashMap<>();
     /** the average number of bytes sent per second for each node */
     private final Map<NodeId, SpeedometerMetric> avgBytePerSecSent = new HashMap<>();
+    /** the average ratio of bytes written to bytes sent after compression, for each node */
+    private final Map<NodeId, RunningAverageMetric> avgCompressionRatio = new HashMap<>();
+    /** the milliseconds per second spent compressing and decompressing, for each node */
+    private final Map<NodeId, SpeedometerMetric> compressionMillisPerSec = new HashMap<>();
     /** the average ping to all nodes */
     private final RunningAverageMetric avgPing;
     /** the total bytes per second to all nodes */
@@ -110,6 +116,21 @@ public class NetworkMetrics {
                                     BPSS_CATEGORY, String.format("bytes_per_sec_sent_%02d", nodeId.id()))
                             .withDescription(String.format("bytes per second sent to node %02d", nodeId.id()))
                             .withFormat(FloatFormats.FORMAT_16_2)));
+            avgCompressionRatio.put(
+                    nodeId,
+                    metrics.getOrCreate(new RunningAverageMetric.Config(
+                                    COMPRESSION_CATEGORY, String.format("compression_ratio_%02d", nodeId.id()))
+                            .withDescription(String.format(
+                                    "bytes written per byte sent to node %02d after compression", nodeId.id()))
+                            .withFormat(FloatFormats.FORMAT_4_2)));
+            compressionMillisPerSec.put(
+                    nodeId,
+                    metrics.getOrCreate(new SpeedometerMetric.Config(
+                                    COMPRESSION_CATEGORY, String.format("compression_ms_per_sec_%02d", nodeId.id()))
+                            .withDescription(String.format(
+                                    "milliseconds per second spent compressing to and decompressing from node %02d",
+                                    nodeId.id()))
+                            .withFormat(FloatFormats.FORMAT_10_3)));
             disconnectFrequency.put(
                     nodeId,
                     new CountPerSecond(
@@ -177,6 +198,7 @@ public class NetworkMetrics {
                 if (avgBytePerSecSent.get(otherId) != null) {
                     avgBytePerSecSent.get(otherId).update(bytesSent);
                 }
+                updateCompressionMetrics(conn, otherId, bytesSent);
                 if (!conn.connected()) {
                     iterator.remove();
                 }
@@ -186,6 +208,33 @@ public class NetworkMetrics {
         avgConnsCreated.update(connsCreated.sum());
     }
 
+    /**
+     * Update the compression metrics of a single connection.
+     *
+     * @param conn      the connection
+     * @param otherId   the peer of the connection
+     * @param bytesSent the bytes sent over the connection since the last update
+     */
+    private void updateCompressionMetrics(
+            @NonNull final Connection conn, @NonNull final NodeId otherId, final long bytesSent) {
+        final CountingStreamExtension uncompressedByteCounter = conn.getDos().getUncompressedByteCounter();
+        final long bytesWritten = uncompressedByteCounter.getAndResetCount();
+        if (conn.getDos().getCompression() == StreamCompression.NONE) {
+            // this connection does not compress what it sends
+            return;
+        }
+        final RunningAverageMetric ratio = avgCompressionRatio.get(otherId);
+        if (ratio != null && bytesSent > 0) {
+            ratio.update((double) bytesWritten / bytesSent);
+        }
+        final long nanos = conn.getDos().getCompressionNanos().sumThenReset()
+                + conn.getDis().getDecompressionNanos().sumThenReset();
+        final SpeedometerMetric millisPerSec = compressionMillisPerSec.get(otherId);
+        if (millisPerSec != null) {
+            millisPerSec.update(nanos / 1_000_000.0);
+        }
+    }
+
     /**
      * Returns the time for a round-trip message to each member (in milliseconds).
      * <p>
@@ -34,7 +34,15 @@ import com.swirlds.config.api.ConfigProperty;
  * @param useLoopbackIp              should be set to true when using the internet simulator
  * @param tcpNoDelay                 if true, then Nagel's algorithm is disabled, which helps latency, hurts bandwidth
  *                                   usage
- * @param gzipCompression            whether to use gzip compression over the network
+ * @param gzipCompression            whether to use gzip compression over the network, from the first byte of every
+ *                                   connection. Must be the same on every node.
+ * @param negotiateCompression       whether to negotiate a codec with each peer in a handshake after the version
+ *                                   handshake. Every node must be running a version that supports it before it is
+ *                                   enabled, since an older peer would not answer the handshake. Ignored if
+ *                                   {@code gzipCompression} is set.
+ * @param compression                the codec this node compresses the streams it writes to other nodes with, if
+ *                                   {@code negotiateCompression} is set and the peer can decompress it. Peers need not
+ *                                   agree on it.
  */
 @ConfigData("socket")
 public record SocketConfig(
@@ -45,4 +53,6 @@ public record SocketConfig(
         @ConfigProperty(defaultValue = "5000") int timeoutServerAcceptConnect,
         @ConfigProperty(defaultValue = "false") boolean useLoopbackIp,
         @ConfigProperty(defaultValue = "true") boolean tcpNoDelay,
-        @ConfigProperty(defaultValue = "false") boolean gzipCompression) {}
+        @ConfigProperty(defaultValue = "false") boolean gzipCompression,
+        @ConfigProperty(defaultValue = "false") boolean negotiateCompression,
+        @ConfigProperty(defaultValue = "NONE") StreamCompression compression) {}
@@ -0,0 +1,202 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.network;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * The codecs that can compress the stream of a connection between two nodes.
+ * <p>
+ * If {@code socket.negotiateCompression} is set, the codecs are negotiated per connection and direction by the
+ * {@link com.swirlds.platform.network.communication.handshake.CompressionHandshake}, which identifies each codec on
+ * the wire by its {@link #getWireId() wire id}. Wire ids are part of the protocol: they must never change or be reused,
+ * unlike the order of the constants.
+ * <p>
+ * Every codec frames its output per message: a flush of the compressed stream (which the sync protocol does after
+ * every message) emits all the bytes written so far, so the peer never waits for a later message to decode the
+ * current one.
+ */
+public enum StreamCompression {
+    /**
+     * No compression.
+     */
+    NONE(0, Deflater.NO_COMPRESSION),
+    /**
+     * Raw deflate at the default level, the same as the legacy {@code socket.gzipCompression}.
+     */
+    DEFLATE(1, Deflater.DEFAULT_COMPRESSION),
+    /**
+     * Raw deflate at the fastest level. It saves most of the bandwidth that {@link #DEFLATE} saves on events (whose
+     * bulk is hashes and signatures that do not compress at all) for a fraction of the CPU time.
+     */
+    FAST_DEFLATE(2, Deflater.BEST_SPEED);
+
+    private final int wireId;
+    private final int level;
+
+    StreamCompression(final int wireId, final int level) {
+        this.wireId = wireId;
+        this.level = level;
+    }
+
+    /**
+     * @return the id that identifies this codec on the wire
+     */
+    public int getWireId() {
+        return wireId;
+    }
+
+    /**
+     * Get the codec with the given wire id.
+     *
+     * @param wireId the wire id
+     * @return the codec, or null if this node does not know the wire id (e.g. if it is from a newer version)
+     */
+    @Nullable
+    public static StreamCompression fromWireId(final int wireId) {
+        for (final StreamCompression compression : values()) {
+            if (compression.wireId == wireId) {
+                return compression;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Wraps the given stream so that what is written to it is compressed with this codec.
+     *
+     * @param out        the stream to write compressed bytes to
+     * @param bufferSize the size of the buffer
+     * @param cpuNanos   accumulates the time spent compressing
+     * @return the compressing stream
+     */
+    @NonNull
+    public OutputStream compress(
+            @NonNull final OutputStream out, final int bufferSize, @NonNull final LongAdder cpuNanos) {
+        if (this == NONE) {
+            return new BufferedOutputStream(out, bufferSize);
+        }
+        return new TimedDeflaterOutputStream(out, new Deflater(level, true), bufferSize, cpuNanos);
+    }
+
+    /**
+     * Wraps the given stream so that what is read from it is decompressed with this codec.
+     *
+     * @param in         the stream to read compressed bytes from
+     * @param bufferSize the size of the buffer
+     * @param cpuNanos   accumulates the time spent decompressing
+     * @return the decompressing stream
+     */
+    @NonNull
+    public InputStream decompress(
+            @NonNull final InputStream in, final int bufferSize, @NonNull final LongAdder cpuNanos) {
+        if (this == NONE) {
+            return new BufferedInputStream(in, bufferSize);
+        }
+        return new TimedInflaterInputStream(in, new Inflater(true), bufferSize, cpuNanos);
+    }
+
+    /**
+     * A sync-flushing deflater stream that accumulates the time spent deflating.
+     */
+    private static final class TimedDeflaterOutputStream extends DeflaterOutputStream {
+        private final LongAdder cpuNanos;
+
+        TimedDeflaterOutputStream(
+                final OutputStream out, final Deflater deflater, final int bufferSize, final LongAdder cpuNanos) {
+            super(out, deflater, bufferSize, true);
+            this.cpuNanos = cpuNanos;
+        }
+
+        @Override
+        protected void deflate() throws IOException {
+            // only the deflation, since writing the compressed bytes to the socket may block
+            final long start = System.nanoTime();
+            final int len = def.deflate(buf, 0, buf.length);
+            cpuNanos.add(System.nanoTime() - start);
+            if (len > 0) {
+                out.write(buf, 0, len);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            final long start = System.nanoTime();
+            long blockedNanos = 0;
+            if (!def.finished()) {
+                int len;
+                while ((len = def.deflate(buf, 0, buf.length, Deflater.SYNC_FLUSH)) > 0) {
+                    final long writeStart = System.nanoTime();
+                    out.write(buf, 0, len);
+                    blockedNanos += System.nanoTime() - writeStart;
+                    if (len < buf.length) {
+                        break;
+                    }
+                }
+            }
+            cpuNanos.add(System.nanoTime() - start - blockedNanos);
+            out.flush();
+        }
+    }
+
+    /**
+     * An inflater stream that accumulates the time spent inflating.
+     */
+    private static final class TimedInflaterInputStream extends InflaterInputStream {
+        private final LongAdder cpuNanos;
+        private long fillNanos;
+
+        TimedInflaterInputStream(
+                final InputStream in, final Inflater inflater, final int bufferSize, final LongAdder cpuNanos) {
+            super(in, inflater, bufferSize);
+            this.cpuNanos = cpuNanos;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            // everything but the time spent in fill(), which waits for the socket
+            fillNanos = 0;
+            final long start = System.nanoTime();
+            try {
+                return super.read(b, off, len);
+            } finally {
+                cpuNanos.add(System.nanoTime() - start - fillNanos);
+            }
+        }
+
+        @Override
+        protected void fill() throws IOException {
+            final long start = System.nanoTime();
+            try {
+                super.fill();
+            } finally {
+                fillNanos += System.nanoTime() - start;
+            }
+        }
+    }
+}
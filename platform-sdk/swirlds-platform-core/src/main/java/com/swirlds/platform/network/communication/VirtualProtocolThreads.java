@@ -0,0 +1,175 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.network.communication;
+
+import static com.swirlds.common.utility.StackTrace.getStackTrace;
+import static com.swirlds.logging.legacy.LogMarker.EXCEPTION;
+
+import com.swirlds.base.state.Startable;
+import com.swirlds.base.state.Stoppable;
+import com.swirlds.common.threading.interrupt.InterruptableRunnable;
+import com.swirlds.common.threading.locks.AutoClosableLock;
+import com.swirlds.common.threading.locks.Locks;
+import com.swirlds.common.threading.locks.locked.Locked;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Runs the protocols with each peer (usually a {@link ProtocolNegotiatorThread}) on a virtual thread per peer,
+ * instead of on a dedicated platform thread per peer.
+ * <p>
+ * The protocols still read and write their connections with blocking calls, but a virtual thread blocked on a socket
+ * is parked and its carrier thread released, while the JDK waits for the socket with a small, shared pool of NIO
+ * pollers. So the number of platform threads, and the context switches between them, no longer grow with the number
+ * of peers. This only holds as long as the protocols do not block while holding a monitor, which would pin the carrier
+ * thread, so the locks they take on the way (sync permits, the shadowgraph, fallen behind reports) are
+ * {@link java.util.concurrent.locks.ReentrantLock}s rather than {@code synchronized}.
+ * <p>
+ * Like a {@link com.swirlds.common.threading.framework.StoppableThread}, a thread that does not die within the hanging
+ * thread period of being stopped is logged, with its stack trace, as a hanging thread.
+ */
+public class VirtualProtocolThreads implements Startable, Stoppable {
+    private static final Logger logger = LogManager.getLogger(VirtualProtocolThreads.class);
+
+    /** how long a thread may take to die once stopped before it is reported as hanging, zero to never report */
+    private final Duration hangingThreadPeriod;
+    /** the work to run for each peer, by thread name */
+    private final Map<String, InterruptableRunnable> work = new LinkedHashMap<>();
+    /** the threads running the work, once started */
+    private final List<Thread> threads = new ArrayList<>();
+    /** guards starting and stopping the threads */
+    private final AutoClosableLock lock = Locks.createAutoLock();
+    /** true from start until stop */
+    private volatile boolean running;
+    /** true if a thread was found hanging when stopped */
+    private volatile boolean hanging;
+
+    /**
+     * Constructor.
+     *
+     * @param hangingThreadPeriod how long a thread may take to die once stopped before it is reported as hanging, zero
+     *                            to never report
+     */
+    public VirtualProtocolThreads(@NonNull final Duration hangingThreadPeriod) {
+        this.hangingThreadPeriod = Objects.requireNonNull(hangingThreadPeriod);
+    }
+
+    /**
+     * Add work to be run repeatedly on its own virtual thread, until stopped. Must be called before {@link #start()}.
+     *
+     * @param name the name of the thread
+     * @param runnable the work to run repeatedly
+     */
+    public void add(@NonNull final String name, @NonNull final InterruptableRunnable runnable) {
+        Objects.requireNonNull(name);
+        Objects.requireNonNull(runnable);
+        try (final Locked ignored = lock.lock()) {
+            if (running) {
+                throw new IllegalStateException("Cannot add work after the threads have been started");
+            }
+            work.put(name, runnable);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void start() {
+        try (final Locked ignored = lock.lock()) {
+            if (running) {
+                throw new IllegalStateException("Virtual protocol threads already started");
+            }
+            running = true;
+            work.forEach((name, runnable) -> threads.add(Thread.ofVirtual()
+                    .name(name)
+                    .uncaughtExceptionHandler((t, e) ->
+                            logger.error(EXCEPTION.getMarker(), "Virtual protocol thread {} died", t.getName(), e))
+                    .start(() -> runUntilStopped(runnable))));
+        }
+    }
+
+    /**
+     * Stop all threads, and wait for them to die.
+     */
+    @Override
+    public void stop() {
+        try (final Locked ignored = lock.lock()) {
+            running = false;
+            threads.forEach(Thread::interrupt);
+            for (final Thread thread : threads) {
+                try {
+                    join(thread);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+            threads.clear();
+        }
+    }
+
+    /**
+     * Check if a thread was found hanging while being stopped, i.e. did not die within the hanging thread period.
+     *
+     * @return true if a thread was found hanging
+     */
+    public boolean isHanging() {
+        return hanging;
+    }
+
+    /**
+     * Wait for a stopped thread to die, reporting it as hanging if it takes longer than the hanging thread period.
+     */
+    private void join(@NonNull final Thread thread) throws InterruptedException {
+        if (hangingThreadPeriod.isZero()) {
+            thread.join();
+            return;
+        }
+        if (!thread.join(hangingThreadPeriod)) {
+            hanging = true;
+            logger.error(
+                    EXCEPTION.getMarker(),
+                    "hanging thread detected: {} was requested to stop but is still alive after {}",
+                    thread.getName(),
+                    hangingThreadPeriod);
+            logger.error(
+                    EXCEPTION.getMarker(),
+                    "stack trace for hanging thread {}:\n{}",
+                    thread.getName(),
+                    getStackTrace(thread));
+            thread.join();
+        }
+    }
+
+    private void runUntilStopped(@NonNull final InterruptableRunnable runnable) {
+        try {
+            while (running && !Thread.currentThread().isInterrupted()) {
+                runnable.run();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
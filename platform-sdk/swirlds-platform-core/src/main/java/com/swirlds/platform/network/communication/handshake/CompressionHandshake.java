@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.network.communication.handshake;
+
+import com.swirlds.platform.network.Connection;
+import com.swirlds.platform.network.NetworkProtocolException;
+import com.swirlds.platform.network.StreamCompression;
+import com.swirlds.platform.network.protocol.ProtocolRunnable;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Negotiates the codecs that compress a connection, after the {@link VersionCompareHandshake}. Each node sends the
+ * {@link StreamCompression#getWireId() wire id} of the codec it would like to write with, and the wire ids of all the
+ * codecs it can read. Each node then writes with the codec it would like if its peer can read it, and does not
+ * compress otherwise. Since both nodes know what the other sent, both reach the same conclusion for each direction, so
+ * nodes with different codecs, and versions with codecs unknown to older versions, can still talk to each other.
+ */
+public class CompressionHandshake implements ProtocolRunnable {
+    /** an upper bound on the number of codecs a peer may announce, so a broken peer cannot make us read forever */
+    private static final int MAX_CODECS = 64;
+
+    private final StreamCompression compression;
+
+    /**
+     * @param compression the codec this node would like to write with
+     */
+    public CompressionHandshake(@NonNull final StreamCompression compression) {
+        this.compression = Objects.requireNonNull(compression, "compression must not be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void runProtocol(@NonNull final Connection connection)
+            throws NetworkProtocolException, IOException, InterruptedException {
+        final StreamCompression[] readable = StreamCompression.values();
+        connection.getDos().writeInt(compression.getWireId());
+        connection.getDos().writeInt(readable.length);
+        for (final StreamCompression codec : readable) {
+            connection.getDos().writeInt(codec.getWireId());
+        }
+        connection.getDos().flush();
+
+        final int peerWireId = connection.getDis().readInt();
+        final int peerReadableCount = connection.getDis().readInt();
+        if (peerReadableCount < 0 || peerReadableCount > MAX_CODECS) {
+            throw new HandshakeException("Peer announced " + peerReadableCount + " readable stream codecs");
+        }
+        final Set<Integer> peerReadable = new HashSet<>();
+        for (int i = 0; i < peerReadableCount; i++) {
+            peerReadable.add(connection.getDis().readInt());
+        }
+
+        // the peer only writes with a codec we announced as readable, and we announced every codec we know
+        final StreamCompression peerCompression = StreamCompression.fromWireId(peerWireId);
+        connection
+                .getDis()
+                .startDecompression(peerCompression == null ? StreamCompression.NONE : peerCompression);
+        connection
+                .getDos()
+                .startCompression(
+                        peerReadable.contains(compression.getWireId()) ? compression : StreamCompression.NONE);
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.consensus;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+import com.swirlds.platform.internal.EventImpl;
+import org.junit.jupiter.api.Test;
+
+class ConsensusMetadataArenaTest {
+    private static final int NUM_MEMBERS = 4;
+
+    @Test
+    void rowsOfDifferentSlotsAreIndependent() {
+        final ConsensusMetadataArena arena = new ConsensusMetadataArena(NUM_MEMBERS);
+        final EventImpl a = mock(EventImpl.class);
+        final EventImpl b = mock(EventImpl.class);
+        final int first = arena.allocate();
+        final int second = arena.allocate();
+        assertNotEquals(first, second);
+
+        arena.setLastSee(first, 3, a);
+        arena.setStronglySeeP(second, 0, b);
+
+        assertSame(a, arena.getLastSee(first, 3));
+        assertNull(arena.getLastSee(second, 3));
+        assertNull(arena.getStronglySeeP(first, 0));
+        assertSame(b, arena.getStronglySeeP(second, 0));
+        assertArrayEquals(new EventImpl[] {b, null, null, null}, arena.copyStronglySeeP(second));
+    }
+
+    @Test
+    void releasedSlotsAreClearedAndReused() {
+        final ConsensusMetadataArena arena = new ConsensusMetadataArena(NUM_MEMBERS);
+        final int slot = arena.allocate();
+        arena.setLastSee(slot, 1, mock(EventImpl.class));
+        arena.setStronglySeeP(slot, 2, mock(EventImpl.class));
+
+        arena.release(slot);
+        assertEquals(0, arena.getAllocatedSlots());
+
+        final int reused = arena.allocate();
+        assertEquals(slot, reused);
+        assertNull(arena.getLastSee(reused, 1));
+        assertNull(arena.getStronglySeeP(reused, 2));
+    }
+
+    @Test
+    void growsBeyondInitialCapacity() {
+        final ConsensusMetadataArena arena = new ConsensusMetadataArena(NUM_MEMBERS, 2);
+        final EventImpl[] events = new EventImpl[10];
+        for (int i = 0; i < events.length; i++) {
+            events[i] = mock(EventImpl.class);
+            final int slot = arena.allocate();
+            assertEquals(i, slot);
+            arena.setLastSee(slot, i % NUM_MEMBERS, events[i]);
+        }
+        assertEquals(events.length, arena.getAllocatedSlots());
+        for (int i = 0; i < events.length; i++) {
+            assertSame(events[i], arena.getLastSee(i, i % NUM_MEMBERS));
+        }
+    }
+
+    @Test
+    void rejectsEmptyRoster() {
+        assertThrows(IllegalArgumentException.class, () -> new ConsensusMetadataArena(0));
+    }
+}
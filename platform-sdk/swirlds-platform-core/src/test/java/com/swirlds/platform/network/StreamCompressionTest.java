@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.network;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.atomic.LongAdder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class StreamCompressionTest {
+
+    @ParameterizedTest
+    @EnumSource(StreamCompression.class)
+    void everyFlushedMessageCanBeDecodedWithoutLaterBytes(final StreamCompression compression) throws IOException {
+        final Random random = new Random(0);
+        final byte[] first = compressibleMessage(random);
+        final byte[] second = compressibleMessage(random);
+        final ByteArrayOutputStream sent = new ByteArrayOutputStream();
+        final LongAdder compressionNanos = new LongAdder();
+        final OutputStream out = compression.compress(sent, 1024, compressionNanos);
+
+        out.write(first);
+        out.flush();
+        final byte[] sentAfterFirst = sent.toByteArray();
+        out.write(second);
+        out.flush();
+
+        final LongAdder decompressionNanos = new LongAdder();
+        final DataInputStream firstOnly = new DataInputStream(
+                compression.decompress(new ByteArrayInputStream(sentAfterFirst), 1024, decompressionNanos));
+        final byte[] received = new byte[first.length];
+        firstOnly.readFully(received);
+        assertArrayEquals(first, received);
+
+        final DataInputStream both = new DataInputStream(
+                compression.decompress(new ByteArrayInputStream(sent.toByteArray()), 1024, decompressionNanos));
+        final byte[] receivedBoth = new byte[first.length + second.length];
+        both.readFully(receivedBoth);
+        assertArrayEquals(first, Arrays.copyOfRange(receivedBoth, 0, first.length));
+        assertArrayEquals(second, Arrays.copyOfRange(receivedBoth, first.length, receivedBoth.length));
+
+        if (compression != StreamCompression.NONE) {
+            assertTrue(sent.size() < first.length + second.length, "compressible messages should shrink");
+            assertTrue(compressionNanos.sum() > 0, "compression time should be measured");
+            assertTrue(decompressionNanos.sum() > 0, "decompression time should be measured");
+        }
+    }
+
+    @Test
+    void wireIdsAreStable() {
+        // wire ids are part of the gossip protocol, and must never change
+        assertEquals(0, StreamCompression.NONE.getWireId());
+        assertEquals(1, StreamCompression.DEFLATE.getWireId());
+        assertEquals(2, StreamCompression.FAST_DEFLATE.getWireId());
+        for (final StreamCompression compression : StreamCompression.values()) {
+            assertEquals(compression, StreamCompression.fromWireId(compression.getWireId()));
+        }
+        assertNull(StreamCompression.fromWireId(-1), "unknown wire ids have no codec");
+    }
+
+    /**
+     * @return a message that looks like a serialized event: some incompressible bytes and some repeated fields
+     */
+    private static byte[] compressibleMessage(final Random random) {
+        final byte[] message = new byte[4096];
+        random.nextBytes(message);
+        for (int i = 0; i < message.length / 2; i++) {
+            message[i] = (byte) (i % 16);
+        }
+        return message;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.test.network.communication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.platform.network.communication.VirtualProtocolThreads;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class VirtualProtocolThreadsTest {
+
+    @Test
+    void runsEachPeerOnItsOwnVirtualThreadUntilStopped() throws InterruptedException {
+        final VirtualProtocolThreads threads = new VirtualProtocolThreads(Duration.ofSeconds(5));
+        final Set<String> names = ConcurrentHashMap.newKeySet();
+        final CountDownLatch bothRan = new CountDownLatch(2);
+        final AtomicInteger runsAfterStop = new AtomicInteger();
+        final CountDownLatch stopped = new CountDownLatch(1);
+        for (final String name : Set.of("SyncProtocolWith1", "SyncProtocolWith2")) {
+            threads.add(name, () -> {
+                assertTrue(Thread.currentThread().isVirtual(), "protocols should run on virtual threads");
+                if (names.add(Thread.currentThread().getName())) {
+                    bothRan.countDown();
+                }
+                if (stopped.getCount() == 0) {
+                    runsAfterStop.incrementAndGet();
+                }
+                Thread.sleep(1);
+            });
+        }
+
+        threads.start();
+        assertTrue(bothRan.await(5, TimeUnit.SECONDS), "the work for each peer should have run");
+        assertEquals(Set.of("SyncProtocolWith1", "SyncProtocolWith2"), names, "threads should be named after the work");
+
+        threads.stop();
+        stopped.countDown();
+        Thread.sleep(20);
+        assertEquals(0, runsAfterStop.get(), "no work should run once stop has returned");
+        assertFalse(threads.isHanging(), "threads that die when interrupted are not hanging");
+    }
+
+    @Test
+    void cannotAddOrStartOnceStarted() {
+        final VirtualProtocolThreads threads = new VirtualProtocolThreads(Duration.ZERO);
+        threads.add("SyncProtocolWith1", () -> Thread.sleep(1));
+        threads.start();
+        try {
+            assertThrows(
+                    IllegalStateException.class,
+                    () -> threads.add("SyncProtocolWith2", () -> {}),
+                    "work cannot be added once started");
+            assertThrows(IllegalStateException.class, threads::start, "threads cannot be started twice");
+        } finally {
+            threads.stop();
+        }
+    }
+
+    @Test
+    void reportsThreadThatDoesNotDieWithinHangingPeriod() throws InterruptedException {
+        final VirtualProtocolThreads threads = new VirtualProtocolThreads(Duration.ofMillis(10));
+        final CountDownLatch running = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        threads.add("SyncProtocolWith1", () -> {
+            running.countDown();
+            // ignores interrupts, like a protocol stuck in a call that does not respond to them
+            while (release.getCount() > 0) {
+                Thread.onSpinWait();
+            }
+        });
+        threads.start();
+        assertTrue(running.await(5, TimeUnit.SECONDS), "the work should have started");
+
+        final Thread stopper = new Thread(threads::stop);
+        stopper.start();
+        final long deadline = System.currentTimeMillis() + 5_000;
+        while (!threads.isHanging() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertTrue(threads.isHanging(), "a thread alive after the hanging period should be reported");
+        assertTrue(stopper.isAlive(), "stop should keep waiting for a hanging thread");
+
+        release.countDown();
+        stopper.join(5_000);
+        assertFalse(stopper.isAlive(), "stop should return once the hanging thread dies");
+    }
+}
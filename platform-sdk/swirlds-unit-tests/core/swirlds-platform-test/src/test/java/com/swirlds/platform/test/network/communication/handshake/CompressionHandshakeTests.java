@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.test.network.communication.handshake;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.swirlds.base.utility.Pair;
+import com.swirlds.common.platform.NodeId;
+import com.swirlds.platform.network.Connection;
+import com.swirlds.platform.network.StreamCompression;
+import com.swirlds.platform.network.communication.handshake.CompressionHandshake;
+import com.swirlds.platform.network.communication.handshake.HandshakeException;
+import com.swirlds.platform.test.sync.ConnectionFactory;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link CompressionHandshake}
+ */
+class CompressionHandshakeTests {
+    private Connection theirConnection;
+    private Connection myConnection;
+    private ExecutorService executor;
+
+    private static void announce(
+            @NonNull final Connection connection, final int wireId, final int... readableWireIds)
+            throws IOException {
+        connection.getDos().writeInt(wireId);
+        connection.getDos().writeInt(readableWireIds.length);
+        for (final int readable : readableWireIds) {
+            connection.getDos().writeInt(readable);
+        }
+        connection.getDos().flush();
+    }
+
+    @BeforeEach
+    void setup() throws IOException {
+        final Pair<Connection, Connection> connections =
+                ConnectionFactory.createLocalConnections(NodeId.of(0L), NodeId.of(1));
+        myConnection = connections.left();
+        theirConnection = connections.right();
+        // piped streams need the threads that use them to stay alive
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("Each node writes with its own codec, and the messages after the handshake are decoded")
+    void differentCodecsPerDirection() throws Exception {
+        final Future<?> theirs = executor.submit(() -> {
+            new CompressionHandshake(StreamCompression.NONE).runProtocol(theirConnection);
+            return null;
+        });
+        final Future<?> mine = executor.submit(() -> {
+            new CompressionHandshake(StreamCompression.FAST_DEFLATE).runProtocol(myConnection);
+            return null;
+        });
+        theirs.get(5, TimeUnit.SECONDS);
+        mine.get(5, TimeUnit.SECONDS);
+
+        assertEquals(StreamCompression.FAST_DEFLATE, myConnection.getDos().getCompression());
+        assertEquals(StreamCompression.FAST_DEFLATE, theirConnection.getDis().getCompression());
+        assertEquals(StreamCompression.NONE, theirConnection.getDos().getCompression());
+        assertEquals(StreamCompression.NONE, myConnection.getDis().getCompression());
+
+        final Future<?> written = executor.submit(() -> {
+            myConnection.getDos().writeLong(42);
+            myConnection.getDos().flush();
+            theirConnection.getDos().writeLong(43);
+            theirConnection.getDos().flush();
+            return null;
+        });
+        written.get(5, TimeUnit.SECONDS);
+        final Future<Long> theirRead = executor.submit(() -> theirConnection.getDis().readLong());
+        final Future<Long> myRead = executor.submit(() -> myConnection.getDis().readLong());
+        assertEquals(42L, theirRead.get(5, TimeUnit.SECONDS));
+        assertEquals(43L, myRead.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("A codec the peer cannot read is not used")
+    void codecUnknownToPeer() throws Exception {
+        announce(theirConnection, StreamCompression.NONE.getWireId(), StreamCompression.NONE.getWireId());
+        new CompressionHandshake(StreamCompression.DEFLATE).runProtocol(myConnection);
+
+        assertEquals(StreamCompression.NONE, myConnection.getDos().getCompression());
+    }
+
+    @Test
+    @DisplayName("A peer announcing a codec we do not know does not use it")
+    void codecUnknownToUs() throws Exception {
+        announce(theirConnection, 99, 99, StreamCompression.NONE.getWireId());
+        new CompressionHandshake(StreamCompression.NONE).runProtocol(myConnection);
+
+        assertEquals(StreamCompression.NONE, myConnection.getDis().getCompression());
+    }
+
+    @Test
+    @DisplayName("A peer announcing too many codecs fails the handshake")
+    void tooManyCodecs() throws IOException {
+        theirConnection.getDos().writeInt(StreamCompression.NONE.getWireId());
+        theirConnection.getDos().writeInt(Integer.MAX_VALUE);
+        theirConnection.getDos().flush();
+
+        assertThrows(
+                HandshakeException.class,
+                () -> new CompressionHandshake(StreamCompression.NONE).runProtocol(myConnection));
+    }
+}
@@ -41,18 +41,42 @@ import java.time.Duration;
  * @param virtualHasherChunkHeight
  *      The number of ranks minus one to handle in a single virtual hasher task. That is, when height is
  *      1, every task takes 2 inputs. Height 2 corresponds to tasks with 4 inputs. And so on.
+ * @param incrementalLeafHashing
+ *      If true, leaves put to a mutable virtual map copy are hashed in the background on the hashing thread pool,
+ *      so hashing the copy after it's made immutable only hashes internal nodes and leaves modified in place. Values
+ *      passed to {@code put()} must not be modified afterwards. Values obtained with {@code getForModify()} are
+ *      never hashed in the background.
  * @param reconnectMode
  *      Reconnect mode. For the list of accepted values, see {@link VirtualMapReconnectMode}.
  * @param reconnectFlushInterval
  *      During reconnect, virtual nodes are periodically flushed to disk after they are hashed. This
  *      interval indicates the number of nodes to hash before they are flushed to disk. If zero, all
  *      hashed nodes are flushed in the end of reconnect hashing only.
+ * @param reconnectBulkThreshold
+ *      In pull reconnect modes, the estimated fraction (from 0.0 to 1.0) of the learner's tree that differs
+ *      from the teacher's, at or above which the teacher sends its data source files in bulk rather than
+ *      node by node. The fraction is estimated by comparing internal node hashes at a single rank. If zero,
+ *      bulk transfer is disabled. Must be the same on the teacher and the learner.
+ * @param reconnectCheckpoints
+ *      If true, when a learner reconnect fails, the nodes it has already received, hashed, and flushed are kept
+ *      as a checkpoint, and the next reconnect attempt resumes from the checkpoint rather than from the original
+ *      map. Only nodes flushed every {@code virtualMap.reconnectFlushInterval} nodes are kept, and the rest of
+ *      the map is sent by the teacher again, so this is most useful when a large part of the map differs.
+ *      Checkpoints are only kept in memory (their data is in temporary files), so they don't survive a restart.
+ * @param reconnectCheckpointExpiry
+ *      How long the checkpoint of a failed learner reconnect is kept if no reconnect resumes from it. Expired
+ *      checkpoints are closed and their data deleted. Only used if {@code reconnectCheckpoints} is enabled.
  * @param percentCleanerThreads
  * 		Gets the percentage (from 0.0 to 100.0) of available processors to devote to cache
  * 		cleaner threads. Ignored if an explicit number of threads is given via {@code virtualMap.numCleanerThreads}.
  * @param numCleanerThreads
  * 		The number of threads to devote to cache cleaning. If not set, defaults to the number of threads implied by
  *      {@code virtualMap.percentCleanerThreads} and {@link Runtime#availableProcessors()}.
+ * @param numPipelineThreads
+ *      The number of threads shared by all virtual pipelines to hash, flush, and merge virtual map copies. Copies
+ *      of a single map are still processed one at a time, in order. If zero, every pipeline has a dedicated
+ *      thread, and the number of threads isn't bounded. The shared threads only exist while some map uses them,
+ *      and are resized to this value whenever a new map family is created.
  * @param maximumVirtualMapSize
  * 		The maximum number of entries allowed in the {@link VirtualMap} instance. If not set, defaults to
  * 		Integer.MAX_VALUE (2^31 - 1, or 2,147,483,647).
@@ -94,11 +118,16 @@ public record VirtualMapConfig(
                 double percentHashThreads, // FUTURE WORK: We need to add min/max support for double values
         @Min(-1) @ConfigProperty(defaultValue = "-1") int numHashThreads,
         @Min(1) @Max(64) @ConfigProperty(defaultValue = "3") int virtualHasherChunkHeight,
+        @ConfigProperty(defaultValue = "false") boolean incrementalLeafHashing,
         @ConfigProperty(defaultValue = PUSH) String reconnectMode,
         @Min(0) @ConfigProperty(defaultValue = "500000") int reconnectFlushInterval,
+        @Min(0) @Max(1) @ConfigProperty(defaultValue = "0") double reconnectBulkThreshold,
+        @ConfigProperty(defaultValue = "false") boolean reconnectCheckpoints,
+        @ConfigProperty(defaultValue = "10m") Duration reconnectCheckpointExpiry,
         @Min(0) @Max(100) @ConfigProperty(defaultValue = "25.0")
                 double percentCleanerThreads, // FUTURE WORK: We need to add min/max support for double values
         @Min(-1) @ConfigProperty(defaultValue = "-1") int numCleanerThreads,
+        @Min(0) @ConfigProperty(defaultValue = "0") int numPipelineThreads,
         @Min(2) @Max(Integer.MAX_VALUE) @ConfigProperty(defaultValue = "2147483647") long maximumVirtualMapSize,
         @ConstraintMethod("virtualMapWarningThresholdValidation") @Min(1) @ConfigProperty(defaultValue = "5000000")
                 long virtualMapWarningThreshold,
@@ -18,6 +18,7 @@ package com.swirlds.virtualmap.datasource;
 
 import com.swirlds.common.io.SelfSerializable;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
 import java.nio.file.Path;
 
 /**
@@ -104,4 +105,49 @@ public interface VirtualDataSourceBuilder extends SelfSerializable {
      */
     @NonNull
     VirtualDataSource restore(String label, Path source);
+
+    /**
+     * Indicates whether data source snapshots created by this builder may be sent to another node as
+     * files, and restored there with {@link #restoreTransferred(String, Path)}. This is used by bulk
+     * virtual map reconnects.
+     *
+     * @return true if data source files can be transferred, false otherwise
+     */
+    default boolean supportsFileTransfer() {
+        return false;
+    }
+
+    /**
+     * Creates a new empty directory to snapshot a data source into, or to receive data source files
+     * into, when data source files are transferred between nodes.
+     *
+     * @return the new directory
+     * @throws IOException if the directory can't be created
+     * @throws UnsupportedOperationException if {@link #supportsFileTransfer()} is false
+     */
+    @NonNull
+    default Path createTransferDirectory() throws IOException {
+        throw new UnsupportedOperationException("Data source file transfer is not supported");
+    }
+
+    /**
+     * Builds a new {@link VirtualDataSource} from data source files received from another node. Unlike
+     * {@link #restore(String, Path)}, the new data source doesn't replace the data sources that already
+     * exist in this builder's database, and becomes the active data source for the given label.
+     *
+     * <p>This method is used by the learner in bulk virtual map reconnects.
+     *
+     * @param label
+     * 		The label. Cannot be null. This label must be posix compliant
+     * @param source
+     * 		The directory the files were received into, as created by {@link #snapshot(Path, VirtualDataSource)}
+     * 		on the other node. Cannot be null
+     * @return
+     * 		An opened {@link VirtualDataSource}
+     * @throws UnsupportedOperationException if {@link #supportsFileTransfer()} is false
+     */
+    @NonNull
+    default VirtualDataSource restoreTransferred(final String label, final Path source) {
+        throw new UnsupportedOperationException("Data source file transfer is not supported");
+    }
 }
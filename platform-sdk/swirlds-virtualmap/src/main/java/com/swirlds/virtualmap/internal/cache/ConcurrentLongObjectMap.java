@@ -0,0 +1,317 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.virtualmap.internal.cache;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * A concurrent map from non-negative {@code long} keys to objects, optimized for use by the
+ * {@link VirtualNodeCache} path indices.
+ * <p>
+ * A {@code ConcurrentHashMap<Long, V>} allocates a {@code Long} key and a map node for every mapping. The
+ * cache indices get millions of mappings every round, which become garbage a few rounds later, when copies
+ * are merged and flushed. This class stores keys and values in plain {@code long} and {@code Object} arrays
+ * instead, using open addressing with linear probing, so mappings don't allocate anything unless a table
+ * is resized.
+ * <p>
+ * The map is split into a fixed number of segments by key hash. Every segment has its own table and its
+ * own lock. Updates lock the segment for writing. Reads are optimistic: they don't lock the segment unless
+ * it's updated concurrently. Like {@link java.util.concurrent.ConcurrentHashMap#compute}, remapping functions
+ * run while the segment is locked, so they must be short and must not update this map.
+ *
+ * @param <V>
+ * 		the value type
+ */
+final class ConcurrentLongObjectMap<V> {
+
+    /**
+     * The number of segments is {@code 2 ^ SEGMENT_BITS}.
+     */
+    private static final int SEGMENT_BITS = 6;
+
+    private static final int SEGMENT_COUNT = 1 << SEGMENT_BITS;
+
+    /**
+     * The initial number of slots in every segment table. Must be a power of two.
+     */
+    private static final int INITIAL_SEGMENT_CAPACITY = 16;
+
+    /**
+     * Marks empty slots in segment tables. Keys must not be negative.
+     */
+    private static final long EMPTY = -1;
+
+    /**
+     * Keys and values of a single segment. They are replaced together when the segment is resized, so
+     * optimistic readers always see arrays of the same length.
+     */
+    private static final class Table {
+        private final long[] keys;
+        private final Object[] values;
+
+        private Table(final int capacity) {
+            keys = new long[capacity];
+            Arrays.fill(keys, EMPTY);
+            values = new Object[capacity];
+        }
+    }
+
+    private static final class Segment {
+        private final StampedLock lock = new StampedLock();
+        // Written only under the write lock
+        private Table table = new Table(INITIAL_SEGMENT_CAPACITY);
+        private volatile int size = 0;
+    }
+
+    private final Segment[] segments = new Segment[SEGMENT_COUNT];
+
+    /**
+     * Create a new, empty map.
+     */
+    ConcurrentLongObjectMap() {
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment();
+        }
+    }
+
+    private static long spread(final long key) {
+        return key * 0x9E3779B97F4A7C15L;
+    }
+
+    private Segment segmentFor(final long hash) {
+        return segments[(int) (hash >>> (Long.SIZE - SEGMENT_BITS))];
+    }
+
+    private static int slotFor(final long hash, final int mask) {
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private static void checkKey(final long key) {
+        if (key < 0) {
+            throw new IllegalArgumentException("Negative keys are not supported: " + key);
+        }
+    }
+
+    /**
+     * Find the slot of a key in a table. During optimistic reads, the table may be modified concurrently,
+     * so the search is bounded by the table length.
+     *
+     * @return the slot, or -1 if the key isn't found
+     */
+    private static int find(final Table table, final long key, final long hash) {
+        final long[] keys = table.keys;
+        final int mask = keys.length - 1;
+        int slot = slotFor(hash, mask);
+        for (int i = 0; i < keys.length; i++) {
+            final long k = keys[slot];
+            if (k == key) {
+                return slot;
+            }
+            if (k == EMPTY) {
+                return -1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Get the value mapped to a key.
+     *
+     * @param key
+     * 		the key
+     * @return the value, or null if the key isn't mapped
+     */
+    @SuppressWarnings("unchecked")
+    V get(final long key) {
+        if (key < 0) {
+            return null;
+        }
+        final long hash = spread(key);
+        final Segment segment = segmentFor(hash);
+        final StampedLock lock = segment.lock;
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            final Table table = segment.table;
+            final int slot = find(table, key, hash);
+            final Object value = slot >= 0 ? table.values[slot] : null;
+            if (lock.validate(stamp)) {
+                return (V) value;
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            final Table table = segment.table;
+            final int slot = find(table, key, hash);
+            return slot >= 0 ? (V) table.values[slot] : null;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Map a key to a value.
+     *
+     * @param key
+     * 		the key, must not be negative
+     * @param value
+     * 		the value, must not be null
+     */
+    void put(final long key, final V value) {
+        Objects.requireNonNull(value, "Null values are not supported");
+        compute(key, v -> value);
+    }
+
+    /**
+     * Compute a new value for a key from its current value. If the function returns null, the key
+     * is removed from the map. The function is called while the key's segment is locked.
+     *
+     * @param key
+     * 		the key, must not be negative
+     * @param remappingFunction
+     * 		the function to compute a new value from the current value, or from null if the key
+     * 		isn't mapped
+     * @return the new value, or null if the key is removed
+     */
+    @SuppressWarnings("unchecked")
+    V compute(final long key, final UnaryOperator<V> remappingFunction) {
+        checkKey(key);
+        final long hash = spread(key);
+        final Segment segment = segmentFor(hash);
+        final long stamp = segment.lock.writeLock();
+        try {
+            Table table = segment.table;
+            final int slot = find(table, key, hash);
+            final V oldValue = slot >= 0 ? (V) table.values[slot] : null;
+            final V newValue = remappingFunction.apply(oldValue);
+            if (slot >= 0) {
+                if (newValue != null) {
+                    table.values[slot] = newValue;
+                } else {
+                    remove(segment, table, slot);
+                }
+            } else if (newValue != null) {
+                // Keep the load factor at 2/3 or below
+                if ((segment.size + 1) * 3 > table.keys.length * 2) {
+                    table = resize(segment, table.keys.length * 2);
+                }
+                insert(table, key, hash, newValue);
+                segment.size++;
+            }
+            return newValue;
+        } finally {
+            segment.lock.unlockWrite(stamp);
+        }
+    }
+
+    private static void insert(final Table table, final long key, final long hash, final Object value) {
+        final long[] keys = table.keys;
+        final int mask = keys.length - 1;
+        int slot = slotFor(hash, mask);
+        while (keys[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        table.values[slot] = value;
+        keys[slot] = key;
+    }
+
+    private static Table resize(final Segment segment, final int capacity) {
+        final Table oldTable = segment.table;
+        final Table newTable = new Table(capacity);
+        for (int i = 0; i < oldTable.keys.length; i++) {
+            final long key = oldTable.keys[i];
+            if (key != EMPTY) {
+                insert(newTable, key, spread(key), oldTable.values[i]);
+            }
+        }
+        segment.table = newTable;
+        return newTable;
+    }
+
+    /**
+     * Remove a mapping from a table. Mappings after the removed one are shifted back, so that every
+     * key stays reachable from its home slot without gaps.
+     */
+    @SuppressWarnings("NonAtomicOperationOnVolatileField")
+    private static void remove(final Segment segment, final Table table, final int slot) {
+        final long[] keys = table.keys;
+        final Object[] values = table.values;
+        final int mask = keys.length - 1;
+        int gap = slot;
+        int next = slot;
+        while (true) {
+            next = (next + 1) & mask;
+            final long key = keys[next];
+            if (key == EMPTY) {
+                break;
+            }
+            final int home = slotFor(spread(key), mask);
+            // The key can be moved to the gap, unless its home slot is between the gap and its slot
+            final boolean homeInRange =
+                    (gap <= next) ? ((gap < home) && (home <= next)) : ((gap < home) || (home <= next));
+            if (!homeInRange) {
+                keys[gap] = key;
+                values[gap] = values[next];
+                gap = next;
+            }
+        }
+        keys[gap] = EMPTY;
+        values[gap] = null;
+        segment.size--;
+    }
+
+    /**
+     * Get the number of mappings. If the map is updated concurrently, the result is approximate.
+     *
+     * @return the number of mappings
+     */
+    int size() {
+        int size = 0;
+        for (final Segment segment : segments) {
+            size += segment.size;
+        }
+        return size;
+    }
+
+    /**
+     * Call an action for every value in the map. Every segment is locked for reading while its values are
+     * visited, so the action must not update this map.
+     *
+     * @param action
+     * 		the action
+     */
+    @SuppressWarnings("unchecked")
+    void forEachValue(final Consumer<? super V> action) {
+        for (final Segment segment : segments) {
+            final long stamp = segment.lock.readLock();
+            try {
+                final Table table = segment.table;
+                for (int i = 0; i < table.keys.length; i++) {
+                    if (table.keys[i] != EMPTY) {
+                        action.accept((V) table.values[i]);
+                    }
+                }
+            } finally {
+                segment.lock.unlockRead(stamp);
+            }
+        }
+    }
+}
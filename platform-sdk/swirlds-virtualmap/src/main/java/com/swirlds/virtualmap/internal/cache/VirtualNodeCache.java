@@ -40,7 +40,9 @@ import com.swirlds.virtualmap.datasource.VirtualHashRecord;
 import com.swirlds.virtualmap.datasource.VirtualLeafRecord;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
@@ -52,6 +54,7 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -224,18 +227,20 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
     private final Map<K, Mutation<K, VirtualLeafRecord<K, V>>> keyToDirtyLeafIndex;
 
     /**
-     * A shared index of paths to leaves, via {@link Mutation}s. Works the same as {@link #keyToDirtyLeafIndex}.
+     * A shared index of paths to leaves, via {@link Mutation}s. Works the same as {@link #keyToDirtyLeafIndex},
+     * but doesn't box paths.
      * <p>
      * <strong>ONE PER CHAIN OF CACHES</strong>.
      */
-    private final Map<Long, Mutation<Long, K>> pathToDirtyLeafIndex;
+    private final ConcurrentLongObjectMap<Mutation<Long, K>> pathToDirtyLeafIndex;
 
     /**
-     * A shared index of paths to internals, via {@link Mutation}s. Works the same as {@link #keyToDirtyLeafIndex}.
+     * A shared index of paths to internals, via {@link Mutation}s. Works the same as {@link #keyToDirtyLeafIndex},
+     * but doesn't box paths.
      * <p>
      * <strong>ONE PER CHAIN OF CACHES</strong>.
      */
-    private final Map<Long, Mutation<Long, Hash>> pathToDirtyHashIndex;
+    private final ConcurrentLongObjectMap<Mutation<Long, Hash>> pathToDirtyHashIndex;
 
     /**
      * Whether this instance is released. A released cache is often the last in the
@@ -283,7 +288,7 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
     private volatile ConcurrentArray<Mutation<K, VirtualLeafRecord<K, V>>> dirtyLeaves = new ConcurrentArray<>();
 
     /**
-     * When the cache is filtered using {@link #filterMutations(ConcurrentArray, Map, long, long, AtomicLong, VirtualMapConfig)},
+     * When the cache is filtered using {@link #filterMutations(ConcurrentArray, MutationIndex, long, long, AtomicLong, VirtualMapConfig)},
      * this field stores the number of filtered mutations in {@link #dirtyLeaves}. This number
      * affects cache's estimated size.
      */
@@ -300,7 +305,7 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
     private volatile ConcurrentArray<Mutation<Long, K>> dirtyLeafPaths = new ConcurrentArray<>();
 
     /**
-     * When the cache is filtered using {@link #filterMutations(ConcurrentArray, Map, long, long, AtomicLong, VirtualMapConfig)},
+     * When the cache is filtered using {@link #filterMutations(ConcurrentArray, MutationIndex, long, long, AtomicLong, VirtualMapConfig)},
      * this field stores the number of filtered mutations in {@link #dirtyLeafPaths}. This number
      * affects cache's estimated size.
      */
@@ -317,7 +322,7 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
     private volatile ConcurrentArray<Mutation<Long, Hash>> dirtyHashes = new ConcurrentArray<>();
 
     /**
-     * When the cache is filtered using {@link #filterMutations(ConcurrentArray, Map, long, long, AtomicLong, VirtualMapConfig)},
+     * When the cache is filtered using {@link #filterMutations(ConcurrentArray, MutationIndex, long, long, AtomicLong, VirtualMapConfig)},
      * this field stores the number of filtered mutations in {@link #dirtyHashes}. This number
      * affects cache's estimated size.
      */
@@ -377,8 +382,8 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
      */
     public VirtualNodeCache(final @NonNull VirtualMapConfig virtualMapConfig, long fastCopyVersion) {
         this.keyToDirtyLeafIndex = new ConcurrentHashMap<>();
-        this.pathToDirtyLeafIndex = new ConcurrentHashMap<>();
-        this.pathToDirtyHashIndex = new ConcurrentHashMap<>();
+        this.pathToDirtyLeafIndex = new ConcurrentLongObjectMap<>();
+        this.pathToDirtyHashIndex = new ConcurrentLongObjectMap<>();
         this.releaseLock = new ReentrantLock();
         this.lastReleased = new AtomicLong(-1L);
         this.fastCopyVersion.set(fastCopyVersion);
@@ -494,9 +499,9 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
         // Fire off the cleaning threads to go and clear out data in the indexes that doesn't need
         // to be there anymore.
         getCleaningPool(virtualMapConfig).execute(() -> {
-            purge(dirtyLeaves, keyToDirtyLeafIndex, virtualMapConfig);
-            purge(dirtyLeafPaths, pathToDirtyLeafIndex, virtualMapConfig);
-            purge(dirtyHashes, pathToDirtyHashIndex, virtualMapConfig);
+            purge(dirtyLeaves, index(keyToDirtyLeafIndex), virtualMapConfig);
+            purge(dirtyLeafPaths, index(pathToDirtyLeafIndex), virtualMapConfig);
+            purge(dirtyHashes, index(pathToDirtyHashIndex), virtualMapConfig);
 
             dirtyLeaves = null;
             dirtyLeafPaths = null;
@@ -1100,16 +1105,26 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
         final long version = getFastCopyVersion();
         final long lastReleasedVersion = lastReleased.get();
         filterMutations(
-                dirtyHashes, pathToDirtyHashIndex, version, lastReleasedVersion, filteredHashesCount, virtualMapConfig);
+                dirtyHashes,
+                index(pathToDirtyHashIndex),
+                version,
+                lastReleasedVersion,
+                filteredHashesCount,
+                virtualMapConfig);
         filterMutations(
                 dirtyLeafPaths,
-                pathToDirtyLeafIndex,
+                index(pathToDirtyLeafIndex),
                 version,
                 lastReleasedVersion,
                 filteredLeafPathsCount,
                 virtualMapConfig);
         filterMutations(
-                dirtyLeaves, keyToDirtyLeafIndex, version, lastReleasedVersion, filteredLeavesCount, virtualMapConfig);
+                dirtyLeaves,
+                index(keyToDirtyLeafIndex),
+                version,
+                lastReleasedVersion,
+                filteredLeavesCount,
+                virtualMapConfig);
     }
 
     /**
@@ -1215,10 +1230,15 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
         synchronized (lastReleased) {
             final VirtualNodeCache<K, V> newSnapshot = new VirtualNodeCache<>(virtualMapConfig);
             setMapSnapshotAndArray(
-                    this.pathToDirtyHashIndex, newSnapshot.pathToDirtyHashIndex, newSnapshot.dirtyHashes);
+                    index(this.pathToDirtyHashIndex),
+                    index(newSnapshot.pathToDirtyHashIndex),
+                    newSnapshot.dirtyHashes);
             setMapSnapshotAndArray(
-                    this.pathToDirtyLeafIndex, newSnapshot.pathToDirtyLeafIndex, newSnapshot.dirtyLeafPaths);
-            setMapSnapshotAndArray(this.keyToDirtyLeafIndex, newSnapshot.keyToDirtyLeafIndex, newSnapshot.dirtyLeaves);
+                    index(this.pathToDirtyLeafIndex),
+                    index(newSnapshot.pathToDirtyLeafIndex),
+                    newSnapshot.dirtyLeafPaths);
+            setMapSnapshotAndArray(
+                    index(this.keyToDirtyLeafIndex), index(newSnapshot.keyToDirtyLeafIndex), newSnapshot.dirtyLeaves);
             newSnapshot.snapshot.set(true);
             newSnapshot.fastCopyVersion.set(this.fastCopyVersion.get());
             newSnapshot.seal();
@@ -1310,9 +1330,9 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
     private <V1> void updatePaths(
             final V1 value,
             final long path,
-            final Map<Long, Mutation<Long, V1>> index,
+            final ConcurrentLongObjectMap<Mutation<Long, V1>> index,
             final ConcurrentArray<Mutation<Long, V1>> dirtyPaths) {
-        index.compute(path, (key, mutation) -> {
+        index.compute(path, mutation -> {
             // If there is no mutation or the mutation isn't for this version, then we need to create a new mutation.
             // Note that this code DEPENDS on hashing only a single round at a time. VirtualPipeline
             // enforces this constraint.
@@ -1436,13 +1456,13 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
      */
     private static <K, V> void purge(
             final ConcurrentArray<Mutation<K, V>> array,
-            final Map<K, Mutation<K, V>> index,
+            final MutationIndex<K, V> index,
             @NonNull final VirtualMapConfig virtualMapConfig) {
         array.parallelTraverse(getCleaningPool(virtualMapConfig), element -> {
             if (element.isFiltered()) {
                 return;
             }
-            index.compute(element.key, (key, mutation) -> {
+            index.compute(element.key, mutation -> {
                 if (mutation == null || element.equals(mutation)) {
                     // Already removed for a more recent mutation
                     return null;
@@ -1482,7 +1502,7 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
      */
     private static <K, V> void filterMutations(
             final ConcurrentArray<Mutation<K, V>> array,
-            final Map<K, Mutation<K, V>> index,
+            final MutationIndex<K, V> index,
             final long newestVersion,
             final long lastReleasedVersion,
             final AtomicLong filteredCounter,
@@ -1529,7 +1549,7 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
                 // newer mutations, the whole entry for the key can be removed from the index.
                 // It's safe to do so here, as there are no references to copies older than
                 // newestVersion and there are no mutations in versions newer than newestVersion
-                index.compute(mutation.key, (k, v) -> {
+                index.compute(mutation.key, v -> {
                     assert v != null;
                     if (v == latestMutationUpToVersion) {
                         return null;
@@ -1571,34 +1591,34 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
      * </ul>
      *
      * @param src
-     * 		Map that contains the original mutations
+     * 		Index that contains the original mutations
      * @param dst
-     * 		Map that acts as the destination of mutations
+     * 		Index that acts as the destination of mutations
      * @param <K2>
      * 		Key type
      * @param <L2>
      * 		Value type
      */
     private <K2, L2> void setMapSnapshotAndArray(
-            final Map<K2, Mutation<K2, L2>> src,
-            final Map<K2, Mutation<K2, L2>> dst,
+            final MutationIndex<K2, L2> src,
+            final MutationIndex<K2, L2> dst,
             final ConcurrentArray<Mutation<K2, L2>> array) {
         final long accepted = fastCopyVersion.get();
         final long rejected = lastReleased.get();
-        for (final Map.Entry<K2, Mutation<K2, L2>> entry : src.entrySet()) {
-            Mutation<K2, L2> mutation = entry.getValue();
+        src.forEachValue(head -> {
+            Mutation<K2, L2> mutation = head;
 
             while (mutation != null && mutation.version > accepted) {
                 mutation = mutation.next;
             }
 
             if (mutation == null || mutation.version <= rejected) {
-                continue;
+                return;
             }
 
-            dst.put(entry.getKey(), mutation);
+            dst.put(mutation.key, mutation);
             array.add(mutation);
-        }
+        });
     }
 
     /**
@@ -1612,13 +1632,15 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
      * 		If something fails.
      */
     private void serializePathToDirtyHashIndex(
-            final Map<Long, Mutation<Long, Hash>> map, final SerializableDataOutputStream out) throws IOException {
+            final ConcurrentLongObjectMap<Mutation<Long, Hash>> map, final SerializableDataOutputStream out)
+            throws IOException {
         assert snapshot.get() : "Only snapshots can be serialized";
-        out.writeInt(map.size());
-        for (final Map.Entry<Long, Mutation<Long, Hash>> entry : map.entrySet()) {
-            out.writeLong(entry.getKey());
-            final Mutation<Long, Hash> mutation = entry.getValue();
+        final List<Mutation<Long, Hash>> mutations = new ArrayList<>(map.size());
+        map.forEachValue(mutations::add);
+        out.writeInt(mutations.size());
+        for (final Mutation<Long, Hash> mutation : mutations) {
             assert mutation != null : "Mutations cannot be null in a snapshot";
+            out.writeLong(mutation.key);
             assert mutation.version <= this.fastCopyVersion.get()
                     : "Trying to serialize pathToDirtyInternalIndex with a version ahead";
             out.writeLong(mutation.version);
@@ -1640,7 +1662,9 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
      * 		In case of trouble.
      */
     private void deserializePathToDirtyHashIndex(
-            final Map<Long, Mutation<Long, Hash>> map, final SerializableDataInputStream in, final int version)
+            final ConcurrentLongObjectMap<Mutation<Long, Hash>> map,
+            final SerializableDataInputStream in,
+            final int version)
             throws IOException {
         final int sizeOfMap = in.readInt();
         for (int index = 0; index < sizeOfMap; index++) {
@@ -1678,13 +1702,15 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
      * 		If something fails.
      */
     private void serializePathToDirtyLeafIndex(
-            final Map<Long, Mutation<Long, K>> map, final SerializableDataOutputStream out) throws IOException {
+            final ConcurrentLongObjectMap<Mutation<Long, K>> map, final SerializableDataOutputStream out)
+            throws IOException {
         assert snapshot.get() : "Only snapshots can be serialized";
-        out.writeInt(map.size());
-        for (final Map.Entry<Long, Mutation<Long, K>> entry : map.entrySet()) {
-            out.writeLong(entry.getKey());
-            final Mutation<Long, K> mutation = entry.getValue();
+        final List<Mutation<Long, K>> mutations = new ArrayList<>(map.size());
+        map.forEachValue(mutations::add);
+        out.writeInt(mutations.size());
+        for (final Mutation<Long, K> mutation : mutations) {
             assert mutation != null : "Mutations cannot be null in a snapshot";
+            out.writeLong(mutation.key);
             assert mutation.version <= this.fastCopyVersion.get()
                     : "Trying to serialize pathToDirtyLeafIndex with a version ahead";
 
@@ -1705,10 +1731,11 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
      * 		In case of trouble.
      */
     private void deserializePathToDirtyLeafIndex(
-            final Map<Long, Mutation<Long, K>> map, final SerializableDataInputStream in) throws IOException {
+            final ConcurrentLongObjectMap<Mutation<Long, K>> map, final SerializableDataInputStream in)
+            throws IOException {
         final int sizeOfMap = in.readInt();
         for (int index = 0; index < sizeOfMap; index++) {
-            final Long path = in.readLong();
+            final long path = in.readLong();
             final K key = in.readSerializable();
             final long mutationVersion = in.readLong();
             final boolean deleted = in.readBoolean();
@@ -1798,6 +1825,73 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
         }
     }
 
+    /**
+     * An index of mutation lists by key, where every list is referenced by its newest mutation. Leaf
+     * mutations are indexed by leaf key in a {@link ConcurrentHashMap}, while path mutations are indexed
+     * in {@link ConcurrentLongObjectMap}s. This interface lets the code that works with all indices, such
+     * as purging and filtering mutations, use either of them.
+     *
+     * @param <K> The key type used in the index
+     * @param <V> The value type referenced by the mutation lists
+     */
+    private interface MutationIndex<K, V> {
+        Mutation<K, V> get(K key);
+
+        void compute(K key, UnaryOperator<Mutation<K, V>> remappingFunction);
+
+        void put(K key, Mutation<K, V> mutation);
+
+        void forEachValue(Consumer<Mutation<K, V>> action);
+    }
+
+    private static <K, V> MutationIndex<K, V> index(final Map<K, Mutation<K, V>> map) {
+        return new MutationIndex<>() {
+            @Override
+            public Mutation<K, V> get(final K key) {
+                return map.get(key);
+            }
+
+            @Override
+            public void compute(final K key, final UnaryOperator<Mutation<K, V>> remappingFunction) {
+                map.compute(key, (k, mutation) -> remappingFunction.apply(mutation));
+            }
+
+            @Override
+            public void put(final K key, final Mutation<K, V> mutation) {
+                map.put(key, mutation);
+            }
+
+            @Override
+            public void forEachValue(final Consumer<Mutation<K, V>> action) {
+                map.values().forEach(action);
+            }
+        };
+    }
+
+    private static <V> MutationIndex<Long, V> index(final ConcurrentLongObjectMap<Mutation<Long, V>> map) {
+        return new MutationIndex<>() {
+            @Override
+            public Mutation<Long, V> get(final Long path) {
+                return map.get(path);
+            }
+
+            @Override
+            public void compute(final Long path, final UnaryOperator<Mutation<Long, V>> remappingFunction) {
+                map.compute(path, remappingFunction);
+            }
+
+            @Override
+            public void put(final Long path, final Mutation<Long, V> mutation) {
+                map.put(path, mutation);
+            }
+
+            @Override
+            public void forEachValue(final Consumer<Mutation<Long, V>> action) {
+                map.forEachValue(action);
+            }
+        };
+    }
+
     /**
      * A mutation. Mutations are linked together within the mutation list. Each mutation
      * has a pointer to the next oldest mutation in the list.
@@ -1882,16 +1976,11 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
         builder.append("VirtualNodeCache ").append(this).append("\n");
         builder.append("===================================\n");
         builder.append(toDebugStringChain()).append("\n");
-        //noinspection unchecked
-        builder.append(toDebugStringIndex("keyToDirtyLeafIndex", (Map<Object, Mutation>) (Object) keyToDirtyLeafIndex))
+        builder.append(toDebugStringIndex("keyToDirtyLeafIndex", index(keyToDirtyLeafIndex)))
                 .append("\n");
-        //noinspection unchecked
-        builder.append(toDebugStringIndex(
-                        "pathToDirtyLeafIndex", (Map<Object, Mutation>) (Object) pathToDirtyLeafIndex))
+        builder.append(toDebugStringIndex("pathToDirtyLeafIndex", index(pathToDirtyLeafIndex)))
                 .append("\n");
-        //noinspection unchecked
-        builder.append(toDebugStringIndex(
-                        "pathToDirtyHashIndex", (Map<Object, Mutation>) (Object) pathToDirtyHashIndex))
+        builder.append(toDebugStringIndex("pathToDirtyHashIndex", index(pathToDirtyHashIndex)))
                 .append("\n");
         //noinspection unchecked
         builder.append(toDebugStringArray("dirtyLeaves", (ConcurrentArray<Mutation>) (Object) dirtyLeaves));
@@ -1924,13 +2013,13 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
         return builder.toString();
     }
 
-    private String toDebugStringIndex(
-            final String indexName, @SuppressWarnings("rawtypes") final Map<Object, Mutation> index) {
+    private String toDebugStringIndex(final String indexName, final MutationIndex<?, ?> index) {
         final StringBuilder builder = new StringBuilder();
         builder.append(indexName).append(":\n");
 
-        index.forEach((key, mutation) -> {
-            builder.append("\t").append(key).append(":==> ");
+        index.forEachValue(head -> {
+            builder.append("\t").append(head.key).append(":==> ");
+            Mutation<?, ?> mutation = head;
             while (mutation != null) {
                 builder.append("[")
                         .append(mutation.key)
@@ -0,0 +1,166 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.virtualmap.internal.hash;
+
+import static com.swirlds.logging.legacy.LogMarker.VIRTUAL_MERKLE_STATS;
+import static java.util.Objects.requireNonNull;
+
+import com.swirlds.common.crypto.CryptographyHolder;
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.virtualmap.VirtualKey;
+import com.swirlds.virtualmap.VirtualValue;
+import com.swirlds.virtualmap.config.VirtualMapConfig;
+import com.swirlds.virtualmap.datasource.VirtualLeafRecord;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Hashes leaves of a single mutable virtual map copy in the background, on the {@link VirtualHasher}
+ * thread pool, as they are put to the copy's cache. When the copy is made immutable and hashed, the
+ * hasher looks up leaf hashes here with {@link #getLeafHash(VirtualLeafRecord)}, and only hashes leaves
+ * that aren't hashed yet, or were changed after they were hashed.
+ *
+ * <p>A leaf hash depends on the leaf path, key, and value. Paths change when leaves are moved, and
+ * values are replaced, so every leaf hash is stored along with the path and the value it was computed
+ * for, and is only used if the leaf still has the same path and the same value object. Values obtained
+ * for modification may change in place, which can't be detected, so once a key is obtained for
+ * modification, its leaf isn't hashed in the background anymore.
+ *
+ * <p>All methods but {@link #getLeafHash(VirtualLeafRecord)} must be called on the thread that
+ * modifies the copy.
+ *
+ * @param <K>
+ * 		The {@link VirtualKey} type
+ * @param <V>
+ * 		The {@link VirtualValue} type
+ */
+public final class IncrementalLeafHasher<K extends VirtualKey, V extends VirtualValue> {
+
+    private static final Logger logger = LogManager.getLogger(IncrementalLeafHasher.class);
+
+    /**
+     * A leaf hash computed in the background. Hash is null until computed, or if hashing failed.
+     */
+    private static final class LeafHash<V> {
+        private final long path;
+        private final V value;
+        private volatile Hash hash;
+
+        private LeafHash(final long path, final V value) {
+            this.path = path;
+            this.value = value;
+        }
+    }
+
+    private final ForkJoinPool pool;
+
+    /**
+     * The latest leaf hash for every key put to the copy, unless the key is obtained for modification.
+     */
+    private final Map<K, LeafHash<V>> leafHashes = new ConcurrentHashMap<>();
+
+    /**
+     * Keys obtained for modification. Their leaves are never hashed in the background.
+     */
+    private final Set<K> modifiableKeys = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean closed = false;
+
+    /**
+     * Create a new incremental leaf hasher.
+     *
+     * @param virtualMapConfig
+     * 		virtual map config, used to get the hashing thread pool
+     */
+    public IncrementalLeafHasher(@NonNull final VirtualMapConfig virtualMapConfig) {
+        this.pool = VirtualHasher.getHashingPool(requireNonNull(virtualMapConfig));
+    }
+
+    /**
+     * Called when a leaf is put to the copy, or moved to a different path. Schedules the leaf to be
+     * hashed in the background, unless its value may be modified in place.
+     *
+     * @param leaf
+     * 		the leaf
+     */
+    public void onLeafPut(@NonNull final VirtualLeafRecord<K, V> leaf) {
+        final K key = leaf.getKey();
+        if (closed || modifiableKeys.contains(key)) {
+            return;
+        }
+        // The leaf record itself may be moved to a different path while it's being hashed
+        final LeafHash<V> leafHash = new LeafHash<>(leaf.getPath(), leaf.getValue());
+        leafHashes.put(key, leafHash);
+        pool.execute(() -> hashLeaf(key, leafHash));
+    }
+
+    /**
+     * Called when a leaf value is obtained for modification. The value may be modified in place at
+     * any time later, so the leaf is not hashed in the background anymore.
+     *
+     * @param key
+     * 		the leaf key
+     */
+    public void onLeafModifiable(@NonNull final K key) {
+        modifiableKeys.add(key);
+        leafHashes.remove(key);
+    }
+
+    private void hashLeaf(final K key, final LeafHash<V> leafHash) {
+        // Skip leaves that changed again before this task started
+        if (closed || (leafHashes.get(key) != leafHash)) {
+            return;
+        }
+        try {
+            final VirtualLeafRecord<K, V> snapshot = new VirtualLeafRecord<>(leafHash.path, key, leafHash.value);
+            leafHash.hash = CryptographyHolder.get().digestSync(snapshot);
+        } catch (final RuntimeException e) {
+            // The leaf will be hashed when the copy is hashed
+            logger.debug(VIRTUAL_MERKLE_STATS.getMarker(), "Failed to hash a leaf in the background", e);
+        }
+    }
+
+    /**
+     * Get the hash of a leaf computed in the background, if the leaf hasn't changed since then.
+     *
+     * @param leaf
+     * 		the leaf
+     * @return the leaf hash, or null if the leaf isn't hashed yet, or has changed
+     */
+    public @Nullable Hash getLeafHash(@NonNull final VirtualLeafRecord<K, V> leaf) {
+        final LeafHash<V> leafHash = leafHashes.get(leaf.getKey());
+        if ((leafHash == null) || (leafHash.path != leaf.getPath()) || (leafHash.value != leaf.getValue())) {
+            return null;
+        }
+        return leafHash.hash;
+    }
+
+    /**
+     * Stop hashing leaves in the background, and release all leaf hashes. Called once the copy is hashed.
+     */
+    public void close() {
+        closed = true;
+        leafHashes.clear();
+        modifiableKeys.clear();
+    }
+}
@@ -25,6 +25,7 @@ import com.swirlds.common.crypto.Cryptography;
 import com.swirlds.common.crypto.CryptographyHolder;
 import com.swirlds.common.crypto.Hash;
 import com.swirlds.common.crypto.HashBuilder;
+import com.swirlds.common.crypto.ReusableDigests;
 import com.swirlds.common.wiring.tasks.AbstractTask;
 import com.swirlds.virtualmap.VirtualKey;
 import com.swirlds.virtualmap.VirtualMap;
@@ -41,6 +42,7 @@ import java.util.Iterator;
 import java.util.Objects;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 import java.util.function.LongFunction;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -63,18 +65,18 @@ public final class VirtualHasher<K extends VirtualKey, V extends VirtualValue> {
      */
     private static final Logger logger = LogManager.getLogger(VirtualHasher.class);
 
-    /**
-     * This thread-local gets a HashBuilder that can be used for hashing on a per-thread basis.
-     */
-    private static final ThreadLocal<HashBuilder> HASH_BUILDER_THREAD_LOCAL =
-            ThreadLocal.withInitial(() -> new HashBuilder(Cryptography.DEFAULT_DIGEST_TYPE));
-
     /**
      * A function to look up clean hashes by path during hashing. This function is stored in
      * a class field to avoid passing it as an arg to every hashing task.
      */
     private LongFunction<Hash> hashReader;
 
+    /**
+     * A function to look up leaf hashes computed in advance, see {@link IncrementalLeafHasher}. May be null.
+     * This function is stored in a class field to avoid passing it as an arg to every hashing task.
+     */
+    private Function<VirtualLeafRecord<K, V>, Hash> leafHashReader;
+
     /**
      * A listener to notify about hashing events. This listener is stored in a class field to
      * avoid passing it as an arg to every hashing task.
@@ -105,7 +107,7 @@ public final class VirtualHasher<K extends VirtualKey, V extends VirtualValue> {
      * Consequently, the hashing pool will be initialized using the configuration provided
      * with the first call of the hash method. Subsequent calls will reuse the same pool.
      */
-    private static ForkJoinPool getHashingPool(final @NonNull VirtualMapConfig virtualMapConfig) {
+    static ForkJoinPool getHashingPool(final @NonNull VirtualMapConfig virtualMapConfig) {
         requireNonNull(virtualMapConfig);
 
         ForkJoinPool pool = hashingPool;
@@ -226,7 +228,8 @@ public final class VirtualHasher<K extends VirtualKey, V extends VirtualValue> {
             try {
                 final Hash hash;
                 if (leaf != null) {
-                    hash = cryptography.digestSync(leaf);
+                    final Hash precomputed = leafHashReader != null ? leafHashReader.apply(leaf) : null;
+                    hash = precomputed != null ? precomputed : cryptography.digestSync(leaf);
                     listener.onLeafHashed(leaf);
                     listener.onNodeHashed(path, hash);
                 } else {
@@ -268,8 +271,7 @@ public final class VirtualHasher<K extends VirtualKey, V extends VirtualValue> {
             final int serId = path == ROOT_PATH
                     ? VirtualRootNode.ClassVersion.CURRENT_VERSION
                     : VirtualInternalNode.SERIALIZATION_VERSION;
-            final HashBuilder builder = HASH_BUILDER_THREAD_LOCAL.get();
-            builder.reset();
+            final HashBuilder builder = ReusableDigests.hashBuilderFor(Cryptography.DEFAULT_DIGEST_TYPE);
             builder.update(classId);
             builder.update(serId);
             builder.update(left);
@@ -304,6 +306,29 @@ public final class VirtualHasher<K extends VirtualKey, V extends VirtualValue> {
             final Iterator<VirtualLeafRecord<K, V>> sortedDirtyLeaves,
             final long firstLeafPath,
             final long lastLeafPath,
+            final VirtualHashListener<K, V> listener,
+            final @NonNull VirtualMapConfig virtualMapConfig) {
+        return hash(hashReader, null, sortedDirtyLeaves, firstLeafPath, lastLeafPath, listener, virtualMapConfig);
+    }
+
+    /**
+     * Same as {@link #hash(LongFunction, Iterator, long, long, VirtualHashListener, VirtualMapConfig)}, but
+     * leaf hashes are first looked up using the given function. Leaves it returns null for are hashed as usual.
+     *
+     * @param hashReader A function to read hashes for clean paths
+     * @param leafHashReader A function to read hashes of dirty leaves computed in advance. May be null
+     * @param sortedDirtyLeaves A stream of leaf records, sorted by path
+     * @param firstLeafPath First leaf path
+     * @param lastLeafPath Last leaf path
+     * @param listener Hash listener. May be null
+     * @param virtualMapConfig VirtualMap config
+     */
+    public Hash hash(
+            final LongFunction<Hash> hashReader,
+            final Function<VirtualLeafRecord<K, V>, Hash> leafHashReader,
+            final Iterator<VirtualLeafRecord<K, V>> sortedDirtyLeaves,
+            final long firstLeafPath,
+            final long lastLeafPath,
             VirtualHashListener<K, V> listener,
             final @NonNull VirtualMapConfig virtualMapConfig) {
         requireNonNull(virtualMapConfig);
@@ -330,6 +355,7 @@ public final class VirtualHasher<K extends VirtualKey, V extends VirtualValue> {
         }
 
         this.hashReader = hashReader;
+        this.leafHashReader = leafHashReader;
         this.listener = listener;
         this.cryptography = CryptographyHolder.get();
         final Hash NULL_HASH = cryptography.getNullHash();
@@ -537,6 +563,7 @@ public final class VirtualHasher<K extends VirtualKey, V extends VirtualValue> {
         listener.onHashingCompleted();
 
         this.hashReader = null;
+        this.leafHashReader = null;
         this.listener = null;
 
         return resultTask.ins[0];
@@ -85,6 +85,9 @@ public abstract class AbstractHashListener<K extends VirtualKey, V extends Virtu
     // protection from that
     private final AtomicBoolean flushInProgress = new AtomicBoolean(false);
 
+    // Set by stop(). Once set, hashed nodes are ignored, and nothing is flushed any longer
+    private boolean stopped = false;
+
     private int flushInterval = 0;
 
     private final VirtualMapStatistics statistics;
@@ -151,6 +154,9 @@ public abstract class AbstractHashListener<K extends VirtualKey, V extends Virtu
         final List<VirtualHashRecord> dirtyHashesToFlush;
         final List<VirtualLeafRecord<K, V>> dirtyLeavesToFlush;
         synchronized (this) {
+            if (stopped) {
+                return;
+            }
             hashes.add(new VirtualHashRecord(path, hash));
             if ((flushInterval > 0) && (hashes.size() >= flushInterval) && flushInProgress.compareAndSet(false, true)) {
                 dirtyHashesToFlush = hashes;
@@ -169,7 +175,9 @@ public abstract class AbstractHashListener<K extends VirtualKey, V extends Virtu
 
     @Override
     public synchronized void onLeafHashed(final VirtualLeafRecord<K, V> leaf) {
-        leaves.add(leaf);
+        if (!stopped) {
+            leaves.add(leaf);
+        }
     }
 
     @Override
@@ -177,13 +185,16 @@ public abstract class AbstractHashListener<K extends VirtualKey, V extends Virtu
         final List<VirtualHashRecord> finalNodesToFlush;
         final List<VirtualLeafRecord<K, V>> finalLeavesToFlush;
         synchronized (this) {
+            if (stopped) {
+                return;
+            }
             finalNodesToFlush = hashes;
             hashes = null;
             finalLeavesToFlush = leaves;
             leaves = null;
+            assert !flushInProgress.get() : "Flush must not be in progress when hashing is complete";
+            flushInProgress.set(true);
         }
-        assert !flushInProgress.get() : "Flush must not be in progress when hashing is complete";
-        flushInProgress.set(true);
         // Nodes / leaves lists may be empty, but a flush is still needed to make sure
         // all stale leaves are removed from the data source
         flush(finalNodesToFlush, finalLeavesToFlush);
@@ -217,11 +228,37 @@ public abstract class AbstractHashListener<K extends VirtualKey, V extends Virtu
             } catch (IOException e) {
                 throw new UncheckedIOException(e);
             }
+            onHashesFlushed(hashesToFlush);
         } finally {
-            flushInProgress.set(false);
+            synchronized (this) {
+                flushInProgress.set(false);
+                notifyAll();
+            }
         }
     }
 
+    /**
+     * Stop flushing. Nodes hashed after this call are ignored, and never flushed to the data source. If a
+     * flush is in progress, this method waits for it to complete, so the data source isn't modified by this
+     * listener once this method returns.
+     *
+     * @throws InterruptedException if interrupted while waiting for a flush to complete
+     */
+    public synchronized void stop() throws InterruptedException {
+        stopped = true;
+        while (flushInProgress.get()) {
+            wait();
+        }
+    }
+
+    /**
+     * Called after a batch of hashes, along with all the leaves hashed before them, is saved to the data
+     * source. Flushes never run concurrently, so neither do calls to this method.
+     *
+     * @param flushedHashes the saved hashes
+     */
+    protected void onHashesFlushed(@NonNull final List<VirtualHashRecord> flushedHashes) {}
+
     /**
      * Find the leaves that need to be removed from the data source up to this moment.
      *
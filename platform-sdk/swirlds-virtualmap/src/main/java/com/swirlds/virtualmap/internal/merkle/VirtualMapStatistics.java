@@ -69,6 +69,10 @@ public class VirtualMapStatistics {
     private Counter flushCount;
     /** The average time to hash virtual map copy, ms */
     private LongAccumulator hashDurationMs;
+    /** The time from a virtual map copy being made immutable to its root hash, ms */
+    private LongAccumulator roundEndToHashMs;
+    /** The time pipeline work waits for a lifecycle thread, ms */
+    private LongAccumulator pipelineWaitMs;
 
     private static LongAccumulator buildLongAccumulator(
             final Metrics metrics, final String name, final String description) {
@@ -161,6 +165,14 @@ public class VirtualMapStatistics {
                 metrics,
                 VMAP_PREFIX + LIFECYCLE_PREFIX + "hashDurationMs_" + label,
                 "Virtual root copy hash duration, " + label + ", ms");
+        roundEndToHashMs = buildLongAccumulator(
+                metrics,
+                VMAP_PREFIX + LIFECYCLE_PREFIX + "roundEndToHashMs_" + label,
+                "Virtual root copy time from round end to root hash, " + label + ", ms");
+        pipelineWaitMs = buildLongAccumulator(
+                metrics,
+                VMAP_PREFIX + LIFECYCLE_PREFIX + "pipelineWaitMs_" + label,
+                "Virtual pipeline wait for a lifecycle thread, " + label + ", ms");
     }
 
     /**
@@ -289,4 +301,27 @@ public class VirtualMapStatistics {
             this.hashDurationMs.update(hashDurationMs);
         }
     }
+
+    /**
+     * Record a virtual root copy is hashed, and the time since the copy was made immutable at the end
+     * of a round is as specified.
+     *
+     * @param roundEndToHashMs time from the copy being made immutable to its root hash, ms
+     */
+    public void recordRoundEndToHash(final long roundEndToHashMs) {
+        if (this.roundEndToHashMs != null) {
+            this.roundEndToHashMs.update(roundEndToHashMs);
+        }
+    }
+
+    /**
+     * Record the time pipeline work waited for a lifecycle thread after it was scheduled.
+     *
+     * @param waitMs wait duration, ms
+     */
+    public void recordPipelineWait(final long waitMs) {
+        if (this.pipelineWaitMs != null) {
+            this.pipelineWaitMs.update(waitMs);
+        }
+    }
 }
@@ -75,14 +75,17 @@ import com.swirlds.virtualmap.datasource.VirtualLeafRecord;
 import com.swirlds.virtualmap.internal.RecordAccessor;
 import com.swirlds.virtualmap.internal.VirtualStateAccessor;
 import com.swirlds.virtualmap.internal.cache.VirtualNodeCache;
+import com.swirlds.virtualmap.internal.hash.IncrementalLeafHasher;
 import com.swirlds.virtualmap.internal.hash.VirtualHashListener;
 import com.swirlds.virtualmap.internal.hash.VirtualHasher;
 import com.swirlds.virtualmap.internal.pipeline.VirtualPipeline;
 import com.swirlds.virtualmap.internal.pipeline.VirtualRoot;
+import com.swirlds.virtualmap.internal.reconnect.CheckpointRecordAccessor;
 import com.swirlds.virtualmap.internal.reconnect.ConcurrentBlockingIterator;
 import com.swirlds.virtualmap.internal.reconnect.LearnerPullVirtualTreeView;
 import com.swirlds.virtualmap.internal.reconnect.LearnerPushVirtualTreeView;
 import com.swirlds.virtualmap.internal.reconnect.NodeTraversalOrder;
+import com.swirlds.virtualmap.internal.reconnect.ReconnectCheckpoint;
 import com.swirlds.virtualmap.internal.reconnect.ReconnectHashListener;
 import com.swirlds.virtualmap.internal.reconnect.ReconnectNodeRemover;
 import com.swirlds.virtualmap.internal.reconnect.ReconnectState;
@@ -98,6 +101,9 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.channels.ClosedByInterruptException;
 import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
@@ -257,6 +263,17 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
      */
     private final VirtualHasher<K, V> hasher;
 
+    /**
+     * Hashes leaves of this copy in the background while the copy is mutable. Null unless incremental
+     * leaf hashing is enabled in {@link VirtualMapConfig}.
+     */
+    private IncrementalLeafHasher<K, V> incrementalLeafHasher;
+
+    /**
+     * The time, in millis, when this copy was made immutable, or zero if it's still mutable.
+     */
+    private volatile long immutableSinceMillis = 0;
+
     /**
      * The {@link VirtualPipeline}, shared across all copies of a given {@link VirtualRootNode}, maintains the
      * lifecycle of the nodes, making sure they are merged or flushed or hashed in order and according to the
@@ -337,6 +354,28 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
 
     private ReconnectNodeRemover<K, V> nodeRemover;
 
+    /**
+     * During reconnect as a learner, the listener that flushes hashed nodes to the reconnect data source.
+     */
+    private ReconnectHashListener<K, V> reconnectHashListener;
+
+    /**
+     * During reconnect as a learner with {@link VirtualMapConfig#reconnectCheckpoints()} enabled, tracks the
+     * progress of this reconnect, so it can be resumed if it fails. Null until reconnect hashing is started.
+     */
+    private ReconnectCheckpoint reconnectCheckpoint;
+
+    /**
+     * During reconnect as a learner, the checkpoint of a failed reconnect this reconnect resumes from, if any.
+     * Its data source is used in place of the original map's data source.
+     */
+    private ReconnectCheckpoint resumedCheckpoint;
+
+    /**
+     * During reconnect as a learner resumed from {@link #resumedCheckpoint}, the records of the checkpoint.
+     */
+    private RecordAccessor<K, V> checkpointRecords;
+
     private final long fastCopyVersion;
 
     private VirtualMapStatistics statistics;
@@ -414,6 +453,9 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
         this.flushThreshold.set(source.flushThreshold.get());
         this.statistics = source.statistics;
         this.virtualMapConfig = source.virtualMapConfig;
+        if (virtualMapConfig.incrementalLeafHashing()) {
+            this.incrementalLeafHasher = new IncrementalLeafHasher<>(virtualMapConfig);
+        }
 
         if (this.pipeline.isTerminated()) {
             throw new IllegalStateException("A fast-copy was made of a VirtualRootNode with a terminated pipeline!");
@@ -440,6 +482,9 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
         if (cache == null) {
             cache = new VirtualNodeCache<>(virtualMapConfig);
         }
+        if ((incrementalLeafHasher == null) && virtualMapConfig.incrementalLeafHashing()) {
+            incrementalLeafHasher = new IncrementalLeafHasher<>(virtualMapConfig);
+        }
         this.state = requireNonNull(state);
         updateShouldBeFlushed();
         requireNonNull(dataSourceBuilder);
@@ -636,6 +681,15 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
         return dataSource;
     }
 
+    /**
+     * Gets the {@link VirtualDataSourceBuilder}.
+     *
+     * @return The data source builder. Will not be null after this root is initialized.
+     */
+    public VirtualDataSourceBuilder getDataSourceBuilder() {
+        return dataSourceBuilder;
+    }
+
     KeySerializer<K> getKeySerializer() {
         return keySerializer;
     }
@@ -743,12 +797,14 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
         // those background threads run. Otherwise, they may try to hash this copy before it
         // has a chance to "seal" the cache, and we will get exceptions.
         final VirtualRootNode<K, V> copy = new VirtualRootNode<>(this);
+        immutableSinceMillis = System.currentTimeMillis();
         setImmutable(true);
 
         if (isHashed()) {
             // Special case: after a "reconnect", the mutable copy will already be hashed
             // at this point in time.
             cache.seal();
+            closeIncrementalLeafHasher();
         }
 
         return copy;
@@ -761,6 +817,8 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
     protected void destroyNode() {
         if (pipeline != null) {
             pipeline.destroyCopy(this);
+        } else if ((originalMap != null) && ((reconnectCheckpoint != null) || (resumedCheckpoint != null))) {
+            saveReconnectCheckpoint();
         } else {
             logger.info(
                     VIRTUAL_MERKLE_STATS.getMarker(),
@@ -862,6 +920,9 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
         try {
             final VirtualLeafRecord<K, V> rec = records.findLeafRecord(key, true);
             statistics.countUpdatedEntities();
+            if ((rec != null) && (incrementalLeafHasher != null)) {
+                incrementalLeafHasher.onLeafModifiable(key);
+            }
             return rec == null ? null : rec.getValue();
         } finally {
             assert currentModifyingThreadRef.compareAndSet(Thread.currentThread(), null);
@@ -913,6 +974,7 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
 
             final VirtualLeafRecord<K, V> leaf = new VirtualLeafRecord<>(path, key, value);
             cache.putLeaf(leaf);
+            onLeafPut(leaf);
             statistics.countUpdatedEntities();
         } finally {
             assert currentModifyingThreadRef.compareAndSet(Thread.currentThread(), null);
@@ -987,6 +1049,7 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
                 cache.clearLeafPath(lastLeafPath);
                 lastLeaf.setPath(leafToDeletePath);
                 cache.putLeaf(lastLeaf);
+                onLeafPut(lastLeaf);
                 // NOTE: at this point, if leafToDelete was in the cache at some "path" index, it isn't anymore!
                 // The lastLeaf has taken its place in the path index.
             }
@@ -1010,6 +1073,7 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
                     // To fix it, mark it as dirty explicitly
                     final VirtualLeafRecord<K, V> leaf = records.findLeafRecord(1, true);
                     cache.putLeaf(leaf);
+                    onLeafPut(leaf);
                 }
             } else {
                 final long lastLeafSibling = getSiblingPath(lastLeafPath);
@@ -1019,6 +1083,7 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
                 cache.deleteHash(lastLeafParent);
                 sibling.setPath(lastLeafParent);
                 cache.putLeaf(sibling);
+                onLeafPut(sibling);
 
                 // Update the first & last leaf paths
                 state.setFirstLeafPath(lastLeafParent); // replaced by the sibling, it is now first
@@ -1403,6 +1468,7 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
         };
         Hash virtualHash = hasher.hash(
                 records::findHash,
+                incrementalLeafHasher != null ? incrementalLeafHasher::getLeafHash : null,
                 cache.dirtyLeavesForHash(state.getFirstLeafPath(), state.getLastLeafPath())
                         .iterator(),
                 state.getFirstLeafPath(),
@@ -1421,9 +1487,13 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
         // Make sure the copy is marked as hashed after the cache is sealed, otherwise the chances
         // are an attempt to merge the cache will fail because the cache hasn't been sealed yet
         setHashPrivate(virtualHash);
+        closeIncrementalLeafHasher();
 
         final long end = System.currentTimeMillis();
         statistics.recordHash(end - start);
+        if (immutableSinceMillis > 0) {
+            statistics.recordRoundEndToHash(end - immutableSinceMillis);
+        }
     }
 
     /*
@@ -1486,6 +1556,21 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
         }
     }
 
+    /**
+     * Flushes the cache of records previously returned by {@link #detach()} to their data source, and
+     * snapshots that data source to the given directory. This is used by reconnect teachers to send data
+     * source files in bulk. The detached records must not be read while this method runs.
+     *
+     * @param detachedRecords the records returned by {@link #detach()}
+     * @param destination the directory to snapshot the data source to
+     */
+    public void snapshotDetached(@NonNull final RecordAccessor<K, V> detachedRecords, @NonNull final Path destination) {
+        final VirtualNodeCache<K, V> cacheSnapshot = detachedRecords.getCache();
+        cacheSnapshot.prepareForFlush();
+        flush(cacheSnapshot, detachedRecords.getState(), detachedRecords.getDataSource());
+        dataSourceBuilder.snapshot(destination, detachedRecords.getDataSource());
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -1507,9 +1592,19 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
             case VirtualMapReconnectMode.PUSH -> new TeacherPushVirtualTreeView<>(
                     getStaticThreadManager(), reconnectConfig, this, state, pipeline);
             case VirtualMapReconnectMode.PULL_TOP_TO_BOTTOM -> new TeacherPullVirtualTreeView<>(
-                    getStaticThreadManager(), reconnectConfig, this, state, pipeline);
+                    getStaticThreadManager(),
+                    reconnectConfig,
+                    virtualMapConfig.reconnectBulkThreshold(),
+                    this,
+                    state,
+                    pipeline);
             case VirtualMapReconnectMode.PULL_TWO_PHASE_PESSIMISTIC -> new TeacherPullVirtualTreeView<>(
-                    getStaticThreadManager(), reconnectConfig, this, state, pipeline);
+                    getStaticThreadManager(),
+                    reconnectConfig,
+                    virtualMapConfig.reconnectBulkThreshold(),
+                    this,
+                    state,
+                    pipeline);
             default -> throw new UnsupportedOperationException(
                     "Unknown reconnect mode: " + virtualMapConfig.reconnectMode());
         };
@@ -1535,28 +1630,36 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
         this.valueSerializer = originalMap.valueSerializer;
 
         reconnectState = new ReconnectState(-1, -1);
-        reconnectRecords = originalMap.pipeline.pausePipelineAndRun("copy", () -> {
-            // shutdown background compaction on original data source as it is no longer needed to be running as all
-            // data
-            // in that data source is only there as a starting point for reconnect now. So compacting it further is not
-            // helpful and will just burn resources.
-            originalMap.dataSource.stopAndDisableBackgroundCompaction();
-
-            // Take a snapshot, and use the snapshot database as my data source
-            this.dataSource = dataSourceBuilder.copy(originalMap.dataSource, true, false);
-
-            // The old map's cache is going to become immutable, but that's OK, because the old map
-            // will NEVER be updated again.
-            assert originalMap.isHashed() : "The system should have made sure this was hashed by this point!";
-            final VirtualNodeCache<K, V> snapshotCache = originalMap.cache.snapshot();
-            snapshotCache.prepareForFlush();
-            flush(snapshotCache, originalMap.state, this.dataSource);
-
-            // I assume an empty node cache can be used below rather than snapshotCache, since all the
-            // cache entries are flushed to the data source anyway. However, using snapshotCache may
-            // be slightly faster, because it's in memory
-            return new RecordAccessorImpl<>(reconnectState, snapshotCache, keySerializer, valueSerializer, dataSource);
-        });
+        resumedCheckpoint = virtualMapConfig.reconnectCheckpoints()
+                ? ReconnectCheckpoint.take(
+                        dataSourceBuilder, originalMap.getState().getLabel(), Instant.now())
+                : null;
+        if (resumedCheckpoint != null) {
+            reconnectRecords = resumeFromCheckpoint(resumedCheckpoint);
+        } else {
+            reconnectRecords = originalMap.pipeline.pausePipelineAndRun("copy", () -> {
+                // shutdown background compaction on original data source as it is no longer needed to be running as
+                // all data in that data source is only there as a starting point for reconnect now. So compacting it
+                // further is not helpful and will just burn resources.
+                originalMap.dataSource.stopAndDisableBackgroundCompaction();
+
+                // Take a snapshot, and use the snapshot database as my data source
+                this.dataSource = dataSourceBuilder.copy(originalMap.dataSource, true, false);
+
+                // The old map's cache is going to become immutable, but that's OK, because the old map
+                // will NEVER be updated again.
+                assert originalMap.isHashed() : "The system should have made sure this was hashed by this point!";
+                final VirtualNodeCache<K, V> snapshotCache = originalMap.cache.snapshot();
+                snapshotCache.prepareForFlush();
+                flush(snapshotCache, originalMap.state, this.dataSource);
+
+                // I assume an empty node cache can be used below rather than snapshotCache, since all the
+                // cache entries are flushed to the data source anyway. However, using snapshotCache may
+                // be slightly faster, because it's in memory
+                return new RecordAccessorImpl<>(
+                        reconnectState, snapshotCache, keySerializer, valueSerializer, dataSource);
+            });
+        }
 
         // Set up the VirtualHasher which we will use during reconnect.
         // Initial timeout is intentionally very long, timeout is reduced once we receive the first leaf in the tree.
@@ -1570,6 +1673,87 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
         statistics = originalMap.statistics;
     }
 
+    /**
+     * Set up this reconnect to resume from the checkpoint of a failed reconnect. The checkpoint data source
+     * takes the place of the original map's data source: it's never modified by this reconnect, and it's
+     * copied to create the reconnect data source.
+     *
+     * @param checkpoint
+     * 		the checkpoint
+     * @return the records for the reconnect data source
+     */
+    private RecordAccessor<K, V> resumeFromCheckpoint(final ReconnectCheckpoint checkpoint) {
+        logger.info(
+                RECONNECT.getMarker(),
+                "Resuming reconnect of {} from a checkpoint with {} verified subtrees",
+                originalMap.getState().getLabel(),
+                checkpoint.getVerifiedRootCount());
+        final VirtualDataSource checkpointDataSource = checkpoint.getDataSource();
+        checkpointDataSource.stopAndDisableBackgroundCompaction();
+        this.dataSource = dataSourceBuilder.copy(checkpointDataSource, true, false);
+
+        // All checkpoint nodes are in the data source, so an empty cache is fine
+        final VirtualNodeCache<K, V> emptyCache = new VirtualNodeCache<>(virtualMapConfig);
+        emptyCache.seal();
+        final VirtualStateAccessor checkpointState =
+                new ReconnectState(checkpoint.getFirstLeafPath(), checkpoint.getLastLeafPath());
+        checkpointRecords = new CheckpointRecordAccessor<>(
+                new RecordAccessorImpl<>(
+                        checkpointState, emptyCache, keySerializer, valueSerializer, checkpointDataSource),
+                checkpoint);
+        return new RecordAccessorImpl<>(reconnectState, emptyCache, keySerializer, valueSerializer, dataSource);
+    }
+
+    /**
+     * Called when this map is destroyed during a failed learner reconnect with checkpoints enabled. Saves
+     * the progress of the reconnect, so the next reconnect can resume from it, instead of deleting the
+     * reconnect data source.
+     */
+    private void saveReconnectCheckpoint() {
+        final String label = originalMap.getState().getLabel();
+        if (reconnectCheckpoint != null) {
+            try {
+                // The hasher may still be running, but once the listener is stopped, it will never modify
+                // the data source again
+                reconnectHashListener.stop();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                logger.warn(RECONNECT.getMarker(), "Interrupted while saving reconnect checkpoint of {}", label);
+                closeDataSource();
+                if (resumedCheckpoint != null) {
+                    resumedCheckpoint.close();
+                }
+                return;
+            }
+            // Let the hasher finish. Nothing it hashes from now on is flushed
+            reconnectIterator.close();
+        }
+        if ((reconnectCheckpoint != null) && (reconnectCheckpoint.getVerifiedRootCount() > 0)) {
+            ReconnectCheckpoint.save(
+                    dataSourceBuilder,
+                    label,
+                    reconnectCheckpoint,
+                    Instant.now(),
+                    virtualMapConfig.reconnectCheckpointExpiry());
+            if (resumedCheckpoint != null) {
+                resumedCheckpoint.close();
+            }
+        } else {
+            // Nothing was flushed, so this reconnect made no progress over where it started from
+            closeDataSource();
+            if (resumedCheckpoint != null) {
+                ReconnectCheckpoint.save(
+                        dataSourceBuilder,
+                        label,
+                        resumedCheckpoint,
+                        Instant.now(),
+                        virtualMapConfig.reconnectCheckpointExpiry());
+            }
+        }
+        reconnectCheckpoint = null;
+        resumedCheckpoint = null;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -1585,19 +1769,24 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
     public LearnerTreeView<Long> buildLearnerView(
             final ReconnectConfig reconnectConfig, @NonNull final ReconnectMapStats mapStats) {
         assert originalMap != null;
-        // During reconnect we want to look up state from the original records
-        final VirtualStateAccessor originalState = originalMap.getState();
+        // During reconnect we want to look up state from the original records. When resuming from a
+        // checkpoint, the checkpoint records take their place
+        final RecordAccessor<K, V> originalRecords =
+                (resumedCheckpoint != null) ? checkpointRecords : originalMap.getRecords();
+        final VirtualStateAccessor originalState =
+                (resumedCheckpoint != null) ? checkpointRecords.getState() : originalMap.getState();
         nodeRemover = new ReconnectNodeRemover<>(
-                originalMap.getRecords(), originalState.getFirstLeafPath(), originalState.getLastLeafPath());
+                originalRecords, originalState.getFirstLeafPath(), originalState.getLastLeafPath());
         return switch (virtualMapConfig.reconnectMode()) {
             case VirtualMapReconnectMode.PUSH -> new LearnerPushVirtualTreeView<>(
-                    reconnectConfig, this, originalMap.records, originalState, reconnectState, nodeRemover, mapStats);
+                    reconnectConfig, this, originalRecords, originalState, reconnectState, nodeRemover, mapStats);
             case VirtualMapReconnectMode.PULL_TOP_TO_BOTTOM -> {
                 final NodeTraversalOrder topToBottom = new TopToBottomTraversalOrder();
                 yield new LearnerPullVirtualTreeView<>(
                         reconnectConfig,
+                        virtualMapConfig.reconnectBulkThreshold(),
                         this,
-                        originalMap.records,
+                        originalRecords,
                         originalState,
                         reconnectState,
                         nodeRemover,
@@ -1608,8 +1797,9 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
                 final NodeTraversalOrder twoPhasePessimistic = new TwoPhasePessimisticTraversalOrder();
                 yield new LearnerPullVirtualTreeView<>(
                         reconnectConfig,
+                        virtualMapConfig.reconnectBulkThreshold(),
                         this,
-                        originalMap.records,
+                        originalRecords,
                         originalState,
                         reconnectState,
                         nodeRemover,
@@ -1655,6 +1845,10 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
 
     public void prepareReconnectHashing(final long firstLeafPath, final long lastLeafPath) {
         assert nodeRemover != null : "Cannot prepare reconnect hashing, since reconnect is not started";
+        if (virtualMapConfig.reconnectCheckpoints()) {
+            reconnectCheckpoint =
+                    new ReconnectCheckpoint(reconnectRecords.getDataSource(), firstLeafPath, lastLeafPath);
+        }
         // The hash listener will be responsible for flushing stuff to the reconnect data source
         final ReconnectHashListener<K, V> hashListener = new ReconnectHashListener<>(
                 firstLeafPath,
@@ -1664,7 +1858,9 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
                 reconnectRecords.getDataSource(),
                 virtualMapConfig.reconnectFlushInterval(),
                 statistics,
-                nodeRemover);
+                nodeRemover,
+                reconnectCheckpoint);
+        reconnectHashListener = hashListener;
 
         // This background thread will be responsible for hashing the tree and sending the
         // data to the hash listener to flush.
@@ -1692,6 +1888,136 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
         reconnectHashingStarted.set(true);
     }
 
+    /**
+     * Replaces the reconnect data source with one restored from data source files received from the
+     * teacher, instead of flushing the nodes received from the teacher one by one. This is used by bulk
+     * reconnects, in place of {@link #prepareReconnectHashing(long, long)}.
+     *
+     * <p>The teacher supplies both the files and the expected root hash, so neither is trusted. All
+     * leaves of the restored data source are rehashed, and every hash stored in it must match the
+     * recomputed one. The recomputed root hash, not the teacher's, becomes the hash of this map, so it
+     * is covered when the learner validates the reconnected state against the signed state hash.
+     *
+     * @param source
+     * 		the directory the data source files were received into
+     * @param firstLeafPath
+     * 		the first leaf path of the teacher's tree
+     * @param lastLeafPath
+     * 		the last leaf path of the teacher's tree
+     * @param expectedHash
+     * 		the root hash of the teacher's tree
+     * @throws MerkleSynchronizationException
+     * 		if the restored data source doesn't match the teacher's tree
+     */
+    public void loadReconnectSnapshot(
+            @NonNull final Path source,
+            final long firstLeafPath,
+            final long lastLeafPath,
+            @NonNull final Hash expectedHash) {
+        assert originalMap != null : "Cannot load a reconnect snapshot, since reconnect is not started";
+        final VirtualDataSource restored =
+                dataSourceBuilder.restoreTransferred(originalMap.getState().getLabel(), source);
+        Hash restoredHash = null;
+        if (restored.getFirstLeafPath() == firstLeafPath && restored.getLastLeafPath() == lastLeafPath) {
+            try {
+                restoredHash = rehashReconnectSnapshot(restored, firstLeafPath, lastLeafPath);
+            } catch (final RuntimeException e) {
+                logger.error(EXCEPTION.getMarker(), "VirtualMap@{} failed to rehash the received data", getRoute(), e);
+            }
+        }
+        if (restored.getFirstLeafPath() != firstLeafPath
+                || restored.getLastLeafPath() != lastLeafPath
+                || !expectedHash.equals(restoredHash)) {
+            final String message = "VirtualMap@" + getRoute()
+                    + " received data source files that don't match the teacher's tree, paths ["
+                    + restored.getFirstLeafPath() + ", " + restored.getLastLeafPath() + "], hash " + restoredHash;
+            try {
+                restored.close();
+            } catch (final IOException e) {
+                logger.warn(RECONNECT.getMarker(), "failed to close the received data source", e);
+            }
+            throw new MerkleSynchronizationException(message);
+        }
+
+        // The copy made in setupWithOriginalNode() is no longer needed, since all its data is replaced
+        restored.copyStatisticsFrom(dataSource);
+        final VirtualDataSource reconnectCopy = dataSource;
+        dataSource = restored;
+        reconnectState.setFirstLeafPath(firstLeafPath);
+        reconnectState.setLastLeafPath(lastLeafPath);
+        try {
+            reconnectCopy.close();
+        } catch (final IOException e) {
+            throw new MerkleSynchronizationException(
+                    "VirtualMap@" + getRoute() + " failed to close the replaced reconnect data source", e);
+        }
+
+        // The tree is already rehashed, so endLearnerReconnect() can take the hash without a hashing thread
+        reconnectHashingFuture.complete(restoredHash);
+        reconnectHashingStarted.set(true);
+    }
+
+    /**
+     * Hash every leaf of a data source restored from the teacher's files, checking each hash stored in
+     * the data source against the recomputed one along the way.
+     *
+     * @param restored
+     * 		the restored data source
+     * @param firstLeafPath
+     * 		the first leaf path of the restored data source
+     * @param lastLeafPath
+     * 		the last leaf path of the restored data source
+     * @return the recomputed root hash, or null if any hash stored in the data source doesn't match
+     */
+    @Nullable
+    private Hash rehashReconnectSnapshot(
+            @NonNull final VirtualDataSource restored, final long firstLeafPath, final long lastLeafPath) {
+        final AtomicBoolean storedHashesMatch = new AtomicBoolean(true);
+        final VirtualHashListener<K, V> hashListener = new VirtualHashListener<>() {
+            @Override
+            public void onNodeHashed(final long path, final Hash hash) {
+                try {
+                    if (!hash.equals(restored.loadHash(path))) {
+                        storedHashesMatch.set(false);
+                    }
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+        final Iterator<VirtualLeafRecord<K, V>> leaves = new Iterator<>() {
+            private long path = firstLeafPath;
+
+            @Override
+            public boolean hasNext() {
+                return firstLeafPath > 0 && path <= lastLeafPath;
+            }
+
+            @Override
+            public VirtualLeafRecord<K, V> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                try {
+                    final VirtualLeafBytes leafBytes = restored.loadLeafRecord(path);
+                    if (leafBytes == null) {
+                        throw new MerkleSynchronizationException("Missing received leaf at path " + path);
+                    }
+                    path++;
+                    return leafBytes.toRecord(keySerializer, valueSerializer);
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+        // Every leaf is hashed, so no clean hashes are ever read from the received data
+        Hash rehashed = hasher.hash(path -> null, leaves, firstLeafPath, lastLeafPath, hashListener, virtualMapConfig);
+        if (rehashed == null) {
+            rehashed = hasher.emptyRootHash();
+        }
+        return storedHashesMatch.get() ? rehashed : null;
+    }
+
     public void endLearnerReconnect() {
         try {
             logger.info(RECONNECT.getMarker(), "call reconnectIterator.close()");
@@ -1703,6 +2029,13 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
             } else {
                 logger.warn(RECONNECT.getMarker(), "virtual map hashing thread was never started");
             }
+            if (resumedCheckpoint != null) {
+                resumedCheckpoint.close();
+                resumedCheckpoint = null;
+            }
+            reconnectCheckpoint = null;
+            checkpointRecords = null;
+            reconnectHashListener = null;
             nodeRemover = null;
             originalMap = null;
             logger.info(RECONNECT.getMarker(), "call postInit()");
@@ -1806,6 +2139,7 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
             cache.clearLeafPath(firstLeafPath);
             oldLeaf.setPath(getLeftChildPath(firstLeafPath));
             cache.putLeaf(oldLeaf);
+            onLeafPut(oldLeaf);
 
             // Create a new internal node that is in the position of the old leaf and attach it to the parent
             // on the left side. Put the new item on the right side of the new parent.
@@ -1819,6 +2153,25 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
 
         final VirtualLeafRecord<K, V> newLeaf = new VirtualLeafRecord<>(leafPath, key, value);
         cache.putLeaf(newLeaf, true);
+        onLeafPut(newLeaf);
+    }
+
+    /**
+     * Let the incremental leaf hasher, if any, know that a leaf is put to the cache of this copy.
+     *
+     * @param leaf
+     * 		the leaf
+     */
+    private void onLeafPut(final VirtualLeafRecord<K, V> leaf) {
+        if (incrementalLeafHasher != null) {
+            incrementalLeafHasher.onLeafPut(leaf);
+        }
+    }
+
+    private void closeIncrementalLeafHasher() {
+        if (incrementalLeafHasher != null) {
+            incrementalLeafHasher.close();
+        }
     }
 
     /**
@@ -1838,6 +2191,7 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
         final VirtualLeafRecord<K, V> rec = records.findLeafRecord(key, true);
         if (rec != null) {
             rec.setValue(value);
+            onLeafPut(rec);
             return true;
         }
 
@@ -0,0 +1,257 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.virtualmap.internal.pipeline;
+
+import static com.swirlds.logging.legacy.LogMarker.EXCEPTION;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * An executor service that runs tasks one at a time, in submission order, on threads of an executor shared
+ * with other pipelines. It behaves like a single-threaded executor, but doesn't own a thread: only while
+ * it has tasks to run, it occupies at most one thread of the shared executor.
+ *
+ * <p>Every task is submitted to the shared executor separately, so pipelines with many tasks take turns
+ * with other pipelines rather than holding on to a shared thread. A pipeline is paused with {@link #pause()}
+ * rather than with a task that blocks until the pipeline resumes, so a paused pipeline doesn't hold on to a
+ * shared thread either: the caller waits on its own thread.
+ */
+final class PipelineExecutor extends AbstractExecutorService {
+
+    private static final Logger logger = LogManager.getLogger(PipelineExecutor.class);
+
+    private final Executor sharedExecutor;
+
+    /**
+     * Called once this executor terminates.
+     */
+    private final Runnable onTerminated;
+
+    /**
+     * Tasks waiting to run. Guarded by this.
+     */
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+    /**
+     * True if a task of this executor is submitted to the shared executor, or running. Guarded by this.
+     */
+    private boolean active = false;
+
+    /**
+     * The thread running a task of this executor, if any. Guarded by this.
+     */
+    private Thread runningThread = null;
+
+    /**
+     * True once this executor is shut down. Guarded by this.
+     */
+    private boolean shutdown = false;
+
+    /**
+     * True while this executor is paused, see {@link #pause()}. Guarded by this.
+     */
+    private boolean paused = false;
+
+    private final CountDownLatch terminated = new CountDownLatch(1);
+
+    /**
+     * Create a new executor.
+     *
+     * @param sharedExecutor
+     * 		the executor to run tasks on
+     */
+    PipelineExecutor(@NonNull final Executor sharedExecutor) {
+        this(sharedExecutor, () -> {});
+    }
+
+    /**
+     * Create a new executor.
+     *
+     * @param sharedExecutor
+     * 		the executor to run tasks on
+     * @param onTerminated
+     * 		called once this executor terminates, on the thread that terminates it
+     */
+    PipelineExecutor(@NonNull final Executor sharedExecutor, @NonNull final Runnable onTerminated) {
+        this.sharedExecutor = Objects.requireNonNull(sharedExecutor);
+        this.onTerminated = Objects.requireNonNull(onTerminated);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void execute(@NonNull final Runnable task) {
+        Objects.requireNonNull(task);
+        synchronized (this) {
+            if (shutdown) {
+                throw new RejectedExecutionException("Pipeline executor is shut down");
+            }
+            tasks.add(task);
+            if (active || paused) {
+                return;
+            }
+            active = true;
+        }
+        sharedExecutor.execute(this::runNext);
+    }
+
+    private void runNext() {
+        final Runnable task;
+        synchronized (this) {
+            task = tasks.poll();
+            if (task == null) {
+                // All tasks were removed by shutdownNow()
+                deactivate();
+                return;
+            }
+            runningThread = Thread.currentThread();
+        }
+        try {
+            task.run();
+        } catch (final Throwable e) { // NOSONAR: A single-threaded executor would log this on its own thread.
+            logger.error(EXCEPTION.getMarker(), "Uncaught exception ", e);
+        } finally {
+            final boolean hasMoreTasks;
+            synchronized (this) {
+                runningThread = null;
+                // Don't leave an interrupt from shutdownNow() on the shared thread
+                Thread.interrupted();
+                hasMoreTasks = !tasks.isEmpty() && !paused;
+                if (!hasMoreTasks) {
+                    deactivate();
+                }
+            }
+            if (hasMoreTasks) {
+                sharedExecutor.execute(this::runNext);
+            }
+        }
+    }
+
+    /**
+     * Must be called when synchronized on this.
+     */
+    private void deactivate() {
+        active = false;
+        terminateIfDone();
+    }
+
+    /**
+     * Must be called when synchronized on this.
+     */
+    private void terminateIfDone() {
+        if (shutdown && !active && !paused && tasks.isEmpty() && terminated.getCount() > 0) {
+            terminated.countDown();
+            onTerminated.run();
+        }
+    }
+
+    /**
+     * Wait until all tasks submitted so far have run, then stop running tasks until {@link #resume()} is
+     * called. Tasks submitted in the meantime are queued. Unlike a task that blocks until the pipeline is
+     * resumed, this doesn't hold on to a shared thread while paused.
+     *
+     * @throws InterruptedException
+     * 		if interrupted while waiting for the submitted tasks to run
+     * @throws RejectedExecutionException
+     * 		if this executor is shut down
+     */
+    void pause() throws InterruptedException {
+        final CountDownLatch reached = new CountDownLatch(1);
+        execute(() -> {
+            synchronized (this) {
+                paused = true;
+            }
+            reached.countDown();
+        });
+        reached.await();
+    }
+
+    /**
+     * Resume running tasks after {@link #pause()}.
+     */
+    void resume() {
+        synchronized (this) {
+            paused = false;
+            if (active || tasks.isEmpty()) {
+                terminateIfDone();
+                return;
+            }
+            active = true;
+        }
+        sharedExecutor.execute(this::runNext);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void shutdown() {
+        shutdown = true;
+        terminateIfDone();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized @NonNull List<Runnable> shutdownNow() {
+        shutdown();
+        final List<Runnable> notRun = new ArrayList<>(tasks);
+        tasks.clear();
+        if (runningThread != null) {
+            runningThread.interrupt();
+        }
+        return notRun;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized boolean isShutdown() {
+        return shutdown;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isTerminated() {
+        return terminated.getCount() == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean awaitTermination(final long timeout, @NonNull final TimeUnit unit) throws InterruptedException {
+        return terminated.await(timeout, unit);
+    }
+}
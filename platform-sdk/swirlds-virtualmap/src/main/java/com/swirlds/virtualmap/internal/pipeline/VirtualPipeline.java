@@ -37,6 +37,9 @@ import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -110,6 +113,9 @@ import org.apache.logging.log4j.Logger;
  * 	<li>terminated pipelines will wait for any <strong>merges</strong> or <strong>flushes</strong> to complete
  * 		before shutting down the pipeline. This method can be called concurrently to all other methods. Any concurrent
  * 		calls that race with this one and come after will not execute.</li>
+ * 	<li>all <strong>hashes</strong>, <strong>flushes</strong>, and <strong>merges</strong> of a pipeline run one at
+ * 		a time, either on a dedicated thread, or on threads shared by all pipelines (see
+ * 		{@link VirtualMapConfig#numPipelineThreads()}). Different pipelines may run them in parallel.</li>
  * </ul>
  */
 public class VirtualPipeline<K extends VirtualKey, V extends VirtualValue> {
@@ -119,6 +125,19 @@ public class VirtualPipeline<K extends VirtualKey, V extends VirtualValue> {
 
     private static final Logger logger = LogManager.getLogger(VirtualPipeline.class);
 
+    /**
+     * Threads shared by all pipelines, if {@link VirtualMapConfig#numPipelineThreads()} is positive. Created
+     * for the first pipeline that uses it, and shut down once the last pipeline using it terminates. Guarded
+     * by {@code VirtualPipeline.class}.
+     */
+    private static ThreadPoolExecutor sharedExecutor = null;
+
+    /**
+     * The number of pipelines using {@link #sharedExecutor} that haven't terminated yet. Guarded by
+     * {@code VirtualPipeline.class}.
+     */
+    private static int sharedExecutorUsers = 0;
+
     /**
      * Keeps copies of all {@link VirtualRoot}s that are still part of this pipeline.
      *
@@ -150,7 +169,9 @@ public class VirtualPipeline<K extends VirtualKey, V extends VirtualValue> {
     private volatile boolean alive;
 
     /**
-     * A single-threaded executor on which we perform all flush and merge tasks.
+     * A single-threaded executor on which we perform all flush and merge tasks. Depending on
+     * {@link VirtualMapConfig#numPipelineThreads()}, it either has a dedicated thread, or runs
+     * on threads shared with other pipelines.
      */
     private final ExecutorService executorService;
 
@@ -160,6 +181,11 @@ public class VirtualPipeline<K extends VirtualKey, V extends VirtualValue> {
      */
     private final AtomicBoolean workScheduled = new AtomicBoolean(false);
 
+    /**
+     * The time, in nanos, when hash/flush/merge work was last scheduled.
+     */
+    private volatile long workScheduledNanos;
+
     /**
      * The configuration for this pipeline. To prevent using static configuration calls, we pass it with the constructor.
      */
@@ -176,13 +202,65 @@ public class VirtualPipeline<K extends VirtualKey, V extends VirtualValue> {
         unhashedCopies = new ConcurrentLinkedDeque<>();
 
         alive = true;
-        executorService = Executors.newSingleThreadExecutor(new ThreadConfiguration(getStaticThreadManager())
+        if (config.numPipelineThreads() > 0) {
+            executorService =
+                    new PipelineExecutor(acquireSharedExecutor(config), VirtualPipeline::releaseSharedExecutor);
+        } else {
+            executorService = Executors.newSingleThreadExecutor(buildThreadFactory());
+        }
+
+        statistics = new VirtualMapStatistics(label);
+    }
+
+    private static ThreadFactory buildThreadFactory() {
+        return new ThreadConfiguration(getStaticThreadManager())
                 .setComponent(PIPELINE_COMPONENT)
                 .setThreadName(PIPELINE_THREAD_NAME)
                 .setExceptionHandler((t, ex) -> logger.error(EXCEPTION.getMarker(), "Uncaught exception ", ex))
-                .buildFactory());
+                .buildFactory();
+    }
 
-        statistics = new VirtualMapStatistics(label);
+    /**
+     * Get the shared executor for a new pipeline, creating it if no running pipeline uses it. The executor
+     * is sized by the configuration of the newest pipeline, so a platform started with a new configuration
+     * doesn't keep the size configured for pipelines of an earlier one. Every call must be matched by a
+     * call to {@link #releaseSharedExecutor()} once the pipeline terminates.
+     */
+    private static synchronized ThreadPoolExecutor acquireSharedExecutor(@NonNull final VirtualMapConfig config) {
+        final int threads = config.numPipelineThreads();
+        if (sharedExecutor == null) {
+            sharedExecutor = new ThreadPoolExecutor(
+                    threads, threads, 0L, MILLISECONDS, new LinkedBlockingQueue<>(), buildThreadFactory());
+        } else if (sharedExecutor.getMaximumPoolSize() != threads) {
+            logger.info(
+                    VIRTUAL_MERKLE_STATS.getMarker(),
+                    "Resizing shared virtual pipeline threads from {} to {}",
+                    sharedExecutor.getMaximumPoolSize(),
+                    threads);
+            // The core size may never exceed the maximum size
+            if (threads > sharedExecutor.getMaximumPoolSize()) {
+                sharedExecutor.setMaximumPoolSize(threads);
+                sharedExecutor.setCorePoolSize(threads);
+            } else {
+                sharedExecutor.setCorePoolSize(threads);
+                sharedExecutor.setMaximumPoolSize(threads);
+            }
+        }
+        sharedExecutorUsers++;
+        return sharedExecutor;
+    }
+
+    /**
+     * Called when a pipeline using the shared executor terminates. Shuts the shared executor down once no
+     * pipeline uses it, so its threads don't outlive the maps that use them.
+     */
+    private static synchronized void releaseSharedExecutor() {
+        sharedExecutorUsers--;
+        if (sharedExecutorUsers == 0) {
+            // Not shutdownNow(), this may be called on one of its threads
+            sharedExecutor.shutdown();
+            sharedExecutor = null;
+        }
     }
 
     /**
@@ -431,6 +509,7 @@ public class VirtualPipeline<K extends VirtualKey, V extends VirtualValue> {
      */
     private void scheduleWork() {
         if (workScheduled.compareAndSet(false, true)) {
+            workScheduledNanos = System.nanoTime();
             executorService.submit(this::doWork);
         }
     }
@@ -568,7 +647,9 @@ public class VirtualPipeline<K extends VirtualKey, V extends VirtualValue> {
     }
 
     private void doWork() {
+        final long waitNanos = System.nanoTime() - workScheduledNanos;
         workScheduled.set(false);
+        statistics.recordPipelineWait(TimeUnit.NANOSECONDS.toMillis(waitNanos));
         try {
             hashFlushMerge();
         } catch (final Throwable e) { // NOSONAR: Must cleanup and log if an error occurred since this is on a thread.
@@ -611,6 +692,21 @@ public class VirtualPipeline<K extends VirtualKey, V extends VirtualValue> {
     <V, E extends Exception> V pausePipelineAndExecute(final String label, final CheckedSupplier<V, E> supplier)
             throws E {
         Objects.requireNonNull(supplier);
+        if (executorService instanceof PipelineExecutor pipelineExecutor) {
+            // Wait on this thread rather than on a thread shared with other pipelines
+            try {
+                pipelineExecutor.pause();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Fatal error: failed to start " + label);
+            }
+            try {
+                return supplier.get();
+            } finally {
+                pipelineExecutor.resume();
+            }
+        }
+
         final CountDownLatch waitForBackgroundThreadToStart = new CountDownLatch(1);
         final CountDownLatch waitForRunnableToFinish = new CountDownLatch(1);
         executorService.execute(() -> {
@@ -0,0 +1,205 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.virtualmap.internal.reconnect;
+
+import com.swirlds.common.crypto.DigestType;
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.io.streams.SerializableDataInputStream;
+import com.swirlds.common.io.streams.SerializableDataOutputStream;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.LongFunction;
+import java.util.stream.Stream;
+
+/**
+ * Utility methods for bulk virtual map reconnects, where the teacher sends a snapshot of its data source
+ * as files rather than sending the nodes the learner is missing one by one.
+ *
+ * <p>Before a pull reconnect starts, the teacher sends the hashes of all internal nodes at a single rank
+ * (see {@link #getSampleRank(long)}), and the learner compares them to its own hashes to estimate the
+ * fraction of the tree that differs. If bulk transfer is chosen, the teacher sends the files of the
+ * snapshot with {@link #sendFiles(Path, SerializableDataOutputStream)}, and the learner receives them
+ * with {@link #receiveFiles(SerializableDataInputStream, Path)}.
+ */
+public final class BulkReconnectTransfer {
+
+    /**
+     * The highest rank whose hashes are compared, so at most 1024 hashes are sent.
+     */
+    static final int MAX_SAMPLE_RANK = 10;
+
+    /**
+     * The maximum length of a received file path.
+     */
+    private static final int MAX_PATH_LENGTH = 4096;
+
+    private BulkReconnectTransfer() {}
+
+    /**
+     * Get the rank whose nodes are compared to estimate how much of the tree differs. It's the highest rank,
+     * up to {@link #MAX_SAMPLE_RANK}, that only has internal nodes.
+     *
+     * @param firstLeafPath the first leaf path of the teacher's tree
+     * @return the rank, or -1 if the tree is too small to have a rank other than the root with only internal nodes
+     */
+    public static int getSampleRank(final long firstLeafPath) {
+        for (int rank = MAX_SAMPLE_RANK; rank > 0; rank--) {
+            // The last path of a rank is 2^(rank + 1) - 2
+            if ((1L << (rank + 1)) - 2 < firstLeafPath) {
+                return rank;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Write the hashes of the nodes at the sample rank of the teacher's tree.
+     *
+     * @param out the output stream
+     * @param firstLeafPath the first leaf path of the teacher's tree
+     * @param hashes provides the hash of an internal node of the teacher's tree by path
+     * @throws IOException if an I/O error occurs
+     */
+    public static void writeSampleHashes(
+            @NonNull final SerializableDataOutputStream out,
+            final long firstLeafPath,
+            @NonNull final LongFunction<Hash> hashes)
+            throws IOException {
+        final int rank = getSampleRank(firstLeafPath);
+        if (rank < 0) {
+            return;
+        }
+        for (long path = (1L << rank) - 1; path <= (1L << (rank + 1)) - 2; path++) {
+            hashes.apply(path).getBytes().writeTo(out);
+        }
+    }
+
+    /**
+     * Read the hashes written by {@link #writeSampleHashes(SerializableDataOutputStream, long, LongFunction)},
+     * and compare them to the hashes of the same nodes in the learner's tree.
+     *
+     * @param in the input stream
+     * @param teacherFirstLeafPath the first leaf path of the teacher's tree
+     * @param learnerFirstLeafPath the first leaf path of the learner's tree, or a negative number if it's empty
+     * @param learnerHashes provides the hash of an internal node of the learner's tree by path
+     * @return the fraction of the sampled nodes that differ, or 0 if no nodes are sampled
+     * @throws IOException if an I/O error occurs
+     */
+    public static double compareSampleHashes(
+            @NonNull final SerializableDataInputStream in,
+            final long teacherFirstLeafPath,
+            final long learnerFirstLeafPath,
+            @NonNull final LongFunction<Hash> learnerHashes)
+            throws IOException {
+        final int rank = getSampleRank(teacherFirstLeafPath);
+        if (rank < 0) {
+            return 0;
+        }
+        final byte[] hashBytes = new byte[DigestType.SHA_384.digestLength()];
+        final long samples = 1L << rank;
+        long differences = 0;
+        for (long path = samples - 1; path <= 2 * samples - 2; path++) {
+            if (VirtualReconnectUtils.completelyRead(in, hashBytes) != hashBytes.length) {
+                throw new EOFException("Failed to read node hash from the teacher");
+            }
+            if (path >= learnerFirstLeafPath
+                    || !new Hash(hashBytes, DigestType.SHA_384).equals(learnerHashes.apply(path))) {
+                differences++;
+            }
+        }
+        return (double) differences / samples;
+    }
+
+    /**
+     * Write all the files in a directory and its subdirectories: the number of files, then for every file
+     * its path relative to the directory, its size, and its contents.
+     *
+     * @param dir the directory
+     * @param out the output stream
+     * @throws IOException if an I/O error occurs
+     */
+    public static void sendFiles(@NonNull final Path dir, @NonNull final SerializableDataOutputStream out)
+            throws IOException {
+        final List<Path> files;
+        try (final Stream<Path> paths = Files.walk(dir)) {
+            files = paths.filter(Files::isRegularFile).sorted().toList();
+        }
+        out.writeInt(files.size());
+        // Not closed, as that would close the output stream
+        final WritableByteChannel target = Channels.newChannel(out);
+        for (final Path file : files) {
+            try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                final long size = channel.size();
+                out.writeNormalisedString(dir.relativize(file).toString().replace('\\', '/'));
+                out.writeLong(size);
+                for (long position = 0; position < size; ) {
+                    position += channel.transferTo(position, size - position, target);
+                }
+            }
+        }
+        out.flush();
+    }
+
+    /**
+     * Read the files written by {@link #sendFiles(Path, SerializableDataOutputStream)} into a directory.
+     *
+     * @param in the input stream
+     * @param dir the directory, which must not contain any of the files
+     * @throws IOException if an I/O error occurs, or a received file path is outside the directory
+     */
+    public static void receiveFiles(@NonNull final SerializableDataInputStream in, @NonNull final Path dir)
+            throws IOException {
+        final Path root = dir.toAbsolutePath().normalize();
+        final int count = in.readInt();
+        if (count < 0) {
+            throw new IOException("Invalid number of files: " + count);
+        }
+        // Not closed, as that would close the input stream
+        final ReadableByteChannel source = Channels.newChannel(in);
+        for (int i = 0; i < count; i++) {
+            final String name = in.readNormalisedString(MAX_PATH_LENGTH);
+            final Path file = root.resolve(name).normalize();
+            if (!file.startsWith(root) || file.equals(root)) {
+                throw new IOException("Invalid file path: " + name);
+            }
+            final long size = in.readLong();
+            if (size < 0) {
+                throw new IOException("Invalid size of file " + name + ": " + size);
+            }
+            Files.createDirectories(file.getParent());
+            try (final FileChannel channel =
+                    FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                for (long position = 0; position < size; ) {
+                    final long transferred = channel.transferFrom(source, position, size - position);
+                    if (transferred <= 0) {
+                        throw new EOFException("Unexpected end of file " + name);
+                    }
+                    position += transferred;
+                }
+            }
+        }
+    }
+}
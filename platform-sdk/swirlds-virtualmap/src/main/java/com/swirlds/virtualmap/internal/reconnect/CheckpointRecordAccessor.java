@@ -0,0 +1,143 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.virtualmap.internal.reconnect;
+
+import com.swirlds.common.crypto.DigestType;
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.io.streams.SerializableDataOutputStream;
+import com.swirlds.virtualmap.VirtualKey;
+import com.swirlds.virtualmap.VirtualValue;
+import com.swirlds.virtualmap.datasource.VirtualDataSource;
+import com.swirlds.virtualmap.datasource.VirtualLeafRecord;
+import com.swirlds.virtualmap.internal.RecordAccessor;
+import com.swirlds.virtualmap.internal.VirtualStateAccessor;
+import com.swirlds.virtualmap.internal.cache.VirtualNodeCache;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A {@link RecordAccessor} over the data source of a {@link ReconnectCheckpoint}, used by the learner as the
+ * original records when a reconnect resumes from the checkpoint. Hashes of nodes outside of the checkpoint's
+ * verified subtrees may be stale, so they are replaced with {@link #UNVERIFIED_HASH}, which never matches a
+ * hash on the teacher. All other calls are delegated.
+ *
+ * @param <K>
+ * 		The key
+ * @param <V>
+ * 		The value
+ */
+public class CheckpointRecordAccessor<K extends VirtualKey, V extends VirtualValue> implements RecordAccessor<K, V> {
+
+    /**
+     * The hash reported for nodes that are not verified. It isn't the digest of anything, and doesn't
+     * match the null hash either.
+     */
+    static final Hash UNVERIFIED_HASH = unverifiedHash();
+
+    private final RecordAccessor<K, V> records;
+    private final ReconnectCheckpoint checkpoint;
+
+    /**
+     * Create a new {@link CheckpointRecordAccessor}.
+     *
+     * @param records
+     * 		the records of the checkpoint data source
+     * @param checkpoint
+     * 		the checkpoint
+     */
+    public CheckpointRecordAccessor(
+            @NonNull final RecordAccessor<K, V> records, @NonNull final ReconnectCheckpoint checkpoint) {
+        this.records = Objects.requireNonNull(records);
+        this.checkpoint = Objects.requireNonNull(checkpoint);
+    }
+
+    private static Hash unverifiedHash() {
+        final byte[] bytes = new byte[DigestType.SHA_384.digestLength()];
+        Arrays.fill(bytes, (byte) 0xFF);
+        return new Hash(bytes, DigestType.SHA_384);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Hash findHash(final long path) {
+        return checkpoint.isVerified(path) ? records.findHash(path) : UNVERIFIED_HASH;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean findAndWriteHash(final long path, final SerializableDataOutputStream out) throws IOException {
+        if (checkpoint.isVerified(path)) {
+            return records.findAndWriteHash(path, out);
+        }
+        UNVERIFIED_HASH.serialize(out);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public VirtualLeafRecord<K, V> findLeafRecord(final K key, final boolean copy) {
+        return records.findLeafRecord(key, copy);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public VirtualLeafRecord<K, V> findLeafRecord(final long path, final boolean copy) {
+        return records.findLeafRecord(path, copy);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long findKey(final K key) {
+        return records.findKey(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public VirtualDataSource getDataSource() {
+        return records.getDataSource();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public VirtualStateAccessor getState() {
+        return records.getState();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public VirtualNodeCache<K, V> getCache() {
+        return records.getCache();
+    }
+}
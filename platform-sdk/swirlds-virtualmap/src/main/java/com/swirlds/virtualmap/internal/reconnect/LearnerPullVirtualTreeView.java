@@ -16,14 +16,17 @@
 
 package com.swirlds.virtualmap.internal.reconnect;
 
+import static com.swirlds.logging.legacy.LogMarker.RECONNECT;
 import static com.swirlds.virtualmap.internal.Path.ROOT_PATH;
 
 import com.swirlds.common.crypto.CryptographyHolder;
+import com.swirlds.common.crypto.DigestType;
 import com.swirlds.common.crypto.Hash;
 import com.swirlds.common.io.streams.MerkleDataInputStream;
 import com.swirlds.common.io.streams.MerkleDataOutputStream;
 import com.swirlds.common.io.streams.SerializableDataInputStream;
 import com.swirlds.common.io.streams.SerializableDataOutputStream;
+import com.swirlds.common.io.utility.FileUtils;
 import com.swirlds.common.merkle.MerkleNode;
 import com.swirlds.common.merkle.synchronization.LearningSynchronizer;
 import com.swirlds.common.merkle.synchronization.config.ReconnectConfig;
@@ -42,13 +45,17 @@ import com.swirlds.virtualmap.internal.RecordAccessor;
 import com.swirlds.virtualmap.internal.VirtualStateAccessor;
 import com.swirlds.virtualmap.internal.merkle.VirtualRootNode;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.EOFException;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Objects;
 import java.util.Queue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 /**
  * An implementation of {@link LearnerTreeView} for the virtual merkle. The learner during reconnect
@@ -56,6 +63,10 @@ import java.util.concurrent.atomic.AtomicReference;
  * This implementation uses {@link Long} as the representation of a node and corresponds directly
  * to the path of the node.
  *
+ * <p>If bulk transfer is enabled, before any nodes are requested the learner compares sample hashes
+ * from the teacher to its own, and if most of its tree differs, it receives a snapshot of the teacher's
+ * data source as files instead. See {@link BulkReconnectTransfer}.
+ *
  * <p>This implementation is supposed to work with {@link TeacherPullVirtualTreeView} on the
  * teacher side.
  *
@@ -67,6 +78,10 @@ import java.util.concurrent.atomic.AtomicReference;
 public final class LearnerPullVirtualTreeView<K extends VirtualKey, V extends VirtualValue>
         extends VirtualTreeViewBase<K, V> implements LearnerTreeView<Long> {
 
+    private static final Logger logger = LogManager.getLogger(LearnerPullVirtualTreeView.class);
+
+    private static final String BULK_TASK_NAME = "reconnect-learner-bulk-receiver";
+
     /**
      * A stashed null hash, which is used for any leaves which are null that we need to send
      * (specifically, leaf 2 for a tree with only a single leaf).
@@ -78,6 +93,17 @@ public final class LearnerPullVirtualTreeView<K extends VirtualKey, V extends Vi
      */
     private final ReconnectConfig reconnectConfig;
 
+    /**
+     * The estimated fraction of this tree that differs from the teacher's, at or above which the
+     * teacher's data source files are received in bulk. Zero if bulk transfer is disabled.
+     */
+    private final double bulkThreshold;
+
+    /**
+     * Indicates if the teacher's data source files are received in bulk rather than node by node.
+     */
+    private boolean bulkTransfer;
+
     /**
      * Handles removal of old nodes.
      */
@@ -109,6 +135,11 @@ public final class LearnerPullVirtualTreeView<K extends VirtualKey, V extends Vi
     /**
      * Create a new {@link LearnerPullVirtualTreeView}.
      *
+     * @param reconnectConfig
+     * 		Reconnect configuration.
+     * @param bulkThreshold
+     * 		The estimated fraction of this tree that differs from the teacher's, at or above which the
+     * 		teacher's data source files are received in bulk, or zero if bulk transfer is disabled.
      * @param root
      * 		The root node of the <strong>reconnect</strong> tree. Cannot be null.
      * @param originalRecords
@@ -126,6 +157,7 @@ public final class LearnerPullVirtualTreeView<K extends VirtualKey, V extends Vi
      */
     public LearnerPullVirtualTreeView(
             final ReconnectConfig reconnectConfig,
+            final double bulkThreshold,
             final VirtualRootNode<K, V> root,
             final RecordAccessor<K, V> originalRecords,
             final VirtualStateAccessor originalState,
@@ -135,6 +167,7 @@ public final class LearnerPullVirtualTreeView<K extends VirtualKey, V extends Vi
             @NonNull final ReconnectMapStats mapStats) {
         super(root, originalState, reconnectState);
         this.reconnectConfig = reconnectConfig;
+        this.bulkThreshold = bulkThreshold;
         this.originalRecords = Objects.requireNonNull(originalRecords);
         this.nodeRemover = nodeRemover;
         this.traversalOrder = traversalOrder;
@@ -151,6 +184,17 @@ public final class LearnerPullVirtualTreeView<K extends VirtualKey, V extends Vi
             final AtomicReference<Long> reconstructedRoot) {
         this.nodeCount = learningSynchronizer;
 
+        if (bulkThreshold > 0) {
+            final long[] teacherLeafPaths = negotiateBulkTransfer(inputStream, outputStream);
+            if (teacherLeafPaths != null) {
+                bulkTransfer = true;
+                workGroup.execute(
+                        BULK_TASK_NAME, () -> receiveSnapshot(inputStream, teacherLeafPaths[0], teacherLeafPaths[1]));
+                reconstructedRoot.set(0L);
+                return;
+            }
+        }
+
         final AsyncOutputStream<PullVirtualTreeRequest> out =
                 learningSynchronizer.buildOutputStream(workGroup, outputStream);
         out.start();
@@ -176,6 +220,62 @@ public final class LearnerPullVirtualTreeView<K extends VirtualKey, V extends Vi
         learnerSendTask.exec();
     }
 
+    /**
+     * Read the first and last leaf paths and sample hashes from the teacher, and tell it whether to send
+     * its data source files in bulk. This must match {@link TeacherPullVirtualTreeView}'s side of the
+     * exchange.
+     *
+     * @return the teacher's first and last leaf paths if a bulk transfer is requested, or null otherwise
+     */
+    private long[] negotiateBulkTransfer(final MerkleDataInputStream in, final MerkleDataOutputStream out) {
+        try {
+            long[] teacherLeafPaths = null;
+            if (in.readBoolean()) {
+                final long firstLeafPath = in.readLong();
+                final long lastLeafPath = in.readLong();
+                final double divergence = BulkReconnectTransfer.compareSampleHashes(
+                        in, firstLeafPath, originalState.getFirstLeafPath(), originalRecords::findHash);
+                logger.info(RECONNECT.getMarker(), "estimated fraction of the tree that differs: {}", divergence);
+                if (root.getDataSourceBuilder().supportsFileTransfer() && (divergence >= bulkThreshold)) {
+                    teacherLeafPaths = new long[] {firstLeafPath, lastLeafPath};
+                }
+            }
+            out.writeBoolean(teacherLeafPaths != null);
+            out.flush();
+            return teacherLeafPaths;
+        } catch (final IOException e) {
+            throw new MerkleSynchronizationException("Failed to negotiate bulk transfer with the teacher", e);
+        }
+    }
+
+    /**
+     * Receive the root hash and all the snapshot files from the teacher into a temporary directory, and
+     * replace the reconnect data source with the snapshot.
+     */
+    private void receiveSnapshot(final MerkleDataInputStream in, final long firstLeafPath, final long lastLeafPath) {
+        Path dir = null;
+        try {
+            final byte[] hashBytes = new byte[DigestType.SHA_384.digestLength()];
+            if (VirtualReconnectUtils.completelyRead(in, hashBytes) != hashBytes.length) {
+                throw new EOFException("Failed to read the root hash from the teacher");
+            }
+            dir = root.getDataSourceBuilder().createTransferDirectory();
+            BulkReconnectTransfer.receiveFiles(in, dir);
+            root.loadReconnectSnapshot(dir, firstLeafPath, lastLeafPath, new Hash(hashBytes, DigestType.SHA_384));
+            logger.info(RECONNECT.getMarker(), "received data source files in bulk");
+        } catch (final IOException e) {
+            throw new MerkleSynchronizationException("Failed to receive data source files from the teacher", e);
+        } finally {
+            if (dir != null) {
+                try {
+                    FileUtils.deleteDirectory(dir);
+                } catch (final IOException e) {
+                    logger.warn(RECONNECT.getMarker(), "Failed to delete bulk transfer directory {}", dir, e);
+                }
+            }
+        }
+    }
+
     /**
      * Determines if a given path refers to a leaf of the tree.
      * @param path a path
@@ -335,7 +435,10 @@ public final class LearnerPullVirtualTreeView<K extends VirtualKey, V extends Vi
      */
     @Override
     public void close() {
-        nodeRemover.allNodesReceived();
+        // After a bulk transfer there is nothing to remove, since the whole data source is replaced
+        if (!bulkTransfer) {
+            nodeRemover.allNodesReceived();
+        }
         root.endLearnerReconnect();
     }
 
@@ -0,0 +1,320 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.virtualmap.internal.reconnect;
+
+import static com.swirlds.logging.legacy.LogMarker.RECONNECT;
+
+import com.swirlds.virtualmap.datasource.VirtualDataSource;
+import com.swirlds.virtualmap.datasource.VirtualDataSourceBuilder;
+import com.swirlds.virtualmap.datasource.VirtualHashRecord;
+import com.swirlds.virtualmap.internal.Path;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * The progress of a failed learner reconnect of a single virtual map: the reconnect data source, and the
+ * subtrees of it that are known to be consistent with their hashes.
+ *
+ * <p>During reconnect, the learner hashes nodes received from the teacher bottom up, and flushes them to the
+ * reconnect data source in batches. A flushed node's hash is computed from hashes of its children, which are
+ * either flushed in the same or an earlier batch, or clean (never sent by the teacher, and never modified in
+ * the data source). So the whole subtree of every flushed node is consistent with the node's hash. All other
+ * nodes, for example, ancestors of flushed nodes that have not been flushed yet, may have stale hashes in the
+ * data source, and must not be trusted. This class tracks the roots of the flushed subtrees, see {@link
+ * #onHashesFlushed(List)}.
+ *
+ * <p>When a reconnect fails, its checkpoint is stored with {@link #save}, and the next reconnect of the same
+ * map takes it with {@link #take}, then uses the checkpoint's data source as its starting point instead of
+ * the original map. Nodes outside of the verified subtrees are reported to the teacher with a hash that never
+ * matches, see {@link CheckpointRecordAccessor}, so the teacher sends them again. The teacher may be in the
+ * same or in a newer state than in the failed reconnect. Either way, only subtrees whose hashes match the
+ * teacher are kept, and the resulting tree is hashed and validated just like after any other reconnect.
+ *
+ * <p>Checkpoints are stored by the identity of the map's {@link VirtualDataSourceBuilder} and the map's
+ * label. The builder is shared by all copies of a node's map, and not by the maps of other nodes, so nodes
+ * running in the same JVM never resume from each other's checkpoints.
+ *
+ * <p>A checkpoint no reconnect resumes from expires. Expired checkpoints are closed, deleting their data, the
+ * next time any checkpoint is saved or taken.
+ *
+ * <p><b>Checkpoints don't survive a restart.</b> They are only kept in memory, while their data is in
+ * temporary data source files on disk, so a restarted node always reconnects from scratch.
+ */
+public final class ReconnectCheckpoint {
+
+    private static final Logger logger = LogManager.getLogger(ReconnectCheckpoint.class);
+
+    /**
+     * Checkpoints of failed reconnects, by data source builder and virtual map label.
+     */
+    private static final Map<Key, Saved> CHECKPOINTS = new HashMap<>();
+
+    private final VirtualDataSource dataSource;
+    private final long firstLeafPath;
+    private final long lastLeafPath;
+
+    /**
+     * The roots of all subtrees that are consistent with their hashes in the data source. No root in this
+     * set is in a subtree of another root.
+     */
+    private final Set<Long> verifiedRoots = new HashSet<>();
+
+    /**
+     * The paths in {@link #verifiedRoots}, sorted, or null if they have changed since the array was built.
+     * Once a reconnect resumes from this checkpoint, no more hashes are flushed to it, so {@link #isVerified}
+     * reads this array without locking or boxing.
+     */
+    private volatile long[] sortedVerifiedRoots = new long[0];
+
+    /**
+     * Create a new, empty checkpoint.
+     *
+     * @param dataSource
+     * 		the reconnect data source
+     * @param firstLeafPath
+     * 		the first leaf path of the tree being received
+     * @param lastLeafPath
+     * 		the last leaf path of the tree being received
+     */
+    public ReconnectCheckpoint(
+            @NonNull final VirtualDataSource dataSource, final long firstLeafPath, final long lastLeafPath) {
+        this.dataSource = Objects.requireNonNull(dataSource);
+        this.firstLeafPath = firstLeafPath;
+        this.lastLeafPath = lastLeafPath;
+    }
+
+    /**
+     * Store the checkpoint of a failed reconnect, so the next reconnect of the same map can resume from it.
+     * If there is already a checkpoint for the map, it's closed and replaced.
+     *
+     * @param builder
+     * 		the data source builder of the map
+     * @param label
+     * 		the virtual map label
+     * @param checkpoint
+     * 		the checkpoint
+     * @param now
+     * 		the current time
+     * @param expiry
+     * 		how long the checkpoint is kept if no reconnect takes it
+     */
+    public static void save(
+            @NonNull final VirtualDataSourceBuilder builder,
+            @NonNull final String label,
+            @NonNull final ReconnectCheckpoint checkpoint,
+            @NonNull final Instant now,
+            @NonNull final Duration expiry) {
+        logger.info(
+                RECONNECT.getMarker(),
+                "Saving reconnect checkpoint for {} with {} verified subtrees",
+                label,
+                checkpoint.getVerifiedRootCount());
+        final ReconnectCheckpoint previous;
+        synchronized (CHECKPOINTS) {
+            closeExpired(now);
+            final Saved saved = CHECKPOINTS.put(new Key(builder, label), new Saved(checkpoint, now.plus(expiry)));
+            previous = saved == null ? null : saved.checkpoint();
+        }
+        if (previous != null && previous != checkpoint) {
+            previous.close();
+        }
+    }
+
+    /**
+     * Remove and return the checkpoint of the last failed reconnect of a map, if any, unless it has expired.
+     * The caller becomes responsible for closing the checkpoint.
+     *
+     * @param builder
+     * 		the data source builder of the map
+     * @param label
+     * 		the virtual map label
+     * @param now
+     * 		the current time
+     * @return the checkpoint, or null if there is none
+     */
+    public static @Nullable ReconnectCheckpoint take(
+            @NonNull final VirtualDataSourceBuilder builder, @NonNull final String label, @NonNull final Instant now) {
+        synchronized (CHECKPOINTS) {
+            closeExpired(now);
+            final Saved saved = CHECKPOINTS.remove(new Key(builder, label));
+            return saved == null ? null : saved.checkpoint();
+        }
+    }
+
+    /**
+     * Close and remove all expired checkpoints. Must hold the lock on {@link #CHECKPOINTS}.
+     */
+    private static void closeExpired(@NonNull final Instant now) {
+        final Iterator<Map.Entry<Key, Saved>> iterator = CHECKPOINTS.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<Key, Saved> entry = iterator.next();
+            if (now.isAfter(entry.getValue().expiresAt())) {
+                logger.info(RECONNECT.getMarker(), "Reconnect checkpoint for {} expired", entry.getKey().label);
+                iterator.remove();
+                entry.getValue().checkpoint().close();
+            }
+        }
+    }
+
+    /**
+     * Get the reconnect data source.
+     *
+     * @return the data source
+     */
+    public @NonNull VirtualDataSource getDataSource() {
+        return dataSource;
+    }
+
+    /**
+     * Get the first leaf path of the tree that was being received.
+     *
+     * @return the first leaf path
+     */
+    public long getFirstLeafPath() {
+        return firstLeafPath;
+    }
+
+    /**
+     * Get the last leaf path of the tree that was being received.
+     *
+     * @return the last leaf path
+     */
+    public long getLastLeafPath() {
+        return lastLeafPath;
+    }
+
+    /**
+     * Record that a batch of hashes has been flushed to the data source. Must be called in flush order.
+     *
+     * @param flushedHashes
+     * 		the flushed hashes
+     */
+    public synchronized void onHashesFlushed(@NonNull final List<VirtualHashRecord> flushedHashes) {
+        // Children are flushed in the same or an earlier batch than their parents, and have greater paths.
+        // Going from greater to lesser paths, every flushed child is a verified root by the time its parent
+        // replaces it
+        final long[] paths = flushedHashes.stream()
+                .mapToLong(VirtualHashRecord::path)
+                .sorted()
+                .toArray();
+        for (int i = paths.length - 1; i >= 0; i--) {
+            final long path = paths[i];
+            verifiedRoots.remove(Path.getLeftChildPath(path));
+            verifiedRoots.remove(Path.getRightChildPath(path));
+            verifiedRoots.add(path);
+        }
+        sortedVerifiedRoots = null;
+    }
+
+    /**
+     * Check if a node is consistent with its hash in the data source, that is if it's in a verified subtree.
+     *
+     * @param path
+     * 		the node path
+     * @return true if the node is in a verified subtree
+     */
+    public boolean isVerified(final long path) {
+        final long[] roots = getSortedVerifiedRoots();
+        if (roots.length == 0) {
+            return false;
+        }
+        // Ancestors have lesser paths, and the parent of the root is -1, so the walk stops as soon as it's
+        // below the least verified root
+        for (long p = path; p >= roots[0]; p = Path.getParentPath(p)) {
+            if (Arrays.binarySearch(roots, p) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private long[] getSortedVerifiedRoots() {
+        final long[] roots = sortedVerifiedRoots;
+        if (roots != null) {
+            return roots;
+        }
+        synchronized (this) {
+            if (sortedVerifiedRoots == null) {
+                sortedVerifiedRoots =
+                        verifiedRoots.stream().mapToLong(Long::longValue).sorted().toArray();
+            }
+            return sortedVerifiedRoots;
+        }
+    }
+
+    /**
+     * Get the number of verified subtrees.
+     *
+     * @return the number of verified subtrees
+     */
+    public synchronized int getVerifiedRootCount() {
+        return verifiedRoots.size();
+    }
+
+    /**
+     * Close the data source, deleting its data.
+     */
+    public void close() {
+        try {
+            dataSource.close();
+        } catch (final IOException e) {
+            logger.warn(RECONNECT.getMarker(), "Failed to close reconnect checkpoint data source", e);
+        }
+    }
+
+    /**
+     * A stored checkpoint, and when it expires.
+     */
+    private record Saved(@NonNull ReconnectCheckpoint checkpoint, @NonNull Instant expiresAt) {}
+
+    /**
+     * The key of a stored checkpoint. Builders are compared by identity, since builders of different nodes may
+     * be equal.
+     */
+    private static final class Key {
+        private final VirtualDataSourceBuilder builder;
+        private final String label;
+
+        private Key(@NonNull final VirtualDataSourceBuilder builder, @NonNull final String label) {
+            this.builder = Objects.requireNonNull(builder);
+            this.label = Objects.requireNonNull(label);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof Key that && builder == that.builder && label.equals(that.label);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(builder) + label.hashCode();
+        }
+    }
+}
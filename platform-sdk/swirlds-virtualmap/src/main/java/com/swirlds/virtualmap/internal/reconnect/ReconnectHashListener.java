@@ -19,6 +19,7 @@ package com.swirlds.virtualmap.internal.reconnect;
 import com.swirlds.virtualmap.VirtualKey;
 import com.swirlds.virtualmap.VirtualValue;
 import com.swirlds.virtualmap.datasource.VirtualDataSource;
+import com.swirlds.virtualmap.datasource.VirtualHashRecord;
 import com.swirlds.virtualmap.datasource.VirtualLeafRecord;
 import com.swirlds.virtualmap.internal.hash.VirtualHashListener;
 import com.swirlds.virtualmap.internal.merkle.AbstractHashListener;
@@ -26,6 +27,8 @@ import com.swirlds.virtualmap.internal.merkle.VirtualMapStatistics;
 import com.swirlds.virtualmap.serialize.KeySerializer;
 import com.swirlds.virtualmap.serialize.ValueSerializer;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.List;
 import java.util.Objects;
 import java.util.stream.Stream;
 
@@ -59,6 +62,11 @@ import java.util.stream.Stream;
 public class ReconnectHashListener<K extends VirtualKey, V extends VirtualValue> extends AbstractHashListener<K, V> {
     private final ReconnectNodeRemover<K, V> nodeRemover;
 
+    /**
+     * The checkpoint to record flushed nodes to, or null if reconnect checkpoints are disabled.
+     */
+    private final ReconnectCheckpoint checkpoint;
+
     /**
      * Create a new {@link ReconnectHashListener}.
      *
@@ -82,6 +90,46 @@ public class ReconnectHashListener<K extends VirtualKey, V extends VirtualValue>
             final int reconnectFlushInterval,
             @NonNull final VirtualMapStatistics statistics,
             @NonNull final ReconnectNodeRemover<K, V> nodeRemover) {
+        this(
+                firstLeafPath,
+                lastLeafPath,
+                keySerializer,
+                valueSerializer,
+                dataSource,
+                reconnectFlushInterval,
+                statistics,
+                nodeRemover,
+                null);
+    }
+
+    /**
+     * Create a new {@link ReconnectHashListener} that records flushed nodes to a reconnect checkpoint.
+     *
+     * @param firstLeafPath
+     * 		The first leaf path. Must be a valid path.
+     * @param lastLeafPath
+     * 		The last leaf path. Must be a valid path.
+     * @param dataSource
+     * 		The data source. Cannot be null.
+     * @param reconnectFlushInterval
+     *      The number of nodes to hash before they are flushed to disk.
+     * @param statistics
+     *      Virtual map stats. Cannot be null.
+     * @param nodeRemover
+     *      The node remover to find leaves to remove. Cannot be null.
+     * @param checkpoint
+     *      The checkpoint to record flushed nodes to. May be null.
+     */
+    public ReconnectHashListener(
+            final long firstLeafPath,
+            final long lastLeafPath,
+            final KeySerializer<K> keySerializer,
+            final ValueSerializer<V> valueSerializer,
+            @NonNull final VirtualDataSource dataSource,
+            final int reconnectFlushInterval,
+            @NonNull final VirtualMapStatistics statistics,
+            @NonNull final ReconnectNodeRemover<K, V> nodeRemover,
+            @Nullable final ReconnectCheckpoint checkpoint) {
         super(
                 firstLeafPath,
                 lastLeafPath,
@@ -91,6 +139,7 @@ public class ReconnectHashListener<K extends VirtualKey, V extends VirtualValue>
                 reconnectFlushInterval,
                 statistics);
         this.nodeRemover = Objects.requireNonNull(nodeRemover);
+        this.checkpoint = checkpoint;
     }
 
     /**
@@ -100,4 +149,14 @@ public class ReconnectHashListener<K extends VirtualKey, V extends VirtualValue>
     protected Stream<VirtualLeafRecord<K, V>> findLeavesToRemove() {
         return nodeRemover.getRecordsToDelete();
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void onHashesFlushed(@NonNull final List<VirtualHashRecord> flushedHashes) {
+        if (checkpoint != null) {
+            checkpoint.onHashesFlushed(flushedHashes);
+        }
+    }
 }
@@ -17,6 +17,7 @@
 package com.swirlds.virtualmap.internal.reconnect;
 
 import static com.swirlds.logging.legacy.LogMarker.EXCEPTION;
+import static com.swirlds.logging.legacy.LogMarker.RECONNECT;
 import static com.swirlds.virtualmap.internal.Path.ROOT_PATH;
 
 import com.swirlds.base.time.Time;
@@ -24,10 +25,12 @@ import com.swirlds.common.crypto.Hash;
 import com.swirlds.common.io.streams.MerkleDataInputStream;
 import com.swirlds.common.io.streams.MerkleDataOutputStream;
 import com.swirlds.common.io.streams.SerializableDataOutputStream;
+import com.swirlds.common.io.utility.FileUtils;
 import com.swirlds.common.merkle.synchronization.TeachingSynchronizer;
 import com.swirlds.common.merkle.synchronization.config.ReconnectConfig;
 import com.swirlds.common.merkle.synchronization.streams.AsyncOutputStream;
 import com.swirlds.common.merkle.synchronization.task.TeacherSubtree;
+import com.swirlds.common.merkle.synchronization.utility.MerkleSynchronizationException;
 import com.swirlds.common.merkle.synchronization.views.TeacherTreeView;
 import com.swirlds.common.threading.framework.config.ThreadConfiguration;
 import com.swirlds.common.threading.manager.ThreadManager;
@@ -39,6 +42,7 @@ import com.swirlds.virtualmap.internal.VirtualStateAccessor;
 import com.swirlds.virtualmap.internal.merkle.VirtualRootNode;
 import com.swirlds.virtualmap.internal.pipeline.VirtualPipeline;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Queue;
 import java.util.concurrent.CountDownLatch;
 import org.apache.logging.log4j.LogManager;
@@ -52,6 +56,10 @@ import org.apache.logging.log4j.Logger;
  * both tasks are completed, the corresponding virtual map is fully synchronized with the
  * teacher.
  *
+ * <p>If bulk transfer is enabled, before the tasks are created the teacher sends sample hashes to
+ * the learner, and if the learner decides that most of its tree differs, the teacher sends a snapshot
+ * of its data source as files instead. See {@link BulkReconnectTransfer}.
+ *
  * <p>This implementation is supposed to work with {@link LearnerPullVirtualTreeView} on the
  * learner side.
  *
@@ -65,8 +73,16 @@ public final class TeacherPullVirtualTreeView<K extends VirtualKey, V extends Vi
 
     private static final Logger logger = LogManager.getLogger(TeacherPullVirtualTreeView.class);
 
+    private static final String BULK_TASK_NAME = "reconnect-teacher-bulk-sender";
+
     private final ReconnectConfig reconnectConfig;
 
+    /**
+     * The estimated fraction of the learner's tree that differs, at or above which the data source
+     * files are sent in bulk. Zero if bulk transfer is disabled.
+     */
+    private final double bulkThreshold;
+
     /**
      * The {@link RecordAccessor} used for accessing the original map state.
      */
@@ -82,6 +98,11 @@ public final class TeacherPullVirtualTreeView<K extends VirtualKey, V extends Vi
      *
      * @param threadManager
      * 		responsible for creating and managing threads
+     * @param reconnectConfig
+     * 		reconnect configuration
+     * @param bulkThreshold
+     * 		the estimated fraction of the learner's tree that differs, at or above which the data
+     * 		source files are sent in bulk, or zero if bulk transfer is disabled
      * @param root
      * 		The root node on the teacher side of the saved state that we are going to reconnect.
      * @param state
@@ -92,12 +113,14 @@ public final class TeacherPullVirtualTreeView<K extends VirtualKey, V extends Vi
     public TeacherPullVirtualTreeView(
             final ThreadManager threadManager,
             final ReconnectConfig reconnectConfig,
+            final double bulkThreshold,
             final VirtualRootNode<K, V> root,
             final VirtualStateAccessor state,
             final VirtualPipeline<K, V> pipeline) {
         // There is no distinction between originalState and reconnectState in this implementation
         super(root, state, state);
         this.reconnectConfig = reconnectConfig;
+        this.bulkThreshold = bulkThreshold;
         new ThreadConfiguration(threadManager)
                 .setRunnable(() -> {
                     records = pipeline.pausePipelineAndRun("copy", root::detach);
@@ -117,6 +140,11 @@ public final class TeacherPullVirtualTreeView<K extends VirtualKey, V extends Vi
             final MerkleDataInputStream inputStream,
             final MerkleDataOutputStream outputStream,
             final Queue<TeacherSubtree> subtrees) {
+        if ((bulkThreshold > 0) && isBulkTransferRequested(inputStream, outputStream)) {
+            workGroup.execute(BULK_TASK_NAME, () -> sendSnapshot(outputStream));
+            return;
+        }
+
         final AsyncOutputStream<PullVirtualTreeResponse> out =
                 teachingSynchronizer.buildOutputStream(workGroup, outputStream);
         out.start();
@@ -126,6 +154,53 @@ public final class TeacherPullVirtualTreeView<K extends VirtualKey, V extends Vi
         teacherReceiveTask.exec();
     }
 
+    /**
+     * Send the first and last leaf paths and sample hashes to the learner, and read whether it requests
+     * a bulk transfer. This must match {@link LearnerPullVirtualTreeView}'s side of the exchange.
+     */
+    private boolean isBulkTransferRequested(final MerkleDataInputStream in, final MerkleDataOutputStream out) {
+        try {
+            final boolean supported = root.getDataSourceBuilder().supportsFileTransfer();
+            out.writeBoolean(supported);
+            if (supported) {
+                out.writeLong(reconnectState.getFirstLeafPath());
+                out.writeLong(reconnectState.getLastLeafPath());
+                BulkReconnectTransfer.writeSampleHashes(out, reconnectState.getFirstLeafPath(), records::findHash);
+            }
+            out.flush();
+            final boolean requested = in.readBoolean();
+            logger.info(RECONNECT.getMarker(), "learner requested bulk transfer: {}", requested);
+            return requested;
+        } catch (final IOException e) {
+            throw new MerkleSynchronizationException("Failed to negotiate bulk transfer with the learner", e);
+        }
+    }
+
+    /**
+     * Snapshot the detached copy of the data source to a temporary directory, and send the root hash and
+     * all the snapshot files to the learner.
+     */
+    private void sendSnapshot(final MerkleDataOutputStream out) {
+        Path dir = null;
+        try {
+            dir = root.getDataSourceBuilder().createTransferDirectory();
+            root.snapshotDetached(records, dir);
+            root.getHash().getBytes().writeTo(out);
+            BulkReconnectTransfer.sendFiles(dir, out);
+            logger.info(RECONNECT.getMarker(), "sent data source files in bulk");
+        } catch (final IOException e) {
+            throw new MerkleSynchronizationException("Failed to send data source files to the learner", e);
+        } finally {
+            if (dir != null) {
+                try {
+                    FileUtils.deleteDirectory(dir);
+                } catch (final IOException e) {
+                    logger.warn(RECONNECT.getMarker(), "Failed to delete bulk transfer directory {}", dir, e);
+                }
+            }
+        }
+    }
+
     private boolean isLeaf(final long path) {
         return (path >= reconnectState.getFirstLeafPath()) && (path <= reconnectState.getLastLeafPath());
     }
@@ -0,0 +1,165 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.virtualmap.internal.reconnect;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.swirlds.common.crypto.DigestType;
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.io.streams.SerializableDataInputStream;
+import com.swirlds.common.io.streams.SerializableDataOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.function.LongFunction;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BulkReconnectTransferTest {
+
+    @TempDir
+    private Path tempDir;
+
+    private static Hash hashOf(final long value) {
+        final byte[] bytes = new byte[DigestType.SHA_384.digestLength()];
+        new Random(value).nextBytes(bytes);
+        return new Hash(bytes, DigestType.SHA_384);
+    }
+
+    private static SerializableDataInputStream inputOf(final ByteArrayOutputStream bytes) {
+        return new SerializableDataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+    }
+
+    @Test
+    @Tags({@Tag("Reconnect")})
+    @DisplayName("Sample rank is the highest rank with only internal nodes")
+    void sampleRank() {
+        assertEquals(-1, BulkReconnectTransfer.getSampleRank(-1), "An empty tree has no sample rank");
+        assertEquals(-1, BulkReconnectTransfer.getSampleRank(2), "Rank 1 of a 3 leaf tree has a leaf");
+        assertEquals(1, BulkReconnectTransfer.getSampleRank(3), "Rank 1 of a 4 leaf tree is internal");
+        assertEquals(2, BulkReconnectTransfer.getSampleRank(10), "Rank 2 of an 11 leaf tree is internal");
+        assertEquals(
+                BulkReconnectTransfer.MAX_SAMPLE_RANK,
+                BulkReconnectTransfer.getSampleRank(1_000_000_000L),
+                "The sample rank is limited");
+    }
+
+    @Test
+    @Tags({@Tag("Reconnect")})
+    @DisplayName("Sample hashes estimate the fraction of the tree that differs")
+    void compareSampleHashes() throws IOException {
+        // 32 leaves, so rank 4 is sampled: paths 15 to 30
+        final long firstLeafPath = 31;
+        final LongFunction<Hash> teacherHashes = BulkReconnectTransferTest::hashOf;
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BulkReconnectTransfer.writeSampleHashes(new SerializableDataOutputStream(bytes), firstLeafPath, teacherHashes);
+
+        final LongFunction<Hash> sameHashes = teacherHashes;
+        assertEquals(
+                0.0,
+                BulkReconnectTransfer.compareSampleHashes(inputOf(bytes), firstLeafPath, firstLeafPath, sameHashes),
+                "Identical trees should not differ");
+
+        final LongFunction<Hash> quarterDiffers = path -> path < 19 ? hashOf(-path) : hashOf(path);
+        assertEquals(
+                0.25,
+                BulkReconnectTransfer.compareSampleHashes(inputOf(bytes), firstLeafPath, firstLeafPath, quarterDiffers),
+                "4 of 16 sampled nodes differ");
+
+        // A learner tree with 16 leaves only has internal nodes up to path 14
+        assertEquals(
+                1.0,
+                BulkReconnectTransfer.compareSampleHashes(inputOf(bytes), firstLeafPath, 15, sameHashes),
+                "Sampled nodes that are leaves on the learner differ");
+        assertEquals(
+                1.0,
+                BulkReconnectTransfer.compareSampleHashes(inputOf(bytes), firstLeafPath, -1, sameHashes),
+                "Everything differs from an empty tree");
+    }
+
+    @Test
+    @Tags({@Tag("Reconnect")})
+    @DisplayName("Files are transferred with their relative paths")
+    void transferFiles() throws IOException {
+        final Path source = Files.createDirectories(tempDir.resolve("source"));
+        final byte[] data = new byte[100_000];
+        new Random(42).nextBytes(data);
+        Files.write(source.resolve("metadata.mdb"), new byte[] {1, 2, 3});
+        Files.createDirectories(source.resolve("tables/table1"));
+        Files.write(source.resolve("tables/table1/data.pbj"), data);
+        Files.write(source.resolve("tables/table1/empty"), new byte[0]);
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BulkReconnectTransfer.sendFiles(source, new SerializableDataOutputStream(bytes));
+
+        final Path target = Files.createDirectories(tempDir.resolve("target"));
+        BulkReconnectTransfer.receiveFiles(inputOf(bytes), target);
+
+        assertArrayEquals(
+                new byte[] {1, 2, 3}, Files.readAllBytes(target.resolve("metadata.mdb")), "Wrong file contents");
+        assertArrayEquals(data, Files.readAllBytes(target.resolve("tables/table1/data.pbj")), "Wrong file contents");
+        assertEquals(0, Files.size(target.resolve("tables/table1/empty")), "Empty files should be transferred");
+    }
+
+    @Test
+    @Tags({@Tag("Reconnect")})
+    @DisplayName("Files outside the target directory are rejected")
+    void rejectsPathsOutsideDirectory() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final SerializableDataOutputStream out = new SerializableDataOutputStream(bytes);
+        out.writeInt(1);
+        out.writeNormalisedString("../outside");
+        out.writeLong(1);
+        out.write(0);
+        out.flush();
+
+        final Path target = Files.createDirectories(tempDir.resolve("target"));
+        assertThrows(
+                IOException.class,
+                () -> BulkReconnectTransfer.receiveFiles(inputOf(bytes), target),
+                "Paths outside the target directory should be rejected");
+        assertFalse(Files.exists(tempDir.resolve("outside")), "Nothing should be written outside the target");
+    }
+
+    @Test
+    @Tags({@Tag("Reconnect")})
+    @DisplayName("Truncated files are rejected")
+    void rejectsTruncatedFiles() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final SerializableDataOutputStream out = new SerializableDataOutputStream(bytes);
+        out.writeInt(1);
+        out.writeNormalisedString("file");
+        out.writeLong(10);
+        out.write(new byte[5]);
+        out.flush();
+
+        final Path target = Files.createDirectories(tempDir.resolve("target"));
+        assertThrows(
+                IOException.class,
+                () -> BulkReconnectTransfer.receiveFiles(inputOf(bytes), target),
+                "Truncated files should be rejected");
+    }
+}
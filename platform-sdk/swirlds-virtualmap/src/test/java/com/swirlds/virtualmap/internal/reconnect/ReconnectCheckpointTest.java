@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.virtualmap.internal.reconnect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.virtualmap.datasource.VirtualDataSource;
+import com.swirlds.virtualmap.datasource.VirtualDataSourceBuilder;
+import com.swirlds.virtualmap.datasource.VirtualHashRecord;
+import com.swirlds.virtualmap.internal.RecordAccessor;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+
+class ReconnectCheckpointTest {
+
+    private static final Instant NOW = Instant.ofEpochSecond(1_700_000_000L);
+    private static final Duration EXPIRY = Duration.ofMinutes(10);
+
+    private static List<VirtualHashRecord> hashes(final long... paths) {
+        return Arrays.stream(paths)
+                .mapToObj(path -> new VirtualHashRecord(path, new Hash()))
+                .toList();
+    }
+
+    @Test
+    @Tags({@Tag("Reconnect")})
+    @DisplayName("Only subtrees of flushed nodes are verified")
+    void verifiedSubtrees() {
+        // 8 leaves, paths 7 to 14
+        final ReconnectCheckpoint checkpoint = new ReconnectCheckpoint(mock(VirtualDataSource.class), 7, 14);
+        assertFalse(checkpoint.isVerified(0), "Nothing is verified before the first flush");
+
+        // Leaves 7 and 8, their parent 3, and leaf 9
+        checkpoint.onHashesFlushed(hashes(9, 3, 7, 8));
+        assertEquals(2, checkpoint.getVerifiedRootCount(), "Paths 3 and 9 should be verified roots");
+        assertTrue(checkpoint.isVerified(3), "A flushed node is verified");
+        assertTrue(checkpoint.isVerified(8), "A node under a flushed node is verified");
+        assertTrue(checkpoint.isVerified(9), "A flushed leaf is verified");
+        assertFalse(checkpoint.isVerified(1), "The parent of a flushed node may have a stale hash");
+        assertFalse(checkpoint.isVerified(4), "The parent of a flushed leaf may have a stale hash");
+        assertFalse(checkpoint.isVerified(10), "A leaf that isn't flushed isn't verified");
+
+        // Leaf 10 is clean, so its parent is hashed and flushed without it
+        checkpoint.onHashesFlushed(hashes(4, 1));
+        assertEquals(1, checkpoint.getVerifiedRootCount(), "Path 1 should replace its flushed descendants");
+        assertTrue(checkpoint.isVerified(10), "A clean node under a flushed node is verified");
+        assertFalse(checkpoint.isVerified(0), "The root isn't flushed yet");
+        assertFalse(checkpoint.isVerified(2), "The right subtree isn't flushed yet");
+
+        checkpoint.onHashesFlushed(hashes(2, 0));
+        assertTrue(checkpoint.isVerified(0), "A flushed root is verified");
+        assertTrue(checkpoint.isVerified(14), "Every node under a flushed root is verified");
+    }
+
+    @Test
+    @Tags({@Tag("Reconnect")})
+    @DisplayName("Hashes of unverified nodes never match")
+    void unverifiedHashes() {
+        final ReconnectCheckpoint checkpoint = new ReconnectCheckpoint(mock(VirtualDataSource.class), 3, 6);
+        checkpoint.onHashesFlushed(hashes(3, 4, 1));
+        @SuppressWarnings("unchecked")
+        final CheckpointRecordAccessor<?, ?> records =
+                new CheckpointRecordAccessor<>(mock(RecordAccessor.class), checkpoint);
+        assertSame(CheckpointRecordAccessor.UNVERIFIED_HASH, records.findHash(2), "Path 2 isn't verified");
+        assertSame(CheckpointRecordAccessor.UNVERIFIED_HASH, records.findHash(0), "The root isn't verified");
+        assertNull(records.findHash(1), "Verified hashes should be looked up in the data source");
+    }
+
+    @Test
+    @Tags({@Tag("Reconnect")})
+    @DisplayName("Checkpoints are taken once and replaced checkpoints are closed")
+    void saveAndTake() throws IOException {
+        final VirtualDataSourceBuilder builder = mock(VirtualDataSourceBuilder.class);
+        final VirtualDataSource first = mock(VirtualDataSource.class);
+        final VirtualDataSource second = mock(VirtualDataSource.class);
+        final ReconnectCheckpoint secondCheckpoint = new ReconnectCheckpoint(second, 1, 2);
+        ReconnectCheckpoint.save(builder, "checkpointTest", new ReconnectCheckpoint(first, 1, 2), NOW, EXPIRY);
+        ReconnectCheckpoint.save(builder, "checkpointTest", secondCheckpoint, NOW, EXPIRY);
+        verify(first).close();
+        verify(second, never()).close();
+
+        assertSame(
+                secondCheckpoint,
+                ReconnectCheckpoint.take(builder, "checkpointTest", NOW),
+                "The last checkpoint is taken");
+        assertNull(ReconnectCheckpoint.take(builder, "checkpointTest", NOW), "A checkpoint is only taken once");
+    }
+
+    @Test
+    @Tags({@Tag("Reconnect")})
+    @DisplayName("Checkpoints are only taken by maps with the same data source builder")
+    void scopedByBuilder() throws IOException {
+        final VirtualDataSourceBuilder mine = mock(VirtualDataSourceBuilder.class);
+        final VirtualDataSourceBuilder other = mock(VirtualDataSourceBuilder.class);
+        final VirtualDataSource mineSource = mock(VirtualDataSource.class);
+        final VirtualDataSource otherSource = mock(VirtualDataSource.class);
+        final ReconnectCheckpoint mineCheckpoint = new ReconnectCheckpoint(mineSource, 1, 2);
+        final ReconnectCheckpoint otherCheckpoint = new ReconnectCheckpoint(otherSource, 1, 2);
+        ReconnectCheckpoint.save(mine, "scopedTest", mineCheckpoint, NOW, EXPIRY);
+        ReconnectCheckpoint.save(other, "scopedTest", otherCheckpoint, NOW, EXPIRY);
+        verify(mineSource, never()).close();
+
+        assertSame(otherCheckpoint, ReconnectCheckpoint.take(other, "scopedTest", NOW), "Each node has its own");
+        assertSame(mineCheckpoint, ReconnectCheckpoint.take(mine, "scopedTest", NOW), "Each node has its own");
+    }
+
+    @Test
+    @Tags({@Tag("Reconnect")})
+    @DisplayName("Expired checkpoints are closed and never taken")
+    void expiredCheckpoints() throws IOException {
+        final VirtualDataSourceBuilder builder = mock(VirtualDataSourceBuilder.class);
+        final VirtualDataSource taken = mock(VirtualDataSource.class);
+        final VirtualDataSource abandoned = mock(VirtualDataSource.class);
+        ReconnectCheckpoint.save(builder, "expiredTest", new ReconnectCheckpoint(taken, 1, 2), NOW, EXPIRY);
+        ReconnectCheckpoint.save(builder, "abandonedTest", new ReconnectCheckpoint(abandoned, 1, 2), NOW, EXPIRY);
+
+        final Instant later = NOW.plus(EXPIRY).plusMillis(1);
+        assertNull(ReconnectCheckpoint.take(builder, "expiredTest", later), "Expired checkpoints are not taken");
+        verify(taken).close();
+        verify(abandoned).close();
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.virtualmap.internal.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentLongObjectMapTest {
+
+    @Test
+    @Tags({@Tag("VirtualMerkle"), @Tag("VirtualNodeCache")})
+    @DisplayName("Put, get, compute, and remove match a hash map")
+    void matchesHashMap() {
+        final ConcurrentLongObjectMap<String> map = new ConcurrentLongObjectMap<>();
+        final Map<Long, String> expected = new HashMap<>();
+        final Random random = new Random(31);
+        for (int i = 0; i < 200_000; i++) {
+            // A small key range, so keys are updated and removed many times, and tables are full of collisions
+            final long key = random.nextInt(5_000);
+            final int op = random.nextInt(3);
+            if (op == 0) {
+                map.put(key, "v" + i);
+                expected.put(key, "v" + i);
+            } else if (op == 1) {
+                map.compute(key, v -> null);
+                expected.remove(key);
+            } else {
+                map.compute(key, v -> v == null ? "new" : v + "+");
+                expected.compute(key, (k, v) -> v == null ? "new" : v + "+");
+            }
+        }
+        assertEquals(expected.size(), map.size(), "Wrong map size");
+        for (long key = 0; key < 5_000; key++) {
+            assertEquals(expected.get(key), map.get(key), "Wrong value for key " + key);
+        }
+        final AtomicInteger count = new AtomicInteger();
+        map.forEachValue(v -> count.incrementAndGet());
+        assertEquals(expected.size(), count.get(), "Every value should be visited once");
+    }
+
+    @Test
+    @Tags({@Tag("VirtualMerkle"), @Tag("VirtualNodeCache")})
+    @DisplayName("Negative keys are not supported")
+    void negativeKeys() {
+        final ConcurrentLongObjectMap<String> map = new ConcurrentLongObjectMap<>();
+        assertNull(map.get(-1), "Negative keys are never mapped");
+        assertThrows(IllegalArgumentException.class, () -> map.put(-1, "a"), "Negative keys can't be mapped");
+        assertThrows(NullPointerException.class, () -> map.put(1, null), "Null values can't be mapped");
+    }
+
+    @Test
+    @Tags({@Tag("VirtualMerkle"), @Tag("VirtualNodeCache")})
+    @DisplayName("Concurrent updates and reads")
+    void concurrentUpdates() throws Exception {
+        final ConcurrentLongObjectMap<AtomicLong> map = new ConcurrentLongObjectMap<>();
+        final int threads = 8;
+        final int keysPerThread = 50_000;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    // All threads update the same keys, and read keys being updated by others
+                    for (long key = 0; key < keysPerThread; key++) {
+                        map.compute(key, v -> {
+                            final AtomicLong counter = v == null ? new AtomicLong() : v;
+                            counter.incrementAndGet();
+                            return counter;
+                        });
+                        final AtomicLong counter = map.get(key);
+                        if ((counter == null) || (counter.get() == 0)) {
+                            throw new IllegalStateException("Key " + key + " should be mapped");
+                        }
+                    }
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(keysPerThread, map.size(), "Wrong map size");
+        for (long key = 0; key < keysPerThread; key++) {
+            assertEquals(threads, map.get(key).get(), "Every thread should update every key");
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.virtualmap.internal.hash;
+
+import static com.swirlds.common.test.fixtures.AssertionUtils.assertEventuallyTrue;
+import static com.swirlds.virtualmap.test.fixtures.VirtualMapTestUtils.VIRTUAL_MAP_CONFIG;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.swirlds.common.crypto.CryptographyHolder;
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.test.fixtures.junit.tags.TestComponentTags;
+import com.swirlds.virtualmap.datasource.VirtualLeafRecord;
+import com.swirlds.virtualmap.test.fixtures.TestKey;
+import com.swirlds.virtualmap.test.fixtures.TestValue;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link IncrementalLeafHasher}.
+ */
+class IncrementalLeafHasherTest extends VirtualHasherTestBase {
+
+    private static VirtualLeafRecord<TestKey, TestValue> leaf(final long path, final int key, final String value) {
+        return new VirtualLeafRecord<>(path, new TestKey(key), new TestValue(value));
+    }
+
+    private static void awaitLeafHash(
+            final IncrementalLeafHasher<TestKey, TestValue> hasher, final VirtualLeafRecord<TestKey, TestValue> leaf) {
+        assertEventuallyTrue(
+                () -> hasher.getLeafHash(leaf) != null, Duration.ofSeconds(5), "Leaf should be hashed in background");
+    }
+
+    @Test
+    @Tag(TestComponentTags.VMAP)
+    @DisplayName("Leaves are hashed in the background")
+    void leavesAreHashed() {
+        final IncrementalLeafHasher<TestKey, TestValue> hasher = new IncrementalLeafHasher<>(VIRTUAL_MAP_CONFIG);
+        final VirtualLeafRecord<TestKey, TestValue> leaf = leaf(5, 1, "one");
+        hasher.onLeafPut(leaf);
+        awaitLeafHash(hasher, leaf);
+        assertEquals(CryptographyHolder.get().digestSync(leaf), hasher.getLeafHash(leaf), "Wrong leaf hash");
+    }
+
+    @Test
+    @Tag(TestComponentTags.VMAP)
+    @DisplayName("Hashes of moved or changed leaves are not used")
+    void changedLeaves() {
+        final IncrementalLeafHasher<TestKey, TestValue> hasher = new IncrementalLeafHasher<>(VIRTUAL_MAP_CONFIG);
+        final VirtualLeafRecord<TestKey, TestValue> leaf = leaf(5, 1, "one");
+        hasher.onLeafPut(leaf);
+        awaitLeafHash(hasher, leaf);
+
+        leaf.setPath(6);
+        assertNull(hasher.getLeafHash(leaf), "A moved leaf shouldn't have a hash until it's put again");
+        hasher.onLeafPut(leaf);
+        awaitLeafHash(hasher, leaf);
+        assertEquals(CryptographyHolder.get().digestSync(leaf), hasher.getLeafHash(leaf), "Wrong moved leaf hash");
+
+        leaf.setValue(new TestValue("two"));
+        assertNull(hasher.getLeafHash(leaf), "A leaf with a new value shouldn't have a hash until it's put again");
+    }
+
+    @Test
+    @Tag(TestComponentTags.VMAP)
+    @DisplayName("Leaves obtained for modification are not hashed")
+    void modifiableLeaves() {
+        final IncrementalLeafHasher<TestKey, TestValue> hasher = new IncrementalLeafHasher<>(VIRTUAL_MAP_CONFIG);
+        final VirtualLeafRecord<TestKey, TestValue> leaf = leaf(5, 1, "one");
+        hasher.onLeafPut(leaf);
+        awaitLeafHash(hasher, leaf);
+
+        hasher.onLeafModifiable(leaf.getKey());
+        assertNull(hasher.getLeafHash(leaf), "A modifiable leaf shouldn't have a hash");
+        leaf.setPath(6);
+        hasher.onLeafPut(leaf);
+        assertNull(hasher.getLeafHash(leaf), "A modifiable leaf shouldn't be hashed when moved");
+    }
+
+    @Test
+    @Tag(TestComponentTags.VMAP)
+    @DisplayName("Virtual hasher uses leaf hashes computed in advance")
+    void virtualHasherUsesLeafHashes() {
+        final TestDataSource ds = new TestDataSource(7, 14);
+        final List<VirtualLeafRecord<TestKey, TestValue>> leaves = new ArrayList<>();
+        for (long path = 7; path <= 14; path++) {
+            leaves.add(ds.getLeaf(path));
+        }
+        final LongFunction<Hash> hashReader = ds::loadHash;
+        final Hash expected =
+                new VirtualHasher<TestKey, TestValue>().hash(hashReader, leaves.iterator(), 7, 14, VIRTUAL_MAP_CONFIG);
+
+        final IncrementalLeafHasher<TestKey, TestValue> incremental = new IncrementalLeafHasher<>(VIRTUAL_MAP_CONFIG);
+        for (int i = 0; i < leaves.size(); i += 2) {
+            incremental.onLeafPut(leaves.get(i));
+            awaitLeafHash(incremental, leaves.get(i));
+        }
+        final AtomicInteger lookups = new AtomicInteger();
+        final AtomicInteger hits = new AtomicInteger();
+        final Iterator<VirtualLeafRecord<TestKey, TestValue>> it = leaves.iterator();
+        final Hash actual = new VirtualHasher<TestKey, TestValue>()
+                .hash(
+                        hashReader,
+                        leaf -> {
+                            lookups.incrementAndGet();
+                            final Hash hash = incremental.getLeafHash(leaf);
+                            if (hash != null) {
+                                hits.incrementAndGet();
+                            }
+                            return hash;
+                        },
+                        it,
+                        7,
+                        14,
+                        null,
+                        VIRTUAL_MAP_CONFIG);
+        assertEquals(expected, actual, "Root hash should not depend on leaf hashes computed in advance");
+        assertEquals(leaves.size(), lookups.get(), "Every dirty leaf should be looked up");
+        assertEquals(leaves.size() / 2, hits.get(), "Half of the leaves should be hashed in advance");
+    }
+}
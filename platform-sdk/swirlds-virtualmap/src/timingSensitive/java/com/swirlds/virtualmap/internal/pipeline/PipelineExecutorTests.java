@@ -0,0 +1,205 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.virtualmap.internal.pipeline;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.common.test.fixtures.junit.tags.TestComponentTags;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("PipelineExecutor Tests")
+class PipelineExecutorTests {
+
+    private final ExecutorService sharedExecutor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void shutdownSharedExecutor() {
+        sharedExecutor.shutdownNow();
+    }
+
+    @Test
+    @Tag(TestComponentTags.VMAP)
+    @DisplayName("Tasks of one executor run one at a time, in order")
+    void tasksRunInOrder() throws InterruptedException {
+        final PipelineExecutor executor = new PipelineExecutor(sharedExecutor);
+        final List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicBoolean overlapped = new AtomicBoolean();
+        for (int i = 0; i < 100; i++) {
+            final int task = i;
+            executor.execute(() -> {
+                if (running.incrementAndGet() > 1) {
+                    overlapped.set(true);
+                }
+                order.add(task);
+                running.decrementAndGet();
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, SECONDS), "All tasks should complete");
+        assertFalse(overlapped.get(), "Tasks should never run concurrently");
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, order.get(i), "Tasks should run in submission order");
+        }
+    }
+
+    @Test
+    @Tag(TestComponentTags.VMAP)
+    @DisplayName("Different executors run in parallel on shared threads")
+    void executorsRunInParallel() throws InterruptedException {
+        final PipelineExecutor first = new PipelineExecutor(sharedExecutor);
+        final PipelineExecutor second = new PipelineExecutor(sharedExecutor);
+        final CountDownLatch bothStarted = new CountDownLatch(2);
+        final Runnable task = () -> {
+            bothStarted.countDown();
+            try {
+                bothStarted.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        first.execute(task);
+        second.execute(task);
+        assertTrue(bothStarted.await(5, SECONDS), "Tasks of different executors should run at the same time");
+    }
+
+    @Test
+    @Tag(TestComponentTags.VMAP)
+    @DisplayName("Shutdown completes queued tasks and rejects new ones")
+    void shutdown() throws InterruptedException {
+        final PipelineExecutor executor = new PipelineExecutor(sharedExecutor);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicBoolean queuedTaskRan = new AtomicBoolean();
+        executor.execute(() -> {
+            try {
+                release.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        executor.execute(() -> queuedTaskRan.set(true));
+        executor.shutdown();
+
+        assertTrue(executor.isShutdown(), "Executor should be shut down");
+        assertFalse(executor.isTerminated(), "Executor should not terminate while a task is running");
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> {}), "New tasks are rejected");
+
+        release.countDown();
+        assertTrue(executor.awaitTermination(5, SECONDS), "Executor should terminate");
+        assertTrue(queuedTaskRan.get(), "Tasks queued before shutdown should run");
+    }
+
+    @Test
+    @Tag(TestComponentTags.VMAP)
+    @DisplayName("Immediate shutdown interrupts the running task and drops queued ones")
+    void shutdownNow() throws InterruptedException {
+        final PipelineExecutor executor = new PipelineExecutor(sharedExecutor);
+        final CountDownLatch started = new CountDownLatch(1);
+        final AtomicBoolean interrupted = new AtomicBoolean();
+        executor.execute(() -> {
+            started.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (final InterruptedException e) {
+                interrupted.set(true);
+            }
+        });
+        executor.execute(() -> {});
+        assertTrue(started.await(5, SECONDS), "First task should start");
+
+        assertEquals(1, executor.shutdownNow().size(), "The queued task should not run");
+        assertTrue(executor.awaitTermination(5, SECONDS), "Executor should terminate");
+        assertTrue(interrupted.get(), "The running task should be interrupted");
+
+        // The shared thread is still usable, and not interrupted
+        final PipelineExecutor other = new PipelineExecutor(sharedExecutor);
+        final AtomicBoolean otherInterrupted = new AtomicBoolean(true);
+        other.execute(() -> otherInterrupted.set(Thread.currentThread().isInterrupted()));
+        other.shutdown();
+        assertTrue(other.awaitTermination(5, SECONDS), "Other executor should terminate");
+        assertFalse(otherInterrupted.get(), "Shared threads should not stay interrupted");
+    }
+
+    @Test
+    @Tag(TestComponentTags.VMAP)
+    @DisplayName("A paused executor waits on the caller's thread and doesn't hold a shared thread")
+    void pauseDoesNotHoldSharedThread() throws InterruptedException {
+        final ExecutorService singleThread = Executors.newSingleThreadExecutor();
+        try {
+            final PipelineExecutor paused = new PipelineExecutor(singleThread);
+            final PipelineExecutor other = new PipelineExecutor(singleThread);
+            final AtomicBoolean submittedBeforePauseRan = new AtomicBoolean();
+            final AtomicBoolean submittedWhilePausedRan = new AtomicBoolean();
+            paused.execute(() -> submittedBeforePauseRan.set(true));
+            paused.pause();
+            assertTrue(submittedBeforePauseRan.get(), "Pause should wait for tasks submitted before it");
+
+            paused.execute(() -> submittedWhilePausedRan.set(true));
+            final CountDownLatch otherRan = new CountDownLatch(1);
+            other.execute(otherRan::countDown);
+            assertTrue(otherRan.await(5, SECONDS), "Other executors should use the only shared thread");
+            assertFalse(submittedWhilePausedRan.get(), "Tasks should not run while paused");
+
+            paused.resume();
+            paused.shutdown();
+            assertTrue(paused.awaitTermination(5, SECONDS), "Executor should terminate");
+            assertTrue(submittedWhilePausedRan.get(), "Tasks queued while paused should run once resumed");
+        } finally {
+            singleThread.shutdownNow();
+        }
+    }
+
+    @Test
+    @Tag(TestComponentTags.VMAP)
+    @DisplayName("The termination callback is called once, when the last task completes")
+    void terminationCallback() throws InterruptedException {
+        final AtomicInteger terminations = new AtomicInteger();
+        final PipelineExecutor executor = new PipelineExecutor(sharedExecutor, terminations::incrementAndGet);
+        final CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> {
+            try {
+                release.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        executor.shutdown();
+        executor.shutdown();
+        assertEquals(0, terminations.get(), "The executor has not terminated yet");
+
+        release.countDown();
+        assertTrue(executor.awaitTermination(5, SECONDS), "Executor should terminate");
+        executor.shutdownNow();
+        assertEquals(1, terminations.get(), "The callback should be called exactly once");
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.virtualmap.internal.reconnect;
+
+import org.junit.jupiter.api.DisplayName;
+
+/**
+ * Runs every {@link VirtualMapReconnectTest} with four subtrees received in parallel, so the teacher and learner
+ * failures of the map under test happen in the middle of one lane while the other lanes are still receiving.
+ */
+@DisplayName("Virtual Map Reconnect Test (4 parallel subtrees)")
+class ParallelVirtualMapReconnectTest extends VirtualMapReconnectTest {
+
+    @Override
+    protected int parallelSubtrees() {
+        return 4;
+    }
+}
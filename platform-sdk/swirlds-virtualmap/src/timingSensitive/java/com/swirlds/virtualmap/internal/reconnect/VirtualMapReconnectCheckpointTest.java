@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.virtualmap.internal.reconnect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.common.config.StateCommonConfig;
+import com.swirlds.common.constructable.ClassConstructorPair;
+import com.swirlds.common.constructable.ConstructableRegistry;
+import com.swirlds.common.constructable.ConstructableRegistryException;
+import com.swirlds.common.io.config.TemporaryFileConfig;
+import com.swirlds.common.merkle.MerkleInternal;
+import com.swirlds.common.test.fixtures.merkle.dummy.DummyMerkleInternal;
+import com.swirlds.common.test.fixtures.merkle.util.MerkleTestUtils;
+import com.swirlds.config.api.Configuration;
+import com.swirlds.config.api.ConfigurationBuilder;
+import com.swirlds.virtualmap.VirtualMap;
+import com.swirlds.virtualmap.config.VirtualMapConfig;
+import com.swirlds.virtualmap.config.VirtualMapConfig_;
+import com.swirlds.virtualmap.datasource.VirtualDataSourceBuilder;
+import com.swirlds.virtualmap.internal.merkle.VirtualRootNode;
+import com.swirlds.virtualmap.test.fixtures.InMemoryBuilder;
+import com.swirlds.virtualmap.test.fixtures.TestKey;
+import com.swirlds.virtualmap.test.fixtures.TestValue;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Virtual Map Reconnect Checkpoint Test")
+class VirtualMapReconnectCheckpointTest extends VirtualMapReconnectTestBase {
+
+    private static final int TEACHER_SIZE = 1_000;
+
+    private static final Configuration CHECKPOINT_CONFIGURATION = ConfigurationBuilder.create()
+            .withConfigDataType(VirtualMapConfig.class)
+            .withConfigDataType(TemporaryFileConfig.class)
+            .withConfigDataType(StateCommonConfig.class)
+            .withValue(VirtualMapConfig_.RECONNECT_CHECKPOINTS, "true")
+            // Flush often, so the checkpoint has many verified subtrees when the reconnect breaks
+            .withValue(VirtualMapConfig_.RECONNECT_FLUSH_INTERVAL, "100")
+            .build();
+
+    @BeforeAll
+    static void registerCheckpointConstructables() throws ConstructableRegistryException {
+        // The learner builds the received maps through the registry, so they must have checkpoints enabled
+        final ConstructableRegistry registry = ConstructableRegistry.getInstance();
+        registry.registerConstructable(
+                new ClassConstructorPair(VirtualMap.class, () -> new VirtualMap(CHECKPOINT_CONFIGURATION)));
+        registry.registerConstructable(new ClassConstructorPair(
+                VirtualRootNode.class,
+                () -> new VirtualRootNode(CHECKPOINT_CONFIGURATION.getConfigData(VirtualMapConfig.class))));
+    }
+
+    @Override
+    protected VirtualDataSourceBuilder createBuilder() {
+        return new InMemoryBuilder();
+    }
+
+    @Test
+    @Tags({@Tag("VirtualMerkle"), @Tag("Reconnect")})
+    @DisplayName("Failed reconnect resumes from its checkpoint")
+    void reconnectResumesFromCheckpoint() throws Exception {
+        for (int i = 0; i < TEACHER_SIZE; i++) {
+            teacherMap.put(new TestKey(i), new TestValue(i));
+        }
+
+        // Break the reconnect about half way through. The reconnect data source isn't closed, so the progress
+        // made so far is kept in a checkpoint
+        learnerBuilder.setNumCallsBeforeThrow(TEACHER_SIZE / 2);
+        learnerBuilder.setNumTimesToBreak(1);
+        learnerBuilder.setCloseOnBreak(false);
+
+        final MerkleInternal teacherTree = createTreeForMap(teacherMap);
+        final VirtualMap<TestKey, TestValue> copy = teacherMap.copy();
+        final MerkleInternal learnerTree = createTreeForMap(learnerMap);
+        try {
+            assertThrows(
+                    Exception.class,
+                    () -> MerkleTestUtils.hashAndTestSynchronization(learnerTree, teacherTree, reconnectConfig),
+                    "The first reconnect attempt should break");
+            final long leavesSavedBeforeResume = learnerBuilder.getNumLeavesSaved();
+            assertTrue(leavesSavedBeforeResume > 0, "Some leaves should be flushed before the reconnect breaks");
+
+            final DummyMerkleInternal afterSyncLearnerTree =
+                    MerkleTestUtils.hashAndTestSynchronization(learnerTree, teacherTree, reconnectConfig);
+            try {
+                assertTrue(
+                        learnerBuilder.getNumLeavesSaved() - leavesSavedBeforeResume < TEACHER_SIZE,
+                        "Leaves in the checkpoint's verified subtrees should not be received again");
+
+                final DummyMerkleInternal node = afterSyncLearnerTree.getChild(1);
+                final VirtualMap<TestKey, TestValue> afterMap = node.getChild(3);
+                assertEquals(teacherMap.getHash(), afterMap.getHash(), "The root hash should match the teacher");
+                assertEquals(TEACHER_SIZE, afterMap.size(), "The size should match the teacher");
+                for (int i = 0; i < TEACHER_SIZE; i++) {
+                    assertEquals(new TestValue(i), afterMap.get(new TestKey(i)), "Value should match the teacher");
+                }
+            } finally {
+                afterSyncLearnerTree.release();
+            }
+        } finally {
+            copy.release();
+            teacherTree.release();
+            learnerTree.release();
+        }
+    }
+}
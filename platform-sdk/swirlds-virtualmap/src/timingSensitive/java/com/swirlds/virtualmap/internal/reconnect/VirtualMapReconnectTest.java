@@ -245,6 +245,28 @@ class VirtualMapReconnectTest extends VirtualMapReconnectTestBase {
         assertDoesNotThrow(() -> reconnectMultipleTimes(5), "Should not throw a Exception");
     }
 
+    @ParameterizedTest
+    @MethodSource("provideSmallTreePermutations")
+    @Tags({@Tag("VirtualMerkle"), @Tag("Reconnect"), @Tag("VMAP-005"), @Tag("VMAP-006")})
+    @DisplayName("Reconnect aborts 2 times on the teacher before success")
+    void teacherAbortedReconnectsCanSucceed(int teacherStart, int teacherEnd, int learnerStart, int learnerEnd)
+            throws InterruptedException {
+        for (int i = teacherStart; i < teacherEnd; i++) {
+            teacherMap.put(new TestKey(i), new TestValue(i));
+        }
+
+        for (int i = learnerStart; i < learnerEnd; i++) {
+            learnerMap.put(new TestKey(i), new TestValue(i));
+        }
+
+        // The teacher only reads through its data source once the records are flushed
+        flushTeacherMap();
+        teacherBuilder.setNumLoadsBeforeThrow((teacherEnd - teacherStart) / 2);
+        teacherBuilder.setNumTimesToBreak(2);
+
+        assertDoesNotThrow(() -> reconnectMultipleTimes(3), "Should not throw a Exception");
+    }
+
     @Test
     @Tags({@Tag("VirtualMerkle"), @Tag("Reconnect")})
     void deleteAlreadyDeletedAccount() throws Exception {
@@ -57,10 +57,13 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 
@@ -89,22 +92,56 @@ public abstract class VirtualMapReconnectTestBase {
     protected static final TestValue FOX = new TestValue("FOX");
     protected static final TestValue GOOSE = new TestValue("GOOSE");
 
+    /**
+     * The number of leaves in each of the extra maps that give reconnect more than one subtree to receive.
+     */
+    private static final int EXTRA_MAP_SIZE = 100;
+
     protected VirtualMap<TestKey, TestValue> teacherMap;
     protected VirtualMap<TestKey, TestValue> learnerMap;
     protected BrokenBuilder teacherBuilder;
     protected BrokenBuilder learnerBuilder;
 
-    protected final ReconnectConfig reconnectConfig = new TestConfigBuilder()
-            // This is lower than the default, helps test that is supposed to fail to finish faster.
-            .withValue(ReconnectConfig_.ASYNC_STREAM_TIMEOUT, "5s")
-            .withValue(ReconnectConfig_.MAX_ACK_DELAY, "1000ms")
-            .getOrCreateConfig()
-            .getConfigData(ReconnectConfig.class);
+    /**
+     * Immutable teacher maps placed next to {@link #teacherMap}, each one is a separate subtree for reconnect.
+     */
+    private final List<VirtualMap<TestKey, TestValue>> teacherExtraMaps = new ArrayList<>();
+
+    /**
+     * The mutable copies of {@link #teacherExtraMaps}, released after each test.
+     */
+    private final List<VirtualMap<TestKey, TestValue>> teacherExtraCopies = new ArrayList<>();
+
+    /**
+     * Learner maps placed next to {@link #learnerMap}, each one is a separate subtree for reconnect.
+     */
+    private final List<VirtualMap<TestKey, TestValue>> learnerExtraMaps = new ArrayList<>();
+
+    protected ReconnectConfig reconnectConfig;
 
     protected abstract VirtualDataSourceBuilder createBuilder();
 
+    /**
+     * The number of subtrees reconnect may receive in parallel. When this is greater than one, every tree built by
+     * {@link #createTreeForMap(VirtualMap)} gets enough extra virtual maps to give each lane a subtree, so the map
+     * under test is received on one lane while the other lanes are busy.
+     *
+     * @return the value of {@link ReconnectConfig#parallelSubtrees()}
+     */
+    protected int parallelSubtrees() {
+        return 1;
+    }
+
     @BeforeEach
     void setupEach() {
+        reconnectConfig = new TestConfigBuilder()
+                // This is lower than the default, helps test that is supposed to fail to finish faster.
+                .withValue(ReconnectConfig_.ASYNC_STREAM_TIMEOUT, "5s")
+                .withValue(ReconnectConfig_.MAX_ACK_DELAY, "1000ms")
+                .withValue(ReconnectConfig_.PARALLEL_SUBTREES, parallelSubtrees())
+                .getOrCreateConfig()
+                .getConfigData(ReconnectConfig.class);
+
         final VirtualDataSourceBuilder dataSourceBuilder = createBuilder();
         teacherBuilder = new BrokenBuilder(dataSourceBuilder);
         learnerBuilder = new BrokenBuilder(dataSourceBuilder);
@@ -112,6 +149,39 @@ public abstract class VirtualMapReconnectTestBase {
                 "Teacher", TestKeySerializer.INSTANCE, TestValueSerializer.INSTANCE, teacherBuilder, CONFIGURATION);
         learnerMap = new VirtualMap<>(
                 "Learner", TestKeySerializer.INSTANCE, TestValueSerializer.INSTANCE, learnerBuilder, CONFIGURATION);
+
+        // The extra maps use their own builders, so only the map under test ever breaks
+        for (int i = 1; i < parallelSubtrees(); i++) {
+            final VirtualMap<TestKey, TestValue> teacherExtra = new VirtualMap<>(
+                    "Teacher" + i,
+                    TestKeySerializer.INSTANCE,
+                    TestValueSerializer.INSTANCE,
+                    new BrokenBuilder(dataSourceBuilder),
+                    CONFIGURATION);
+            final VirtualMap<TestKey, TestValue> learnerExtra = new VirtualMap<>(
+                    "Learner" + i,
+                    TestKeySerializer.INSTANCE,
+                    TestValueSerializer.INSTANCE,
+                    new BrokenBuilder(dataSourceBuilder),
+                    CONFIGURATION);
+            for (int j = 0; j < EXTRA_MAP_SIZE; j++) {
+                teacherExtra.put(new TestKey(j), new TestValue(i * EXTRA_MAP_SIZE + j));
+                // Half of the learner's leaves match the teacher, the other half are missing from the teacher
+                final int learnerKey = j + EXTRA_MAP_SIZE / 2;
+                learnerExtra.put(new TestKey(learnerKey), new TestValue(i * EXTRA_MAP_SIZE + learnerKey));
+            }
+            teacherExtraCopies.add(teacherExtra.copy());
+            teacherExtraMaps.add(teacherExtra);
+            learnerExtraMaps.add(learnerExtra);
+        }
+    }
+
+    @AfterEach
+    void tearDownEach() {
+        teacherExtraCopies.forEach(VirtualMap::release);
+        teacherExtraCopies.clear();
+        teacherExtraMaps.clear();
+        learnerExtraMaps.clear();
     }
 
     @BeforeAll
@@ -134,10 +204,27 @@ public abstract class VirtualMapReconnectTestBase {
     protected MerkleInternal createTreeForMap(VirtualMap<TestKey, TestValue> map) {
         final var tree = MerkleTestUtils.buildLessSimpleTree();
         tree.getChild(1).asInternal().setChild(3, map);
+        final List<VirtualMap<TestKey, TestValue>> extraMaps = map == teacherMap ? teacherExtraMaps : learnerExtraMaps;
+        for (int i = 0; i < extraMaps.size(); i++) {
+            tree.getChild(1).asInternal().setChild(4 + i, extraMaps.get(i));
+        }
         tree.reserve();
         return tree;
     }
 
+    /**
+     * Flush the teacher map to its data source, so that the teacher reads its records through
+     * {@link BreakableDataSource} during reconnect.
+     */
+    protected void flushTeacherMap() throws InterruptedException {
+        final VirtualRootNode<TestKey, TestValue> root = teacherMap.getRight();
+        root.enableFlush();
+        final VirtualMap<TestKey, TestValue> copy = teacherMap.copy();
+        teacherMap.release();
+        root.waitUntilFlushed();
+        teacherMap = copy;
+    }
+
     protected void reconnect() throws Exception {
         reconnectMultipleTimes(1);
     }
@@ -174,8 +261,12 @@ public abstract class VirtualMapReconnectTestBase {
         private VirtualDataSourceBuilder delegate;
         private int numCallsBeforeThrow = Integer.MAX_VALUE;
         private int numCalls = 0;
+        private int numLoadsBeforeThrow = Integer.MAX_VALUE;
+        private int numLoads = 0;
         private int numTimesToBreak = 0;
         private int numTimesBroken = 0;
+        private boolean closeOnBreak = true;
+        private final AtomicLong numLeavesSaved = new AtomicLong();
 
         public BrokenBuilder() {}
 
@@ -200,6 +291,8 @@ public abstract class VirtualMapReconnectTestBase {
             out.writeInt(numTimesToBreak);
             out.writeInt(numCalls);
             out.writeInt(numTimesBroken);
+            out.writeInt(numLoadsBeforeThrow);
+            out.writeInt(numLoads);
         }
 
         @Override
@@ -209,6 +302,8 @@ public abstract class VirtualMapReconnectTestBase {
             numTimesToBreak = in.readInt();
             numCalls = in.readInt();
             numTimesBroken = in.readInt();
+            numLoadsBeforeThrow = in.readInt();
+            numLoads = in.readInt();
         }
 
         @Override
@@ -241,6 +336,56 @@ public abstract class VirtualMapReconnectTestBase {
         public void setNumTimesToBreak(int num) {
             this.numTimesToBreak = num;
         }
+
+        public void setNumLoadsBeforeThrow(int num) {
+            this.numLoadsBeforeThrow = num;
+        }
+
+        /**
+         * Set whether a data source is closed when a save breaks, as if the database failed. If it isn't, the
+         * records saved so far stay readable, for example to resume a reconnect from a checkpoint.
+         */
+        public void setCloseOnBreak(boolean closeOnBreak) {
+            this.closeOnBreak = closeOnBreak;
+        }
+
+        /**
+         * Get the number of leaves saved to all data sources of this builder.
+         */
+        public long getNumLeavesSaved() {
+            return numLeavesSaved.get();
+        }
+
+        /**
+         * Count saved leaves, and decide whether this save should break. Data sources of different maps, or of the
+         * same map on different lanes, may save concurrently.
+         */
+        private synchronized boolean breakOnSave(final int numLeaves) {
+            if (numTimesBroken < numTimesToBreak) {
+                numCalls += numLeaves;
+                if (numCalls > numCallsBeforeThrow) {
+                    numCalls = 0;
+                    numTimesBroken++;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Count loaded records, and decide whether this load should break.
+         */
+        private synchronized boolean breakOnLoad() {
+            if (numTimesBroken < numTimesToBreak) {
+                numLoads++;
+                if (numLoads > numLoadsBeforeThrow) {
+                    numLoads = 0;
+                    numTimesBroken++;
+                    return true;
+                }
+            }
+            return false;
+        }
     }
 
     protected static final class BreakableDataSource implements VirtualDataSource {
@@ -264,18 +409,16 @@ public abstract class VirtualMapReconnectTestBase {
                 throws IOException {
             final List<VirtualLeafBytes> leaves = leafRecordsToAddOrUpdate.collect(Collectors.toList());
 
-            if (builder.numTimesBroken < builder.numTimesToBreak) {
-                builder.numCalls += leaves.size();
-                if (builder.numCalls > builder.numCallsBeforeThrow) {
-                    builder.numCalls = 0;
-                    builder.numTimesBroken++;
+            if (builder.breakOnSave(leaves.size())) {
+                if (builder.closeOnBreak) {
                     delegate.close();
-                    throw new IOException("Something bad on the DB!");
                 }
+                throw new IOException("Something bad on the DB!");
             }
 
             delegate.saveRecords(
                     firstLeafPath, lastLeafPath, pathHashRecordsToUpdate, leaves.stream(), leafRecordsToDelete);
+            builder.numLeavesSaved.addAndGet(leaves.size());
         }
 
         @Override
@@ -290,6 +433,9 @@ public abstract class VirtualMapReconnectTestBase {
 
         @Override
         public VirtualLeafBytes loadLeafRecord(final long path) throws IOException {
+            if (builder.breakOnLoad()) {
+                throw new IOException("Something bad reading the DB!");
+            }
             return delegate.loadLeafRecord(path);
         }
 
@@ -300,6 +446,9 @@ public abstract class VirtualMapReconnectTestBase {
 
         @Override
         public Hash loadHash(final long path) throws IOException {
+            if (builder.breakOnLoad()) {
+                throw new IOException("Something bad reading the DB!");
+            }
             return delegate.loadHash(path);
         }
 